@@ -7,6 +7,7 @@
 package org.hibernate;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -16,6 +17,7 @@ import jakarta.persistence.PessimisticLockScope;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.jdbc.Work;
 import org.hibernate.query.Query;
+import org.hibernate.query.SelectionQuery;
 import org.hibernate.stat.SessionStatistics;
 
 import jakarta.persistence.EntityGraph;
@@ -1313,6 +1315,50 @@ public interface Session extends SharedSessionContract, EntityManager {
 	 */
 	<T> NaturalIdMultiLoadAccess<T> byMultipleNaturalId(String entityName);
 
+	/**
+	 * Execute the given {@linkplain SelectionQuery selection queries}, returning
+	 * the result list of each query, in the order in which the queries were given.
+	 * <p>
+	 * If the {@linkplain org.hibernate.dialect.Dialect#supportsMultiQueryStatements
+	 * database supports it}, the queries are sent to the database together, in a
+	 * single round trip. Otherwise, or if a query makes use of a lock mode, a timeout,
+	 * a cache mode, or the query cache, the query is executed by itself, exactly as if
+	 * {@link SelectionQuery#getResultList()} had been called.
+	 *
+	 * @param queries queries created by this session
+	 *
+	 * @return a list containing the result list of each query
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	List<List<?>> getResultLists(SelectionQuery<?>... queries);
+
+	/**
+	 * Asynchronously return the persistent instance of the given entity class
+	 * with the given identifier, or complete with {@code null} if there is no
+	 * such persistent instance, exactly as if by {@link #find(Class, Object)}.
+	 * <p>
+	 * The instance is read by the {@linkplain
+	 * org.hibernate.cfg.QuerySettings#ASYNC_QUERY_EXECUTOR configured executor}
+	 * in a new session, with its own connection to the database. Unless this
+	 * session already contains the instance, the stage completes with an
+	 * unfetched proxy belonging to this session, which is initialized from the
+	 * state read by the new session, as described by
+	 * {@link SelectionQuery#getResultListAsync()}. If the entity type cannot be
+	 * represented by a proxy, the instance is read immediately, and the returned
+	 * stage is already complete.
+	 *
+	 * @param entityType the entity type
+	 * @param id an identifier
+	 *
+	 * @return a stage which completes with the persistent instance or {@code null}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	<T> CompletionStage<T> findAsync(Class<T> entityType, Object id);
+
 	@Override
 	Filter enableFilter(String filterName);
 
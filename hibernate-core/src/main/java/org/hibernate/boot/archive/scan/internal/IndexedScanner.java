@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.net.URL;
+
+import org.hibernate.boot.archive.scan.spi.ScanIndex;
+import org.hibernate.boot.archive.spi.ArchiveDescriptorFactory;
+
+/**
+ * Implementation of the Scanner contract which, for the archives having a {@linkplain ScanIndex scan index}
+ * written at build time, reads the index rather than visiting the archive.  Archives without an index are
+ * visited as by the {@link StandardScanner}.
+ *
+ * @since 6.6
+ */
+public class IndexedScanner extends StandardScanner {
+	public IndexedScanner() {
+		super();
+	}
+
+	public IndexedScanner(ArchiveDescriptorFactory value) {
+		super( value );
+	}
+
+	@Override
+	protected boolean visitArchiveIndex(URL archiveUrl, ScanResultCollector collector, boolean isRootUrl) {
+		final ScanIndex index = ScanIndex.locate( archiveUrl );
+		if ( index == null ) {
+			return false;
+		}
+		index.apply( collector, isRootUrl );
+		return true;
+	}
+}
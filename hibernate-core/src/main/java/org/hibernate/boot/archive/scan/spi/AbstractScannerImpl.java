@@ -37,12 +37,15 @@ public abstract class AbstractScannerImpl implements Scanner {
 		if ( environment.getNonRootUrls() != null ) {
 			final ArchiveContext context = new ArchiveContextImpl( false, collector );
 			for ( URL url : environment.getNonRootUrls() ) {
-				final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, false );
-				descriptor.visitArchive( context );
+				if ( !visitArchiveIndex( adjustUrl( url, environment, false ), collector, false ) ) {
+					final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, false );
+					descriptor.visitArchive( context );
+				}
 			}
 		}
 
-		if ( environment.getRootUrl() != null ) {
+		if ( environment.getRootUrl() != null
+				&& !visitArchiveIndex( environment.getRootUrl(), collector, true ) ) {
 			final ArchiveContext context = new ArchiveContextImpl( true, collector );
 			final ArchiveDescriptor descriptor = buildArchiveDescriptor( environment.getRootUrl(), environment, true );
 			descriptor.visitArchive( context );
@@ -51,6 +54,25 @@ public abstract class AbstractScannerImpl implements Scanner {
 		return collector.toScanResult();
 	}
 
+	/**
+	 * Report the content of the archive at the given URL to the collector from an index
+	 * of the archive, rather than by visiting the archive, if the archive has an index.
+	 *
+	 * @return {@code true} if the content of the archive was reported from an index
+	 *
+	 * @see ScanIndex
+	 */
+	protected boolean visitArchiveIndex(URL archiveUrl, ScanResultCollector collector, boolean isRootUrl) {
+		return false;
+	}
+
+	private URL adjustUrl(URL url, ScanEnvironment environment, boolean isRootUrl) {
+		if ( !isRootUrl && archiveDescriptorFactory instanceof JarFileEntryUrlAdjuster ) {
+			return ( (JarFileEntryUrlAdjuster) archiveDescriptorFactory ).adjustJarFileEntryUrl( url, environment.getRootUrl() );
+		}
+		return url;
+	}
+
 
 	private ArchiveDescriptor buildArchiveDescriptor(
 			URL url,
@@ -59,12 +81,10 @@ public abstract class AbstractScannerImpl implements Scanner {
 		final ArchiveDescriptor descriptor;
 		final ArchiveDescriptorInfo descriptorInfo = archiveDescriptorCache.get( url );
 		if ( descriptorInfo == null ) {
-			if ( !isRootUrl && archiveDescriptorFactory instanceof JarFileEntryUrlAdjuster ) {
-				url = ( (JarFileEntryUrlAdjuster) archiveDescriptorFactory ).adjustJarFileEntryUrl( url, environment.getRootUrl() );
-			}
-			descriptor = archiveDescriptorFactory.buildArchiveDescriptor( url );
+			final URL archiveUrl = adjustUrl( url, environment, isRootUrl );
+			descriptor = archiveDescriptorFactory.buildArchiveDescriptor( archiveUrl );
 			archiveDescriptorCache.put(
-					url,
+					archiveUrl,
 					new ArchiveDescriptorInfo( descriptor, isRootUrl )
 			);
 		}
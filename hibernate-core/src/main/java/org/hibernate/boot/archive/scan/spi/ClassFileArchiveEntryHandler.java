@@ -72,23 +72,29 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	}
 
 	private ClassDescriptor toClassDescriptor(ClassSummary classSummary, Index index, ArchiveEntry entry) {
-		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
+		return new ClassDescriptorImpl( classSummary.name().toString(), categorize( index ), entry.getStreamAccess() );
+	}
 
+	/**
+	 * Categorize the class making up the given index
+	 */
+	static ClassDescriptor.Categorization categorize(Index index) {
 		if ( isModel( index ) ) {
-			categorization = ClassDescriptor.Categorization.MODEL;
+			return ClassDescriptor.Categorization.MODEL;
 		}
 		else if ( isConverter( index ) ) {
-			categorization = ClassDescriptor.Categorization.CONVERTER;
+			return ClassDescriptor.Categorization.CONVERTER;
+		}
+		else {
+			return ClassDescriptor.Categorization.OTHER;
 		}
-
-		return new ClassDescriptorImpl( classSummary.name().toString(), categorization, entry.getStreamAccess() );
 	}
 
-	private boolean isConverter(Index index) {
+	private static boolean isConverter(Index index) {
 		return !index.getAnnotations( CONVERTER ).isEmpty();
 	}
 
-	private boolean isModel(Index index) {
+	private static boolean isModel(Index index) {
 		for ( DotName model : MODELS ) {
 			if ( !index.getAnnotations( model ).isEmpty() ) {
 				return true;
@@ -0,0 +1,408 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.spi;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.hibernate.Incubating;
+import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.MappingFileDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.PackageDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.ScanResultCollector;
+import org.hibernate.boot.archive.spi.ArchiveException;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+
+import org.jboss.jandex.ClassSummary;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.jboss.logging.Logger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * An index of the managed classes, converters, packages and mapping files of an archive,
+ * written along with the archive by the Hibernate build plugins, and used instead of
+ * visiting the entries of the archive when scanning it.
+ * <p>
+ * The classes are categorized as by {@link ClassFileArchiveEntryHandler}, and the index
+ * is a text file listing one entry per line, as its kind followed by its name. The index
+ * also records a fingerprint of the names and sizes of the class files and XML resources
+ * of the archive, which is compared with the archive before the index is used, so that
+ * the archive is visited when it changed since the index was written, or when it cannot
+ * be listed, for example if it is nested within another archive.
+ *
+ * @see org.hibernate.boot.archive.scan.internal.IndexedScanner
+ *
+ * @since 6.6
+ */
+@Incubating
+public final class ScanIndex {
+	private static final Logger log = Logger.getLogger( ScanIndex.class );
+
+	/**
+	 * The name of the index file within the archive
+	 */
+	public static final String INDEX_FILE_NAME = "META-INF/hibernate-scan.idx";
+
+	private static final String HEADER = "# Hibernate scan index 2";
+	private static final String FINGERPRINT = "fingerprint";
+	private static final String MODEL = "model";
+	private static final String CONVERTER = "converter";
+	private static final String PACKAGE = "package";
+	private static final String MAPPING_FILE = "mapping-file";
+
+	private final URL archiveRoot;
+	private String fingerprint;
+	private final List<String> models = new ArrayList<>();
+	private final List<String> converters = new ArrayList<>();
+	private final List<String> packages = new ArrayList<>();
+	private final List<String> mappingFiles = new ArrayList<>();
+
+	private ScanIndex(URL archiveRoot) {
+		this.archiveRoot = archiveRoot;
+	}
+
+	/**
+	 * Locate the index of the archive at the given URL.
+	 *
+	 * @return The index, or {@code null} if the archive has no (readable) index,
+	 *         or if the index does not match the content of the archive
+	 */
+	public static @Nullable ScanIndex locate(URL archiveUrl) {
+		final URL archiveRoot;
+		final URL indexUrl;
+		try {
+			archiveRoot = archiveRoot( archiveUrl );
+			indexUrl = new URL( archiveRoot, INDEX_FILE_NAME );
+		}
+		catch (MalformedURLException | URISyntaxException e) {
+			log.debugf( "Unable to locate the scan index of [%s]: %s", archiveUrl, e );
+			return null;
+		}
+
+		try {
+			final URLConnection connection = indexUrl.openConnection();
+			// do not keep the archive open
+			connection.setUseCaches( false );
+			final ScanIndex index;
+			try ( BufferedReader reader =
+						new BufferedReader( new InputStreamReader( connection.getInputStream(), UTF_8 ) ) ) {
+				index = read( archiveRoot, reader );
+			}
+			if ( index == null ) {
+				return null;
+			}
+			final String fingerprint = fingerprint( archiveRoot );
+			if ( fingerprint == null ) {
+				log.debugf( "Ignoring the scan index of [%s], which cannot be checked against the archive", archiveUrl );
+				return null;
+			}
+			if ( !fingerprint.equals( index.fingerprint ) ) {
+				log.debugf( "Ignoring the scan index of [%s], which does not match the content of the archive", archiveUrl );
+				return null;
+			}
+			return index;
+		}
+		catch (FileNotFoundException | NoSuchFileException e) {
+			log.tracef( "No scan index found for [%s]", archiveUrl );
+			return null;
+		}
+		catch (IOException e) {
+			log.debugf( "Unable to read the scan index of [%s]: %s", archiveUrl, e );
+			return null;
+		}
+	}
+
+	private static URL archiveRoot(URL archiveUrl) throws MalformedURLException, URISyntaxException {
+		final String externalForm = archiveUrl.toExternalForm();
+		if ( externalForm.endsWith( "/" ) ) {
+			return archiveUrl;
+		}
+		switch ( archiveUrl.getProtocol() ) {
+			case "file":
+				return new File( archiveUrl.toURI() ).isDirectory()
+						? new URL( externalForm + "/" )
+						: new URL( "jar:" + externalForm + "!/" );
+			case "jar":
+				return new URL( externalForm + ( externalForm.contains( "!/" ) ? "/" : "!/" ) );
+			default:
+				return new URL( "jar:" + externalForm + "!/" );
+		}
+	}
+
+	private static @Nullable ScanIndex read(URL archiveRoot, BufferedReader reader) throws IOException {
+		if ( !HEADER.equals( reader.readLine() ) ) {
+			log.debugf( "Ignoring the scan index of [%s], which has an unknown format", archiveRoot );
+			return null;
+		}
+		final ScanIndex index = new ScanIndex( archiveRoot );
+		String line;
+		while ( ( line = reader.readLine() ) != null ) {
+			if ( line.isBlank() || line.startsWith( "#" ) ) {
+				continue;
+			}
+			final int separator = line.indexOf( ' ' );
+			final String kind = separator < 0 ? line : line.substring( 0, separator );
+			final String name = line.substring( separator + 1 );
+			switch ( kind ) {
+				case MODEL:
+					index.models.add( name );
+					break;
+				case CONVERTER:
+					index.converters.add( name );
+					break;
+				case PACKAGE:
+					index.packages.add( name );
+					break;
+				case MAPPING_FILE:
+					index.mappingFiles.add( name );
+					break;
+				case FINGERPRINT:
+					index.fingerprint = name;
+					break;
+				default:
+					log.debugf( "Ignoring the scan index of [%s], which has an unknown entry [%s]", archiveRoot, line );
+					return null;
+			}
+		}
+		if ( index.fingerprint == null ) {
+			log.debugf( "Ignoring the scan index of [%s], which has no fingerprint", archiveRoot );
+			return null;
+		}
+		return index;
+	}
+
+	/**
+	 * Compute the fingerprint of the archive with the given root, if it is a directory
+	 * or a jar file of the file system.
+	 */
+	private static @Nullable String fingerprint(URL archiveRoot) throws IOException {
+		final SortedMap<String, Long> entries = new TreeMap<>();
+		try {
+			switch ( archiveRoot.getProtocol() ) {
+				case "file":
+					listEntries( List.of( Path.of( archiveRoot.toURI() ) ), entries );
+					return fingerprint( entries );
+				case "jar":
+					final String externalForm = archiveRoot.toExternalForm();
+					final int separator = externalForm.indexOf( "!/" );
+					final URL jarUrl = new URL( externalForm.substring( "jar:".length(), separator ) );
+					final String prefix = externalForm.substring( separator + 2 );
+					if ( !"file".equals( jarUrl.getProtocol() ) || prefix.contains( "!/" ) ) {
+						return null;
+					}
+					try ( JarFile jarFile = new JarFile( new File( jarUrl.toURI() ) ) ) {
+						final Enumeration<JarEntry> jarEntries = jarFile.entries();
+						while ( jarEntries.hasMoreElements() ) {
+							final JarEntry jarEntry = jarEntries.nextElement();
+							final String name = jarEntry.getName();
+							if ( !jarEntry.isDirectory() && name.startsWith( prefix ) ) {
+								addEntry( name.substring( prefix.length() ), jarEntry.getSize(), entries );
+							}
+						}
+					}
+					return fingerprint( entries );
+				default:
+					return null;
+			}
+		}
+		catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static void listEntries(List<Path> directories, Map<String, Long> entries) throws IOException {
+		for ( Path directory : directories ) {
+			if ( !Files.isDirectory( directory ) ) {
+				continue;
+			}
+			try ( Stream<Path> files = Files.walk( directory ) ) {
+				for ( Path file : (Iterable<Path>) files.filter( Files::isRegularFile )::iterator ) {
+					final String name = directory.relativize( file ).toString().replace( File.separatorChar, '/' );
+					addEntry( name, Files.size( file ), entries );
+				}
+			}
+		}
+	}
+
+	private static void addEntry(String name, long size, Map<String, Long> entries) {
+		if ( name.endsWith( ".class" ) || name.endsWith( ".xml" ) ) {
+			entries.put( name, size );
+		}
+	}
+
+	/**
+	 * A digest of the names and sizes of the class files and XML resources of an archive
+	 */
+	private static String fingerprint(SortedMap<String, Long> entries) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException( e );
+		}
+		for ( Map.Entry<String, Long> entry : entries.entrySet() ) {
+			digest.update( entry.getKey().getBytes( UTF_8 ) );
+			digest.update( (byte) 0 );
+			digest.update( Long.toString( entry.getValue() ).getBytes( UTF_8 ) );
+			digest.update( (byte) '\n' );
+		}
+		return entries.size() + ":" + new BigInteger( 1, digest.digest() ).toString( 16 );
+	}
+
+	/**
+	 * Report the content of the archive to the given collector, as visiting the archive would.
+	 */
+	public void apply(ScanResultCollector collector, boolean rootUrl) {
+		for ( String model : models ) {
+			collector.handleClass( classDescriptor( model, ClassDescriptor.Categorization.MODEL ), rootUrl );
+		}
+		for ( String converter : converters ) {
+			collector.handleClass( classDescriptor( converter, ClassDescriptor.Categorization.CONVERTER ), rootUrl );
+		}
+		for ( String packageName : packages ) {
+			final String packageInfo = packageName.replace( '.', '/' ) + "/package-info.class";
+			collector.handlePackage( new PackageDescriptorImpl( packageName, streamAccess( packageInfo ) ), rootUrl );
+		}
+		for ( String mappingFile : mappingFiles ) {
+			collector.handleMappingFile( new MappingFileDescriptorImpl( mappingFile, streamAccess( mappingFile ) ), rootUrl );
+		}
+	}
+
+	private ClassDescriptor classDescriptor(String className, ClassDescriptor.Categorization categorization) {
+		final String classFile = className.replace( '.', '/' ) + ".class";
+		return new ClassDescriptorImpl( className, categorization, streamAccess( classFile ) );
+	}
+
+	private InputStreamAccess streamAccess(String nameWithinArchive) {
+		try {
+			return new UrlInputStreamAccess( new URL( archiveRoot, nameWithinArchive ) );
+		}
+		catch (MalformedURLException e) {
+			throw new ArchiveException( "Unable to resolve [" + nameWithinArchive + "] in archive [" + archiveRoot + "]", e );
+		}
+	}
+
+	/**
+	 * Write the index of the classes, packages and mapping files found in the given
+	 * directories, which together make up the content of an archive, to the
+	 * {@value #INDEX_FILE_NAME} file of the given output directory.
+	 *
+	 * @param directories The directories, typically the class and resource output directories of a build
+	 * @param outputDirectory The directory to write the index to, typically one of {@code directories}
+	 *
+	 * @return The index file
+	 */
+	public static Path write(List<Path> directories, Path outputDirectory) throws IOException {
+		final Set<String> models = new TreeSet<>();
+		final Set<String> converters = new TreeSet<>();
+		final Set<String> packages = new TreeSet<>();
+		final Set<String> mappingFiles = new TreeSet<>();
+
+		final Indexer indexer = new Indexer();
+		for ( Path directory : directories ) {
+			if ( !Files.isDirectory( directory ) ) {
+				continue;
+			}
+			try ( Stream<Path> files = Files.walk( directory ) ) {
+				for ( Path file : (Iterable<Path>) files.filter( Files::isRegularFile )::iterator ) {
+					final String name = directory.relativize( file ).toString().replace( File.separatorChar, '/' );
+					if ( name.endsWith( "package-info.class" ) ) {
+						// like the PackageInfoArchiveEntryHandler, skip the root package
+						final int packageEnd = name.lastIndexOf( '/' );
+						if ( packageEnd > 0 ) {
+							packages.add( name.substring( 0, packageEnd ).replace( '/', '.' ) );
+						}
+					}
+					else if ( name.endsWith( "module-info.class" ) ) {
+						// Jandex is unable to analyze them, and we have no use for them
+						continue;
+					}
+					else if ( name.endsWith( ".class" ) ) {
+						try ( InputStream stream = Files.newInputStream( file ) ) {
+							final ClassSummary classSummary = indexer.indexWithSummary( stream );
+							final Index index = indexer.complete();
+							switch ( ClassFileArchiveEntryHandler.categorize( index ) ) {
+								case MODEL:
+									models.add( classSummary.name().toString() );
+									break;
+								case CONVERTER:
+									converters.add( classSummary.name().toString() );
+									break;
+								default:
+									// not of interest
+							}
+						}
+					}
+					else if ( name.endsWith( ".xml" ) ) {
+						// only XML files may be mapping files
+						mappingFiles.add( name );
+					}
+				}
+			}
+		}
+
+		final SortedMap<String, Long> entries = new TreeMap<>();
+		listEntries( directories, entries );
+
+		final Path indexFile = outputDirectory.resolve( INDEX_FILE_NAME );
+		Files.createDirectories( indexFile.getParent() );
+		try ( BufferedWriter writer = Files.newBufferedWriter( indexFile, UTF_8 ) ) {
+			writer.write( HEADER );
+			writer.newLine();
+			writer.write( FINGERPRINT );
+			writer.write( ' ' );
+			writer.write( fingerprint( entries ) );
+			writer.newLine();
+			writeEntries( writer, MODEL, models );
+			writeEntries( writer, CONVERTER, converters );
+			writeEntries( writer, PACKAGE, packages );
+			writeEntries( writer, MAPPING_FILE, mappingFiles );
+		}
+		return indexFile;
+	}
+
+	private static void writeEntries(BufferedWriter writer, String kind, Set<String> names) throws IOException {
+		for ( String name : names ) {
+			writer.write( kind );
+			writer.write( ' ' );
+			writer.write( name );
+			writer.newLine();
+		}
+	}
+}
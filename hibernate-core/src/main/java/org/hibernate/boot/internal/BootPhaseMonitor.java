@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.internal;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.event.internal.EmptyEventManager;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.EventManager.BootPhase;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+
+import static org.hibernate.boot.BootLogging.BOOT_LOGGER;
+
+/**
+ * Measures the time spent in each {@linkplain BootPhase phase} of the bootstrap of a
+ * {@link org.hibernate.SessionFactory}, reporting each measurement to the
+ * {@link EventManager} (as a JFR event, with {@code hibernate-jfr}), and logging a
+ * summary of the phases once the {@code SessionFactory} is built.
+ * <p>
+ * A phase is measured either for the whole domain model, or for each entity or
+ * collection role it is performed for. Measurements may be taken concurrently.
+ *
+ * @see BootstrapContextImpl#getBootPhaseMonitor()
+ *
+ * @since 6.6
+ */
+public final class BootPhaseMonitor {
+	/**
+	 * A monitor which measures nothing
+	 */
+	public static final BootPhaseMonitor NONE = new BootPhaseMonitor( new EmptyEventManager(), false );
+
+	private final EventManager eventManager;
+	private final boolean enabled;
+	private final Map<BootPhase, PhaseStatistics> statistics = new EnumMap<>( BootPhase.class );
+
+	public BootPhaseMonitor(ClassLoaderService classLoaderService) {
+		this( resolveEventManager( classLoaderService ), true );
+	}
+
+	private BootPhaseMonitor(EventManager eventManager, boolean enabled) {
+		this.eventManager = eventManager;
+		this.enabled = enabled;
+		for ( BootPhase phase : BootPhase.values() ) {
+			statistics.put( phase, new PhaseStatistics() );
+		}
+	}
+
+	private static EventManager resolveEventManager(ClassLoaderService classLoaderService) {
+		final Collection<EventManager> eventManagers = classLoaderService.loadJavaServices( EventManager.class );
+		return eventManagers.isEmpty()
+				? new EmptyEventManager()
+				: eventManagers.iterator().next();
+	}
+
+	/**
+	 * Start measuring a phase performed for the whole domain model.
+	 */
+	public Timing begin(BootPhase phase) {
+		return begin( phase, null );
+	}
+
+	/**
+	 * Start measuring a phase performed for the given entity or collection role.
+	 */
+	public Timing begin(BootPhase phase, String target) {
+		if ( !enabled ) {
+			return null;
+		}
+		return new Timing( phase, target, eventManager.beginBootPhaseEvent(), System.nanoTime() );
+	}
+
+	/**
+	 * Stop measuring, given the {@link Timing} returned by {@link #begin}.
+	 */
+	public void complete(Timing timing) {
+		if ( timing != null ) {
+			final long duration = System.nanoTime() - timing.start;
+			statistics.get( timing.phase ).add( timing.target, duration );
+			eventManager.completeBootPhaseEvent( timing.event, timing.phase, timing.target );
+		}
+	}
+
+	/**
+	 * Log the time spent in each of the phases measured so far.
+	 */
+	public void logSummary(String sessionFactoryName) {
+		if ( enabled && BOOT_LOGGER.isDebugEnabled() ) {
+			final StringBuilder summary = new StringBuilder();
+			for ( Map.Entry<BootPhase, PhaseStatistics> entry : statistics.entrySet() ) {
+				entry.getValue().appendTo( entry.getKey(), summary );
+			}
+			BOOT_LOGGER.debugf(
+					"Time spent bootstrapping SessionFactory [%s] by phase:%s",
+					sessionFactoryName == null ? "<unnamed>" : sessionFactoryName,
+					summary
+			);
+		}
+	}
+
+	/**
+	 * A measurement in progress.
+	 */
+	public static final class Timing {
+		private final BootPhase phase;
+		private final String target;
+		private final HibernateMonitoringEvent event;
+		private final long start;
+
+		private Timing(BootPhase phase, String target, HibernateMonitoringEvent event, long start) {
+			this.phase = phase;
+			this.target = target;
+			this.event = event;
+			this.start = start;
+		}
+	}
+
+	private static final class PhaseStatistics {
+		private long phaseDuration;
+		private long targetDuration;
+		private int targetCount;
+		private String slowestTarget;
+		private long slowestTargetDuration;
+
+		synchronized void add(String target, long duration) {
+			if ( target == null ) {
+				phaseDuration += duration;
+			}
+			else {
+				targetDuration += duration;
+				targetCount++;
+				if ( duration > slowestTargetDuration ) {
+					slowestTarget = target;
+					slowestTargetDuration = duration;
+				}
+			}
+		}
+
+		synchronized void appendTo(BootPhase phase, StringBuilder summary) {
+			if ( phaseDuration == 0 && targetCount == 0 ) {
+				return;
+			}
+			// the measurements of the targets of a phase measured as a whole
+			// may overlap, when they are taken concurrently
+			final long duration = phaseDuration > 0 ? phaseDuration : targetDuration;
+			summary.append( String.format( Locale.ROOT, "%n\t%s: %d ms", phase, millis( duration ) ) );
+			if ( targetCount > 0 ) {
+				summary.append( String.format(
+						Locale.ROOT,
+						" (%d roles, slowest [%s]: %d ms)",
+						targetCount,
+						slowestTarget,
+						millis( slowestTargetDuration )
+				) );
+			}
+		}
+
+		private static long millis(long nanos) {
+			return TimeUnit.NANOSECONDS.toMillis( nanos );
+		}
+	}
+}
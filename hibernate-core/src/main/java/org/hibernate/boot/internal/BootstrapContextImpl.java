@@ -66,6 +66,7 @@ public class BootstrapContextImpl implements BootstrapContext {
 
 	private final JavaReflectionManager hcannReflectionManager;
 	private final ClassmateContext classmateContext;
+	private final BootPhaseMonitor bootPhaseMonitor;
 
 	private ScanOptions scanOptions;
 	private ScanEnvironment scanEnvironment;
@@ -88,6 +89,7 @@ public class BootstrapContextImpl implements BootstrapContext {
 		this.metadataBuildingOptions = metadataBuildingOptions;
 
 		this.classLoaderAccess = new ClassLoaderAccessImpl( serviceRegistry.getService( ClassLoaderService.class ) );
+		this.bootPhaseMonitor = new BootPhaseMonitor( serviceRegistry.requireService( ClassLoaderService.class ) );
 		this.hcannReflectionManager = generateHcannReflectionManager();
 
 		final StrategySelector strategySelector = serviceRegistry.requireService( StrategySelector.class );
@@ -168,6 +170,11 @@ public class BootstrapContextImpl implements BootstrapContext {
 		return classmateContext;
 	}
 
+	@Override
+	public BootPhaseMonitor getBootPhaseMonitor() {
+		return bootPhaseMonitor;
+	}
+
 	@Override
 	public ArchiveDescriptorFactory getArchiveDescriptorFactory() {
 		return archiveDescriptorFactory;
@@ -0,0 +1,832 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Member;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.hibernate.MappingException;
+import org.hibernate.Version;
+import org.hibernate.annotations.common.reflection.ReflectionManager;
+import org.hibernate.annotations.common.reflection.XClass;
+import org.hibernate.annotations.common.reflection.XProperty;
+import org.hibernate.annotations.common.reflection.java.JavaXMember;
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.spi.BindableMappingDescriptor;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.model.convert.internal.AutoApplicableConverterDescriptorBypassedImpl;
+import org.hibernate.boot.model.convert.internal.ClassBasedConverterDescriptor;
+import org.hibernate.boot.model.convert.spi.ConverterDescriptor;
+import org.hibernate.boot.model.naming.ImplicitNamingStrategy;
+import org.hibernate.boot.model.naming.ObjectNameNormalizer;
+import org.hibernate.boot.model.naming.PhysicalNamingStrategy;
+import org.hibernate.boot.model.process.spi.ManagedResources;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.ExportableProducer;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.InFlightMetadataCollector;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.boot.spi.MetadataBuildingOptions;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.generator.Generator;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.mapping.BasicValue;
+import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.Component;
+import org.hibernate.mapping.IdentifierCollection;
+import org.hibernate.mapping.IndexedCollection;
+import org.hibernate.mapping.KeyValue;
+import org.hibernate.mapping.MappedSuperclass;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.RootClass;
+import org.hibernate.mapping.SimpleValue;
+import org.hibernate.mapping.Value;
+import org.hibernate.resource.beans.spi.ManagedBean;
+import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
+import org.hibernate.resource.beans.spi.ProvidedInstanceManagedBeanImpl;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.CustomType;
+import org.hibernate.type.spi.TypeConfiguration;
+
+import jakarta.persistence.AttributeConverter;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.cfg.JdbcSettings.CONNECTION_PREFIX;
+import static org.hibernate.cfg.MappingSettings.METADATA_SNAPSHOT_FILE;
+
+/**
+ * A snapshot of the {@linkplain MetadataImplementor boot metadata}, written to a file with
+ * Java serialization once the metadata is built, and read back on the next boot instead of
+ * binding the mappings again, as long as nothing the metadata is built from has changed.
+ * <p>
+ * The snapshot is keyed by a fingerprint of the Hibernate version, the mapping settings,
+ * the dialect, the managed classes, packages, converters and XML mappings, and is only
+ * used if every class of the domain model is also unchanged: the entity, mapped superclass
+ * and embeddable classes, the converters, user types and enums used by their attributes,
+ * and the {@code package-info} classes of the managed packages. A setting whose value is
+ * not a string, a number, a boolean, an enum, or a collection of these, is fingerprinted
+ * by the class file of its value, and not by the state of the value.
+ * <p>
+ * The objects making up the context of the boot, such as the {@link BootstrapContext},
+ * the {@link TypeConfiguration}, or the {@link Dialect}, are not written to the snapshot,
+ * but are replaced by those of the current boot when the snapshot is read.
+ * <p>
+ * The header of the snapshot, holding the fingerprint and the digests of the classes of
+ * the domain model, is written with primitive writes, and validated before any object
+ * is read. The objects are then read through an {@link ObjectInputFilter} which only
+ * accepts the classes of Hibernate, of Jakarta Persistence, of the domain model, the
+ * value types of the JDK, and the annotations of these packages, and which limits the
+ * depth and size of the object graph.
+ *
+ * @see org.hibernate.cfg.MappingSettings#METADATA_SNAPSHOT_FILE
+ *
+ * @since 6.6
+ */
+public final class MetadataSnapshot {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( MetadataSnapshot.class );
+
+	private static final String FORMAT = "Hibernate Metadata Snapshot 2";
+	private static final String[] FINGERPRINTED_SETTINGS_PREFIXES =
+			{ "hibernate.", "jakarta.persistence.", "javax.persistence." };
+	// the connection settings do not affect the mappings, the dialect is fingerprinted instead
+	private static final String[] IGNORED_SETTINGS_PREFIXES =
+			{ CONNECTION_PREFIX, "jakarta.persistence.jdbc.", "javax.persistence.jdbc.", METADATA_SNAPSHOT_FILE };
+
+	// the packages whose classes may be read from a snapshot, in addition to the domain model
+	private static final String[] ALLOWED_PACKAGE_PREFIXES = { "org.hibernate.", "jakarta.persistence." };
+	private static final Set<String> ALLOWED_JDK_PACKAGES =
+			Set.of( "java.lang", "java.lang.annotation", "java.util", "java.math", "java.time", "java.sql" );
+	// the annotations held by the boot model are serialized as proxies with this handler
+	private static final String ANNOTATION_INVOCATION_HANDLER = "sun.reflect.annotation.AnnotationInvocationHandler";
+
+	/**
+	 * The limits on the object graph read from a snapshot
+	 */
+	private static final long MAX_DEPTH = 1_000;
+	private static final long MAX_REFERENCES = 10_000_000;
+	private static final long MAX_ARRAY_LENGTH = 1_000_000;
+	private static final int MAX_CLASS_DIGESTS = 100_000;
+
+	private static final String PACKAGE_INFO = ".package-info";
+
+	private final Path file;
+	private final String fingerprint;
+	private final ManagedResources managedResources;
+	private final ClassLoaderService classLoaderService;
+
+	private MetadataSnapshot(
+			Path file,
+			String fingerprint,
+			ManagedResources managedResources,
+			ClassLoaderService classLoaderService) {
+		this.file = file;
+		this.fingerprint = fingerprint;
+		this.managedResources = managedResources;
+		this.classLoaderService = classLoaderService;
+	}
+
+	/**
+	 * The snapshot of the metadata built from the given resources, if a
+	 * {@linkplain org.hibernate.cfg.MappingSettings#METADATA_SNAPSHOT_FILE snapshot file}
+	 * is configured and the resources can be fingerprinted.
+	 */
+	public static @Nullable MetadataSnapshot fromSettings(
+			ManagedResources managedResources,
+			BootstrapContext bootstrapContext,
+			MetadataBuildingOptions options) {
+		final ServiceRegistry serviceRegistry = bootstrapContext.getServiceRegistry();
+		final Map<String, Object> settings = serviceRegistry.requireService( ConfigurationService.class ).getSettings();
+		final Object fileName = settings.get( METADATA_SNAPSHOT_FILE );
+		if ( fileName == null || fileName.toString().isBlank() ) {
+			return null;
+		}
+		final ClassLoaderService classLoaderService = serviceRegistry.requireService( ClassLoaderService.class );
+		final String fingerprint = fingerprint(
+				managedResources,
+				settings,
+				options,
+				serviceRegistry.requireService( JdbcEnvironment.class ).getDialect(),
+				classLoaderService
+		);
+		if ( fingerprint == null ) {
+			return null;
+		}
+		return new MetadataSnapshot( Path.of( fileName.toString() ), fingerprint, managedResources, classLoaderService );
+	}
+
+	/**
+	 * Read the metadata from the snapshot file.
+	 *
+	 * @param context The root building context of the current boot
+	 * @param metadataCollector The collector of the current boot, to which the bindings read
+	 * from the snapshot are added
+	 *
+	 * @return The metadata, or {@code null} if there is no up-to-date snapshot
+	 */
+	public @Nullable MetadataImplementor read(
+			MetadataBuildingContext context,
+			InFlightMetadataCollectorImpl metadataCollector) {
+		if ( !Files.isRegularFile( file ) ) {
+			LOG.debugf( "No metadata snapshot found at [%s]", file );
+			return null;
+		}
+		final MetadataImplementor metadata;
+		try ( SnapshotInputStream input =
+					new SnapshotInputStream( new BufferedInputStream( Files.newInputStream( file ) ), context ) ) {
+			if ( !FORMAT.equals( input.readUTF() ) || !fingerprint.equals( input.readUTF() ) ) {
+				LOG.debugf( "Ignoring outdated metadata snapshot [%s]", file );
+				return null;
+			}
+			final int classDigestCount = input.readInt();
+			if ( classDigestCount < 0 || classDigestCount > MAX_CLASS_DIGESTS ) {
+				throw new InvalidObjectException( "Invalid number of class digests: " + classDigestCount );
+			}
+			for ( int i = 0; i < classDigestCount; i++ ) {
+				final String className = input.readUTF();
+				if ( !input.readUTF().equals( classDigestOrAbsent( className ) ) ) {
+					LOG.debugf( "Ignoring outdated metadata snapshot [%s]: class [%s] changed", file, className );
+					return null;
+				}
+				input.allowDomainClass( className );
+			}
+			metadata = (MetadataImplementor) input.readObject();
+		}
+		catch (Exception e) {
+			LOG.warnf( "Unable to read metadata snapshot [%s], the mappings will be bound again: %s", file, e );
+			return null;
+		}
+
+		// the building context of the current boot needs to know about the bindings
+		for ( PersistentClass entityBinding : metadata.getEntityBindings() ) {
+			metadataCollector.addEntityBinding( entityBinding );
+		}
+		for ( Collection collectionBinding : metadata.getCollectionBindings() ) {
+			metadataCollector.addCollectionBinding( collectionBinding );
+		}
+		for ( MappedSuperclass mappedSuperclass : metadata.getMappedSuperclassMappingsCopy() ) {
+			metadataCollector.addMappedSuperclass( mappedSuperclass.getMappedClass(), mappedSuperclass );
+		}
+		registerGeneratorExportables( metadata, context.getBootstrapContext() );
+		LOG.debugf( "Read metadata snapshot [%s]", file );
+		return metadata;
+	}
+
+	/**
+	 * The identifier generators are not part of the snapshot, and are created again, as
+	 * {@link InFlightMetadataCollectorImpl} does, so that they know about their exportables.
+	 */
+	private static void registerGeneratorExportables(MetadataImplementor metadata, BootstrapContext bootstrapContext) {
+		final Database database = metadata.getDatabase();
+		final Dialect dialect = database.getJdbcEnvironment().getDialect();
+		for ( PersistentClass entityBinding : metadata.getEntityBindings() ) {
+			if ( !entityBinding.isInherited() ) {
+				registerGeneratorExportables( entityBinding.getIdentifier(), (RootClass) entityBinding, database, dialect, bootstrapContext );
+			}
+		}
+		for ( Collection collectionBinding : metadata.getCollectionBindings() ) {
+			if ( collectionBinding instanceof IdentifierCollection ) {
+				final KeyValue identifier = ( (IdentifierCollection) collectionBinding ).getIdentifier();
+				registerGeneratorExportables( identifier, null, database, dialect, bootstrapContext );
+			}
+		}
+	}
+
+	private static void registerGeneratorExportables(
+			KeyValue identifier,
+			@Nullable RootClass rootClass,
+			Database database,
+			Dialect dialect,
+			BootstrapContext bootstrapContext) {
+		try {
+			final Generator generator =
+					identifier.createGenerator( bootstrapContext.getIdentifierGeneratorFactory(), dialect, rootClass );
+			if ( generator instanceof ExportableProducer ) {
+				( (ExportableProducer) generator ).registerExportables( database );
+			}
+		}
+		catch (MappingException e) {
+			// the same exception will happen again as the SessionFactory is built
+			LOG.debugf( "Ignoring exception thrown when trying to build IdentifierGenerator as part of Metadata building", e );
+		}
+	}
+
+	/**
+	 * Write the given metadata to the snapshot file, replacing the outdated snapshot, if any.
+	 * Failing to write the snapshot does not prevent the boot from completing.
+	 */
+	public void write(MetadataImplementor metadata) {
+		Path temporaryFile = null;
+		try {
+			final Path directory = file.toAbsolutePath().getParent();
+			Files.createDirectories( directory );
+			temporaryFile = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+			try ( SnapshotOutputStream output =
+						new SnapshotOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+				output.writeUTF( FORMAT );
+				output.writeUTF( fingerprint );
+				final Map<String, String> classDigests = classDigests( metadata );
+				output.writeInt( classDigests.size() );
+				for ( Map.Entry<String, String> entry : classDigests.entrySet() ) {
+					output.writeUTF( entry.getKey() );
+					output.writeUTF( entry.getValue() );
+				}
+				output.writeObject( metadata );
+			}
+			Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			LOG.debugf( "Wrote metadata snapshot [%s]", file );
+		}
+		catch (Exception e) {
+			LOG.warnf( "Unable to write metadata snapshot [%s]: %s", file, e );
+			if ( temporaryFile != null ) {
+				try {
+					Files.deleteIfExists( temporaryFile );
+				}
+				catch (IOException ignore) {
+				}
+			}
+		}
+	}
+
+	/**
+	 * The digests of the classes of the domain model, and of their superclasses, of the
+	 * converters, user types and enums used by their attributes, and of the package-info
+	 * classes of the managed packages
+	 */
+	private Map<String, String> classDigests(MetadataImplementor metadata) throws IOException {
+		final Map<String, String> classDigests = new TreeMap<>();
+		for ( PersistentClass entityBinding : metadata.getEntityBindings() ) {
+			addClassDigests( entityBinding.getMappedClass(), classDigests );
+			if ( !entityBinding.isInherited() ) {
+				addValueClassDigests( entityBinding.getIdentifier(), classDigests );
+				addValueClassDigests( entityBinding.getDiscriminator(), classDigests );
+			}
+			for ( Property property : entityBinding.getProperties() ) {
+				addValueClassDigests( property.getValue(), classDigests );
+			}
+		}
+		for ( MappedSuperclass mappedSuperclass : metadata.getMappedSuperclassMappingsCopy() ) {
+			addClassDigests( mappedSuperclass.getMappedClass(), classDigests );
+		}
+		for ( Collection collectionBinding : metadata.getCollectionBindings() ) {
+			addValueClassDigests( collectionBinding.getElement(), classDigests );
+			if ( collectionBinding instanceof IndexedCollection ) {
+				addValueClassDigests( ( (IndexedCollection) collectionBinding ).getIndex(), classDigests );
+			}
+		}
+		final IOException[] failure = new IOException[1];
+		metadata.visitRegisteredComponents( component -> {
+			if ( !component.isDynamic() && failure[0] == null ) {
+				try {
+					addClassDigests( component.getComponentClass(), classDigests );
+				}
+				catch (IOException e) {
+					failure[0] = e;
+				}
+			}
+		} );
+		if ( failure[0] != null ) {
+			throw failure[0];
+		}
+		// auto-applied converters may not be used by any attribute yet
+		for ( ConverterDescriptor converterDescriptor : managedResources.getAttributeConverterDescriptors() ) {
+			addClassDigests( converterDescriptor.getAttributeConverterClass(), classDigests );
+		}
+		// a managed package does not need a package-info class, but adding one changes the mappings
+		for ( String packageName : managedResources.getAnnotatedPackageNames() ) {
+			final String packageInfoName = packageName + PACKAGE_INFO;
+			classDigests.put( packageInfoName, classDigestOrAbsent( packageInfoName ) );
+		}
+		return classDigests;
+	}
+
+	/**
+	 * The digests of the converter, user type and Java type classes used by the given value
+	 */
+	private void addValueClassDigests(@Nullable Value value, Map<String, String> classDigests) throws IOException {
+		if ( value instanceof Component ) {
+			for ( Property property : ( (Component) value ).getProperties() ) {
+				addValueClassDigests( property.getValue(), classDigests );
+			}
+		}
+		else if ( value instanceof SimpleValue ) {
+			final ConverterDescriptor converterDescriptor = ( (SimpleValue) value ).getJpaAttributeConverterDescriptor();
+			if ( converterDescriptor != null ) {
+				addClassDigests( converterDescriptor.getAttributeConverterClass(), classDigests );
+			}
+			if ( value instanceof BasicValue ) {
+				final BasicValue.Resolution<?> resolution = ( (BasicValue) value ).getResolution();
+				if ( resolution != null ) {
+					addClassDigests( resolution.getDomainJavaType().getJavaTypeClass(), classDigests );
+					if ( resolution.getJdbcMapping() instanceof CustomType ) {
+						final CustomType<?> customType = (CustomType<?>) resolution.getJdbcMapping();
+						addClassDigests( customType.getUserType().getClass(), classDigests );
+					}
+				}
+			}
+		}
+	}
+
+	private void addClassDigests(@Nullable Class<?> type, Map<String, String> classDigests) throws IOException {
+		for ( Class<?> current = type;
+				current != null && !current.isPrimitive() && !current.isArray() && !isPlatformClass( current );
+				current = current.getSuperclass() ) {
+			if ( !classDigests.containsKey( current.getName() ) ) {
+				final String digest = classDigest( current.getName(), classLoaderService );
+				if ( digest == null ) {
+					throw new IOException( "Unable to locate the class file of [" + current.getName() + "]" );
+				}
+				classDigests.put( current.getName(), digest );
+			}
+		}
+	}
+
+	/**
+	 * Whether the given class belongs to the JDK, whose classes are not digested
+	 */
+	private static boolean isPlatformClass(Class<?> type) {
+		return type.getClassLoader() == null || type.getClassLoader() == ClassLoader.getPlatformClassLoader();
+	}
+
+	private String classDigestOrAbsent(String className) throws IOException {
+		final String digest = classDigest( className, classLoaderService );
+		return digest == null ? "" : digest;
+	}
+
+	private static @Nullable String classDigest(String className, ClassLoaderService classLoaderService)
+			throws IOException {
+		final InputStream stream = classLoaderService.locateResourceStream( className.replace( '.', '/' ) + ".class" );
+		if ( stream == null ) {
+			return null;
+		}
+		try ( InputStream classFile = stream ) {
+			final MessageDigest digest = newDigest();
+			digest.update( classFile.readAllBytes() );
+			return toHex( digest.digest() );
+		}
+	}
+
+	private static @Nullable String fingerprint(
+			ManagedResources managedResources,
+			Map<String, Object> settings,
+			MetadataBuildingOptions options,
+			Dialect dialect,
+			ClassLoaderService classLoaderService) {
+		final MessageDigest digest = newDigest();
+		update( digest, Version.getVersionString() );
+		update( digest, dialect.getClass().getName() );
+		update( digest, String.valueOf( dialect.getVersion() ) );
+
+		final Map<String, String> fingerprintedSettings = new TreeMap<>();
+		for ( Map.Entry<String, Object> entry : settings.entrySet() ) {
+			if ( startsWithAny( entry.getKey(), FINGERPRINTED_SETTINGS_PREFIXES )
+					&& !startsWithAny( entry.getKey(), IGNORED_SETTINGS_PREFIXES ) ) {
+				try {
+					fingerprintedSettings.put( entry.getKey(), describe( entry.getValue(), classLoaderService ) );
+				}
+				catch (IOException e) {
+					LOG.debugf( "Not using a metadata snapshot, since the setting [%s] cannot be fingerprinted: %s",
+							entry.getKey(), e );
+					return null;
+				}
+			}
+		}
+		fingerprintedSettings.forEach( (name, value) -> update( digest, name + '=' + value ) );
+		update( digest, options.getImplicitNamingStrategy().getClass().getName() );
+		update( digest, options.getPhysicalNamingStrategy().getClass().getName() );
+
+		for ( Class<?> annotatedClass : managedResources.getAnnotatedClassReferences() ) {
+			update( digest, annotatedClass.getName() );
+		}
+		for ( String annotatedClassName : managedResources.getAnnotatedClassNames() ) {
+			update( digest, annotatedClassName );
+		}
+		for ( String annotatedPackageName : managedResources.getAnnotatedPackageNames() ) {
+			update( digest, annotatedPackageName );
+		}
+		for ( ConverterDescriptor converterDescriptor : managedResources.getAttributeConverterDescriptors() ) {
+			update( digest, converterDescriptor.getAttributeConverterClass().getName() );
+		}
+		final Map<String, Class<?>> extraQueryImports = managedResources.getExtraQueryImports();
+		if ( extraQueryImports != null ) {
+			new TreeMap<>( extraQueryImports )
+					.forEach( (name, importedClass) -> update( digest, name + '=' + importedClass.getName() ) );
+		}
+
+		for ( Binding<BindableMappingDescriptor> binding : managedResources.getXmlMappingBindings() ) {
+			final Origin origin = binding.getOrigin();
+			try ( InputStream stream = openStream( origin, classLoaderService ) ) {
+				if ( stream == null ) {
+					LOG.debugf( "Not using a metadata snapshot, since the XML mapping [%s] cannot be fingerprinted", origin );
+					return null;
+				}
+				update( digest, origin.getName() );
+				digest.update( stream.readAllBytes() );
+			}
+			catch (IOException e) {
+				LOG.debugf( "Not using a metadata snapshot, since the XML mapping [%s] cannot be read: %s", origin, e );
+				return null;
+			}
+		}
+		return toHex( digest.digest() );
+	}
+
+	private static boolean startsWithAny(String name, String[] prefixes) {
+		for ( String prefix : prefixes ) {
+			if ( name.startsWith( prefix ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static @Nullable InputStream openStream(Origin origin, ClassLoaderService classLoaderService)
+			throws IOException {
+		switch ( origin.getType() ) {
+			case RESOURCE:
+				return classLoaderService.locateResourceStream( origin.getName() );
+			case FILE:
+				return Files.newInputStream( Path.of( origin.getName() ) );
+			case URL:
+				return new URL( origin.getName() ).openStream();
+			default:
+				return null;
+		}
+	}
+
+	private static String describe(@Nullable Object value, ClassLoaderService classLoaderService)
+			throws IOException {
+		if ( value == null ) {
+			return "null";
+		}
+		else if ( value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+				|| value instanceof Enum ) {
+			return value.toString();
+		}
+		else if ( value instanceof Class ) {
+			return describeClass( (Class<?>) value, classLoaderService );
+		}
+		else if ( value instanceof java.util.Collection ) {
+			final StringJoiner elements = new StringJoiner( ",", "[", "]" );
+			for ( Object element : (java.util.Collection<?>) value ) {
+				elements.add( describe( element, classLoaderService ) );
+			}
+			return elements.toString();
+		}
+		else if ( value instanceof Object[] ) {
+			final StringJoiner elements = new StringJoiner( ",", "[", "]" );
+			for ( Object element : (Object[]) value ) {
+				elements.add( describe( element, classLoaderService ) );
+			}
+			return elements.toString();
+		}
+		else if ( value instanceof Map ) {
+			final Map<String, String> entries = new TreeMap<>();
+			for ( Map.Entry<?, ?> entry : ( (Map<?, ?>) value ).entrySet() ) {
+				entries.put(
+						describe( entry.getKey(), classLoaderService ),
+						describe( entry.getValue(), classLoaderService )
+				);
+			}
+			return entries.toString();
+		}
+		else {
+			// the state of an arbitrary object cannot be fingerprinted, but its implementation can
+			return describeClass( value.getClass(), classLoaderService );
+		}
+	}
+
+	private static String describeClass(Class<?> type, ClassLoaderService classLoaderService) throws IOException {
+		if ( type.isPrimitive() || type.isArray() || isPlatformClass( type ) ) {
+			return type.getName();
+		}
+		final String digest = classDigest( type.getName(), classLoaderService );
+		return digest == null ? type.getName() : type.getName() + '@' + digest;
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update( value.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		final StringBuilder hex = new StringBuilder( bytes.length * 2 );
+		for ( byte b : bytes ) {
+			hex.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+		}
+		return hex.toString();
+	}
+
+	/**
+	 * The objects of the context of the boot, written to the snapshot as references
+	 * to the corresponding objects of the boot reading the snapshot
+	 */
+	private enum ContextReference {
+		BOOTSTRAP_CONTEXT( BootstrapContext.class, MetadataBuildingContext::getBootstrapContext ),
+		BUILDING_OPTIONS( MetadataBuildingOptions.class, MetadataBuildingContext::getBuildingOptions ),
+		BUILDING_CONTEXT( MetadataBuildingContext.class, context -> context ),
+		METADATA_COLLECTOR( InFlightMetadataCollector.class, MetadataBuildingContext::getMetadataCollector ),
+		OBJECT_NAME_NORMALIZER( ObjectNameNormalizer.class, MetadataBuildingContext::getObjectNameNormalizer ),
+		TYPE_CONFIGURATION(
+				TypeConfiguration.class,
+				context -> context.getBootstrapContext().getTypeConfiguration()
+		),
+		SERVICE_REGISTRY(
+				ServiceRegistry.class,
+				context -> context.getBootstrapContext().getServiceRegistry()
+		),
+		JDBC_ENVIRONMENT(
+				JdbcEnvironment.class,
+				context -> context.getMetadataCollector().getDatabase().getJdbcEnvironment()
+		),
+		DIALECT( Dialect.class, context -> context.getMetadataCollector().getDatabase().getDialect() ),
+		PHYSICAL_NAMING_STRATEGY(
+				PhysicalNamingStrategy.class,
+				context -> context.getBuildingOptions().getPhysicalNamingStrategy()
+		),
+		IMPLICIT_NAMING_STRATEGY(
+				ImplicitNamingStrategy.class,
+				context -> context.getBuildingOptions().getImplicitNamingStrategy()
+		),
+		REFLECTION_MANAGER(
+				ReflectionManager.class,
+				context -> context.getBootstrapContext().getReflectionManager()
+		);
+
+		private final Class<?> type;
+		private final Function<MetadataBuildingContext, Object> resolver;
+
+		ContextReference(Class<?> type, Function<MetadataBuildingContext, Object> resolver) {
+			this.type = type;
+			this.resolver = resolver;
+		}
+
+		private static @Nullable ContextReference of(Object object) {
+			for ( ContextReference reference : values() ) {
+				if ( reference.type.isInstance( object ) ) {
+					return reference;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * A reference to a property of the annotation reflection model, resolved using the
+	 * {@link ReflectionManager} of the boot reading the snapshot
+	 */
+	private static final class XPropertyReference implements Serializable {
+		private final Class<?> declaringClass;
+		private final String name;
+
+		private XPropertyReference(Class<?> declaringClass, String name) {
+			this.declaringClass = declaringClass;
+			this.name = name;
+		}
+
+		private XProperty resolve(ReflectionManager reflectionManager) throws InvalidObjectException {
+			final XClass xClass = reflectionManager.toXClass( declaringClass );
+			for ( String accessType : new String[] { XClass.ACCESS_FIELD, XClass.ACCESS_PROPERTY, XClass.ACCESS_RECORD } ) {
+				for ( XProperty property : xClass.getDeclaredProperties( accessType ) ) {
+					if ( property.getName().equals( name ) ) {
+						return property;
+					}
+				}
+			}
+			// the class digests should have caught this
+			throw new InvalidObjectException( "Stale metadata snapshot: property [" + declaringClass.getName()
+					+ "#" + name + "] no longer exists" );
+		}
+	}
+
+	private static final class ConverterReference implements Serializable {
+		private final Class<? extends AttributeConverter<?,?>> converterClass;
+		private final boolean autoApply;
+
+		private ConverterReference(ConverterDescriptor descriptor) {
+			this.converterClass = descriptor.getAttributeConverterClass();
+			this.autoApply = descriptor.getAutoApplyDescriptor() != AutoApplicableConverterDescriptorBypassedImpl.INSTANCE;
+		}
+
+		private ConverterDescriptor resolve(BootstrapContext bootstrapContext) {
+			return new ClassBasedConverterDescriptor( converterClass, autoApply, bootstrapContext.getClassmateContext() );
+		}
+	}
+
+	private static final class ConverterBeanReference implements Serializable {
+		private final Class<?> converterClass;
+
+		private ConverterBeanReference(Class<?> converterClass) {
+			this.converterClass = converterClass;
+		}
+
+		private ManagedBean<?> resolve(ServiceRegistry serviceRegistry) {
+			return serviceRegistry.requireService( ManagedBeanRegistry.class ).getBean( converterClass );
+		}
+	}
+
+	private static final class SnapshotOutputStream extends ObjectOutputStream {
+		private SnapshotOutputStream(OutputStream out) throws IOException {
+			super( out );
+			enableReplaceObject( true );
+		}
+
+		@Override
+		protected Object replaceObject(Object object) {
+			if ( object instanceof MetadataImplementor && !( object instanceof InFlightMetadataCollector ) ) {
+				return object;
+			}
+			final ContextReference reference = ContextReference.of( object );
+			if ( reference != null ) {
+				return reference;
+			}
+			else if ( object instanceof JavaXMember && object instanceof XProperty ) {
+				final Member member = ( (JavaXMember) object ).getMember();
+				return new XPropertyReference( member.getDeclaringClass(), ( (XProperty) object ).getName() );
+			}
+			else if ( object instanceof ClassBasedConverterDescriptor ) {
+				return new ConverterReference( (ConverterDescriptor) object );
+			}
+			else if ( object instanceof ManagedBean && !( object instanceof ProvidedInstanceManagedBeanImpl )
+					&& AttributeConverter.class.isAssignableFrom( ( (ManagedBean<?>) object ).getBeanClass() ) ) {
+				return new ConverterBeanReference( ( (ManagedBean<?>) object ).getBeanClass() );
+			}
+			return object;
+		}
+	}
+
+	private final class SnapshotInputStream extends ObjectInputStream {
+		private final MetadataBuildingContext context;
+		// the classes of the domain model, and their packages, validated by their digests
+		private final Set<String> domainClassNames = new HashSet<>();
+		private final Set<String> domainPackageNames = new HashSet<>();
+
+		private SnapshotInputStream(InputStream in, MetadataBuildingContext context) throws IOException {
+			super( in );
+			this.context = context;
+			enableResolveObject( true );
+			setObjectInputFilter( this::checkInput );
+		}
+
+		private void allowDomainClass(String className) {
+			domainClassNames.add( className );
+			final int lastDot = className.lastIndexOf( '.' );
+			if ( lastDot > 0 ) {
+				domainPackageNames.add( className.substring( 0, lastDot ) );
+			}
+		}
+
+		private ObjectInputFilter.Status checkInput(ObjectInputFilter.FilterInfo info) {
+			if ( info.depth() > MAX_DEPTH
+					|| info.references() > MAX_REFERENCES
+					|| info.arrayLength() > MAX_ARRAY_LENGTH ) {
+				return ObjectInputFilter.Status.REJECTED;
+			}
+			Class<?> type = info.serialClass();
+			if ( type == null ) {
+				return ObjectInputFilter.Status.UNDECIDED;
+			}
+			while ( type.isArray() ) {
+				type = type.getComponentType();
+			}
+			return type.isPrimitive() || isAllowed( type )
+					? ObjectInputFilter.Status.ALLOWED
+					: ObjectInputFilter.Status.REJECTED;
+		}
+
+		private boolean isAllowed(Class<?> type) {
+			if ( type == Proxy.class ) {
+				return true;
+			}
+			else if ( Proxy.isProxyClass( type ) ) {
+				for ( Class<?> proxiedInterface : type.getInterfaces() ) {
+					if ( !proxiedInterface.isAnnotation() || !isAllowed( proxiedInterface ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			final String className = type.getName();
+			return startsWithAny( className, ALLOWED_PACKAGE_PREFIXES )
+				|| className.equals( ANNOTATION_INVOCATION_HANDLER )
+				|| ALLOWED_JDK_PACKAGES.contains( type.getPackageName() )
+				|| domainClassNames.contains( className )
+				|| domainPackageNames.contains( type.getPackageName() );
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass descriptor) throws IOException, ClassNotFoundException {
+			try {
+				return super.resolveClass( descriptor );
+			}
+			catch (ClassNotFoundException e) {
+				try {
+					return classLoaderService.classForName( descriptor.getName() );
+				}
+				catch (ClassLoadingException cle) {
+					throw e;
+				}
+			}
+		}
+
+		@Override
+		protected Object resolveObject(Object object) throws IOException {
+			if ( object instanceof ContextReference ) {
+				return ( (ContextReference) object ).resolver.apply( context );
+			}
+			else if ( object instanceof XPropertyReference ) {
+				return ( (XPropertyReference) object ).resolve( context.getBootstrapContext().getReflectionManager() );
+			}
+			else if ( object instanceof ConverterReference ) {
+				return ( (ConverterReference) object ).resolve( context.getBootstrapContext() );
+			}
+			else if ( object instanceof ConverterBeanReference ) {
+				return ( (ConverterBeanReference) object ).resolve( context.getBootstrapContext().getServiceRegistry() );
+			}
+			return object;
+		}
+	}
+}
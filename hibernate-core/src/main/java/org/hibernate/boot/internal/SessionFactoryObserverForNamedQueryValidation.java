@@ -11,6 +11,7 @@ import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventManager.BootPhase;
 import org.hibernate.query.spi.QueryEngine;
 
 /**
@@ -25,9 +26,11 @@ import org.hibernate.query.spi.QueryEngine;
  */
 class SessionFactoryObserverForNamedQueryValidation implements SessionFactoryObserver {
 	private final Metadata metadata;
+	private final BootPhaseMonitor bootPhaseMonitor;
 
-	SessionFactoryObserverForNamedQueryValidation(MetadataImplementor metadata) {
+	SessionFactoryObserverForNamedQueryValidation(MetadataImplementor metadata, BootPhaseMonitor bootPhaseMonitor) {
 		this.metadata = metadata;
+		this.bootPhaseMonitor = bootPhaseMonitor;
 	}
 
 	@Override
@@ -36,7 +39,13 @@ class SessionFactoryObserverForNamedQueryValidation implements SessionFactoryObs
 		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
 		queryEngine.getNamedObjectRepository().prepare( sessionFactory, metadata );
 		if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
-			queryEngine.validateNamedQueries();
+			final BootPhaseMonitor.Timing validation = bootPhaseMonitor.begin( BootPhase.NAMED_QUERY_VALIDATION );
+			try {
+				queryEngine.validateNamedQueries();
+			}
+			finally {
+				bootPhaseMonitor.complete( validation );
+			}
 		}
 	}
 }
@@ -10,6 +10,7 @@ import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventManager.BootPhase;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.tool.schema.spi.DelayedDropAction;
 import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
@@ -26,20 +27,28 @@ import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
  */
 class SessionFactoryObserverForSchemaExport implements SessionFactoryObserver {
 	private final MetadataImplementor metadata;
+	private final BootPhaseMonitor bootPhaseMonitor;
 	private DelayedDropAction delayedDropAction;
 
-	SessionFactoryObserverForSchemaExport(MetadataImplementor metadata) {
+	SessionFactoryObserverForSchemaExport(MetadataImplementor metadata, BootPhaseMonitor bootPhaseMonitor) {
 		this.metadata = metadata;
+		this.bootPhaseMonitor = bootPhaseMonitor;
 	}
 
 	@Override
 	public void sessionFactoryCreated(SessionFactory factory) {
-		SchemaManagementToolCoordinator.process(
-				metadata,
-				getRegistry( factory ),
-				factory.getProperties(),
-				action -> delayedDropAction = action
-		);
+		final BootPhaseMonitor.Timing schemaManagement = bootPhaseMonitor.begin( BootPhase.SCHEMA_MANAGEMENT );
+		try {
+			SchemaManagementToolCoordinator.process(
+					metadata,
+					getRegistry( factory ),
+					factory.getProperties(),
+					action -> delayedDropAction = action
+			);
+		}
+		finally {
+			bootPhaseMonitor.complete( schemaManagement );
+		}
 	}
 
 	@Override
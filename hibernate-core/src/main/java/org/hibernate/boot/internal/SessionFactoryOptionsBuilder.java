@@ -16,6 +16,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -55,6 +56,7 @@ import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.jpa.spi.MutableJpaCompliance;
 import org.hibernate.loader.BatchFetchStyle;
+import org.hibernate.loader.NPlusOneMitigation;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.criteria.ValueHandlingMode;
@@ -77,6 +79,7 @@ import org.hibernate.type.format.jaxb.JaxbXmlFormatMapper;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
+import static org.hibernate.cfg.AvailableSettings.ASYNC_QUERY_EXECUTOR;
 import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
@@ -85,6 +88,7 @@ import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
+import static org.hibernate.cfg.AvailableSettings.COLLECTION_AGGREGATE_FETCH;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
 import static org.hibernate.cfg.AvailableSettings.CRITERIA_VALUE_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY;
@@ -106,6 +110,8 @@ import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.N_PLUS_ONE_MITIGATION;
+import static org.hibernate.cfg.AvailableSettings.N_PLUS_ONE_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
@@ -115,7 +121,9 @@ import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.SPLIT_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_MEMORY_BUDGET;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
@@ -187,6 +195,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private Interceptor interceptor;
 	private Supplier<? extends Interceptor> statelessInterceptorSupplier;
 	private StatementInspector statementInspector;
+	private final Executor asyncQueryExecutor;
 	private final List<SessionFactoryObserver> sessionFactoryObserverList = new ArrayList<>();
 	private final BaselineSessionEventsListenerBuilder baselineSessionEventsListenerBuilder;	// not exposed on builder atm
 
@@ -203,6 +212,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
+	private final int nPlusOneThreshold;
+	private final NPlusOneMitigation nPlusOneMitigation;
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
@@ -252,6 +263,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
 	private Integer jdbcFetchSize;
+	private final int jdbcFetchMemoryBudget;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -273,6 +285,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private JpaCompliance jpaCompliance;
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
+	private final boolean collectionAggregateFetchEnabled;
+	private final boolean splitCollectionFetchEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
 
 	private final boolean portableIntegerDivisionEnabled;
@@ -349,6 +363,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				StatementInspector.class,
 				configurationSettings.get( STATEMENT_INSPECTOR )
 		);
+		this.asyncQueryExecutor = strategySelector.resolveStrategy(
+				Executor.class,
+				configurationSettings.get( ASYNC_QUERY_EXECUTOR )
+		);
 
 		// todo : expose this from builder?
 		final String autoSessionEventsListenerName = (String) configurationSettings.get( AUTO_SESSION_EVENTS_LISTENER );
@@ -380,6 +398,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.delayBatchFetchLoaderCreations = configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 		this.subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, configurationSettings );
+		this.nPlusOneThreshold = getInt( N_PLUS_ONE_THRESHOLD, configurationSettings, 0 );
+		this.nPlusOneMitigation = NPlusOneMitigation.interpret( configurationSettings.get( N_PLUS_ONE_MITIGATION ) );
 		this.maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, configurationSettings );
 
 		final Object defaultNullPrecedence = configurationSettings.get( DEFAULT_NULL_ORDERING );
@@ -536,6 +556,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.jdbcFetchMemoryBudget = getInt( STATEMENT_FETCH_MEMORY_BUDGET, configurationSettings, 0 );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = getBoolean(
@@ -599,6 +620,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings
 		);
 
+		this.collectionAggregateFetchEnabled = getBoolean(
+				COLLECTION_AGGREGATE_FETCH,
+				configurationSettings
+		);
+
+		this.splitCollectionFetchEnabled = getBoolean(
+				SPLIT_COLLECTION_FETCH,
+				configurationSettings
+		);
+
 		this.immutableEntityUpdateQueryHandlingMode = ImmutableEntityUpdateQueryHandlingMode.interpret(
 				configurationSettings.get( IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE )
 		);
@@ -1038,6 +1069,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return subselectFetchEnabled;
 	}
 
+	@Override
+	public int getNPlusOneThreshold() {
+		return nPlusOneThreshold;
+	}
+
+	@Override
+	public NPlusOneMitigation getNPlusOneMitigation() {
+		return nPlusOneMitigation;
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return defaultNullPrecedence;
@@ -1148,6 +1189,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getJdbcFetchMemoryBudget() {
+		return jdbcFetchMemoryBudget;
+	}
+
+	@Override
+	public Executor getAsyncQueryExecutor() {
+		return asyncQueryExecutor;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1233,6 +1284,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.failOnPaginationOverCollectionFetchEnabled;
 	}
 
+	@Override
+	public boolean isCollectionAggregateFetchEnabled() {
+		return this.collectionAggregateFetchEnabled;
+	}
+
+	@Override
+	public boolean isSplitCollectionFetchEnabled() {
+		return this.splitCollectionFetchEnabled;
+	}
+
 	@Override
 	public boolean inClauseParameterPaddingEnabled() {
 		return this.inClauseParameterPaddingEnabled;
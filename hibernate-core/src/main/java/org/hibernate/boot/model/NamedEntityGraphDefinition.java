@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.model;
 
+import java.io.Serializable;
+
 import jakarta.persistence.NamedEntityGraph;
 
 import static org.hibernate.internal.util.StringHelper.isNotEmpty;
@@ -15,7 +17,7 @@ import static org.hibernate.internal.util.StringHelper.isNotEmpty;
  *
  * @author Steve Ebersole
  */
-public class NamedEntityGraphDefinition {
+public class NamedEntityGraphDefinition implements Serializable {
 	private final NamedEntityGraph annotation;
 	private final String jpaEntityName;
 	private final String entityName;
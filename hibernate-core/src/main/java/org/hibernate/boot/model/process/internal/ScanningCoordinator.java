@@ -16,8 +16,8 @@ import java.util.Set;
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
 import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.IndexedScanner;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
-import org.hibernate.boot.archive.scan.internal.StandardScanner;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
 import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
@@ -87,12 +87,13 @@ public class ScanningCoordinator {
 		final ArchiveDescriptorFactory archiveDescriptorFactory = bootstrapContext.getArchiveDescriptorFactory();
 
 		if ( scannerSetting == null ) {
-			// No custom Scanner specified, use the StandardScanner
+			// No custom Scanner specified, use the IndexedScanner, which behaves
+			// like the StandardScanner for archives without a scan index
 			if ( archiveDescriptorFactory == null ) {
-				return new StandardScanner();
+				return new IndexedScanner();
 			}
 			else {
-				return new StandardScanner( archiveDescriptorFactory );
+				return new IndexedScanner( archiveDescriptorFactory );
 			}
 		}
 		else {
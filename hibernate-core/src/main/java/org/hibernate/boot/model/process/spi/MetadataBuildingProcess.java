@@ -25,6 +25,9 @@ import java.util.UUID;
 import org.hibernate.boot.MetadataSources;
 import org.hibernate.boot.internal.InFlightMetadataCollectorImpl;
 import org.hibernate.boot.internal.MetadataBuildingContextRootImpl;
+import org.hibernate.boot.internal.MetadataImpl;
+import org.hibernate.boot.internal.BootPhaseMonitor;
+import org.hibernate.boot.internal.MetadataSnapshot;
 import org.hibernate.boot.jaxb.Origin;
 import org.hibernate.boot.jaxb.SourceType;
 import org.hibernate.boot.jaxb.hbm.spi.JaxbHbmHibernateMapping;
@@ -62,6 +65,7 @@ import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.event.spi.EventManager.BootPhase;
 import org.hibernate.mapping.Table;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.BasicTypeRegistry;
@@ -148,11 +152,18 @@ public class MetadataBuildingProcess {
 				StandardConverters.BOOLEAN,
 				true
 		);
-		ScanningCoordinator.INSTANCE.coordinateScan(
-				managedResources,
-				bootstrapContext,
-				xmlMappingEnabled ? sources.getXmlMappingBinderAccess() : null
-		);
+		final BootPhaseMonitor bootPhaseMonitor = bootstrapContext.getBootPhaseMonitor();
+		final BootPhaseMonitor.Timing scanning = bootPhaseMonitor.begin( BootPhase.SCANNING );
+		try {
+			ScanningCoordinator.INSTANCE.coordinateScan(
+					managedResources,
+					bootstrapContext,
+					xmlMappingEnabled ? sources.getXmlMappingBinderAccess() : null
+			);
+		}
+		finally {
+			bootPhaseMonitor.complete( scanning );
+		}
 		return managedResources;
 	}
 
@@ -189,6 +200,13 @@ public class MetadataBuildingProcess {
 
 		bootstrapContext.getTypeConfiguration().scope( rootMetadataBuildingContext );
 
+		final MetadataSnapshot snapshot = MetadataSnapshot.fromSettings( managedResources, bootstrapContext, options );
+		if ( snapshot != null ) {
+			final MetadataImplementor metadata = snapshot.read( rootMetadataBuildingContext, metadataCollector );
+			if ( metadata != null ) {
+				return metadata;
+			}
+		}
 
 		final IndexView jandexView = bootstrapContext.getJandexView();
 
@@ -309,29 +327,42 @@ public class MetadataBuildingProcess {
 			}
 		};
 
-		processor.prepare();
+		final BootPhaseMonitor bootPhaseMonitor = bootstrapContext.getBootPhaseMonitor();
+		final BootPhaseMonitor.Timing binding = bootPhaseMonitor.begin( BootPhase.BINDING );
+		try {
+			processor.prepare();
 
-		processor.processTypeDefinitions();
-		processor.processQueryRenames();
-		processor.processAuxiliaryDatabaseObjectDefinitions();
+			processor.processTypeDefinitions();
+			processor.processQueryRenames();
+			processor.processAuxiliaryDatabaseObjectDefinitions();
 
-		processor.processIdentifierGenerators();
-		processor.processFilterDefinitions();
-		processor.processFetchProfiles();
+			processor.processIdentifierGenerators();
+			processor.processFilterDefinitions();
+			processor.processFetchProfiles();
 
-		final Set<String> processedEntityNames = new HashSet<>();
-		processor.prepareForEntityHierarchyProcessing();
-		processor.processEntityHierarchies( processedEntityNames );
-		processor.postProcessEntityHierarchies();
+			final Set<String> processedEntityNames = new HashSet<>();
+			processor.prepareForEntityHierarchyProcessing();
+			processor.processEntityHierarchies( processedEntityNames );
+			processor.postProcessEntityHierarchies();
 
-		processor.processResultSetMappings();
+			processor.processResultSetMappings();
 
-		for ( MetadataContributor contributor : classLoaderService.loadJavaServices( MetadataContributor.class ) ) {
-			log.tracef( "Calling MetadataContributor : %s", contributor );
-			contributor.contribute( metadataCollector, jandexView );
+			for ( MetadataContributor contributor : classLoaderService.loadJavaServices( MetadataContributor.class ) ) {
+				log.tracef( "Calling MetadataContributor : %s", contributor );
+				contributor.contribute( metadataCollector, jandexView );
+			}
+		}
+		finally {
+			bootPhaseMonitor.complete( binding );
 		}
 
-		metadataCollector.processSecondPasses( rootMetadataBuildingContext );
+		final BootPhaseMonitor.Timing secondPasses = bootPhaseMonitor.begin( BootPhase.SECOND_PASSES );
+		try {
+			metadataCollector.processSecondPasses( rootMetadataBuildingContext );
+		}
+		finally {
+			bootPhaseMonitor.complete( secondPasses );
+		}
 
 		// Make sure collections are fully bound before processing named queries as hbm result set mappings require it
 		processor.processNamedQueries();
@@ -343,7 +374,11 @@ public class MetadataBuildingProcess {
 
 		applyExtraQueryImports( managedResources, metadataCollector );
 
-		return metadataCollector.buildMetadataInstance( rootMetadataBuildingContext );
+		final MetadataImpl metadata = metadataCollector.buildMetadataInstance( rootMetadataBuildingContext );
+		if ( snapshot != null ) {
+			snapshot.write( metadata );
+		}
+		return metadata;
 	}
 
 	private static void processAdditionalMappingContributions(
@@ -6,6 +6,7 @@
  */
 package org.hibernate.boot.model.relational;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
@@ -28,7 +29,7 @@ import static java.util.Collections.emptyList;
 /**
  * @author Steve Ebersole
  */
-public class Database {
+public class Database implements Serializable {
 
 	private final Dialect dialect;
 	private final TypeConfiguration typeConfiguration;
@@ -6,6 +6,7 @@
  */
 package org.hibernate.boot.model.relational;
 
+import java.io.Serializable;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -44,7 +45,7 @@ import org.hibernate.type.descriptor.jdbc.SqlTypedJdbcType;
  *
  * @author Steve Ebersole
  */
-public class Namespace {
+public class Namespace implements Serializable {
 	private static final CoreMessageLogger log = CoreLogging.messageLogger( Namespace.class );
 
 	private final PhysicalNamingStrategy physicalNamingStrategy;
@@ -334,7 +335,7 @@ public class Namespace {
 		return sequences.values();
 	}
 
-	public static class Name implements Comparable<Name> {
+	public static class Name implements Comparable<Name>, Serializable {
 		private final Identifier catalog;
 		private final Identifier schema;
 
@@ -6,6 +6,7 @@
  */
 package org.hibernate.boot.model.relational;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 import org.hibernate.HibernateException;
@@ -24,7 +25,7 @@ public class QualifiedNameParser {
 	 */
 	public static final QualifiedNameParser INSTANCE = new QualifiedNameParser();
 
-	public static class NameParts implements QualifiedName {
+	public static class NameParts implements QualifiedName, Serializable {
 		private final Identifier catalogName;
 		private final Identifier schemaName;
 		private final Identifier objectName;
@@ -19,6 +19,7 @@ import jakarta.persistence.MappedSuperclass;
 import org.hibernate.annotations.common.reflection.MetadataProviderInjector;
 import org.hibernate.annotations.common.reflection.ReflectionManager;
 import org.hibernate.annotations.common.reflection.XClass;
+import org.hibernate.boot.internal.BootPhaseMonitor;
 import org.hibernate.boot.internal.MetadataBuildingContextRootImpl;
 import org.hibernate.boot.jaxb.mapping.JaxbEntityMappings;
 import org.hibernate.boot.jaxb.spi.Binding;
@@ -32,6 +33,7 @@ import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.JpaOrmXmlPersistenceUnitDefaultAware;
 import org.hibernate.boot.spi.JpaOrmXmlPersistenceUnitDefaultAware.JpaOrmXmlPersistenceUnitDefaults;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
+import org.hibernate.event.spi.EventManager.BootPhase;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.jboss.jandex.IndexView;
@@ -249,13 +251,20 @@ public class AnnotationMetadataSourceProcessorImpl implements MetadataSourceProc
 				rootMetadataBuildingContext
 		);
 
+		final BootPhaseMonitor bootPhaseMonitor = rootMetadataBuildingContext.getBootstrapContext().getBootPhaseMonitor();
 		for ( XClass clazz : orderedClasses ) {
 			if ( processedEntityNames.contains( clazz.getName() ) ) {
 				log.debugf( "Skipping annotated class processing of entity [%s], as it has already been processed", clazz );
 			}
 			else {
-				AnnotationBinder.bindClass( clazz, inheritanceStatePerClass, rootMetadataBuildingContext );
-				AnnotationBinder.bindFetchProfilesForClass( clazz, rootMetadataBuildingContext );
+				final BootPhaseMonitor.Timing binding = bootPhaseMonitor.begin( BootPhase.BINDING, clazz.getName() );
+				try {
+					AnnotationBinder.bindClass( clazz, inheritanceStatePerClass, rootMetadataBuildingContext );
+					AnnotationBinder.bindFetchProfilesForClass( clazz, rootMetadataBuildingContext );
+				}
+				finally {
+					bootPhaseMonitor.complete( binding );
+				}
 				processedEntityNames.add( clazz.getName() );
 			}
 		}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.query;
 
+import java.io.Serializable;
+
 import org.hibernate.spi.NavigablePath;
 import org.hibernate.query.named.FetchMemento;
 import org.hibernate.query.internal.ResultSetMappingResolutionContext;
@@ -15,7 +17,7 @@ import org.hibernate.query.named.ResultMemento;
 /**
  * Describes the mapping for a fetch as part of a {@link NamedResultSetMappingDescriptor}
  */
-public interface FetchDescriptor {
+public interface FetchDescriptor extends Serializable {
 	/**
 	 * Resolve the descriptor into a memento capable of being stored in the
 	 * {@link NamedObjectRepository}
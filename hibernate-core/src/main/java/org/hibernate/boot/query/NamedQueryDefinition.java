@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.query;
 
+import java.io.Serializable;
+
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.named.NamedQueryMemento;
 
@@ -16,7 +18,7 @@ import org.hibernate.query.named.NamedQueryMemento;
  * @author Steve Ebersole
  * @author Gavin King
  */
-public interface NamedQueryDefinition {
+public interface NamedQueryDefinition extends Serializable {
 	/**
 	 * The name under which the query is to be registered
 	 */
@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.query;
 
+import java.io.Serializable;
+
 import org.hibernate.query.internal.ResultSetMappingResolutionContext;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
@@ -21,7 +23,7 @@ import org.hibernate.query.spi.QueryEngine;
  *
  * @author Steve Ebersole
  */
-public interface NamedResultSetMappingDescriptor {
+public interface NamedResultSetMappingDescriptor extends Serializable {
 	/**
 	 * The name under which the result-set-mapping is to be registered
 	 */
@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.query;
 
+import java.io.Serializable;
+
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.ResultMemento;
 import org.hibernate.query.internal.ResultSetMappingResolutionContext;
@@ -15,7 +17,7 @@ import org.hibernate.query.internal.ResultSetMappingResolutionContext;
  *
  * @author Steve Ebersole
  */
-public interface ResultDescriptor {
+public interface ResultDescriptor extends Serializable {
 	/**
 	 * Resolve the descriptor into a memento capable of being stored in the
 	 * {@link NamedObjectRepository}
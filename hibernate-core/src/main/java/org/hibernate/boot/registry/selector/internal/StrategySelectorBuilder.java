@@ -26,7 +26,9 @@ import org.hibernate.boot.registry.selector.spi.StrategySelectionException;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
 import org.hibernate.cache.internal.SimpleCacheKeysFactory;
+import org.hibernate.cache.internal.TenantPartitionedTimestampsCacheFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.id.enhanced.ImplicitDatabaseObjectNamingStrategy;
@@ -125,6 +127,7 @@ public class StrategySelectorBuilder {
 		addImplicitNamingStrategies( strategySelector );
 		addColumnOrderingStrategies( strategySelector );
 		addCacheKeysFactories( strategySelector );
+		addTimestampsCacheFactories( strategySelector );
 		addJsonFormatMappers( strategySelector );
 		addXmlFormatMappers( strategySelector );
 
@@ -302,6 +305,14 @@ public class StrategySelectorBuilder {
 		);
 	}
 
+	private static void addTimestampsCacheFactories(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+				TimestampsCacheFactory.class,
+				TenantPartitionedTimestampsCacheFactory.SHORT_NAME,
+				TenantPartitionedTimestampsCacheFactory.class
+		);
+	}
+
 	private static void addJsonFormatMappers(StrategySelectorImpl strategySelector) {
 		strategySelector.registerStrategyImplementor(
 				FormatMapper.class,
@@ -8,6 +8,7 @@ package org.hibernate.boot.spi;
 
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -24,6 +25,7 @@ import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.loader.BatchFetchStyle;
+import org.hibernate.loader.NPlusOneMitigation;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.criteria.ValueHandlingMode;
@@ -194,6 +196,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isSubselectFetchEnabled();
 	}
 
+	@Override
+	public int getNPlusOneThreshold() {
+		return delegate.getNPlusOneThreshold();
+	}
+
+	@Override
+	public NPlusOneMitigation getNPlusOneMitigation() {
+		return delegate.getNPlusOneMitigation();
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return delegate.getDefaultNullPrecedence();
@@ -319,6 +331,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getJdbcFetchMemoryBudget() {
+		return delegate.getJdbcFetchMemoryBudget();
+	}
+
+	@Override
+	public Executor getAsyncQueryExecutor() {
+		return delegate.getAsyncQueryExecutor();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -408,6 +430,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isFailOnPaginationOverCollectionFetchEnabled();
 	}
 
+	@Override
+	public boolean isCollectionAggregateFetchEnabled() {
+		return delegate.isCollectionAggregateFetchEnabled();
+	}
+
+	@Override
+	public boolean isSplitCollectionFetchEnabled() {
+		return delegate.isSplitCollectionFetchEnabled();
+	}
+
 	@Override
 	public ImmutableEntityUpdateQueryHandlingMode getImmutableEntityUpdateQueryHandlingMode() {
 		return delegate.getImmutableEntityUpdateQueryHandlingMode();
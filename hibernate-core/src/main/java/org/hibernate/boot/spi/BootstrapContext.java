@@ -17,6 +17,7 @@ import org.hibernate.boot.Metadata;
 import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
 import org.hibernate.boot.archive.scan.spi.ScanOptions;
 import org.hibernate.boot.archive.spi.ArchiveDescriptorFactory;
+import org.hibernate.boot.internal.BootPhaseMonitor;
 import org.hibernate.boot.internal.ClassmateContext;
 import org.hibernate.boot.model.convert.spi.ConverterDescriptor;
 import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
@@ -120,6 +121,16 @@ public interface BootstrapContext {
 	 */
 	ClassmateContext getClassmateContext();
 
+	/**
+	 * Access to the shared {@link BootPhaseMonitor} measuring the time spent
+	 * in each phase of the bootstrap process.
+	 *
+	 * @since 6.6
+	 */
+	default BootPhaseMonitor getBootPhaseMonitor() {
+		return BootPhaseMonitor.NONE;
+	}
+
 	/**
 	 * Access to the {@link ArchiveDescriptorFactory} used for scanning.
 	 *
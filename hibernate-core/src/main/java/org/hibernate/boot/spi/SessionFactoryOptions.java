@@ -7,6 +7,7 @@
 package org.hibernate.boot.spi;
 
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
@@ -25,6 +26,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.loader.BatchFetchStyle;
+import org.hibernate.loader.NPlusOneMitigation;
 import org.hibernate.proxy.EntityNotFoundDelegate;
 import org.hibernate.query.ImmutableEntityUpdateQueryHandlingMode;
 import org.hibernate.query.criteria.ValueHandlingMode;
@@ -149,6 +151,26 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isSubselectFetchEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_THRESHOLD
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default int getNPlusOneThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_MITIGATION
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default NPlusOneMitigation getNPlusOneMitigation() {
+		return NPlusOneMitigation.NONE;
+	}
+
 	NullPrecedence getDefaultNullPrecedence();
 
 	boolean isOrderUpdatesEnabled();
@@ -194,6 +216,29 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	Integer getJdbcFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_FETCH_MEMORY_BUDGET
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default int getJdbcFetchMemoryBudget() {
+		return 0;
+	}
+
+	/**
+	 * The {@link Executor} for asynchronous queries, or {@code null}
+	 * if the default executor should be used.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ASYNC_QUERY_EXECUTOR
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default Executor getAsyncQueryExecutor() {
+		return null;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
@@ -248,6 +293,26 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isFailOnPaginationOverCollectionFetchEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#COLLECTION_AGGREGATE_FETCH
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean isCollectionAggregateFetchEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#SPLIT_COLLECTION_FETCH
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean isSplitCollectionFetchEnabled() {
+		return false;
+	}
+
 	default ImmutableEntityUpdateQueryHandlingMode getImmutableEntityUpdateQueryHandlingMode() {
 		return ImmutableEntityUpdateQueryHandlingMode.WARNING;
 	}
@@ -0,0 +1,310 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.enhance.internal.bytebuddy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.bytecode.spi.GeneratedFieldAccessor;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.TypeManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveBoxingDelegate;
+import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveUnboxingDelegate;
+import net.bytebuddy.implementation.bytecode.assign.reference.ReferenceTypeAwareAssigner;
+import net.bytebuddy.jar.asm.ClassReader;
+import net.bytebuddy.jar.asm.ClassVisitor;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.utility.OpenedClassReader;
+
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+/**
+ * Builds the {@link GeneratedFieldAccessor} of a managed class. The accessor reads and
+ * writes the fields declared by the class directly, dispatching on the index of the field.
+ * If the managed class declares the accessor as a nest member, private fields and
+ * constructors are accessible, otherwise they are skipped.
+ *
+ * @see org.hibernate.bytecode.enhance.spi.Enhancer#generateAccessor(String, byte[])
+ */
+final class AccessorGenerator {
+
+	private AccessorGenerator() {
+	}
+
+	/**
+	 * @return the function building the accessor, or null if the class has nothing to access
+	 */
+	static Function<ByteBuddy, DynamicType.Builder<?>> accessorBuilder(
+			TypeDescription managedCtClass,
+			byte[] classBytes,
+			String accessorName) {
+		final boolean nestMate = isNestMember( classBytes, accessorName );
+
+		final List<FieldDescription.InDefinedShape> fields = new ArrayList<>();
+		for ( FieldDescription.InDefinedShape field : managedCtClass.getDeclaredFields() ) {
+			// final fields may only be written to from the constructor
+			if ( !field.isStatic() && !field.isFinal() && !field.isSynthetic()
+					&& !field.getName().startsWith( "$$_hibernate_" )
+					&& ( nestMate || !field.isPrivate() ) ) {
+				fields.add( field );
+			}
+		}
+
+		MethodDescription.InDefinedShape constructor = null;
+		if ( !managedCtClass.isAbstract() ) {
+			for ( MethodDescription.InDefinedShape method :
+					managedCtClass.getDeclaredMethods().filter( isConstructor().and( takesArguments( 0 ) ) ) ) {
+				if ( nestMate || !method.isPrivate() ) {
+					constructor = method;
+				}
+			}
+		}
+
+		if ( fields.isEmpty() && constructor == null ) {
+			return null;
+		}
+
+		final MethodDescription.InDefinedShape instantiationConstructor = constructor;
+		return byteBuddy -> {
+			DynamicType.Builder<?> builder = byteBuddy.subclass( Object.class )
+					.name( accessorName )
+					.modifiers( Visibility.PUBLIC, TypeManifestation.FINAL )
+					.implement( GeneratedFieldAccessor.class )
+					.method( named( "getFieldNames" ) )
+					.intercept( new Implementation.Simple( new ReturnStrings( fields, FieldDescription::getName ) ) )
+					.method( named( "getFieldDescriptors" ) )
+					.intercept( new Implementation.Simple( new ReturnStrings( fields, FieldDescription::getDescriptor ) ) )
+					.method( named( "getFieldValue" ) )
+					.intercept( new Implementation.Simple( new GetFieldValue( managedCtClass, fields ) ) )
+					.method( named( "setFieldValue" ) )
+					.intercept( new Implementation.Simple( new SetFieldValue( managedCtClass, fields ) ) );
+			if ( nestMate ) {
+				builder = builder.nestHost( managedCtClass );
+			}
+			if ( instantiationConstructor != null ) {
+				builder = builder.implement( ReflectionOptimizer.InstantiationOptimizer.class )
+						.method( named( "newInstance" ) )
+						.intercept( new Implementation.Simple( new NewInstance( managedCtClass ) ) );
+			}
+			return builder;
+		};
+	}
+
+	/**
+	 * Whether the class declares the accessor as a nest member. This is read from the byte code,
+	 * since describing the nest members resolves them, and the accessor does not exist yet.
+	 */
+	private static boolean isNestMember(byte[] classBytes, String accessorName) {
+		final String internalName = accessorName.replace( '.', '/' );
+		final boolean[] nestMember = new boolean[1];
+		OpenedClassReader.of( classBytes ).accept(
+				new ClassVisitor( OpenedClassReader.ASM_API ) {
+					@Override
+					public void visitNestMember(String member) {
+						if ( member.equals( internalName ) ) {
+							nestMember[0] = true;
+						}
+					}
+				},
+				ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES
+		);
+		return nestMember[0];
+	}
+
+	/**
+	 * Returns an array holding a string describing each field
+	 */
+	private static class ReturnStrings implements ByteCodeAppender {
+		private final List<FieldDescription.InDefinedShape> fields;
+		private final Function<FieldDescription.InDefinedShape, String> description;
+
+		private ReturnStrings(
+				List<FieldDescription.InDefinedShape> fields,
+				Function<FieldDescription.InDefinedShape, String> description) {
+			this.fields = fields;
+			this.description = description;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			methodVisitor.visitLdcInsn( fields.size() );
+			methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, TypeDescription.ForLoadedType.of( String.class ).getInternalName() );
+			for ( int index = 0; index < fields.size(); index++ ) {
+				methodVisitor.visitInsn( Opcodes.DUP );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitLdcInsn( description.apply( fields.get( index ) ) );
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() + 1 );
+		}
+	}
+
+	/**
+	 * Common handling of the {@code switch} on the index of the field
+	 */
+	private abstract static class FieldSwitch implements ByteCodeAppender {
+		protected final TypeDescription managedCtClass;
+		protected final List<FieldDescription.InDefinedShape> fields;
+
+		private FieldSwitch(TypeDescription managedCtClass, List<FieldDescription.InDefinedShape> fields) {
+			this.managedCtClass = managedCtClass;
+			this.fields = fields;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			final Label defaultLabel = new Label();
+			final Label[] labels = new Label[fields.size()];
+			if ( !fields.isEmpty() ) {
+				for ( int index = 0; index < labels.length; index++ ) {
+					labels[index] = new Label();
+				}
+				// Switch on the index argument
+				methodVisitor.visitVarInsn( Opcodes.ILOAD, 2 );
+				methodVisitor.visitTableSwitchInsn( 0, labels.length - 1, defaultLabel, labels );
+			}
+			for ( int index = 0; index < labels.length; index++ ) {
+				methodVisitor.visitLabel( labels[index] );
+				implementationContext.getFrameGeneration().same(
+						methodVisitor,
+						instrumentedMethod.getParameters().asTypeList()
+				);
+				// Push the instance on the stack
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, managedCtClass.getInternalName() );
+				accessField( methodVisitor, implementationContext, fields.get( index ) );
+			}
+			if ( !fields.isEmpty() ) {
+				methodVisitor.visitLabel( defaultLabel );
+				implementationContext.getFrameGeneration().same(
+						methodVisitor,
+						instrumentedMethod.getParameters().asTypeList()
+				);
+			}
+			// throw new IndexOutOfBoundsException()
+			final String exceptionType = TypeDescription.ForLoadedType.of( IndexOutOfBoundsException.class ).getInternalName();
+			methodVisitor.visitTypeInsn( Opcodes.NEW, exceptionType );
+			methodVisitor.visitInsn( Opcodes.DUP );
+			methodVisitor.visitMethodInsn( Opcodes.INVOKESPECIAL, exceptionType, "<init>", "()V", false );
+			methodVisitor.visitInsn( Opcodes.ATHROW );
+			return new Size( 4, instrumentedMethod.getStackSize() + 1 );
+		}
+
+		/**
+		 * Access the given field of the instance on top of the stack, and return
+		 */
+		protected abstract void accessField(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				FieldDescription.InDefinedShape field);
+	}
+
+	private static class GetFieldValue extends FieldSwitch {
+		private GetFieldValue(TypeDescription managedCtClass, List<FieldDescription.InDefinedShape> fields) {
+			super( managedCtClass, fields );
+		}
+
+		@Override
+		protected void accessField(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				FieldDescription.InDefinedShape field) {
+			methodVisitor.visitFieldInsn(
+					Opcodes.GETFIELD,
+					managedCtClass.getInternalName(),
+					field.getName(),
+					field.getDescriptor()
+			);
+			if ( field.getType().isPrimitive() ) {
+				PrimitiveBoxingDelegate.forPrimitive( field.getType() )
+						.assignBoxedTo(
+								TypeDescription.Generic.OBJECT,
+								ReferenceTypeAwareAssigner.INSTANCE,
+								Assigner.Typing.STATIC
+						)
+						.apply( methodVisitor, implementationContext );
+			}
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+		}
+	}
+
+	private static class SetFieldValue extends FieldSwitch {
+		private SetFieldValue(TypeDescription managedCtClass, List<FieldDescription.InDefinedShape> fields) {
+			super( managedCtClass, fields );
+		}
+
+		@Override
+		protected void accessField(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				FieldDescription.InDefinedShape field) {
+			// Push the value on the stack
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, 3 );
+			if ( field.getType().isPrimitive() ) {
+				PrimitiveUnboxingDelegate.forReferenceType( TypeDescription.Generic.OBJECT )
+						.assignUnboxedTo(
+								field.getType(),
+								ReferenceTypeAwareAssigner.INSTANCE,
+								Assigner.Typing.DYNAMIC
+						)
+						.apply( methodVisitor, implementationContext );
+			}
+			else {
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, field.getType().asErasure().getInternalName() );
+			}
+			methodVisitor.visitFieldInsn(
+					Opcodes.PUTFIELD,
+					managedCtClass.getInternalName(),
+					field.getName(),
+					field.getDescriptor()
+			);
+			methodVisitor.visitInsn( Opcodes.RETURN );
+		}
+	}
+
+	private static class NewInstance implements ByteCodeAppender {
+		private final TypeDescription managedCtClass;
+
+		private NewInstance(TypeDescription managedCtClass) {
+			this.managedCtClass = managedCtClass;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			methodVisitor.visitTypeInsn( Opcodes.NEW, managedCtClass.getInternalName() );
+			methodVisitor.visitInsn( Opcodes.DUP );
+			methodVisitor.visitMethodInsn( Opcodes.INVOKESPECIAL, managedCtClass.getInternalName(), "<init>", "()V", false );
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 2, instrumentedMethod.getStackSize() + 1 );
+		}
+	}
+}
@@ -70,6 +70,10 @@ class ByteBuddyEnhancementContext {
 		return enhancementContext.doExtendedEnhancement( new UnloadedTypeDescription( classDescriptor ) );
 	}
 
+	public boolean doGenerateAccessor(TypeDescription classDescriptor) {
+		return enhancementContext.doGenerateAccessor( new UnloadedTypeDescription( classDescriptor ) );
+	}
+
 	public boolean hasLazyLoadableAttributes(TypeDescription classDescriptor) {
 		return enhancementContext.hasLazyLoadableAttributes( new UnloadedTypeDescription( classDescriptor ) );
 	}
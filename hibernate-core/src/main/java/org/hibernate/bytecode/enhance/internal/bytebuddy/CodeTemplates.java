@@ -68,15 +68,30 @@ class CodeTemplates {
 	static class TrackChange {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_trackChange(
+				@Advice.This Object self,
 				@Advice.Argument(0) String name,
 				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
 			if ( $$_hibernate_tracker == null ) {
-				$$_hibernate_tracker = new SimpleFieldTracker();
+				$$_hibernate_tracker = new SimpleFieldTracker( self.getClass() );
 			}
 			$$_hibernate_tracker.add( name );
 		}
 	}
 
+	static class TrackChangeAtIndex {
+		@Advice.OnMethodEnter
+		static void $$_hibernate_trackChange(
+				@Advice.This Object self,
+				@Advice.Argument(0) String name,
+				@Advice.Argument(1) int index,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
+			if ( $$_hibernate_tracker == null ) {
+				$$_hibernate_tracker = new SimpleFieldTracker( self.getClass() );
+			}
+			$$_hibernate_tracker.add( name, index );
+		}
+	}
+
 	static class GetDirtyAttributes {
 		@Advice.OnMethodExit
 		static void $$_hibernate_getDirtyAttributes(
@@ -89,7 +104,7 @@ class CodeTemplates {
 			}
 			else {
 				if ( $$_hibernate_tracker == null ) {
-					$$_hibernate_tracker = new SimpleFieldTracker();
+					$$_hibernate_tracker = new SimpleFieldTracker( self.getClass() );
 				}
 				self.$$_hibernate_getCollectionFieldDirtyNames( $$_hibernate_tracker );
 				returned = $$_hibernate_tracker.get();
@@ -106,6 +121,23 @@ class CodeTemplates {
 		}
 	}
 
+	static class GetDirtyTracker {
+		@Advice.OnMethodExit
+		static void $$_hibernate_getDirtyTracker(
+				@Advice.This ExtendedSelfDirtinessTracker self,
+				@Advice.Return(readOnly = false) DirtyTracker returned,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker,
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_COLLECTION_NAME) CollectionTracker $$_hibernate_collectionTracker) {
+			if ( $$_hibernate_collectionTracker != null ) {
+				if ( $$_hibernate_tracker == null ) {
+					$$_hibernate_tracker = new SimpleFieldTracker( self.getClass() );
+				}
+				self.$$_hibernate_getCollectionFieldDirtyNames( $$_hibernate_tracker );
+			}
+			returned = $$_hibernate_tracker;
+		}
+	}
+
 	static class GetCollectionTrackerWithoutCollections {
 		@Advice.OnMethodExit
 		static void $$_hibernate_getCollectionTracker( @Advice.Return(readOnly = false) CollectionTracker returned) {
@@ -157,10 +189,11 @@ class CodeTemplates {
 	static class SuspendDirtyTracking {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_suspendDirtyTracking(
+				@Advice.This Object self,
 				@Advice.Argument(0) boolean suspend,
 				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
 			if ( $$_hibernate_tracker == null ) {
-				$$_hibernate_tracker = new SimpleFieldTracker();
+				$$_hibernate_tracker = new SimpleFieldTracker( self.getClass() );
 			}
 			$$_hibernate_tracker.suspend( suspend );
 		}
@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.hibernate.Version;
@@ -40,10 +41,12 @@ import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
 import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
 import jakarta.persistence.metamodel.Type;
+import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.annotation.AnnotationList;
@@ -115,9 +118,12 @@ public class EnhancerImpl implements Enhancer {
 			final TypeDescription typeDescription = typePool.describe( safeClassName ).resolve();
 
 			return byteBuddyState.rewrite( typePool, safeClassName, byteBuddy -> doEnhance(
-					() -> byteBuddy.ignore( isDefaultFinalizer() )
-							.redefine( typeDescription, typePool.asClassFileLocator() )
-							.annotateType( constants.HIBERNATE_VERSION_ANNOTATION ),
+					() -> addAccessorNestMember(
+							byteBuddy.ignore( isDefaultFinalizer() )
+									.redefine( typeDescription, typePool.asClassFileLocator() )
+									.annotateType( constants.HIBERNATE_VERSION_ANNOTATION ),
+							typeDescription
+					),
 					typeDescription
 			) );
 		}
@@ -150,6 +156,82 @@ public class EnhancerImpl implements Enhancer {
 		}
 	}
 
+	@Override
+	public byte[] generateProxy(String className, byte[] classBytes) throws EnhancementException {
+		final String safeClassName = className.replace( '/', '.' );
+		typePool.registerClassNameAndBytes( safeClassName, classBytes );
+		try {
+			final TypeDescription typeDescription = typePool.describe( safeClassName ).resolve();
+			if ( typeDescription.isInterface() || typeDescription.isFinal()
+					|| !enhancementContext.isEntityClass( typeDescription ) ) {
+				log.debugf( "Skipping generation of proxy for [%s]: not an entity which can be proxied", safeClassName );
+				return null;
+			}
+			return new ByteBuddyProxyHelper( byteBuddyState )
+					.buildUnloadedProxy( typePool, typeDescription, safeClassName + EnhancerConstants.PROXY_CLASS_NAME_SUFFIX )
+					.getBytes();
+		}
+		catch (RuntimeException e) {
+			throw new EnhancementException( "Failed to generate proxy for class " + className, e );
+		}
+		finally {
+			typePool.deregisterClassNameAndBytes( safeClassName );
+		}
+	}
+
+	@Override
+	public byte[] generateAccessor(String className, byte[] classBytes) throws EnhancementException {
+		final String safeClassName = className.replace( '/', '.' );
+		typePool.registerClassNameAndBytes( safeClassName, classBytes );
+		try {
+			final TypeDescription typeDescription = typePool.describe( safeClassName ).resolve();
+			if ( typeDescription.isInterface() || typeDescription.isRecord() || !isManagedType( typeDescription ) ) {
+				log.debugf( "Skipping generation of accessor for [%s]: not entity, composite or mapped superclass", safeClassName );
+				return null;
+			}
+			final Function<ByteBuddy, DynamicType.Builder<?>> accessorBuilder = AccessorGenerator.accessorBuilder(
+					typeDescription,
+					classBytes,
+					safeClassName + EnhancerConstants.ACCESSOR_CLASS_NAME_SUFFIX
+			);
+			if ( accessorBuilder == null ) {
+				log.debugf( "Skipping generation of accessor for [%s]: no accessible fields or constructor", safeClassName );
+				return null;
+			}
+			return byteBuddyState.make( typePool, accessorBuilder ).getBytes();
+		}
+		catch (RuntimeException e) {
+			throw new EnhancementException( "Failed to generate accessor for class " + className, e );
+		}
+		finally {
+			typePool.deregisterClassNameAndBytes( safeClassName );
+		}
+	}
+
+	private boolean isManagedType(TypeDescription managedCtClass) {
+		return enhancementContext.isEntityClass( managedCtClass )
+				|| enhancementContext.isCompositeClass( managedCtClass )
+				|| enhancementContext.isMappedSuperclassClass( managedCtClass );
+	}
+
+	/**
+	 * Declare the accessor which will be generated at build time as a nest member
+	 * of the managed class, so that it may access private fields. This is only
+	 * possible if the class is not itself a member of the nest of another class.
+	 */
+	private DynamicType.Builder<?> addAccessorNestMember(DynamicType.Builder<?> builder, TypeDescription managedCtClass) {
+		if ( managedCtClass.isNestHost()
+				&& isManagedType( managedCtClass )
+				&& enhancementContext.doGenerateAccessor( managedCtClass ) ) {
+			return builder.nestMembers( new TypeDescription.Latent(
+					managedCtClass.getName() + EnhancerConstants.ACCESSOR_CLASS_NAME_SUFFIX,
+					Modifier.PUBLIC | Modifier.FINAL,
+					TypeDescription.Generic.OBJECT
+			) );
+		}
+		return builder;
+	}
+
 	private DynamicType.Builder<?> doEnhance(Supplier<DynamicType.Builder<?>> builderSupplier, TypeDescription managedCtClass) {
 		// can't effectively enhance interfaces
 		if ( managedCtClass.isInterface() ) {
@@ -220,8 +302,13 @@ public class EnhancerImpl implements Enhancer {
 							.defineMethod( EnhancerConstants.TRACKER_CHANGER_NAME, constants.TypeVoid, constants.methodModifierPUBLIC )
 									.withParameters( String.class )
 									.intercept( constants.implementationTrackChange )
+							.defineMethod( EnhancerConstants.TRACKER_CHANGER_NAME, constants.TypeVoid, constants.methodModifierPUBLIC )
+									.withParameters( String.class, int.class )
+									.intercept( constants.implementationTrackChangeAtIndex )
 							.defineMethod( EnhancerConstants.TRACKER_GET_NAME, constants.Type_Array_String, constants.methodModifierPUBLIC )
 									.intercept( constants.implementationGetDirtyAttributesWithoutCollections )
+							.defineMethod( EnhancerConstants.TRACKER_GET_TRACKER_NAME, constants.TypeDirtyTracker, constants.methodModifierPUBLIC )
+									.intercept( FieldAccessor.ofField( EnhancerConstants.TRACKER_FIELD_NAME ) )
 							.defineMethod( EnhancerConstants.TRACKER_HAS_CHANGED_NAME, constants.TypeBooleanPrimitive, constants.methodModifierPUBLIC )
 									.intercept( constants.implementationAreFieldsDirtyWithoutCollections )
 							.defineMethod( EnhancerConstants.TRACKER_CLEAR_NAME, constants.TypeVoid, constants.methodModifierPUBLIC )
@@ -242,8 +329,13 @@ public class EnhancerImpl implements Enhancer {
 							.defineMethod( EnhancerConstants.TRACKER_CHANGER_NAME, constants.TypeVoid, constants.methodModifierPUBLIC )
 									.withParameters( String.class )
 									.intercept( constants.implementationTrackChange )
+							.defineMethod( EnhancerConstants.TRACKER_CHANGER_NAME, constants.TypeVoid, constants.methodModifierPUBLIC )
+									.withParameters( String.class, int.class )
+									.intercept( constants.implementationTrackChangeAtIndex )
 							.defineMethod( EnhancerConstants.TRACKER_GET_NAME, constants.Type_Array_String, constants.methodModifierPUBLIC )
 									.intercept( constants.implementationGetDirtyAttributes )
+							.defineMethod( EnhancerConstants.TRACKER_GET_TRACKER_NAME, constants.TypeDirtyTracker, constants.methodModifierPUBLIC )
+									.intercept( constants.implementationGetDirtyTracker )
 							.defineMethod( EnhancerConstants.TRACKER_HAS_CHANGED_NAME, constants.TypeBooleanPrimitive, constants.methodModifierPUBLIC )
 									.intercept( constants.implementationAreFieldsDirty )
 							.defineMethod( EnhancerConstants.TRACKER_CLEAR_NAME, constants.TypeVoid, constants.methodModifierPUBLIC )
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.List;
 
 import org.hibernate.Version;
+import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
 import org.hibernate.bytecode.enhance.spi.CollectionTracker;
 import org.hibernate.bytecode.enhance.spi.EnhancementInfo;
 import org.hibernate.engine.spi.EntityEntry;
@@ -41,11 +42,13 @@ public final class EnhancerImplConstants {
 	final ClassFileLocator adviceLocator;
 
 	final Implementation implementationTrackChange;
+	final Implementation implementationTrackChangeAtIndex;
 	final Implementation implementationGetDirtyAttributesWithoutCollections;
 	final Implementation implementationAreFieldsDirtyWithoutCollections;
 	final Implementation implementationClearDirtyAttributesWithoutCollections;
 	final Implementation implementationSuspendDirtyTracking;
 	final Implementation implementationGetDirtyAttributes;
+	final Implementation implementationGetDirtyTracker;
 	final Implementation implementationAreFieldsDirty;
 	final Implementation implementationGetCollectionTrackerWithoutCollections;
 	final Implementation implementationClearDirtyAttributes;
@@ -82,11 +85,14 @@ public final class EnhancerImplConstants {
 	final TypeDefinition TypeObject = TypeDescription.ForLoadedType.of( Object.class );
 	final TypeDefinition Type_Array_String = TypeDescription.ForLoadedType.of( String[].class );
 	final TypeDefinition TypeCollectionTracker = TypeDescription.ForLoadedType.of( CollectionTracker.class );
+	final TypeDefinition TypeDirtyTracker = TypeDescription.ForLoadedType.of( DirtyTracker.class );
 
 	public EnhancerImplConstants() {
 		this.adviceLocator = ClassFileLocator.ForClassLoader.of( CodeTemplates.class.getClassLoader() );
 		this.implementationTrackChange = Advice.to( CodeTemplates.TrackChange.class, adviceLocator )
 				.wrap( StubMethod.INSTANCE );
+		this.implementationTrackChangeAtIndex = Advice.to( CodeTemplates.TrackChangeAtIndex.class, adviceLocator )
+				.wrap( StubMethod.INSTANCE );
 		this.implementationGetDirtyAttributesWithoutCollections = Advice.to(
 				CodeTemplates.GetDirtyAttributesWithoutCollections.class,
 				adviceLocator
@@ -103,6 +109,8 @@ public final class EnhancerImplConstants {
 				.wrap( StubMethod.INSTANCE );
 		this.implementationGetDirtyAttributes = Advice.to( CodeTemplates.GetDirtyAttributes.class, adviceLocator ).wrap(
 				StubMethod.INSTANCE );
+		this.implementationGetDirtyTracker = Advice.to( CodeTemplates.GetDirtyTracker.class, adviceLocator ).wrap(
+				StubMethod.INSTANCE );
 		this.implementationAreFieldsDirty = Advice.to( CodeTemplates.AreFieldsDirty.class, adviceLocator ).wrap(
 				StubMethod.INSTANCE );
 		this.implementationGetCollectionTrackerWithoutCollections = Advice.to(
@@ -6,7 +6,9 @@
  */
 package org.hibernate.bytecode.enhance.internal.bytebuddy;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 import jakarta.persistence.Embedded;
@@ -14,6 +16,7 @@ import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Id;
 
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl.AnnotatedFieldDescription;
+import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
 import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 
@@ -21,6 +24,7 @@ import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.scaffold.InstrumentedType;
 import net.bytebuddy.implementation.Implementation;
@@ -206,16 +210,30 @@ final class InlineDirtyCheckingHandler implements Implementation, ByteCodeAppend
 		}
 		Label skip = new Label();
 		methodVisitor.visitJumpInsn( branchCode, skip );
-		// this.$$_hibernate_trackChange(fieldName)
+		final int fieldIndex = trackedFieldIndex( persistentField );
 		methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
 		methodVisitor.visitLdcInsn( persistentField.getName() );
-		methodVisitor.visitMethodInsn(
-				Opcodes.INVOKEVIRTUAL,
-				managedCtClass.getInternalName(),
-				EnhancerConstants.TRACKER_CHANGER_NAME,
-				Type.getMethodDescriptor( Type.VOID_TYPE, STRING_TYPE ),
-				false
-		);
+		if ( fieldIndex >= 0 ) {
+			// this.$$_hibernate_trackChange(fieldName, fieldIndex)
+			methodVisitor.visitLdcInsn( fieldIndex );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEVIRTUAL,
+					managedCtClass.getInternalName(),
+					EnhancerConstants.TRACKER_CHANGER_NAME,
+					Type.getMethodDescriptor( Type.VOID_TYPE, STRING_TYPE, Type.INT_TYPE ),
+					false
+			);
+		}
+		else {
+			// this.$$_hibernate_trackChange(fieldName)
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEVIRTUAL,
+					managedCtClass.getInternalName(),
+					EnhancerConstants.TRACKER_CHANGER_NAME,
+					Type.getMethodDescriptor( Type.VOID_TYPE, STRING_TYPE ),
+					false
+			);
+		}
 		// }
 		methodVisitor.visitLabel( skip );
 		if ( implementationContext.getClassFileVersion().isAtLeast( ClassFileVersion.JAVA_V6 ) ) {
@@ -224,6 +242,44 @@ final class InlineDirtyCheckingHandler implements Implementation, ByteCodeAppend
 		return new Size( 3 + 2 * persistentField.getType().asErasure().getStackSize().getSize(), instrumentedMethod.getStackSize() );
 	}
 
+	/**
+	 * The index of the field among the fields of its class hierarchy, as assigned by
+	 * {@link SimpleFieldTracker}, or {@code -1} if the hierarchy cannot be resolved.
+	 * The tracker checks the index against the name of the field, so a class enhanced
+	 * against a different version of its superclasses still tracks its changes.
+	 */
+	private static int trackedFieldIndex(FieldDescription.InDefinedShape field) {
+		try {
+			final TypeDescription declaringType = field.getDeclaringType().asErasure();
+			int index = 0;
+			TypeDefinition superClass = declaringType.getSuperClass();
+			while ( superClass != null && !superClass.represents( Object.class ) ) {
+				for ( FieldDescription superField : superClass.getDeclaredFields() ) {
+					if ( isTrackedField( superField ) ) {
+						index++;
+					}
+				}
+				superClass = superClass.getSuperClass();
+			}
+			final List<String> declaredFieldNames = new ArrayList<>();
+			for ( FieldDescription declaredField : declaringType.getDeclaredFields() ) {
+				if ( isTrackedField( declaredField ) ) {
+					declaredFieldNames.add( declaredField.getName() );
+				}
+			}
+			declaredFieldNames.sort( null );
+			final int position = declaredFieldNames.indexOf( field.getName() );
+			return position < 0 ? -1 : index + position;
+		}
+		catch (RuntimeException e) {
+			return -1;
+		}
+	}
+
+	private static boolean isTrackedField(FieldDescription field) {
+		return SimpleFieldTracker.isTrackedField( field.getName(), field.isStatic(), field.isSynthetic() );
+	}
+
 	@Override
 	public boolean equals(final Object o) {
 		if ( this == o ) {
@@ -93,6 +93,12 @@ public class ModelTypePool extends TypePool.Default implements EnhancerClassLoca
 	@Override
 	public void registerClassNameAndBytes(final String className, final byte[] bytes) {
 		locator.put( className, new ClassFileLocator.Resolution.Explicit( Objects.requireNonNull( bytes ) ) );
+		// the class may have been described before, from different bytes,
+		// for example before it was enhanced
+		resolutions.remove( className );
+		if ( cacheProvider instanceof CacheProvider.Simple ) {
+			( (CacheProvider.Simple) cacheProvider ).getStorage().remove( className );
+		}
 	}
 
 	@Override
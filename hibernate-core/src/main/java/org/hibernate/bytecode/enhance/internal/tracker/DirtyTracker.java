@@ -15,6 +15,16 @@ public interface DirtyTracker {
 
 	void add(String name);
 
+	/**
+	 * Record a change to the field with the given name, and with the given index among
+	 * the fields of the class hierarchy, as computed when the class was enhanced
+	 *
+	 * @see SimpleFieldTracker#isTrackedField(String, boolean, boolean)
+	 */
+	default void add(String name, int index) {
+		add( name );
+	}
+
 	boolean contains(String name);
 
 	void clear();
@@ -6,7 +6,15 @@
  */
 package org.hibernate.bytecode.enhance.internal.tracker;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.hibernate.internal.util.collections.ArrayHelper;
 
@@ -15,16 +23,57 @@ import org.hibernate.internal.util.collections.ArrayHelper;
  * <p>
  * uses an array as a set (under the assumption that the number of elements will be low) to avoid having to instantiate an HashSet.
  * if the assumption does not, hold the array can be kept ordered to reduce the cost of verifying duplicates
+ * <p>
+ * When created for an enhanced class, the changes to the fields of the class are also recorded in a bitmask,
+ * indexed by the {@linkplain #isTrackedField position of the field} in the class hierarchy. The enhanced code
+ * passes the index of the field, computed when the class is enhanced, so that recording a change does not
+ * search the array, and the flush may {@linkplain #nextDirtyIndex(int) iterate the dirty indexes} directly.
+ * Names which are not fields of the class, for example the paths of changed attributes of embeddables, are
+ * only kept in the array.
  *
  * @author Luis Barreiro
  */
 public final class SimpleFieldTracker implements DirtyTracker {
 
+	private static final ClassValue<TrackedFields> TRACKED_FIELDS = new ClassValue<>() {
+		@Override
+		protected TrackedFields computeValue(Class<?> type) {
+			return new TrackedFields( type );
+		}
+	};
+
+	private final TrackedFields trackedFields;
+	// the changed names, in the order in which they changed
 	private String[] names;
+	private long dirty;
+	private long[] moreDirty;
+	private String[] paths;
 	private boolean suspended;
 
 	public SimpleFieldTracker() {
+		this( TrackedFields.NONE );
+	}
+
+	/**
+	 * @param managedClass The enhanced class whose changed fields are tracked
+	 */
+	public SimpleFieldTracker(Class<?> managedClass) {
+		this( TRACKED_FIELDS.get( managedClass ) );
+	}
+
+	private SimpleFieldTracker(TrackedFields trackedFields) {
+		this.trackedFields = trackedFields;
 		names = ArrayHelper.EMPTY_STRING_ARRAY;
+		paths = ArrayHelper.EMPTY_STRING_ARRAY;
+	}
+
+	/**
+	 * Whether a field is given an index, among the fields of its class hierarchy: the
+	 * fields of the superclasses first, and the fields declared by each class in the
+	 * order of their names.
+	 */
+	public static boolean isTrackedField(String name, boolean isStatic, boolean isSynthetic) {
+		return !isStatic && !isSynthetic && !name.startsWith( "$$_hibernate_" );
 	}
 
 	@Override
@@ -32,26 +81,92 @@ public final class SimpleFieldTracker implements DirtyTracker {
 		if ( suspended ) {
 			return;
 		}
-		if ( !contains( name ) ) {
-			names = Arrays.copyOf( names, names.length + 1 );
-			names[names.length - 1] = name;
+		final int index = trackedFields.indexOf( name );
+		if ( index < 0 ) {
+			if ( !containsPath( name ) ) {
+				paths = append( paths, name );
+				names = append( names, name );
+			}
+		}
+		else {
+			addField( index, name );
 		}
 	}
 
+	@Override
+	public void add(String name, int index) {
+		if ( suspended ) {
+			return;
+		}
+		final String[] fieldNames = trackedFields.names;
+		if ( index >= 0 && index < fieldNames.length && fieldNames[index].equals( name ) ) {
+			addField( index, name );
+		}
+		else {
+			// the class was enhanced with a different hierarchy
+			add( name );
+		}
+	}
+
+	private void addField(int index, String name) {
+		if ( index < Long.SIZE ) {
+			final long bit = 1L << index;
+			if ( ( dirty & bit ) != 0 ) {
+				return;
+			}
+			dirty |= bit;
+		}
+		else {
+			if ( moreDirty == null ) {
+				moreDirty = new long[( trackedFields.names.length - 1 ) / Long.SIZE];
+			}
+			final int word = index / Long.SIZE - 1;
+			final long bit = 1L << index;
+			if ( ( moreDirty[word] & bit ) != 0 ) {
+				return;
+			}
+			moreDirty[word] |= bit;
+		}
+		names = append( names, name );
+	}
+
+	private static String[] append(String[] array, String name) {
+		final String[] appended = Arrays.copyOf( array, array.length + 1 );
+		appended[array.length] = name;
+		return appended;
+	}
+
 	@Override
 	public boolean contains(String name) {
-		for ( String existing : names ) {
-			if ( existing.equals( name ) ) {
+		final int index = trackedFields.indexOf( name );
+		return index < 0 ? containsPath( name ) : isDirty( index );
+	}
+
+	private boolean containsPath(String name) {
+		for ( String path : paths ) {
+			if ( path.equals( name ) ) {
 				return true;
 			}
 		}
 		return false;
 	}
 
+	private boolean isDirty(int index) {
+		if ( index < Long.SIZE ) {
+			return ( dirty & ( 1L << index ) ) != 0;
+		}
+		else {
+			return moreDirty != null && ( moreDirty[index / Long.SIZE - 1] & ( 1L << index ) ) != 0;
+		}
+	}
+
 	@Override
 	public void clear() {
 		if ( !isEmpty() ) {
 			names = ArrayHelper.EMPTY_STRING_ARRAY;
+			paths = ArrayHelper.EMPTY_STRING_ARRAY;
+			dirty = 0;
+			moreDirty = null;
 		}
 	}
 
@@ -70,4 +185,85 @@ public final class SimpleFieldTracker implements DirtyTracker {
 		this.suspended = suspend;
 	}
 
+	/**
+	 * The names of the fields of the enhanced class, in the order of their indexes.
+	 * The same array is shared by all trackers of a given class.
+	 */
+	public String[] getFieldNames() {
+		return trackedFields.names;
+	}
+
+	/**
+	 * The index of the first changed field at or after the given index,
+	 * or {@code -1} if there is no such field.
+	 */
+	public int nextDirtyIndex(int fromIndex) {
+		if ( fromIndex < Long.SIZE ) {
+			final long word = dirty & ( -1L << fromIndex );
+			if ( word != 0 ) {
+				return Long.numberOfTrailingZeros( word );
+			}
+			fromIndex = Long.SIZE;
+		}
+		if ( moreDirty != null ) {
+			int position = fromIndex / Long.SIZE - 1;
+			if ( position < moreDirty.length ) {
+				long word = moreDirty[position] & ( -1L << fromIndex );
+				while ( true ) {
+					if ( word != 0 ) {
+						return ( position + 1 ) * Long.SIZE + Long.numberOfTrailingZeros( word );
+					}
+					if ( ++position == moreDirty.length ) {
+						break;
+					}
+					word = moreDirty[position];
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * The changed names which are not fields of the enhanced class,
+	 * usually paths to attributes of embeddables.
+	 */
+	public String[] getPaths() {
+		return paths;
+	}
+
+	private static final class TrackedFields {
+		private static final TrackedFields NONE = new TrackedFields( Object.class );
+
+		private final String[] names;
+		private final Map<String, Integer> indexes;
+
+		private TrackedFields(Class<?> type) {
+			final Deque<Class<?>> hierarchy = new ArrayDeque<>();
+			for ( Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass() ) {
+				hierarchy.push( current );
+			}
+			final List<String> fieldNames = new ArrayList<>();
+			for ( Class<?> current : hierarchy ) {
+				final List<String> declaredFieldNames = new ArrayList<>();
+				for ( Field field : current.getDeclaredFields() ) {
+					if ( isTrackedField( field.getName(), Modifier.isStatic( field.getModifiers() ), field.isSynthetic() ) ) {
+						declaredFieldNames.add( field.getName() );
+					}
+				}
+				declaredFieldNames.sort( null );
+				fieldNames.addAll( declaredFieldNames );
+			}
+			names = fieldNames.toArray( ArrayHelper.EMPTY_STRING_ARRAY );
+			indexes = new HashMap<>();
+			for ( int i = 0; i < names.length; i++ ) {
+				// a field hidden by a subclass keeps the index of the superclass field
+				indexes.putIfAbsent( names[i], i );
+			}
+		}
+
+		private int indexOf(String name) {
+			final Integer index = indexes.get( name );
+			return index == null ? -1 : index;
+		}
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.bytecode.enhance.spi;
 
+import org.hibernate.Incubating;
+
 import jakarta.persistence.metamodel.Type;
 
 /**
@@ -92,6 +94,23 @@ public interface EnhancementContext {
 	 */
 	boolean doExtendedEnhancement(UnloadedClass classDescriptor);
 
+	/**
+	 * Should the class be prepared for the generation of an accessor class at build time?
+	 * The accessor class is then declared as a nest mate of the class, allowing it to access
+	 * private fields and constructors.
+	 *
+	 * @param classDescriptor The descriptor of the class to check.
+	 *
+	 * @return {@code true} indicates that an accessor will be generated for the class.
+	 *
+	 * @see Enhancer#generateAccessor(String, byte[])
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean doGenerateAccessor(UnloadedClass classDescriptor) {
+		return false;
+	}
+
 	/**
 	 * Does the given class define any lazy loadable attributes?
 	 *
@@ -53,6 +53,11 @@ public class EnhancementContextWrapper implements EnhancementContext {
 		return wrappedContext.doExtendedEnhancement( classDescriptor );
 	}
 
+	@Override
+	public boolean doGenerateAccessor(UnloadedClass classDescriptor) {
+		return wrappedContext.doGenerateAccessor( classDescriptor );
+	}
+
 	@Override
 	public boolean hasLazyLoadableAttributes(UnloadedClass classDescriptor) {
 		return wrappedContext.hasLazyLoadableAttributes( classDescriptor );
@@ -6,6 +6,8 @@
  */
 package org.hibernate.bytecode.enhance.spi;
 
+import org.hibernate.Incubating;
+
 /**
  * Class responsible for performing enhancement.
  *
@@ -43,4 +45,49 @@ public interface Enhancer {
 	 * @since 6.3
 	 */
 	void discoverTypes(String className, byte[] originalBytes) throws EnhancementException;
+
+	/**
+	 * Generates the class of the lazy proxies for the given entity class, so that it does
+	 * not need to be generated at runtime. The proxy class is named by appending
+	 * {@value EnhancerConstants#PROXY_CLASS_NAME_SUFFIX} to the name of the entity class,
+	 * and must be packaged alongside it.
+	 *
+	 * @param className The name of the entity class
+	 * @param classBytes The entity class's byte code, usually after enhancement
+	 *
+	 * @return The byte code of the proxy class, or null if the class is not an entity
+	 * or cannot be proxied
+	 *
+	 * @throws EnhancementException Indicates a problem generating the proxy class
+	 * @since 6.6
+	 */
+	@Incubating
+	default byte[] generateProxy(String className, byte[] classBytes) throws EnhancementException {
+		return null;
+	}
+
+	/**
+	 * Generates a {@link org.hibernate.bytecode.spi.GeneratedFieldAccessor} for the given
+	 * entity, embeddable or mapped superclass, giving access to the fields it declares and
+	 * instantiating it without reflection. The accessor class is named by appending
+	 * {@value EnhancerConstants#ACCESSOR_CLASS_NAME_SUFFIX} to the name of the class, and
+	 * must be packaged alongside it.
+	 * <p>
+	 * Private fields and constructors are only accessible if the class was enhanced with
+	 * {@link EnhancementContext#doGenerateAccessor} enabled, and is not itself nested in
+	 * another class.
+	 *
+	 * @param className The name of the managed class
+	 * @param classBytes The managed class's byte code, after enhancement
+	 *
+	 * @return The byte code of the accessor class, or null if the class is not managed
+	 * or has nothing to access
+	 *
+	 * @throws EnhancementException Indicates a problem generating the accessor class
+	 * @since 6.6
+	 */
+	@Incubating
+	default byte[] generateAccessor(String className, byte[] classBytes) throws EnhancementException {
+		return null;
+	}
 }
@@ -132,6 +132,11 @@ public final class EnhancerConstants {
 	 */
 	public static final String TRACKER_GET_NAME = "$$_hibernate_getDirtyAttributes";
 
+	/**
+	 * Name of method to fetch the tracker of dirty attributes
+	 */
+	public static final String TRACKER_GET_TRACKER_NAME = "$$_hibernate_getDirtyTracker";
+
 	/**
 	 * Name of method to clear stored dirty attributes
 	 */
@@ -186,6 +191,22 @@ public final class EnhancerConstants {
 	public static final String USE_TRACKER_GETTER_NAME = "$$_hibernate_useTracker";
 	public static final String USE_TRACKER_SETTER_NAME = "$$_hibernate_setUseTracker";
 
+	/**
+	 * Suffix appended to the name of an entity class to obtain the name
+	 * of its proxy class, when the proxy class is generated at build time
+	 *
+	 * @see Enhancer#generateProxy(String, byte[])
+	 */
+	public static final String PROXY_CLASS_NAME_SUFFIX = "$HibernateProxy";
+
+	/**
+	 * Suffix appended to the name of a managed class to obtain the name
+	 * of the class giving access to its fields, when generated at build time
+	 *
+	 * @see Enhancer#generateAccessor(String, byte[])
+	 */
+	public static final String ACCESSOR_CLASS_NAME_SUFFIX = "$HibernateAccessor";
+
 
 	private EnhancerConstants() {
 	}
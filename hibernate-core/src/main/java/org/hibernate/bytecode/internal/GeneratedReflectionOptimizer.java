@@ -0,0 +1,321 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
+import org.hibernate.bytecode.spi.GeneratedFieldAccessor;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.engine.spi.Managed;
+import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.property.access.internal.AccessStrategyHelper;
+import org.hibernate.property.access.internal.PropertyAccessEmbeddedImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+
+/**
+ * A {@link ReflectionOptimizer} built from the {@linkplain GeneratedFieldAccessor accessors}
+ * generated at build time for a managed class and its superclasses, so that neither reflection
+ * nor the generation of classes at runtime is needed to access the state of its instances.
+ * <p>
+ * Only used when every attribute is accessed through a field covered by an accessor, and
+ * otherwise the {@link org.hibernate.bytecode.spi.BytecodeProvider} is asked for an optimizer.
+ *
+ * @see org.hibernate.bytecode.enhance.spi.Enhancer#generateAccessor(String, byte[])
+ *
+ * @since 6.6
+ */
+public final class GeneratedReflectionOptimizer implements ReflectionOptimizer, ReflectionOptimizer.AccessOptimizer {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( GeneratedReflectionOptimizer.class );
+
+	private static final ClassValue<DeclaredFieldAccessor> ACCESSORS = new ClassValue<>() {
+		@Override
+		protected DeclaredFieldAccessor computeValue(Class<?> type) {
+			return DeclaredFieldAccessor.locate( type );
+		}
+	};
+
+	private final String[] propertyNames;
+	private final GeneratedFieldAccessor[] accessors;
+	private final int[] indexes;
+	private final int[] enhancementStates;
+	private final boolean enhanced;
+	private final @Nullable InstantiationOptimizer instantiationOptimizer;
+
+	private GeneratedReflectionOptimizer(
+			String[] propertyNames,
+			GeneratedFieldAccessor[] accessors,
+			int[] indexes,
+			int[] enhancementStates,
+			boolean enhanced,
+			@Nullable InstantiationOptimizer instantiationOptimizer) {
+		this.propertyNames = propertyNames;
+		this.accessors = accessors;
+		this.indexes = indexes;
+		this.enhancementStates = enhancementStates;
+		this.enhanced = enhanced;
+		this.instantiationOptimizer = instantiationOptimizer;
+	}
+
+	/**
+	 * Build an optimizer for the given class from the accessors generated at build time.
+	 *
+	 * @param clazz The class to be reflected upon.
+	 * @param propertyAccessMap The ordered property access map
+	 *
+	 * @return The optimizer, or {@code null} if some attribute is not covered by an accessor
+	 */
+	public static @Nullable ReflectionOptimizer resolve(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap) {
+		if ( clazz.isInterface() || ACCESSORS.get( clazz ) == null ) {
+			return null;
+		}
+		final int size = propertyAccessMap.size();
+		final String[] propertyNames = new String[size];
+		final GeneratedFieldAccessor[] accessors = new GeneratedFieldAccessor[size];
+		final int[] indexes = new int[size];
+		final int[] enhancementStates = new int[size];
+		int i = 0;
+		for ( Map.Entry<String, PropertyAccess> entry : propertyAccessMap.entrySet() ) {
+			propertyNames[i] = entry.getKey();
+			final PropertyAccess propertyAccess = entry.getValue();
+			// the embedded property access leaves the accessor null, and returns the owner
+			if ( !( propertyAccess instanceof PropertyAccessEmbeddedImpl ) ) {
+				final Getter getter = propertyAccess.getGetter();
+				final Setter setter = propertyAccess.getSetter();
+				if ( !( getter instanceof GetterFieldImpl ) || !( setter instanceof SetterFieldImpl ) ) {
+					return null;
+				}
+				final Field field = ( (SetterFieldImpl) setter ).getField();
+				if ( !field.equals( getter.getMember() ) ) {
+					return null;
+				}
+				final DeclaredFieldAccessor accessor = ACCESSORS.get( field.getDeclaringClass() );
+				final int index = accessor == null ? -1 : accessor.indexOf( field.getName() );
+				if ( index < 0 ) {
+					LOG.debugf(
+							"Not using accessor generated at build time for [%s]: field [%s] is not accessible",
+							clazz.getName(),
+							field
+					);
+					return null;
+				}
+				accessors[i] = accessor.accessor;
+				indexes[i] = index;
+				enhancementStates[i] = AccessStrategyHelper.determineEnhancementState( clazz, field.getType() );
+			}
+			i++;
+		}
+		return new GeneratedReflectionOptimizer(
+				propertyNames,
+				accessors,
+				indexes,
+				enhancementStates,
+				Managed.class.isAssignableFrom( clazz ),
+				ACCESSORS.get( clazz ).instantiationOptimizer
+		);
+	}
+
+	@Override
+	public @Nullable InstantiationOptimizer getInstantiationOptimizer() {
+		return instantiationOptimizer;
+	}
+
+	@Override
+	public AccessOptimizer getAccessOptimizer() {
+		return this;
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return propertyNames.clone();
+	}
+
+	@Override
+	public Object[] getPropertyValues(Object object) {
+		final LazyAttributeLoadingInterceptor lazyInterceptor = lazyAttributeLoadingInterceptor( object );
+		final Object[] values = new Object[propertyNames.length];
+		for ( int i = 0; i < values.length; i++ ) {
+			final GeneratedFieldAccessor accessor = accessors[i];
+			if ( accessor == null ) {
+				values[i] = object;
+			}
+			else if ( lazyInterceptor != null && !lazyInterceptor.isAttributeLoaded( propertyNames[i] ) ) {
+				values[i] = LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			}
+			else {
+				values[i] = accessor.getFieldValue( object, indexes[i] );
+			}
+		}
+		return values;
+	}
+
+	@Override
+	public void setPropertyValues(Object object, Object[] values) {
+		for ( int i = 0; i < values.length; i++ ) {
+			final GeneratedFieldAccessor accessor = accessors[i];
+			final Object value = values[i];
+			if ( accessor != null && !( enhanced && value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) ) {
+				accessor.setFieldValue( object, indexes[i], value );
+				if ( enhanced ) {
+					AccessStrategyHelper.handleEnhancedInjection( object, value, enhancementStates[i], propertyNames[i] );
+				}
+			}
+		}
+	}
+
+	private static @Nullable LazyAttributeLoadingInterceptor lazyAttributeLoadingInterceptor(Object object) {
+		if ( isPersistentAttributeInterceptable( object ) ) {
+			final PersistentAttributeInterceptor interceptor =
+					asPersistentAttributeInterceptable( object ).$$_hibernate_getInterceptor();
+			if ( interceptor instanceof LazyAttributeLoadingInterceptor ) {
+				return (LazyAttributeLoadingInterceptor) interceptor;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * The accessor generated for a class, with the indexes of the fields it gives access to
+	 */
+	private static final class DeclaredFieldAccessor {
+		private final GeneratedFieldAccessor accessor;
+		private final Map<String, Integer> indexes;
+		private final @Nullable InstantiationOptimizer instantiationOptimizer;
+
+		private DeclaredFieldAccessor(
+				GeneratedFieldAccessor accessor,
+				Map<String, Integer> indexes,
+				@Nullable InstantiationOptimizer instantiationOptimizer) {
+			this.accessor = accessor;
+			this.indexes = indexes;
+			this.instantiationOptimizer = instantiationOptimizer;
+		}
+
+		private int indexOf(String fieldName) {
+			final Integer index = indexes.get( fieldName );
+			return index == null ? -1 : index;
+		}
+
+		private static @Nullable DeclaredFieldAccessor locate(Class<?> type) {
+			final ClassLoader classLoader = type.getClassLoader();
+			if ( classLoader == null ) {
+				return null;
+			}
+			final Class<?> accessorClass;
+			try {
+				accessorClass = Class.forName( type.getName() + EnhancerConstants.ACCESSOR_CLASS_NAME_SUFFIX, false, classLoader );
+			}
+			catch (ClassNotFoundException | LinkageError e) {
+				return null;
+			}
+			if ( !GeneratedFieldAccessor.class.isAssignableFrom( accessorClass ) ) {
+				return null;
+			}
+			final GeneratedFieldAccessor accessor;
+			try {
+				accessor = (GeneratedFieldAccessor) accessorClass.getConstructor().newInstance();
+			}
+			catch (ReflectiveOperationException | LinkageError e) {
+				LOG.debugf( "Unable to instantiate accessor generated at build time for [%s]", type.getName() );
+				return null;
+			}
+			// make sure the accessor still matches the fields of the class
+			final String[] fieldNames;
+			final String[] fieldDescriptors;
+			try {
+				fieldNames = accessor.getFieldNames();
+				fieldDescriptors = accessor.getFieldDescriptors();
+			}
+			catch (LinkageError e) {
+				// generated by an earlier version
+				LOG.debugf( "Ignoring stale accessor generated at build time for [%s]", type.getName() );
+				return null;
+			}
+			if ( fieldDescriptors.length != fieldNames.length ) {
+				LOG.debugf( "Ignoring stale accessor generated at build time for [%s]", type.getName() );
+				return null;
+			}
+			final Map<String, Integer> indexes = new HashMap<>( fieldNames.length );
+			for ( int i = 0; i < fieldNames.length; i++ ) {
+				final Field field;
+				try {
+					field = type.getDeclaredField( fieldNames[i] );
+				}
+				catch (NoSuchFieldException e) {
+					LOG.debugf( "Ignoring stale accessor generated at build time for [%s]", type.getName() );
+					return null;
+				}
+				final int modifiers = field.getModifiers();
+				if ( Modifier.isStatic( modifiers ) || Modifier.isFinal( modifiers )
+						|| Modifier.isPrivate( modifiers ) && !accessorClass.isNestmateOf( type )
+						// the field instructions of the accessor refer to the type of the field
+						|| !fieldDescriptors[i].equals( descriptor( field.getType() ) ) ) {
+					LOG.debugf( "Ignoring stale accessor generated at build time for [%s]", type.getName() );
+					return null;
+				}
+				indexes.put( fieldNames[i], i );
+			}
+			LOG.tracef( "Using accessor generated at build time for [%s]", type.getName() );
+			return new DeclaredFieldAccessor(
+					accessor,
+					indexes,
+					accessor instanceof InstantiationOptimizer && canInstantiate( type, accessorClass )
+							? (InstantiationOptimizer) accessor
+							: null
+			);
+		}
+
+		private static String descriptor(Class<?> type) {
+			if ( type.isPrimitive() ) {
+				if ( type == boolean.class ) {
+					return "Z";
+				}
+				else if ( type == long.class ) {
+					return "J";
+				}
+				else {
+					// B, C, D, F, I, S, V
+					return String.valueOf( Character.toUpperCase( type.getName().charAt( 0 ) ) );
+				}
+			}
+			else if ( type.isArray() ) {
+				return type.getName().replace( '.', '/' );
+			}
+			else {
+				return 'L' + type.getName().replace( '.', '/' ) + ';';
+			}
+		}
+
+		private static boolean canInstantiate(Class<?> type, Class<?> accessorClass) {
+			if ( Modifier.isAbstract( type.getModifiers() ) ) {
+				return false;
+			}
+			try {
+				return !Modifier.isPrivate( type.getDeclaredConstructor().getModifiers() )
+						|| accessorClass.isNestmateOf( type );
+			}
+			catch (NoSuchMethodException e) {
+				return false;
+			}
+		}
+	}
+}
@@ -13,6 +13,12 @@ import org.hibernate.proxy.ProxyFactory;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyFactory;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
+/**
+ * Builds {@link ByteBuddyProxyFactory} instances. A factory uses the proxy class
+ * {@linkplain org.hibernate.bytecode.enhance.spi.Enhancer#generateProxy generated
+ * at build time} for an entity, when there is one, and generates the proxy class
+ * at runtime otherwise.
+ */
 public class ProxyFactoryFactoryImpl implements ProxyFactoryFactory {
 
 	private final ByteBuddyState byteBuddyState;
@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Direct access to the fields declared by a managed class, without reflection.
+ * Implementations are generated at build time, next to the class whose fields
+ * they access, and are named after it with the suffix
+ * {@value org.hibernate.bytecode.enhance.spi.EnhancerConstants#ACCESSOR_CLASS_NAME_SUFFIX}.
+ * <p>
+ * When the managed class may be instantiated, the implementation also implements
+ * {@link ReflectionOptimizer.InstantiationOptimizer}.
+ *
+ * @see org.hibernate.bytecode.enhance.spi.Enhancer#generateAccessor(String, byte[])
+ *
+ * @since 6.6
+ */
+@Incubating
+public interface GeneratedFieldAccessor {
+	/**
+	 * The names of the accessible fields, in the order of their indexes.
+	 */
+	String[] getFieldNames();
+
+	/**
+	 * The descriptors of the types of the accessible fields, as defined by the JVM
+	 * specification, in the order of their indexes. The accessor is stale unless
+	 * they match the types of the fields of the class.
+	 */
+	String[] getFieldDescriptors();
+
+	/**
+	 * Get the value of the field with the given index from the given instance.
+	 */
+	Object getFieldValue(Object instance, int index);
+
+	/**
+	 * Set the value of the field with the given index on the given instance.
+	 */
+	void setFieldValue(Object instance, int index, Object value);
+}
@@ -0,0 +1,470 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.CacheMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.loader.ast.spi.BatchLoaderFactory;
+import org.hibernate.loader.ast.spi.CollectionBatchLoader;
+import org.hibernate.metamodel.mapping.EmbeddableMappingType;
+import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.metamodel.mapping.NonAggregatedIdentifierMapping;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.cfg.CacheSettings.CACHE_WARMUP_KEYS_FILE;
+import static org.hibernate.cfg.CacheSettings.CACHE_WARMUP_PARALLELISM;
+import static org.hibernate.cfg.CacheSettings.CACHE_WARMUP_PREFIX;
+import static org.hibernate.cfg.CacheSettings.CACHE_WARMUP_RECORDED_KEYS;
+
+/**
+ * Warms up the second-level cache regions of the entities and collections
+ * configured using {@value org.hibernate.cfg.CacheSettings#CACHE_WARMUP_PREFIX}
+ * once the {@link SessionFactory} is built.
+ * <p>
+ * Each entity or collection role is loaded by a task of a background executor,
+ * using {@linkplain org.hibernate.MultiIdentifierLoadAccess multi-load} of the
+ * entities (or collection owners) in chunks of the batch size, and a
+ * {@link CollectionBatchLoader} which initializes the collections of each chunk
+ * of owners at once. For the {@value #RECORDED} strategy, the keys which
+ * are loaded most frequently are counted while the factory is open, and written
+ * to the {@linkplain org.hibernate.cfg.CacheSettings#CACHE_WARMUP_KEYS_FILE keys
+ * file} when it is closed. The keys file is read through an {@link ObjectInputFilter}
+ * which only accepts the collections holding the keys, the identifier classes of the
+ * recorded roles, and the value types of the JDK.
+ *
+ * @see CacheWarmUpIntegrator
+ */
+public class CacheWarmUp implements SessionFactoryObserver, PostLoadEventListener, InitializeCollectionEventListener {
+	/**
+	 * The strategy which loads every instance.
+	 */
+	public static final String ALL = "all";
+
+	/**
+	 * The strategy which loads the instances accessed most frequently before the last shutdown.
+	 */
+	public static final String RECORDED = "recorded";
+
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
+	/**
+	 * The classes of the JDK which may be read from the keys file: the collections
+	 * holding the keys, the component types of their internal arrays, and the usual
+	 * types of identifiers
+	 */
+	private static final Set<Class<?>> ALLOWED_JDK_CLASSES = Set.of(
+			HashMap.class, ArrayList.class, Map.Entry.class, Object.class,
+			String.class, Boolean.class, Character.class, Number.class, Enum.class,
+			Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+			java.math.BigInteger.class, java.math.BigDecimal.class,
+			java.util.UUID.class, java.util.Date.class,
+			java.sql.Date.class, java.sql.Time.class, java.sql.Timestamp.class
+	);
+	private static final String JAVA_TIME_PACKAGE = "java.time";
+	private static final long MAX_DEPTH = 100;
+
+	private final Map<String, String> strategies;
+	private final int parallelism;
+	private final Path keysFile;
+	private final int maxRecordedKeys;
+
+	private final Map<String, Map<Object, LongAdder>> keyFrequencies = new ConcurrentHashMap<>();
+	private final Map<String, List<?>> previouslyRecordedKeys = new ConcurrentHashMap<>();
+
+	private volatile ExecutorService executor;
+
+	private CacheWarmUp(Map<String, String> strategies, int parallelism, Path keysFile, int maxRecordedKeys) {
+		this.strategies = strategies;
+		this.parallelism = parallelism;
+		this.keysFile = keysFile;
+		this.maxRecordedKeys = maxRecordedKeys;
+		strategies.forEach( (role, strategy) -> {
+			if ( RECORDED.equals( strategy ) ) {
+				keyFrequencies.put( role, new ConcurrentHashMap<>() );
+			}
+		} );
+	}
+
+	/**
+	 * Build a {@code CacheWarmUp} from the given configuration settings,
+	 * or return {@code null} if no warm-up is configured.
+	 */
+	public static CacheWarmUp fromSettings(Map<String, Object> settings) {
+		final Map<String, String> strategies = new LinkedHashMap<>();
+		final String prefix = CACHE_WARMUP_PREFIX + '.';
+		for ( Map.Entry<String, Object> entry : settings.entrySet() ) {
+			final String key = entry.getKey();
+			if ( key.startsWith( prefix ) && entry.getValue() != null ) {
+				final String strategy = entry.getValue().toString().trim();
+				final String normalized = strategy.toLowerCase( Locale.ROOT );
+				strategies.put(
+						key.substring( prefix.length() ),
+						ALL.equals( normalized ) || RECORDED.equals( normalized ) ? normalized : strategy
+				);
+			}
+		}
+		if ( strategies.isEmpty() ) {
+			return null;
+		}
+		final String keysFile = ConfigurationHelper.getString( CACHE_WARMUP_KEYS_FILE, settings );
+		return new CacheWarmUp(
+				strategies,
+				Math.max( 1, ConfigurationHelper.getInt( CACHE_WARMUP_PARALLELISM, settings, 1 ) ),
+				keysFile == null ? null : Path.of( keysFile ),
+				ConfigurationHelper.getInt( CACHE_WARMUP_RECORDED_KEYS, settings, 1000 )
+		);
+	}
+
+	/**
+	 * Does any configured role use the {@value #RECORDED} strategy?
+	 */
+	public boolean isRecordingKeys() {
+		return !keyFrequencies.isEmpty();
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		if ( isRecordingKeys() ) {
+			readRecordedKeys( sessionFactory );
+		}
+		final ExecutorService executor = Executors.newFixedThreadPool( parallelism, new WarmUpThreadFactory() );
+		this.executor = executor;
+		strategies.forEach( (role, strategy) -> executor.execute( () -> warmUp( role, strategy, sessionFactory ) ) );
+		// let the threads terminate once every role is done
+		executor.shutdown();
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		final ExecutorService executor = this.executor;
+		if ( executor != null ) {
+			executor.shutdownNow();
+		}
+		if ( isRecordingKeys() ) {
+			writeRecordedKeys();
+		}
+	}
+
+	@Override
+	public void onPostLoad(PostLoadEvent event) {
+		recordKey( event.getPersister().getEntityName(), event.getId() );
+	}
+
+	@Override
+	public void onInitializeCollection(InitializeCollectionEvent event) {
+		recordKey( event.getCollection().getRole(), event.getAffectedOwnerIdOrNull() );
+	}
+
+	private void recordKey(String role, Object key) {
+		if ( key != null && !( Thread.currentThread() instanceof WarmUpThread ) ) {
+			final Map<Object, LongAdder> frequencies = keyFrequencies.get( role );
+			if ( frequencies != null ) {
+				// bound the number of tracked keys, keeping the ones seen first
+				final LongAdder frequency = frequencies.size() < maxRecordedKeys * 10
+						? frequencies.computeIfAbsent( key, k -> new LongAdder() )
+						: frequencies.get( key );
+				if ( frequency != null ) {
+					frequency.increment();
+				}
+			}
+		}
+	}
+
+	private void warmUp(String role, String strategy, SessionFactoryImplementor factory) {
+		final MappingMetamodelImplementor metamodel = factory.getMappingMetamodel();
+		final EntityPersister entityPersister = metamodel.findEntityDescriptor( role );
+		final CollectionPersister collectionPersister =
+				entityPersister == null ? metamodel.findCollectionDescriptor( role ) : null;
+		final EntityPersister ownerPersister;
+		final int batchSize;
+		if ( entityPersister != null ) {
+			if ( !entityPersister.canWriteToCache() ) {
+				L2CACHE_LOGGER.warnf( "Skipping second-level cache warm-up of '%s': entity is not cached", role );
+				return;
+			}
+			ownerPersister = entityPersister;
+			batchSize = entityPersister.getBatchSize();
+		}
+		else if ( collectionPersister != null ) {
+			if ( !collectionPersister.hasCache() ) {
+				L2CACHE_LOGGER.warnf( "Skipping second-level cache warm-up of '%s': collection is not cached", role );
+				return;
+			}
+			if ( !( collectionPersister.getAttributeMapping().getDeclaringType() instanceof EntityMappingType ) ) {
+				L2CACHE_LOGGER.warnf( "Skipping second-level cache warm-up of '%s': collection belongs to an embeddable", role );
+				return;
+			}
+			ownerPersister = collectionPersister.getOwnerEntityPersister();
+			batchSize = collectionPersister.getBatchSize();
+		}
+		else {
+			L2CACHE_LOGGER.warnf( "Skipping second-level cache warm-up of '%s': not an entity name or collection role", role );
+			return;
+		}
+
+		final long start = System.nanoTime();
+		int loaded = 0;
+		try ( SessionImplementor session = (SessionImplementor) factory.openSession() ) {
+			session.setCacheMode( CacheMode.PUT );
+			session.setDefaultReadOnly( true );
+			final List<?> keys = resolveKeys( role, strategy, ownerPersister.getEntityName(), session );
+			final int chunkSize = effectiveBatchSize( batchSize, factory );
+			final StatisticsImplementor statistics = factory.getStatistics();
+			final CollectionBatchLoader collectionLoader = collectionPersister == null
+					? null
+					: factory.getServiceRegistry().requireService( BatchLoaderFactory.class )
+							.createCollectionBatchLoader(
+									chunkSize,
+									session.getLoadQueryInfluencers(),
+									collectionPersister.getAttributeMapping(),
+									factory
+							);
+			for ( int i = 0; i < keys.size() && !Thread.currentThread().isInterrupted(); i += chunkSize ) {
+				final List<?> chunk = keys.subList( i, Math.min( i + chunkSize, keys.size() ) );
+				final List<?> entities = session.byMultipleIds( ownerPersister.getEntityName() )
+						.with( CacheMode.PUT )
+						.withBatchSize( chunkSize )
+						.multiLoad( chunk );
+				if ( collectionLoader != null ) {
+					initializeCollections( entities, collectionPersister.getAttributeMapping(), collectionLoader, session );
+				}
+				session.clear();
+				loaded += chunk.size();
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.cacheWarmUpLoad( role, chunk.size() );
+				}
+				L2CACHE_LOGGER.debugf( "Second-level cache warm-up of '%s': %s of %s loaded", role, loaded, keys.size() );
+			}
+		}
+		catch (RuntimeException e) {
+			if ( factory.isClosed() ) {
+				L2CACHE_LOGGER.debugf( "Second-level cache warm-up of '%s' interrupted by shutdown", role );
+			}
+			else {
+				L2CACHE_LOGGER.warnf( e, "Second-level cache warm-up of '%s' failed", role );
+			}
+			return;
+		}
+		L2CACHE_LOGGER.infof(
+				"Second-level cache warm-up of '%s' completed: %s loaded in %s ms",
+				role,
+				loaded,
+				( System.nanoTime() - start ) / 1_000_000
+		);
+	}
+
+	/**
+	 * Initialize the uninitialized collections of the given owners with a single
+	 * execution of the batch loader, instead of one query per owner.
+	 */
+	private static void initializeCollections(
+			List<?> owners,
+			PluralAttributeMapping attributeMapping,
+			CollectionBatchLoader collectionLoader,
+			SessionImplementor session) {
+		final List<Object> keys = new ArrayList<>( owners.size() );
+		for ( Object owner : owners ) {
+			if ( owner != null ) {
+				final Object collection = attributeMapping.getValue( owner );
+				if ( collection instanceof PersistentCollection<?>
+						&& !( (PersistentCollection<?>) collection ).wasInitialized() ) {
+					keys.add( ( (PersistentCollection<?>) collection ).getKey() );
+				}
+			}
+		}
+		if ( !keys.isEmpty() ) {
+			collectionLoader.loadKeys( keys.toArray(), session );
+		}
+	}
+
+	private List<?> resolveKeys(String role, String strategy, String entityName, SessionImplementor session) {
+		switch ( strategy ) {
+			case ALL:
+				return session.createSelectionQuery( "select id(e) from " + entityName + " e", Object.class )
+						.getResultList();
+			case RECORDED:
+				return previouslyRecordedKeys.getOrDefault( role, Collections.emptyList() );
+			default:
+				return session.createSelectionQuery( strategy, Object.class ).getResultList();
+		}
+	}
+
+	private static int effectiveBatchSize(int batchSize, SessionFactoryImplementor factory) {
+		if ( batchSize > 1 ) {
+			return batchSize;
+		}
+		final int defaultBatchFetchSize = factory.getSessionFactoryOptions().getDefaultBatchFetchSize();
+		return defaultBatchFetchSize > 1 ? defaultBatchFetchSize : DEFAULT_BATCH_SIZE;
+	}
+
+	private void readRecordedKeys(SessionFactoryImplementor factory) {
+		if ( keysFile == null || !Files.exists( keysFile ) ) {
+			return;
+		}
+		final Set<Class<?>> identifierClasses = recordedIdentifierClasses( factory );
+		try ( InputStream inputStream = Files.newInputStream( keysFile );
+				ObjectInputStream objectInputStream = new ObjectInputStream( inputStream ) ) {
+			objectInputStream.setObjectInputFilter( info -> checkRecordedKeys( info, identifierClasses ) );
+			@SuppressWarnings("unchecked")
+			final Map<String, List<?>> keys = (Map<String, List<?>>) objectInputStream.readObject();
+			previouslyRecordedKeys.putAll( keys );
+		}
+		catch (IOException | ClassNotFoundException | ClassCastException e) {
+			L2CACHE_LOGGER.warnf( e, "Unable to read second-level cache warm-up keys from '%s'", keysFile );
+		}
+	}
+
+	private ObjectInputFilter.Status checkRecordedKeys(
+			ObjectInputFilter.FilterInfo info,
+			Set<Class<?>> identifierClasses) {
+		// the longest arrays are the lists of keys, and the tables of the map of roles
+		if ( info.depth() > MAX_DEPTH
+				|| info.arrayLength() > 2L * Math.max( maxRecordedKeys, keyFrequencies.size() ) + 16 ) {
+			return ObjectInputFilter.Status.REJECTED;
+		}
+		Class<?> type = info.serialClass();
+		if ( type == null ) {
+			return ObjectInputFilter.Status.UNDECIDED;
+		}
+		while ( type.isArray() ) {
+			type = type.getComponentType();
+		}
+		return type.isPrimitive()
+				|| ALLOWED_JDK_CLASSES.contains( type )
+				|| JAVA_TIME_PACKAGE.equals( type.getPackageName() )
+				|| identifierClasses.contains( type )
+				? ObjectInputFilter.Status.ALLOWED
+				: ObjectInputFilter.Status.REJECTED;
+	}
+
+	/**
+	 * The classes of the identifiers of the entities and collection owners whose keys are recorded,
+	 * including the classes of the attributes of composite identifiers
+	 */
+	private Set<Class<?>> recordedIdentifierClasses(SessionFactoryImplementor factory) {
+		final MappingMetamodelImplementor metamodel = factory.getMappingMetamodel();
+		final Set<Class<?>> identifierClasses = new HashSet<>();
+		for ( String role : keyFrequencies.keySet() ) {
+			final EntityPersister entityPersister = metamodel.findEntityDescriptor( role );
+			final CollectionPersister collectionPersister =
+					entityPersister == null ? metamodel.findCollectionDescriptor( role ) : null;
+			final EntityPersister ownerPersister =
+					collectionPersister == null ? entityPersister : collectionPersister.getOwnerEntityPersister();
+			if ( ownerPersister != null ) {
+				addIdentifierClasses( ownerPersister.getIdentifierMapping(), identifierClasses );
+			}
+		}
+		return identifierClasses;
+	}
+
+	private static void addIdentifierClasses(ModelPart part, Set<Class<?>> identifierClasses) {
+		if ( identifierClasses.add( part.getJavaType().getJavaTypeClass() ) ) {
+			if ( part instanceof NonAggregatedIdentifierMapping ) {
+				final EmbeddableMappingType idClass = ( (NonAggregatedIdentifierMapping) part ).getIdClassEmbeddable();
+				if ( idClass != null ) {
+					addIdentifierClasses( idClass, identifierClasses );
+				}
+			}
+			if ( part instanceof EmbeddableValuedModelPart ) {
+				addIdentifierClasses( ( (EmbeddableValuedModelPart) part ).getEmbeddableTypeDescriptor(), identifierClasses );
+			}
+		}
+	}
+
+	private static void addIdentifierClasses(EmbeddableMappingType embeddable, Set<Class<?>> identifierClasses) {
+		identifierClasses.add( embeddable.getJavaType().getJavaTypeClass() );
+		embeddable.forEachAttributeMapping( attribute -> addIdentifierClasses( attribute, identifierClasses ) );
+	}
+
+	private void writeRecordedKeys() {
+		if ( keysFile == null ) {
+			L2CACHE_LOGGER.warnf( "Unable to record second-level cache warm-up keys: '%s' not set", CACHE_WARMUP_KEYS_FILE );
+			return;
+		}
+		final HashMap<String, List<?>> keys = new HashMap<>( previouslyRecordedKeys );
+		keyFrequencies.forEach( (role, frequencies) -> {
+			if ( !frequencies.isEmpty() ) {
+				keys.put( role, mostFrequentKeys( frequencies ) );
+			}
+		} );
+		try ( OutputStream outputStream = Files.newOutputStream( keysFile );
+				ObjectOutputStream objectOutputStream = new ObjectOutputStream( outputStream ) ) {
+			objectOutputStream.writeObject( keys );
+		}
+		catch (IOException e) {
+			L2CACHE_LOGGER.warnf( e, "Unable to write second-level cache warm-up keys to '%s'", keysFile );
+		}
+	}
+
+	private ArrayList<Object> mostFrequentKeys(Map<Object, LongAdder> frequencies) {
+		final ArrayList<Map.Entry<Object, LongAdder>> entries = new ArrayList<>( frequencies.entrySet() );
+		entries.sort( (x, y) -> Long.compare( y.getValue().sum(), x.getValue().sum() ) );
+		final ArrayList<Object> keys = new ArrayList<>( Math.min( maxRecordedKeys, entries.size() ) );
+		for ( int i = 0; i < entries.size() && i < maxRecordedKeys; i++ ) {
+			keys.add( entries.get( i ).getKey() );
+		}
+		return keys;
+	}
+
+	private static class WarmUpThread extends Thread {
+		private WarmUpThread(Runnable runnable, String name) {
+			super( runnable, name );
+		}
+	}
+
+	private static class WarmUpThreadFactory implements ThreadFactory {
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new WarmUpThread( runnable, "Hibernate Cache Warm-up Thread " + counter.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		}
+	}
+}
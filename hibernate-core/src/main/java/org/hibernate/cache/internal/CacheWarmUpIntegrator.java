@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Registers a {@link CacheWarmUp} with every {@link org.hibernate.SessionFactory}
+ * for which a warm-up of the second-level cache is configured using
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_WARMUP_PREFIX}.
+ */
+public class CacheWarmUpIntegrator implements Integrator {
+
+	@Override
+	public void integrate(
+			Metadata metadata,
+			BootstrapContext bootstrapContext,
+			SessionFactoryImplementor sessionFactory) {
+		if ( !sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled() ) {
+			// Nothing to do, if caching is disabled
+			return;
+		}
+		final CacheWarmUp cacheWarmUp = CacheWarmUp.fromSettings(
+				sessionFactory.getServiceRegistry().requireService( ConfigurationService.class ).getSettings()
+		);
+		if ( cacheWarmUp != null ) {
+			sessionFactory.addObserver( cacheWarmUp );
+			if ( cacheWarmUp.isRecordingKeys() ) {
+				final EventListenerRegistry eventListenerRegistry =
+						sessionFactory.getServiceRegistry().requireService( EventListenerRegistry.class );
+				eventListenerRegistry.appendListeners( EventType.POST_LOAD, cacheWarmUp );
+				eventListenerRegistry.appendListeners( EventType.INIT_COLLECTION, cacheWarmUp );
+			}
+		}
+	}
+
+	@Override
+	public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+	}
+}
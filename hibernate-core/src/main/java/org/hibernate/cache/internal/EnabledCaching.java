@@ -44,6 +44,9 @@ import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 
+import static org.hibernate.cfg.CacheSettings.QUERY_CACHE_TRANSFORMED_RESULTS_SIZE;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+
 /**
  * A {@link CacheImplementor} service used when the second-level cache is enabled.
  *
@@ -70,6 +73,7 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final TimestampsCache timestampsCache;
 
 	private final QueryResultsCache defaultQueryResultsCache;
+	private final int transformedResultsCacheSize;
 	private final Map<String, QueryResultsCache> namedQueryResultsCacheMap = new ConcurrentHashMap<>();
 
 
@@ -83,6 +87,8 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 				getSessionFactory().getSessionFactoryOptions().getServiceRegistry()
 						.requireService( RegionFactory.class );
 		this.regionFactory.start( sessionFactory.getSessionFactoryOptions(), sessionFactory.getProperties() );
+		this.transformedResultsCacheSize =
+				getInt( QUERY_CACHE_TRANSFORMED_RESULTS_SIZE, sessionFactory.getProperties(), 0 );
 
 		if ( getSessionFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 			final TimestampsRegion timestampsRegion = regionFactory.buildTimestampsRegion(
@@ -101,7 +107,8 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 			regionsByName.put( queryResultsRegion.getName(), queryResultsRegion );
 			defaultQueryResultsCache = new QueryResultsCacheImpl(
 					queryResultsRegion,
-					timestampsCache
+					timestampsCache,
+					transformedResultsCacheSize
 			);
 		}
 		else {
@@ -550,7 +557,8 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		}
 		final QueryResultsCacheImpl regionAccess = new QueryResultsCacheImpl(
 				queryResultsRegion,
-				timestampsCache
+				timestampsCache,
+				transformedResultsCacheSize
 		);
 		namedQueryResultsCacheMap.put( regionName, regionAccess );
 		legacySecondLevelCacheNames.add( regionName );
@@ -569,6 +577,11 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	@Override
 	public void evictRegion(String regionName) {
 		getRegion( regionName ).clear();
+		final QueryResultsCache queryResultsCache = getQueryResultsCacheStrictly( regionName );
+		if ( queryResultsCache != null ) {
+			// also clears any cached transformed results
+			queryResultsCache.clear();
+		}
 		final QueryResultsRegion queryResultsRegionWithDuplicateName = queryResultsRegionsByDuplicateName.get( regionName );
 		if ( queryResultsRegionWithDuplicateName != null ) {
 			queryResultsRegionWithDuplicateName.clear();
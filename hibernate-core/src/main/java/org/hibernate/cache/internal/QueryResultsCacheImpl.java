@@ -9,6 +9,7 @@ package org.hibernate.cache.internal;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
@@ -19,6 +20,9 @@ import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
+import org.hibernate.sql.results.spi.RowTransformer;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
 
@@ -34,12 +38,23 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
+	private final Map<TransformedResultsKey, CacheItem> transformedResults;
 
 	QueryResultsCacheImpl(
 			QueryResultsRegion cacheRegion,
 			TimestampsCache timestampsCache) {
+		this( cacheRegion, timestampsCache, 0 );
+	}
+
+	QueryResultsCacheImpl(
+			QueryResultsRegion cacheRegion,
+			TimestampsCache timestampsCache,
+			int transformedResultsCacheSize) {
 		this.cacheRegion = cacheRegion;
 		this.timestampsCache = timestampsCache;
+		this.transformedResults = transformedResultsCacheSize > 0
+				? new BoundedConcurrentHashMap<>( transformedResultsCacheSize, 20, BoundedConcurrentHashMap.Eviction.LIRS )
+				: null;
 	}
 
 	@Override
@@ -151,6 +166,59 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return deepCopy( cacheItem.results );
 	}
 
+	@Override
+	public boolean isTransformedResultsCachingEnabled() {
+		return transformedResults != null;
+	}
+
+	@Override
+	public boolean putTransformedResults(
+			QueryKey key,
+			JdbcValuesMappingProducer valuesMappingProducer,
+			RowTransformer<?> rowTransformer,
+			List<?> results,
+			SharedSessionContractImplementor session) {
+		if ( transformedResults == null ) {
+			return false;
+		}
+		transformedResults.put(
+				new TransformedResultsKey( key, valuesMappingProducer, rowTransformer ),
+				new CacheItem( session.getCacheTransactionSynchronization().getCachingTimestamp(), results )
+		);
+		return true;
+	}
+
+	@Override
+	public List<?> getTransformedResults(
+			QueryKey key,
+			JdbcValuesMappingProducer valuesMappingProducer,
+			RowTransformer<?> rowTransformer,
+			Set<String> spaces,
+			SharedSessionContractImplementor session) {
+		if ( transformedResults == null ) {
+			return null;
+		}
+		final TransformedResultsKey transformedResultsKey = new TransformedResultsKey( key, valuesMappingProducer, rowTransformer );
+		final CacheItem cacheItem = transformedResults.get( transformedResultsKey );
+		if ( cacheItem == null ) {
+			return null;
+		}
+		if ( !timestampsCache.isUpToDate( spaces, cacheItem.timestamp, session ) ) {
+			transformedResults.remove( transformedResultsKey, cacheItem );
+			return null;
+		}
+		// the list is immutable, and so it is not copied
+		return cacheItem.results;
+	}
+
+	@Override
+	public void clear() {
+		if ( transformedResults != null ) {
+			transformedResults.clear();
+		}
+		cacheRegion.clear();
+	}
+
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
 		CacheItem cachedItem = null;
 		final EventManager eventManager = session.getEventManager();
@@ -176,6 +244,45 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return "QueryResultsCache(" + cacheRegion.getName() + ')';
 	}
 
+	/**
+	 * The same SQL query may be mapped and transformed differently, and so
+	 * the values mapping and row transformer, which are held by the cached
+	 * query plan, are compared by identity as part of the key.
+	 */
+	private static final class TransformedResultsKey {
+		private final QueryKey queryKey;
+		private final JdbcValuesMappingProducer valuesMappingProducer;
+		private final RowTransformer<?> rowTransformer;
+
+		private TransformedResultsKey(
+				QueryKey queryKey,
+				JdbcValuesMappingProducer valuesMappingProducer,
+				RowTransformer<?> rowTransformer) {
+			this.queryKey = queryKey;
+			this.valuesMappingProducer = valuesMappingProducer;
+			this.rowTransformer = rowTransformer;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if ( this == object ) {
+				return true;
+			}
+			if ( !( object instanceof TransformedResultsKey ) ) {
+				return false;
+			}
+			final TransformedResultsKey that = (TransformedResultsKey) object;
+			return rowTransformer == that.rowTransformer
+				&& valuesMappingProducer == that.valuesMappingProducer
+				&& queryKey.equals( that.queryKey );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * queryKey.hashCode() + System.identityHashCode( valuesMappingProducer );
+		}
+	}
+
 	public static class CacheItem implements Serializable {
 		private final Long timestamp;
 		private final List<?> results;
@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+
+/**
+ * Builds a {@link TenantPartitionedTimestampsCacheImpl}, which invalidates cached
+ * query results at the granularity of a tenant rather than of a whole table.
+ * <p>
+ * May be selected using {@value #SHORT_NAME} as the value of
+ * {@value org.hibernate.cfg.AvailableSettings#QUERY_CACHE_FACTORY}.
+ */
+public class TenantPartitionedTimestampsCacheFactory implements TimestampsCacheFactory {
+	public static final String SHORT_NAME = "tenant-partitioned";
+
+	/**
+	 * Singleton access
+	 */
+	public static final TenantPartitionedTimestampsCacheFactory INSTANCE = new TenantPartitionedTimestampsCacheFactory();
+
+	@Override
+	public TimestampsCache buildTimestampsCache(
+			CacheImplementor cacheManager,
+			TimestampsRegion timestampsRegion) {
+		return new TenantPartitionedTimestampsCacheImpl( timestampsRegion );
+	}
+}
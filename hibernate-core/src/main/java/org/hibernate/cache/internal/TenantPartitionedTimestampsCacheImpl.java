@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Collection;
+
+import org.hibernate.binder.internal.TenantIdBinder;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * A {@link org.hibernate.cache.spi.TimestampsCache} which tracks the invalidation
+ * of query spaces separately for each tenant, so that a write performed on behalf
+ * of one tenant does not invalidate the cached query results of other tenants.
+ * <p>
+ * Every query space is split into:
+ * <ul>
+ * <li>the plain space, which is invalidated by writes that are not scoped to a
+ *     single tenant, and which every cached query depends on,
+ * <li>one partition per tenant, which is invalidated by writes performed by a
+ *     session scoped to that tenant, and which queries executed by sessions of
+ *     the same tenant depend on, and
+ * <li>an "any partition" space, which is invalidated by every tenant-scoped write,
+ *     and which queries that are not scoped to a single tenant depend on.
+ * </ul>
+ * <p>
+ * A session is considered scoped to its tenant unless it belongs to the
+ * {@linkplain CurrentTenantIdentifierResolver#isRoot root tenant} or, for
+ * discriminator-based multitenancy, it has disabled the
+ * {@linkplain TenantIdBinder#FILTER_NAME tenant filter}.
+ * <p>
+ * This strategy assumes that all data modified by a tenant-scoped session belongs
+ * to the tenant of that session. Native mutation queries which touch the data of
+ * other tenants must be executed by the root tenant, or by a session which has
+ * disabled the tenant filter.
+ *
+ * @see TenantPartitionedTimestampsCacheFactory
+ */
+public class TenantPartitionedTimestampsCacheImpl extends TimestampsCacheEnabledImpl {
+	/**
+	 * The separator between a query space and the name of its partition.
+	 */
+	public static final char PARTITION_SEPARATOR = '#';
+
+	private static final String ANY_PARTITION = "*";
+
+	public TenantPartitionedTimestampsCacheImpl(TimestampsRegion timestampsRegion) {
+		super( timestampsRegion );
+	}
+
+	@Override
+	public void preInvalidate(String[] spaces, SharedSessionContractImplementor session) {
+		super.preInvalidate( invalidatedSpaces( spaces, resolvePartition( session ) ), session );
+	}
+
+	@Override
+	public void invalidate(String[] spaces, SharedSessionContractImplementor session) {
+		super.invalidate( invalidatedSpaces( spaces, resolvePartition( session ) ), session );
+	}
+
+	@Override
+	public boolean isUpToDate(String[] spaces, Long timestamp, SharedSessionContractImplementor session) {
+		return super.isUpToDate( checkedSpaces( spaces, resolvePartition( session ) ), timestamp, session );
+	}
+
+	@Override
+	public boolean isUpToDate(Collection<String> spaces, Long timestamp, SharedSessionContractImplementor session) {
+		return super.isUpToDate( checkedSpaces( spaces.toArray( new String[0] ), resolvePartition( session ) ), timestamp, session );
+	}
+
+	/**
+	 * Determine the partition which the given session reads from and writes to,
+	 * or {@code null} if the session is not scoped to a single tenant.
+	 */
+	protected String resolvePartition(SharedSessionContractImplementor session) {
+		final String tenantIdentifier = session.getTenantIdentifier();
+		if ( tenantIdentifier == null ) {
+			return null;
+		}
+		final SessionFactoryImplementor factory = session.getFactory();
+		if ( factory.getDefinedFilterNames().contains( TenantIdBinder.FILTER_NAME ) ) {
+			// discriminator-based multitenancy: the session only sees its own
+			// partition while the tenant filter is enabled (which it never is
+			// for the root tenant)
+			return session.getLoadQueryInfluencers().getEnabledFilter( TenantIdBinder.FILTER_NAME ) == null
+					? null
+					: tenantIdentifier;
+		}
+		else {
+			final CurrentTenantIdentifierResolver<Object> resolver = factory.getCurrentTenantIdentifierResolver();
+			return resolver != null && resolver.isRoot( session.getTenantIdentifierValue() )
+					? null
+					: tenantIdentifier;
+		}
+	}
+
+	private static String[] invalidatedSpaces(String[] spaces, String partition) {
+		if ( partition == null ) {
+			// the write may have affected any partition
+			return spaces;
+		}
+		final String[] result = new String[spaces.length * 2];
+		for ( int i = 0; i < spaces.length; i++ ) {
+			result[2 * i] = partitionedSpace( spaces[i], partition );
+			result[2 * i + 1] = partitionedSpace( spaces[i], ANY_PARTITION );
+		}
+		return result;
+	}
+
+	private static String[] checkedSpaces(String[] spaces, String partition) {
+		final String dependentPartition = partition == null ? ANY_PARTITION : partition;
+		final String[] result = new String[spaces.length * 2];
+		for ( int i = 0; i < spaces.length; i++ ) {
+			result[2 * i] = spaces[i];
+			result[2 * i + 1] = partitionedSpace( spaces[i], dependentPartition );
+		}
+		return result;
+	}
+
+	private static String partitionedSpace(String space, String partition) {
+		return space + PARTITION_SEPARATOR + partition;
+	}
+}
@@ -10,8 +10,11 @@ import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
+import org.hibernate.sql.results.spi.RowTransformer;
 
 /**
  * Responsible for managing query result list caching in a specific
@@ -101,6 +104,72 @@ public interface QueryResultsCache {
 			String[] spaces,
 			SharedSessionContractImplementor session) throws HibernateException;
 
+	/**
+	 * Does this query result cache keep fully transformed result lists of
+	 * read-only scalar queries in memory?
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#QUERY_CACHE_TRANSFORMED_RESULTS_SIZE
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean isTransformedResultsCachingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Store the fully transformed, immutable result list of a read-only
+	 * scalar query, as produced by the given values mapping and row
+	 * transformer.
+	 *
+	 * @param key The cache key uniquely identifying the query and its
+	 *            bound parameter arguments
+	 * @param valuesMappingProducer The mapping of the query results
+	 * @param rowTransformer The row transformer which produced the results
+	 * @param results The immutable result list to cache
+	 * @param session The originating session
+	 *
+	 * @return Whether the put actually happened.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default boolean putTransformedResults(
+			QueryKey key,
+			JdbcValuesMappingProducer valuesMappingProducer,
+			RowTransformer<?> rowTransformer,
+			List<?> results,
+			SharedSessionContractImplementor session) {
+		return false;
+	}
+
+	/**
+	 * Attempt to retrieve a result list {@linkplain #putTransformedResults
+	 * stored in its fully transformed form}, returning {@code null} if there
+	 * is no such list, or if it is stale.
+	 *
+	 * @param key The cache key uniquely identifying the query and its
+	 *            bound parameter arguments
+	 * @param valuesMappingProducer The mapping of the query results
+	 * @param rowTransformer The row transformer which produced the results
+	 * @param spaces The query spaces which affect the results of the
+	 *               query (used to check if cached results are stale)
+	 * @param session The originating session
+	 *
+	 * @return The cached immutable result list; may be null.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default List<?> getTransformedResults(
+			QueryKey key,
+			JdbcValuesMappingProducer valuesMappingProducer,
+			RowTransformer<?> rowTransformer,
+			Set<String> spaces,
+			SharedSessionContractImplementor session) {
+		return null;
+	}
+
 	/**
 	 * Clear all items from this query result cache.
 	 *
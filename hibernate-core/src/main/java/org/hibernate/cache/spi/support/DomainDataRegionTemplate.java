@@ -50,7 +50,11 @@ public class DomainDataRegionTemplate extends AbstractDomainDataRegion {
 			CacheKeysFactory defaultKeysFactory,
 			DomainDataRegionBuildingContext buildingContext) {
 		super( regionConfig, regionFactory, defaultKeysFactory, buildingContext );
-		this.storageAccess = storageAccess;
+		this.storageAccess = NearCacheStorageAccess.decorate(
+				storageAccess,
+				regionConfig,
+				buildingContext.getSessionFactory()
+		);
 
 		// now the super-type calls will have access to the `DomainDataStorageAccess` reference
 		completeInstantiation( regionConfig, buildingContext );
@@ -0,0 +1,242 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.Incubating;
+import org.hibernate.cache.cfg.spi.DomainDataCachingConfig;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+import static org.hibernate.cfg.CacheSettings.CACHE_NEAR_CACHE_SIZE;
+import static org.hibernate.cfg.CacheSettings.CACHE_NEAR_CACHE_TTL;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A {@link DomainDataStorageAccess} which keeps a bounded, in-heap copy of
+ * the most recently read entries of another, typically remote, storage access.
+ * <p>
+ * A near cache is only used for regions holding
+ * {@linkplain AccessType#READ_ONLY read-only} or
+ * {@linkplain AccessType#NONSTRICT_READ_WRITE nonstrict read-write} data, since
+ * the soft locks of the other access types must be seen by every node, and only
+ * when its entries {@linkplain org.hibernate.cfg.CacheSettings#CACHE_NEAR_CACHE_TTL expire}.
+ * <p>
+ * Every write to the underlying storage made by the
+ * {@linkplain org.hibernate.cache.spi.access.CachedDomainDataAccess access strategies}
+ * of this node, whether a put, a remove, or an eviction, goes through this storage
+ * access and invalidates the corresponding near cache entry. Writes made by other
+ * nodes are not observed until the entry expires.
+ *
+ * @see org.hibernate.cfg.CacheSettings#CACHE_NEAR_CACHE_SIZE
+ *
+ * @since 6.6
+ */
+@Incubating
+public class NearCacheStorageAccess implements DomainDataStorageAccess {
+	private final DomainDataStorageAccess delegate;
+	private final Map<Object, Entry> entries;
+	private final long timeToLiveMillis;
+
+	/**
+	 * Incremented before and after every write to the underlying storage,
+	 * so that a value read concurrently with a write is never kept.
+	 */
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public NearCacheStorageAccess(DomainDataStorageAccess delegate, int maxEntries, long timeToLiveMillis) {
+		if ( timeToLiveMillis <= 0 ) {
+			throw new IllegalArgumentException( "Near cache time to live must be positive" );
+		}
+		this.delegate = delegate;
+		this.entries = new BoundedConcurrentHashMap<>( maxEntries, 16, BoundedConcurrentHashMap.Eviction.LRU );
+		this.timeToLiveMillis = timeToLiveMillis;
+	}
+
+	/**
+	 * Wrap the storage access of the given region in a near cache, if both the
+	 * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_NEAR_CACHE_SIZE size} and the
+	 * {@linkplain org.hibernate.cfg.CacheSettings#CACHE_NEAR_CACHE_TTL time to live}
+	 * of the near cache are configured, and if the region only holds read-only or
+	 * nonstrict read-write data.
+	 */
+	public static DomainDataStorageAccess decorate(
+			DomainDataStorageAccess storageAccess,
+			DomainDataRegionConfig regionConfig,
+			SessionFactoryImplementor sessionFactory) {
+		if ( sessionFactory == null
+				|| storageAccess instanceof NearCacheStorageAccess
+				|| !isEligible( regionConfig ) ) {
+			return storageAccess;
+		}
+		final Map<String, Object> settings =
+				sessionFactory.getServiceRegistry().requireService( ConfigurationService.class ).getSettings();
+		final int maxEntries = getInt( CACHE_NEAR_CACHE_SIZE, settings, 0 );
+		final long timeToLiveMillis = getLong( CACHE_NEAR_CACHE_TTL, settings, 0 );
+		return maxEntries > 0 && timeToLiveMillis > 0
+				? new NearCacheStorageAccess( storageAccess, maxEntries, timeToLiveMillis )
+				: storageAccess;
+	}
+
+	private static boolean isEligible(DomainDataRegionConfig regionConfig) {
+		return isEligible( regionConfig.getEntityCaching() )
+			&& isEligible( regionConfig.getCollectionCaching() )
+			&& isEligible( regionConfig.getNaturalIdCaching() );
+	}
+
+	private static boolean isEligible(List<? extends DomainDataCachingConfig> cachingConfigs) {
+		for ( DomainDataCachingConfig cachingConfig : cachingConfigs ) {
+			final AccessType accessType = cachingConfig.getAccessType();
+			if ( accessType != AccessType.READ_ONLY && accessType != AccessType.NONSTRICT_READ_WRITE ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The underlying storage access.
+	 */
+	public DomainDataStorageAccess getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Entry entry = entries.get( key );
+		if ( entry != null ) {
+			if ( entry.isValid() ) {
+				return entry.value;
+			}
+			entries.remove( key, entry );
+		}
+
+		final long invalidationCount = invalidations.get();
+		final Object value = delegate.getFromCache( key, session );
+		// a soft lock must always be read from the underlying storage
+		if ( value != null && !( value instanceof SoftLock ) ) {
+			final Entry newEntry = new Entry( value, System.currentTimeMillis() + timeToLiveMillis );
+			entries.put( key, newEntry );
+			if ( invalidations.get() != invalidationCount ) {
+				// a write happened while we were reading, so the value might already be stale
+				entries.remove( key, newEntry );
+			}
+		}
+		return value;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		invalidate( key );
+		try {
+			delegate.putIntoCache( key, value, session );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		invalidate( key );
+		try {
+			delegate.putFromLoad( key, value, session );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		invalidate( key );
+		try {
+			delegate.removeFromCache( key, session );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		invalidateAll();
+		try {
+			delegate.clearCache( session );
+		}
+		finally {
+			invalidateAll();
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		final Entry entry = entries.get( key );
+		return entry != null && entry.isValid() || delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		invalidateAll();
+		try {
+			delegate.evictData();
+		}
+		finally {
+			invalidateAll();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		invalidate( key );
+		try {
+			delegate.evictData( key );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public void release() {
+		entries.clear();
+		delegate.release();
+	}
+
+	private void invalidate(Object key) {
+		invalidations.incrementAndGet();
+		entries.remove( key );
+	}
+
+	private void invalidateAll() {
+		invalidations.incrementAndGet();
+		entries.clear();
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private final long expiryTime;
+
+		private Entry(Object value, long expiryTime) {
+			this.value = value;
+			this.expiryTime = expiryTime;
+		}
+
+		private boolean isValid() {
+			return System.currentTimeMillis() < expiryTime;
+		}
+	}
+}
@@ -90,6 +90,24 @@ public interface CacheSettings {
 	@Incubating
 	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
 
+	/**
+	 * The maximum number of fully transformed result lists of cacheable,
+	 * {@linkplain org.hibernate.query.SelectionQuery#setReadOnly read-only}
+	 * queries which return only scalar values or DTOs, to be kept in memory
+	 * by each query cache region. When such a query hits the query cache,
+	 * the immutable result list is returned directly, without processing
+	 * the cached rows.
+	 * <p>
+	 * The result list returned on a hit is shared between callers, and
+	 * must not be modified.
+	 *
+	 * @settingDefault {@code 0}, which disables caching of transformed results
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String QUERY_CACHE_TRANSFORMED_RESULTS_SIZE = "hibernate.cache.query_cache_transformed_results_size";
+
 	/**
 	 * The {@link RegionFactory} implementation, either:
 	 * <ul>
@@ -106,6 +124,12 @@ public interface CacheSettings {
 
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.TimestampsCacheFactory} to use.
+	 * <p>
+	 * By default, any write to a table invalidates every cached query result which
+	 * depends on that table. The value {@code tenant-partitioned} selects a
+	 * {@link org.hibernate.cache.internal.TenantPartitionedTimestampsCacheFactory},
+	 * which tracks invalidation per tenant, so that writes performed on behalf of
+	 * one tenant do not invalidate the cached query results of other tenants.
 	 *
 	 * @see org.hibernate.boot.SessionFactoryBuilder#applyTimestampsCacheFactory(TimestampsCacheFactory)
 	 */
@@ -218,6 +242,108 @@ public interface CacheSettings {
 	 */
 	String COLLECTION_CACHE_PREFIX = "hibernate.collectioncache";
 
+	/**
+	 * Second-level cache warm-up properties follow the pattern
+	 * {@code hibernate.cache.warmup.entityOrCollectionRole strategy},
+	 * where {@code entityOrCollectionRole} is an entity name or collection
+	 * role with a cache region, and {@code strategy} is one of:
+	 * <ul>
+	 *     <li>{@code all}, to load every instance into the cache,
+	 *     <li>{@code recorded}, to load the instances which were
+	 *         accessed most frequently before the last shutdown, as
+	 *         recorded in the {@linkplain #CACHE_WARMUP_KEYS_FILE keys file}, or
+	 *     <li>an HQL query returning the identifiers of the entities (or
+	 *         collection owners) to load.
+	 * </ul>
+	 * <p>
+	 * The cache is warmed up by a background executor after the
+	 * {@link org.hibernate.SessionFactory} is built, using the batch
+	 * loaders of the entity or collection.
+	 *
+	 * @see #CACHE_WARMUP_PARALLELISM
+	 * @see org.hibernate.stat.Statistics#getCacheWarmUpLoadCounts()
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String CACHE_WARMUP_PREFIX = "hibernate.cache.warmup";
+
+	/**
+	 * The number of threads used to warm up the second-level cache.
+	 *
+	 * @settingDefault {@code 1}
+	 *
+	 * @see #CACHE_WARMUP_PREFIX
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String CACHE_WARMUP_PARALLELISM = "hibernate.cache.warmup_parallelism";
+
+	/**
+	 * The file in which the most frequently accessed keys are recorded
+	 * when the {@link org.hibernate.SessionFactory} is closed, for use by
+	 * the {@code recorded} warm-up strategy on the next startup. The file
+	 * is read using Java serialization, and must be trusted.
+	 *
+	 * @see #CACHE_WARMUP_PREFIX
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String CACHE_WARMUP_KEYS_FILE = "hibernate.cache.warmup_keys_file";
+
+	/**
+	 * The maximum number of keys recorded per entity or collection role
+	 * for the {@code recorded} warm-up strategy.
+	 *
+	 * @settingDefault {@code 1000}
+	 *
+	 * @see #CACHE_WARMUP_KEYS_FILE
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String CACHE_WARMUP_RECORDED_KEYS = "hibernate.cache.warmup_recorded_keys";
+
+	/**
+	 * The maximum number of entries held in a local, in-heap near cache in
+	 * front of each entity, collection, and natural id region holding only
+	 * {@linkplain org.hibernate.cache.spi.access.AccessType#READ_ONLY read-only}
+	 * or {@linkplain org.hibernate.cache.spi.access.AccessType#NONSTRICT_READ_WRITE
+	 * nonstrict read-write} data. A near cache avoids a network round trip and
+	 * deserialization when a remote cache provider is used. Entries are
+	 * invalidated when this node writes to the region, but writes by other
+	 * nodes are only observed after the entry {@linkplain #CACHE_NEAR_CACHE_TTL
+	 * expires}. The near cache is only used when both this setting and
+	 * {@value #CACHE_NEAR_CACHE_TTL} are positive.
+	 * <p>
+	 * Applies to any {@link org.hibernate.cache.spi.RegionFactory} based on
+	 * {@link org.hibernate.cache.spi.support.RegionFactoryTemplate}, including
+	 * the JCache region factory.
+	 *
+	 * @settingDefault {@code 0}, which disables the near cache
+	 *
+	 * @see org.hibernate.cache.spi.support.NearCacheStorageAccess
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String CACHE_NEAR_CACHE_SIZE = "hibernate.cache.near_cache_size";
+
+	/**
+	 * The time, in milliseconds, for which an entry is held in the
+	 * {@linkplain #CACHE_NEAR_CACHE_SIZE near cache} before it is read
+	 * again from the underlying region, which bounds how long a write made
+	 * by another node may go unnoticed.
+	 *
+	 * @settingDefault {@code 0}, which disables the near cache
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String CACHE_NEAR_CACHE_TTL = "hibernate.cache.near_cache_ttl";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -33,6 +34,75 @@ public interface FetchSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * When enabled, the number of keys loaded by a batch fetch is chosen for each load
+	 * from the number of keys of the same entity or collection role which are pending
+	 * in the {@link org.hibernate.engine.spi.BatchFetchQueue}, and from the latency
+	 * observed for previous batches of that role, instead of always using the full
+	 * {@linkplain #DEFAULT_BATCH_FETCH_SIZE batch size}.
+	 * <p/>
+	 * The number of keys is always one of a few fixed sizes obtained by halving the
+	 * configured batch size, so that only a handful of distinct SQL statements are
+	 * generated per role.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #ADAPTIVE_BATCH_FETCH_TARGET_LATENCY
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH = "hibernate.adaptive_batch_fetch";
+
+	/**
+	 * When {@linkplain #ADAPTIVE_BATCH_FETCH adaptive batch fetching} is enabled, the
+	 * number of milliseconds a batch fetch of the largest size is expected to take at most.
+	 * Roles for which batch fetches are observed to take longer use smaller batches, until
+	 * the latency falls below half of the target. A value of {@code 0} means batches are
+	 * sized from the number of pending keys only.
+	 *
+	 * @settingDefault {@code 100}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH_TARGET_LATENCY = "hibernate.adaptive_batch_fetch_target_latency";
+
+	/**
+	 * The number of times the entities or collections of a single association role
+	 * may be loaded one at a time within a session before Hibernate reports a likely
+	 * N+1 select problem for that role, by logging a warning, incrementing
+	 * {@link org.hibernate.stat.Statistics#getNPlusOneDetectionCount()}, and emitting
+	 * a JFR event when {@code hibernate-jfr} is available.
+	 * <p/>
+	 * Only loads which are neither batch fetched nor subselect fetched are counted,
+	 * that is, initializations of lazy collections, proxies and lazy attributes, and
+	 * eager select fetches.
+	 *
+	 * @settingDefault {@code 0}, which disables detection
+	 *
+	 * @see #N_PLUS_ONE_MITIGATION
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String N_PLUS_ONE_THRESHOLD = "hibernate.n_plus_one_threshold";
+
+	/**
+	 * Specifies the {@link org.hibernate.loader.NPlusOneMitigation} applied to a role once
+	 * the {@linkplain #N_PLUS_ONE_THRESHOLD N+1 threshold} has been crossed, either the name
+	 * of a {@code NPlusOneMitigation} instance, or an instance of {@code NPlusOneMitigation}.
+	 * <p/>
+	 * When batch fetching is applied, the {@linkplain #DEFAULT_BATCH_FETCH_SIZE default batch
+	 * fetch size} is used, or {@code 16} when it is not set.
+	 *
+	 * @settingDefault {@link org.hibernate.loader.NPlusOneMitigation#NONE}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String N_PLUS_ONE_MITIGATION = "hibernate.n_plus_one_mitigation";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.  Subselect fetching involves fetching the collection
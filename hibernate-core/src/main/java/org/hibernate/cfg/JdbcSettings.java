@@ -362,6 +362,28 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings, AgroalSetti
 	 */
 	String STATEMENT_FETCH_SIZE = "hibernate.jdbc.fetch_size";
 
+	/**
+	 * Specifies a memory budget, in bytes, for the rows fetched from the database in
+	 * a single round trip, from which a JDBC fetch size is derived for any query which
+	 * does not specify one. The fetch size is the budget divided by a row width estimated
+	 * from the types of the selected columns, and never exceeds the maximum number of
+	 * results requested by the query.
+	 * <p>
+	 * If {@code 0}, no fetch size is derived, and the JDBC driver's default is used,
+	 * except for scrolled and streamed results, for which the
+	 * {@linkplain org.hibernate.dialect.Dialect#getDefaultScrollFetchSize() dialect}
+	 * may specify a default. Has no effect if {@value #STATEMENT_FETCH_SIZE} is set.
+	 *
+	 * @see java.sql.PreparedStatement#setFetchSize(int)
+	 * @see org.hibernate.dialect.Dialect#getDefaultScrollFetchSize()
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String STATEMENT_FETCH_MEMORY_BUDGET = "hibernate.jdbc.fetch_memory_budget";
+
 	/**
 	 * Controls how Hibernate should handle scrollable results - <ul>
 	 * 	 <li>
@@ -627,4 +627,54 @@ public interface MappingSettings {
 	 */
 	String USE_NATIONALIZED_CHARACTER_DATA = "hibernate.use_nationalized_character_data";
 
+	/**
+	 * The number of threads used to create the mapping model of the entities
+	 * when the {@link SessionFactory} is built. The entities of an inheritance
+	 * hierarchy are always processed by the same thread, after the hierarchies
+	 * they are associated with, and the post-initialization callbacks are always
+	 * executed sequentially.
+	 * <p>
+	 * Worth enabling for very large domain models only.
+	 *
+	 * @settingDefault {@code 1}, which processes every entity on the thread
+	 *                 building the {@code SessionFactory}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String MAPPING_MODEL_CREATION_PARALLELISM = "hibernate.mapping.creation_parallelism";
+
+	/**
+	 * When enabled, the loaders, the SQL, and the mutation coordinators of an entity
+	 * persister are built the first time the entity is used, rather than when the
+	 * {@link SessionFactory} is built. This reduces the startup time and the memory
+	 * footprint of applications which use only a fraction of a very large domain model.
+	 * <p>
+	 * The mapping model of every entity is still created when the {@code SessionFactory}
+	 * is built, since it is needed to interpret queries.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String LAZY_PERSISTER_INITIALIZATION = "hibernate.mapping.lazy_persister_initialization";
+
+	/**
+	 * The file in which a snapshot of the boot metadata is written once it is built,
+	 * and from which it is read back by the next boot, rather than binding the
+	 * mappings again, if the Hibernate version, the mapping settings, the dialect,
+	 * the mapping files, and the classes of the domain model are unchanged.
+	 * <p>
+	 * The snapshot is written using Java serialization. Only the classes making up
+	 * the boot model, the domain model, and the value types of the JDK are read
+	 * from it, but it should still be protected like any other configuration file.
+	 *
+	 * @see org.hibernate.boot.internal.MetadataSnapshot
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String METADATA_SNAPSHOT_FILE = "hibernate.mapping.metadata_snapshot_file";
+
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.query.NullPrecedence;
 import org.hibernate.query.spi.QueryPlan;
@@ -160,6 +161,71 @@ public interface QuerySettings {
 	 */
 	String FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH = "hibernate.query.fail_on_pagination_over_collection_fetch";
 
+	/**
+	 * When enabled, specifies that an eagerly fetched collection of basic values
+	 * which is not explicitly {@code join fetch}ed by the query should be read from
+	 * a correlated subquery aggregating its elements into a SQL array, instead of
+	 * from a join or from a subsequent select. Since each collection occupies a
+	 * single column of the owner's row, several collections fetched by an entity
+	 * graph or fetch profile may then be loaded in one round trip, with exactly one
+	 * row per owner, and without the risk of a
+	 * {@link org.hibernate.loader.MultipleBagFetchException}.
+	 * <p>
+	 * Only sets and bags of basic values without an order by fragment are fetched
+	 * this way, and only if the dialect supports the {@code array_agg()} function.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see SessionFactoryOptions#isCollectionAggregateFetchEnabled()
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String COLLECTION_AGGREGATE_FETCH = "hibernate.query.collection_aggregate_fetch";
+
+	/**
+	 * When enabled, specifies that when an
+	 * {@linkplain jakarta.persistence.EntityGraph entity graph} applied to a query
+	 * requests more than one collection, only the first collection is join fetched
+	 * by the query. Each further collection is then loaded by one additional query
+	 * restricted to the keys of all its owners returned by the query, instead of by
+	 * a join multiplying the result rows.
+	 * <p>
+	 * May be overridden per session via
+	 * {@link org.hibernate.engine.spi.LoadQueryInfluencers#setSplitCollectionFetchEnabled(boolean)}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see SessionFactoryOptions#isSplitCollectionFetchEnabled()
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String SPLIT_COLLECTION_FETCH = "hibernate.query.split_collection_fetch";
+
+	/**
+	 * Specifies the {@link java.util.concurrent.Executor} used to execute
+	 * {@linkplain org.hibernate.query.SelectionQuery#getResultListAsync
+	 * asynchronous queries}, {@linkplain org.hibernate.Session#findAsync
+	 * asynchronous lookups}, and the retrieval of identifier values ahead of time
+	 * by the {@link org.hibernate.id.enhanced.PooledPrefetchOptimizer}, either:
+	 * <ul>
+	 *     <li>an instance of {@code Executor},
+	 *     <li>a {@link Class} representing a class that implements {@code Executor}, or
+	 *     <li>the name of a class that implements {@code Executor}.
+	 * </ul>
+	 * <p>
+	 * By default, each operation is executed in a new virtual thread on Java 21
+	 * and above, and by a pool of daemon threads which grows as needed on earlier
+	 * versions of Java, since each operation blocks while waiting for the database.
+	 *
+	 * @see SessionFactoryOptions#getAsyncQueryExecutor()
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	String ASYNC_QUERY_EXECUTOR = "hibernate.query.async_executor";
+
 	/**
 	 * This setting defines how {@link org.hibernate.annotations.Immutable} entities
 	 * are handled when executing a bulk update query. Valid options are enumerated
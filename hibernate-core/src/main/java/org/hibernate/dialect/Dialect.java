@@ -1679,6 +1679,18 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * The JDBC fetch size to use for a {@linkplain org.hibernate.query.SelectionQuery#scroll
+	 * scrolled} or {@linkplain org.hibernate.query.SelectionQuery#stream streamed} query when
+	 * no fetch size was specified, so that the driver reads the results incrementally instead
+	 * of buffering all of them in memory, or {@code 0} if the driver default should be kept.
+	 *
+	 * @since 6.6
+	 */
+	public int getDefaultScrollFetchSize() {
+		return 0;
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getName() + ", version: " + getVersion();
@@ -3789,6 +3801,26 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * Does this dialect, and its JDBC driver, support executing several
+	 * {@code select} statements, separated by semicolons, as a single
+	 * {@link java.sql.PreparedStatement}, which returns one {@link ResultSet}
+	 * for each {@code select}, accessible via
+	 * {@link java.sql.Statement#getMoreResults()}?
+	 *
+	 * @apiNote This is highly driver dependent!
+	 *
+	 * @return {@code true} if multiple queries may be executed in a single
+	 *         round trip to the database
+	 *
+	 * @see org.hibernate.Session#getResultLists
+	 *
+	 * @since 6.6
+	 */
+	public boolean supportsMultiQueryStatements() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support definition of cascade delete constraints
 	 * which can cause circular chains?
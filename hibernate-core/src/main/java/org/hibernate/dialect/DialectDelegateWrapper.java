@@ -335,6 +335,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.getDefaultUseGetGeneratedKeys();
 	}
 
+	@Override
+	public int getDefaultScrollFetchSize() {
+		return wrapped.getDefaultScrollFetchSize();
+	}
+
 	@Override
 	public String toString() {
 		return wrapped.toString();
@@ -1088,6 +1093,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.supportsResultSetPositionQueryMethodsOnForwardOnlyCursor();
 	}
 
+	@Override
+	public boolean supportsMultiQueryStatements() {
+		return wrapped.supportsMultiQueryStatements();
+	}
+
 	@Override
 	public boolean supportsCircularCascadeDeleteConstraints() {
 		return wrapped.supportsCircularCascadeDeleteConstraints();
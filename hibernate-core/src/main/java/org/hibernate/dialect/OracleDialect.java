@@ -816,6 +816,13 @@ public class OracleDialect extends Dialect {
 		return 15;
 	}
 
+	@Override
+	public int getDefaultScrollFetchSize() {
+		// the driver default of 10 rows per round trip
+		// is much too small for iterating large results
+		return 256;
+	}
+
 	@Override
 	public boolean getDefaultUseGetGeneratedKeys() {
 		// Oracle driver reports to support getGeneratedKeys(), but they only
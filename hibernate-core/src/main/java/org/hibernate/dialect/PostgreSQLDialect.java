@@ -307,6 +307,20 @@ public class PostgreSQLDialect extends Dialect {
 		return 15;
 	}
 
+	@Override
+	public int getDefaultScrollFetchSize() {
+		// pgJDBC buffers the whole result set unless a
+		// fetch size is set (and autocommit is disabled)
+		return 256;
+	}
+
+	@Override
+	public boolean supportsMultiQueryStatements() {
+		// pgJDBC sends the statements in one batch, and
+		// returns one result set per statement
+		return true;
+	}
+
 	@Override
 	public JdbcType resolveSqlTypeDescriptor(
 			String columnTypeName,
@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.BatchFetchQueue;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.loader.NPlusOneMitigation;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Counts, per session, the entities, collections and lazy attributes of each role
+ * which are loaded by their own SQL query, and reports a likely N+1 select problem
+ * once a role reaches the {@linkplain org.hibernate.cfg.FetchSettings#N_PLUS_ONE_THRESHOLD
+ * configured threshold}, optionally applying a {@link NPlusOneMitigation} to the role
+ * for the rest of the session.
+ *
+ * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_THRESHOLD
+ * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_MITIGATION
+ */
+public final class NPlusOneDetector {
+	private static final Logger LOG = Logger.getLogger( NPlusOneDetector.class );
+
+	private static final int DEFAULT_MITIGATION_BATCH_SIZE = 16;
+
+	private NPlusOneDetector() {
+	}
+
+	/**
+	 * Called after a collection was loaded by itself.
+	 */
+	public static void collectionLoaded(CollectionPersister persister, SharedSessionContractImplementor session) {
+		final int threshold = session.getFactory().getSessionFactoryOptions().getNPlusOneThreshold();
+		if ( threshold > 0 ) {
+			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+			if ( !influencers.effectivelyBatchLoadable( persister )
+					&& !influencers.effectiveSubselectFetchEnabled( persister ) ) {
+				final String role = persister.getRole();
+				final int count = influencers.incrementSingleKeyLoadCount( role );
+				if ( count == threshold ) {
+					final NPlusOneMitigation mitigation = report( role, count, session );
+					if ( mitigation == NPlusOneMitigation.SUBSELECT ) {
+						// only applies to owners loaded from now on
+						influencers.enableSubselectFetch( persister );
+					}
+					if ( mitigation != NPlusOneMitigation.NONE ) {
+						influencers.setBatchSize( role, mitigationBatchSize( session ) );
+						enqueueUninitializedCollections( persister, session );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Called after an entity instance was loaded by itself, to initialize a proxy
+	 * or to eagerly fetch an association by a subsequent select.
+	 */
+	public static void entityLoaded(EntityPersister persister, SharedSessionContractImplementor session) {
+		final int threshold = session.getFactory().getSessionFactoryOptions().getNPlusOneThreshold();
+		if ( threshold > 0 ) {
+			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+			if ( !influencers.effectivelyBatchLoadable( persister ) ) {
+				final String role = persister.getEntityName();
+				final int count = influencers.incrementSingleKeyLoadCount( role );
+				if ( count == threshold ) {
+					final NPlusOneMitigation mitigation = report( role, count, session );
+					if ( mitigation != NPlusOneMitigation.NONE ) {
+						// there is no subselect fetching for entities
+						influencers.setBatchSize( role, mitigationBatchSize( session ) );
+						enqueueUninitializedEntities( persister, session );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Called after the lazy attributes of an entity instance were loaded by themselves.
+	 * There is no mitigation for lazy attributes, so they are only reported.
+	 */
+	public static void lazyAttributeLoaded(
+			EntityPersister persister,
+			String attributeName,
+			SharedSessionContractImplementor session) {
+		final int threshold = session.getFactory().getSessionFactoryOptions().getNPlusOneThreshold();
+		if ( threshold > 0 ) {
+			final String role = persister.getEntityName() + '.' + attributeName;
+			final int count = session.getLoadQueryInfluencers().incrementSingleKeyLoadCount( role );
+			if ( count == threshold ) {
+				report( role, count, session );
+			}
+		}
+	}
+
+	private static NPlusOneMitigation report(String role, int count, SharedSessionContractImplementor session) {
+		final SessionFactoryOptions options = session.getFactory().getSessionFactoryOptions();
+		final NPlusOneMitigation mitigation = options.getNPlusOneMitigation();
+		LOG.warnf(
+				"Possible N+1 select problem: %s instances of '%s' were loaded one at a time by the same session%s",
+				count,
+				role,
+				mitigation == NPlusOneMitigation.NONE ? "" : " (switching to " + mitigation + " fetching)"
+		);
+
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.nPlusOneDetected( role );
+		}
+
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent event = eventManager.beginNPlusOneDetectionEvent();
+		eventManager.completeNPlusOneDetectionEvent( event, session, role, count );
+
+		return mitigation;
+	}
+
+	private static int mitigationBatchSize(SharedSessionContractImplementor session) {
+		final int batchSize = session.getFactory().getSessionFactoryOptions().getDefaultBatchFetchSize();
+		return batchSize > 1 ? batchSize : DEFAULT_MITIGATION_BATCH_SIZE;
+	}
+
+	private static void enqueueUninitializedCollections(
+			CollectionPersister persister,
+			SharedSessionContractImplementor session) {
+		final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+		session.getPersistenceContextInternal().forEachCollectionEntry(
+				(collection, entry) -> {
+					if ( entry.getLoadedPersister() == persister && !collection.wasInitialized() ) {
+						batchFetchQueue.addBatchLoadableCollection( collection, entry );
+					}
+				},
+				false
+		);
+	}
+
+	private static void enqueueUninitializedEntities(
+			EntityPersister persister,
+			SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+		final Map<EntityKey, EntityHolder> holders = persistenceContext.getEntityHoldersByKey();
+		if ( holders != null ) {
+			for ( EntityHolder holder : holders.values() ) {
+				if ( holder.getDescriptor() == persister
+						&& !holder.isEventuallyInitialized()
+						&& ( holder.getProxy() != null || holder.getEntity() != null ) ) {
+					batchFetchQueue.addBatchLoadableEntityKey( holder.getEntityKey() );
+				}
+			}
+		}
+	}
+}
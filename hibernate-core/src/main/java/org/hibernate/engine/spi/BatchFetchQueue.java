@@ -191,6 +191,20 @@ public class BatchFetchQueue {
 		return false;
 	}
 
+	/**
+	 * The number of keys of the given entity type currently queued for batch fetching,
+	 * including any key which might already be present in the second-level cache.
+	 *
+	 * @since 6.6
+	 */
+	public int getBatchLoadableEntityKeyCount(EntityMappingType entityDescriptor) {
+		if ( batchLoadableEntityKeys == null ) {
+			return 0;
+		}
+		final LinkedHashSet<EntityKey> set = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		return set == null ? 0 : set.size();
+	}
+
 	/**
 	 * A "collector" form of {@link #getBatchLoadableEntityIds}. Useful
 	 * in cases where we want a specially created array/container - allows
@@ -361,6 +375,21 @@ public class BatchFetchQueue {
 	}
 
 
+	/**
+	 * The number of uninitialized collections of the given role currently queued
+	 * for batch fetching.
+	 *
+	 * @since 6.6
+	 */
+	public int getBatchLoadableCollectionCount(PluralAttributeMapping pluralAttributeMapping) {
+		if ( batchLoadableCollections == null ) {
+			return 0;
+		}
+		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
+				batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
+		return map == null ? 0 : map.size();
+	}
+
 	/**
 	 * A "collector" form of {@link #getCollectionBatch}. Useful
 	 * in cases where we want a specially created array/container - allows
@@ -15,6 +15,7 @@ import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.Filter;
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.UnknownProfileException;
 import org.hibernate.engine.profile.Fetch;
@@ -56,8 +57,22 @@ public class LoadQueryInfluencers implements Serializable {
 
 	private boolean subselectFetchEnabled;
 
+	private boolean splitCollectionFetchEnabled;
+
 	private int batchSize = -1;
 
+	//Lazily initialized!
+	private @Nullable HashMap<String,Integer> batchSizeByRole;
+
+	//Lazily initialized!
+	private @Nullable HashSet<String> subselectFetchRoles;
+
+	//Lazily initialized!
+	private @Nullable HashSet<String> subselectFetchOwners;
+
+	//Lazily initialized!
+	private @Nullable HashMap<String,Integer> singleKeyLoadCountByRole;
+
 	private final EffectiveEntityGraph effectiveEntityGraph;
 
 	private Boolean readOnly;
@@ -66,6 +81,7 @@ public class LoadQueryInfluencers implements Serializable {
 		this.sessionFactory = sessionFactory;
 		batchSize = sessionFactory.getSessionFactoryOptions().getDefaultBatchFetchSize();
 		subselectFetchEnabled = sessionFactory.getSessionFactoryOptions().isSubselectFetchEnabled();
+		splitCollectionFetchEnabled = sessionFactory.getSessionFactoryOptions().isSplitCollectionFetchEnabled();
 		effectiveEntityGraph = new EffectiveEntityGraph();
 	}
 
@@ -73,6 +89,7 @@ public class LoadQueryInfluencers implements Serializable {
 		this.sessionFactory = sessionFactory;
 		batchSize = options.getDefaultBatchFetchSize();
 		subselectFetchEnabled = options.isSubselectFetchEnabled();
+		splitCollectionFetchEnabled = sessionFactory.getSessionFactoryOptions().isSplitCollectionFetchEnabled();
 		effectiveEntityGraph = new EffectiveEntityGraph();
 		for (FilterDefinition filterDefinition : sessionFactory.getAutoEnabledFilters()) {
 			FilterImpl filter = new FilterImpl( filterDefinition );
@@ -316,7 +333,44 @@ public class LoadQueryInfluencers implements Serializable {
 		this.batchSize = batchSize;
 	}
 
+	/**
+	 * The batch size used for the given entity or collection role in this session,
+	 * which takes precedence over the batch size of the mapping and over the
+	 * {@linkplain #getBatchSize() batch size} of the session.
+	 *
+	 * @param role The entity name or collection role
+	 *
+	 * @return The batch size, or {@code -1} if none was set for this role
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	public int getBatchSize(String role) {
+		if ( batchSizeByRole == null ) {
+			return -1;
+		}
+		final Integer roleBatchSize = batchSizeByRole.get( role );
+		return roleBatchSize == null ? -1 : roleBatchSize;
+	}
+
+	/**
+	 * @see #getBatchSize(String)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	public void setBatchSize(String role, int batchSize) {
+		if ( batchSizeByRole == null ) {
+			batchSizeByRole = new HashMap<>();
+		}
+		batchSizeByRole.put( role, batchSize );
+	}
+
 	public int effectiveBatchSize(CollectionPersister persister) {
+		final int roleBatchSize = getBatchSize( persister.getRole() );
+		if ( roleBatchSize > 1 ) {
+			return roleBatchSize;
+		}
 		int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
@@ -324,10 +378,14 @@ public class LoadQueryInfluencers implements Serializable {
 	}
 
 	public boolean effectivelyBatchLoadable(CollectionPersister persister) {
-		return batchSize > 1 || persister.isBatchLoadable();
+		return batchSize > 1 || persister.isBatchLoadable() || getBatchSize( persister.getRole() ) > 1;
 	}
 
 	public int effectiveBatchSize(EntityPersister persister) {
+		final int roleBatchSize = getBatchSize( persister.getEntityName() );
+		if ( roleBatchSize > 1 ) {
+			return roleBatchSize;
+		}
 		int persisterBatchSize = persister.getBatchSize();
 		// persister-specific batch size overrides global setting
 		// (note that due to legacy, -1 means no explicit setting)
@@ -335,7 +393,7 @@ public class LoadQueryInfluencers implements Serializable {
 	}
 
 	public boolean effectivelyBatchLoadable(EntityPersister persister) {
-		return batchSize > 1 || persister.isBatchLoadable();
+		return batchSize > 1 || persister.isBatchLoadable() || getBatchSize( persister.getEntityName() ) > 1;
 	}
 
 	public boolean getSubselectFetchEnabled() {
@@ -346,9 +404,49 @@ public class LoadQueryInfluencers implements Serializable {
 		this.subselectFetchEnabled = subselectFetchEnabled;
 	}
 
+	/**
+	 * Should the collections requested by an entity graph, beyond the first one,
+	 * be loaded by separate queries keyed by the owners returned by the query?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SPLIT_COLLECTION_FETCH
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	public boolean isSplitCollectionFetchEnabled() {
+		return splitCollectionFetchEnabled;
+	}
+
+	/**
+	 * @see #isSplitCollectionFetchEnabled()
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	public void setSplitCollectionFetchEnabled(boolean splitCollectionFetchEnabled) {
+		this.splitCollectionFetchEnabled = splitCollectionFetchEnabled;
+	}
+
+	/**
+	 * Use subselect fetching for the given collection role in this session, for
+	 * collections whose owners are loaded from now on.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	public void enableSubselectFetch(CollectionPersister persister) {
+		if ( subselectFetchRoles == null ) {
+			subselectFetchRoles = new HashSet<>();
+			subselectFetchOwners = new HashSet<>();
+		}
+		subselectFetchRoles.add( persister.getRole() );
+		subselectFetchOwners.add( persister.getOwnerEntityPersister().getRootEntityName() );
+	}
+
 	public boolean effectiveSubselectFetchEnabled(CollectionPersister persister) {
 		return subselectFetchEnabled
 			|| persister.isSubselectLoadable()
+			|| subselectFetchRoles != null && subselectFetchRoles.contains( persister.getRole() )
 			|| isSubselectFetchEnabledInProfile( persister );
 	}
 
@@ -370,6 +468,7 @@ public class LoadQueryInfluencers implements Serializable {
 	public boolean hasSubselectLoadableCollections(EntityPersister persister) {
 		return persister.hasSubselectLoadableCollections()
 			|| subselectFetchEnabled && persister.hasCollections()
+			|| subselectFetchOwners != null && subselectFetchOwners.contains( persister.getRootEntityName() )
 			|| hasSubselectLoadableCollectionsEnabledInProfile( persister );
 	}
 
@@ -384,4 +483,18 @@ public class LoadQueryInfluencers implements Serializable {
 		}
 		return false;
 	}
+
+	/**
+	 * Record that an entity or collection of the given role was loaded by
+	 * its own SQL query.
+	 *
+	 * @return The number of such loads of the role in this session so far
+	 */
+	@Internal
+	public int incrementSingleKeyLoadCount(String role) {
+		if ( singleKeyLoadCountByRole == null ) {
+			singleKeyLoadCountByRole = new HashMap<>();
+		}
+		return singleKeyLoadCountByRole.merge( role, 1, Integer::sum );
+	}
 }
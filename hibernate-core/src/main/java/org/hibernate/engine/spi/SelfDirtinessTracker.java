@@ -6,6 +6,8 @@
  */
 package org.hibernate.engine.spi;
 
+import org.hibernate.Incubating;
+import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
 import org.hibernate.bytecode.enhance.spi.CollectionTracker;
 
 /**
@@ -54,6 +56,18 @@ public interface SelfDirtinessTracker extends PrimeAmongSecondarySupertypes {
 	 */
 	CollectionTracker $$_hibernate_getCollectionTracker();
 
+	/**
+	 * Get access to the tracker of changed attributes, with the changes to collections
+	 * already recorded, or {@code null} if the entity has no tracker, or was enhanced
+	 * by a version of Hibernate which does not expose it.
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default DirtyTracker $$_hibernate_getDirtyTracker() {
+		return null;
+	}
+
 	/**
 	 * Special internal contract to optimize type checking
 	 * @see PrimeAmongSecondarySupertypes
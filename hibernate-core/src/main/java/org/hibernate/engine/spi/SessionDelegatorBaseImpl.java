@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -1103,6 +1104,16 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.byMultipleNaturalId( entityName );
 	}
 
+	@Override
+	public List<List<?>> getResultLists(SelectionQuery<?>... queries) {
+		return delegate.getResultLists( queries );
+	}
+
+	@Override
+	public <T> CompletionStage<T> findAsync(Class<T> entityType, Object id) {
+		return delegate.findAsync( entityType, id );
+	}
+
 	@Override
 	public Filter enableFilter(String filterName) {
 		return delegate.enableFilter( filterName );
@@ -8,6 +8,7 @@ package org.hibernate.engine.spi;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -462,6 +463,16 @@ public class SessionLazyDelegator implements Session {
 		return this.lazySession.get().byMultipleNaturalId( entityName );
 	}
 
+	@Override
+	public List<List<?>> getResultLists(SelectionQuery<?>... queries) {
+		return this.lazySession.get().getResultLists( queries );
+	}
+
+	@Override
+	public <T> CompletionStage<T> findAsync(Class<T> entityType, Object id) {
+		return this.lazySession.get().findAsync( entityType, id );
+	}
+
 	@Override
 	public Filter enableFilter(String filterName) {
 		return this.lazySession.get().enableFilter( filterName );
@@ -14,6 +14,8 @@ import org.hibernate.HibernateException;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
+import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.engine.internal.Nullability;
 import org.hibernate.engine.internal.Versioning;
@@ -614,6 +616,16 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			FlushEntityEvent event,
 			EntityPersister persister,
 			EntityEntry entry) {
+		final DirtyTracker dirtyTracker = tracker.$$_hibernate_getDirtyTracker();
+		if ( dirtyTracker instanceof SimpleFieldTracker ) {
+			// consume the indexes recorded by the tracker, without resolving names
+			return persister.resolveDirtyAttributeIndexes(
+					event.getPropertyValues(),
+					entry.getLoadedState(),
+					(SimpleFieldTracker) dirtyTracker,
+					event.getSession()
+			);
+		}
 		return persister.resolveDirtyAttributeIndexes(
 				event.getPropertyValues(),
 				entry.getLoadedState(),
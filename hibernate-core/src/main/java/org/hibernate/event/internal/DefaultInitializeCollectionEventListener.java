@@ -11,6 +11,7 @@ import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.internal.NPlusOneDetector;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -75,6 +76,8 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				if ( statistics.isStatisticsEnabled() ) {
 					statistics.fetchCollection( loadedPersister.getRole() );
 				}
+
+				NPlusOneDetector.collectionLoaded( loadedPersister, source );
 			}
 		}
 	}
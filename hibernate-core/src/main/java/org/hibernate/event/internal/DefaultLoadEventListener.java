@@ -15,6 +15,7 @@ import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.internal.NPlusOneDetector;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -619,9 +620,12 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			entity = lazyInitializer.getImplementation();
 		}
 
-		final StatisticsImplementor statistics = event.getFactory().getStatistics();
-		if ( event.isAssociationFetch() && statistics.isStatisticsEnabled() ) {
-			statistics.fetchEntity( event.getEntityClassName() );
+		if ( event.isAssociationFetch() ) {
+			final StatisticsImplementor statistics = event.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.fetchEntity( event.getEntityClassName() );
+			}
+			NPlusOneDetector.entityLoaded( persister, event.getSession() );
 		}
 
 		return entity;
@@ -236,4 +236,31 @@ public final class EmptyEventManager implements EventManager {
 			SharedSessionContractImplementor session) {
 
 	}
+
+	@Override
+	public HibernateMonitoringEvent beginNPlusOneDetectionEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeNPlusOneDetectionEvent(
+			HibernateMonitoringEvent nPlusOneDetectionEvent,
+			SharedSessionContractImplementor session,
+			String role,
+			int loadCount) {
+
+	}
+
+	@Override
+	public HibernateMonitoringEvent beginBootPhaseEvent() {
+		return null;
+	}
+
+	@Override
+	public void completeBootPhaseEvent(
+			HibernateMonitoringEvent bootPhaseEvent,
+			BootPhase phase,
+			String target) {
+
+	}
 }
@@ -162,6 +162,25 @@ public interface EventManager {
 			SharedSessionContractImplementor session
 	);
 
+	HibernateMonitoringEvent beginNPlusOneDetectionEvent();
+
+	void completeNPlusOneDetectionEvent(
+			HibernateMonitoringEvent nPlusOneDetectionEvent,
+			SharedSessionContractImplementor session,
+			String role,
+			int loadCount);
+
+	HibernateMonitoringEvent beginBootPhaseEvent();
+
+	/**
+	 * @param target The entity or collection role the phase was performed for,
+	 * or {@code null} if it was performed for the whole domain model
+	 */
+	void completeBootPhaseEvent(
+			HibernateMonitoringEvent bootPhaseEvent,
+			BootPhase phase,
+			String target);
+
 	enum CacheActionDescription {
 		ENTITY_INSERT( "Entity Insert" ),
 		ENTITY_AFTER_INSERT( "Entity After Insert" ),
@@ -189,4 +208,34 @@ public interface EventManager {
 			return text;
 		}
 	}
+
+	/**
+	 * The phases of the bootstrap of a {@link org.hibernate.SessionFactory}
+	 */
+	enum BootPhase {
+		SCANNING( "Scanning" ),
+		BINDING( "Binding" ),
+		SECOND_PASSES( "Second Pass Processing" ),
+		PERSISTER_CREATION( "Persister Creation" ),
+		PROXY_GENERATION( "Proxy Generation" ),
+		MAPPING_MODEL_CREATION( "Mapping Model Creation" ),
+		NAMED_QUERY_VALIDATION( "Named Query Validation" ),
+		SCHEMA_MANAGEMENT( "Schema Management" );
+
+
+		private final String text;
+
+		BootPhase(String text) {
+			this.text = text;
+		}
+
+		@Override
+		public String toString() {
+			return text;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
 }
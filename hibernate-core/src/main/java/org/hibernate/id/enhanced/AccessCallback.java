@@ -6,6 +6,8 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.id.IntegralDataTypeHolder;
 
 /**
@@ -22,6 +24,21 @@ public interface AccessCallback {
 	 */
 	IntegralDataTypeHolder getNextValue();
 
+	/**
+	 * Retrieve the next value from the underlying source asynchronously, using
+	 * a connection of its own, so that the calling thread does not wait for the
+	 * database.
+	 *
+	 * @return The next value, or {@code null} if the underlying source does
+	 *         not support asynchronous access, in which case {@link #getNextValue()}
+	 *         must be used instead.
+	 *
+	 * @since 6.6
+	 */
+	default CompletionStage<IntegralDataTypeHolder> getNextValueAsync() {
+		return null;
+	}
+
 	/**
 	 * Obtain the tenant identifier (multi-tenancy), if one, associated with this callback.
 	 *
@@ -0,0 +1,185 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SessionEventListener;
+import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.AsyncReadExecution;
+import org.hibernate.jdbc.WorkExecutorVisitable;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
+import org.hibernate.resource.transaction.backend.jta.internal.JtaIsolationDelegate;
+import org.hibernate.resource.transaction.spi.IsolationDelegate;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Performs work on behalf of a session asynchronously, using a connection of
+ * its own, obtained directly from the connection provider, in the same way
+ * as an {@link IsolationDelegate} created by the session. Everything the work
+ * needs, including the {@link EventManager} and the tenant identifier of the
+ * session, is obtained in the calling thread, so that the work never accesses
+ * the session, which is not thread-safe, nor its statistics. The connection
+ * events of the work are therefore reported without the session.
+ *
+ * @see AccessCallback#getNextValueAsync()
+ *
+ * @since 6.6
+ */
+final class AsyncIsolatedWork {
+	private AsyncIsolatedWork() {
+	}
+
+	/**
+	 * Perform the given work asynchronously, using the
+	 * {@linkplain AsyncReadExecution#executor executor for asynchronous operations}.
+	 *
+	 * @param session the session on whose behalf the work is performed
+	 * @param work the work, given a collector of statistics which belongs to the work
+	 * @param transacted whether the work is performed in a transaction of its own
+	 */
+	static <T> CompletionStage<T> delegateWork(
+			SharedSessionContractImplementor session,
+			Function<SessionEventListenerManager, WorkExecutorVisitable<T>> work,
+			boolean transacted) {
+		final SessionEventListenerManager statsCollector = new SessionEventListenerManagerImpl();
+		final IsolationDelegate isolationDelegate = isolationDelegate( session, statsCollector );
+		final WorkExecutorVisitable<T> visitable = work.apply( statsCollector );
+		return CompletableFuture.supplyAsync(
+				() -> isolationDelegate.delegateWork( visitable, transacted ),
+				AsyncReadExecution.executor( session.getFactory() )
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static IsolationDelegate isolationDelegate(
+			SharedSessionContractImplementor session,
+			SessionEventListenerManager statsCollector) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final ServiceRegistryImplementor serviceRegistry = factory.getServiceRegistry();
+		final JdbcConnectionAccess connectionAccess = factory.getSessionFactoryOptions().isMultiTenancyEnabled()
+				? new IsolatedConnectionAccess(
+						statsCollector,
+						session.getEventManager(),
+						session.getTenantIdentifierValue(),
+						serviceRegistry.requireService( MultiTenantConnectionProvider.class ),
+						null
+				)
+				: new IsolatedConnectionAccess(
+						statsCollector,
+						session.getEventManager(),
+						null,
+						null,
+						serviceRegistry.requireService( ConnectionProvider.class )
+				);
+		final SqlExceptionHelper sqlExceptionHelper = factory.getJdbcServices().getSqlExceptionHelper();
+		if ( session.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta() ) {
+			return new JtaIsolationDelegate(
+					connectionAccess,
+					sqlExceptionHelper,
+					serviceRegistry.requireService( JtaPlatform.class ).retrieveTransactionManager()
+			);
+		}
+		else {
+			return new JdbcIsolationDelegate( connectionAccess, sqlExceptionHelper );
+		}
+	}
+
+	/**
+	 * Like {@link org.hibernate.internal.ContextualJdbcConnectionAccess} and
+	 * {@link org.hibernate.internal.NonContextualJdbcConnectionAccess}, but
+	 * without a reference to the session.
+	 */
+	private static final class IsolatedConnectionAccess implements JdbcConnectionAccess {
+		private final SessionEventListener listener;
+		private final EventManager eventManager;
+		private final Object tenantIdentifier;
+		private final MultiTenantConnectionProvider<Object> multiTenantConnectionProvider;
+		private final ConnectionProvider connectionProvider;
+
+		private IsolatedConnectionAccess(
+				SessionEventListener listener,
+				EventManager eventManager,
+				Object tenantIdentifier,
+				MultiTenantConnectionProvider<Object> multiTenantConnectionProvider,
+				ConnectionProvider connectionProvider) {
+			this.listener = listener;
+			this.eventManager = eventManager;
+			this.tenantIdentifier = tenantIdentifier;
+			this.multiTenantConnectionProvider = multiTenantConnectionProvider;
+			this.connectionProvider = connectionProvider;
+		}
+
+		@Override
+		public Connection obtainConnection() throws SQLException {
+			checkTenantIdentifier();
+			final HibernateMonitoringEvent jdbcConnectionAcquisitionEvent =
+					eventManager.beginJdbcConnectionAcquisitionEvent();
+			try {
+				listener.jdbcConnectionAcquisitionStart();
+				return multiTenantConnectionProvider == null
+						? connectionProvider.getConnection()
+						: multiTenantConnectionProvider.getConnection( tenantIdentifier );
+			}
+			finally {
+				eventManager.completeJdbcConnectionAcquisitionEvent(
+						jdbcConnectionAcquisitionEvent,
+						null,
+						tenantIdentifier
+				);
+				listener.jdbcConnectionAcquisitionEnd();
+			}
+		}
+
+		@Override
+		public void releaseConnection(Connection connection) throws SQLException {
+			checkTenantIdentifier();
+			final HibernateMonitoringEvent jdbcConnectionReleaseEvent = eventManager.beginJdbcConnectionReleaseEvent();
+			try {
+				listener.jdbcConnectionReleaseStart();
+				if ( multiTenantConnectionProvider == null ) {
+					connectionProvider.closeConnection( connection );
+				}
+				else {
+					multiTenantConnectionProvider.releaseConnection( tenantIdentifier, connection );
+				}
+			}
+			finally {
+				eventManager.completeJdbcConnectionReleaseEvent( jdbcConnectionReleaseEvent, null, tenantIdentifier );
+				listener.jdbcConnectionReleaseEnd();
+			}
+		}
+
+		private void checkTenantIdentifier() {
+			if ( multiTenantConnectionProvider != null && tenantIdentifier == null ) {
+				throw new HibernateException( "Tenant identifier required" );
+			}
+		}
+
+		@Override
+		public boolean supportsAggressiveRelease() {
+			return multiTenantConnectionProvider == null
+					? connectionProvider.supportsAggressiveRelease()
+					: multiTenantConnectionProvider.supportsAggressiveRelease();
+		}
+	}
+}
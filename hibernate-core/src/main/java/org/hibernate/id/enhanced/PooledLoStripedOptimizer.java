@@ -0,0 +1,192 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which hands out values without locking,
+ * and which spreads the concurrent threads over a small number of pools.
+ * <p>
+ * Each thread is assigned one of the pools, or <em>stripes</em>, and takes the next
+ * value of its pool with an atomic increment, so that generating a value only waits
+ * for another thread when the pool is exhausted and a new one must be retrieved from
+ * the database. Unlike {@link PooledLoThreadLocalOptimizer}, the number of pools does
+ * not grow with the number of threads, which makes this optimizer suitable for use
+ * with virtual threads, and limits the number of values lost when the
+ * {@code SessionFactory} is closed to one partially used pool per stripe.
+ * <p>
+ * The values are unique, but, since they are taken from several pools at once, they
+ * are not generated in increasing order.
+ *
+ * @see PooledLoOptimizer
+ *
+ * @since 6.6
+ */
+public class PooledLoStripedOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoStripedOptimizer.class.getName()
+	);
+
+	private static final int MAX_STRIPES = 8;
+
+	private final int stripeCount;
+	private final GenerationState noTenantState;
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledLoStripedOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoStripedOptimizer(Class<?> returnClass, int incrementSize) {
+		this( returnClass, incrementSize, Math.min( Runtime.getRuntime().availableProcessors(), MAX_STRIPES ) );
+	}
+
+	/**
+	 * Constructs a {@code PooledLoStripedOptimizer}.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 * @param stripeCount The number of pools values are taken from concurrently.
+	 */
+	public PooledLoStripedOptimizer(Class<?> returnClass, int incrementSize, int stripeCount) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		if ( stripeCount < 1 ) {
+			throw new HibernateException( "stripe count cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+		this.stripeCount = stripeCount;
+		this.noTenantState = new GenerationState( stripeCount );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final Stripe stripe = locateGenerationState( callback.getTenantIdentifier() ).stripes[stripeIndex()];
+		while ( true ) {
+			final Range range = stripe.range;
+			if ( range != null ) {
+				final int offset = range.offset.getAndIncrement();
+				if ( offset < incrementSize ) {
+					return range.lo.copy().add( offset ).makeValue();
+				}
+			}
+			stripe.refill( range, callback, incrementSize );
+		}
+	}
+
+	private int stripeIndex() {
+		if ( stripeCount == 1 ) {
+			return 0;
+		}
+		// spread the consecutive identifiers of threads over the stripes
+		final long threadId = Thread.currentThread().getId();
+		return Math.floorMod( Long.hashCode( threadId * 0x9E3779B97F4A7C15L ), stripeCount );
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+		else {
+			return tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState( stripeCount ) );
+		}
+	}
+
+	// for Hibernate testsuite use only
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	private static class GenerationState {
+		private final Stripe[] stripes;
+		// last value read from db source, by any stripe
+		private volatile IntegralDataTypeHolder lastSourceValue;
+
+		private GenerationState(int stripeCount) {
+			stripes = new Stripe[stripeCount];
+			for ( int i = 0; i < stripeCount; i++ ) {
+				stripes[i] = new Stripe( this );
+			}
+		}
+	}
+
+	private static class Stripe {
+		private final GenerationState generationState;
+		private volatile Range range;
+		/**
+		 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+		 */
+		private final Lock lock = new ReentrantLock();
+
+		private Stripe(GenerationState generationState) {
+			this.generationState = generationState;
+		}
+
+		/**
+		 * Replace the given exhausted range, unless another thread already did.
+		 */
+		private void refill(Range exhausted, AccessCallback callback, int incrementSize) {
+			lock.lock();
+			try {
+				if ( range == exhausted ) {
+					final IntegralDataTypeHolder lastSourceValue = callback.getNextValue();
+					generationState.lastSourceValue = lastSourceValue;
+					range = new Range( lastSourceValue.copy() );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * A pool of values, from the value read from the database, shared by the threads
+	 * assigned to a stripe.
+	 */
+	private static class Range {
+		// never mutated once the range is published
+		private final IntegralDataTypeHolder lo;
+		// the offset from lo of the next value to hand out
+		private final AtomicInteger offset;
+
+		private Range(IntegralDataTypeHolder lo) {
+			this.lo = lo;
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			int skipped = 0;
+			final IntegralDataTypeHolder value = lo.copy();
+			while ( value.lt( 1 ) ) {
+				value.increment();
+				skipped++;
+			}
+			this.offset = new AtomicInteger( skipped );
+		}
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledOptimizer} which retrieves the next pool of values
+ * in the background, so that generating a value does not have to wait for the
+ * database when the current pool is exhausted.
+ * <p>
+ * Like {@link PooledOptimizer}, this optimizer interprets the database value as
+ * the hi value of the pool, and so it may be used with tables and sequences
+ * previously used with the {@code pooled} optimizer. Once half of the current
+ * pool has been handed out, the next value is {@linkplain AccessCallback#getNextValueAsync()
+ * retrieved asynchronously}, using a connection of its own, by the
+ * {@linkplain org.hibernate.cfg.QuerySettings#ASYNC_QUERY_EXECUTOR asynchronous executor}.
+ * <p>
+ * Values from a pool retrieved ahead of time and never handed out are lost when
+ * the {@code SessionFactory} is closed, as with any other pooled optimizer.
+ *
+ * @see PooledOptimizer
+ *
+ * @since 6.6
+ */
+public class PooledPrefetchOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+	private static final CoreMessageLogger log = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledPrefetchOptimizer.class.getName()
+	);
+
+	private static class GenerationState {
+		private IntegralDataTypeHolder hiValue;
+		private IntegralDataTypeHolder value;
+		private CompletableFuture<IntegralDataTypeHolder> nextHiValue;
+	}
+
+	private final int lowWaterMark;
+	private long initialValue = -1;
+
+	/**
+	 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+	 */
+	private final Lock lock = new ReentrantLock();
+	private GenerationState noTenantState;
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledPrefetchOptimizer}
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledPrefetchOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		this.lowWaterMark = Math.max( 1, incrementSize / 2 );
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Creating pooled prefetch optimizer with [incrementSize={0}; returnClass={1}]",
+					incrementSize,
+					returnClass.getName()
+			);
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		lock.lock();
+		try {
+			final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+
+			if ( generationState.hiValue == null ) {
+				generationState.hiValue = callback.getNextValue();
+				// see PooledOptimizer
+				if ( generationState.hiValue.lt( 1 ) ) {
+					log.pooledOptimizerReportedInitialValue( generationState.hiValue );
+				}
+				if ( ( initialValue == -1
+						&& generationState.hiValue.lt( incrementSize ) )
+						|| generationState.hiValue.eq( initialValue ) ) {
+					generationState.value = generationState.hiValue.copy();
+				}
+				else {
+					generationState.value = generationState.hiValue.copy().subtract( incrementSize - 1 );
+				}
+			}
+			else if ( generationState.value.gt( generationState.hiValue ) ) {
+				generationState.hiValue = nextHiValue( generationState, callback );
+				generationState.value = generationState.hiValue.copy().subtract( incrementSize - 1 );
+			}
+
+			if ( generationState.nextHiValue == null
+					&& generationState.value.copy().add( lowWaterMark ).gt( generationState.hiValue ) ) {
+				// the current pool is running low, retrieve the next one ahead of time
+				final CompletionStage<IntegralDataTypeHolder> nextHiValue = callback.getNextValueAsync();
+				if ( nextHiValue != null ) {
+					generationState.nextHiValue = nextHiValue.toCompletableFuture();
+				}
+			}
+
+			return generationState.value.makeValueThenIncrement();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private static IntegralDataTypeHolder nextHiValue(GenerationState generationState, AccessCallback callback) {
+		final CompletableFuture<IntegralDataTypeHolder> nextHiValue = generationState.nextHiValue;
+		if ( nextHiValue != null ) {
+			generationState.nextHiValue = null;
+			try {
+				// only waits if the value has not been retrieved yet
+				return nextHiValue.join();
+			}
+			catch (CompletionException e) {
+				log.debugf( e.getCause(), "Unable to retrieve the next pool of values in the background" );
+			}
+			catch (CancellationException e) {
+				log.debugf( e, "Retrieval of the next pool of values in the background was cancelled" );
+			}
+		}
+		return callback.getNextValue();
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			if ( noTenantState == null ) {
+				noTenantState = new GenerationState();
+			}
+			return noTenantState;
+		}
+		else {
+			return tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		}
+	}
+
+	private GenerationState noTenantGenerationState() {
+		if ( noTenantState == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return noTenantState;
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantGenerationState().hiValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	/**
+	 * Getter for property 'lastValue'.
+	 * <p>
+	 * Exposure intended for testing purposes.
+	 *
+	 * @return Value for property 'lastValue'.
+	 */
+	public IntegralDataTypeHolder getLastValue() {
+		return noTenantGenerationState().value.copy().decrement();
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+}
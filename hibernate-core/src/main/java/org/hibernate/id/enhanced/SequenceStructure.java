@@ -6,9 +6,12 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.boot.model.relational.Database;
@@ -17,10 +20,16 @@ import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.AbstractReturningWork;
 
 import org.jboss.logging.Logger;
 
@@ -43,7 +52,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	private String sql;
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 	protected QualifiedName physicalSequenceName;
 
 	public SequenceStructure(
@@ -73,7 +82,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -95,7 +104,7 @@ public class SequenceStructure implements DatabaseStructure {
 		return new AccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
+				accessCounter.incrementAndGet();
 				try {
 					final PreparedStatement st = session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
 					try {
@@ -133,6 +142,22 @@ public class SequenceStructure implements DatabaseStructure {
 				}
 			}
 
+			@Override
+			public CompletionStage<IntegralDataTypeHolder> getNextValueAsync() {
+				final SqlStatementLogger statementLogger = session.getJdbcServices().getSqlStatementLogger();
+				final EventManager eventManager = session.getEventManager();
+				return AsyncIsolatedWork.delegateWork(
+						session,
+						statsCollector -> new AbstractReturningWork<IntegralDataTypeHolder>() {
+							@Override
+							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+								return nextValue( connection, statementLogger, statsCollector, eventManager );
+							}
+						},
+						false
+				);
+			}
+
 			@Override
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
@@ -140,6 +165,50 @@ public class SequenceStructure implements DatabaseStructure {
 		};
 	}
 
+	/**
+	 * Retrieve the next value of the sequence using the given connection,
+	 * which does not belong to a session.
+	 */
+	private IntegralDataTypeHolder nextValue(
+			Connection connection,
+			SqlStatementLogger statementLogger,
+			SessionEventListenerManager statsCollector,
+			EventManager eventManager) throws SQLException {
+		accessCounter.incrementAndGet();
+		statementLogger.logStatement( sql, FormatStyle.BASIC.getFormatter() );
+		final PreparedStatement statement;
+		final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
+		try {
+			statsCollector.jdbcPrepareStatementStart();
+			statement = connection.prepareStatement( sql );
+		}
+		finally {
+			eventManager.completeJdbcPreparedStatementCreationEvent( jdbcPreparedStatementCreation, sql );
+			statsCollector.jdbcPrepareStatementEnd();
+		}
+		try ( statement ) {
+			final ResultSet resultSet;
+			final HibernateMonitoringEvent jdbcPreparedStatementExecution = eventManager.beginJdbcPreparedStatementExecutionEvent();
+			try {
+				statsCollector.jdbcExecuteStatementStart();
+				resultSet = statement.executeQuery();
+			}
+			finally {
+				eventManager.completeJdbcPreparedStatementExecutionEvent( jdbcPreparedStatementExecution, sql );
+				statsCollector.jdbcExecuteStatementEnd();
+			}
+			try ( resultSet ) {
+				resultSet.next();
+				final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+				value.initialize( resultSet, 1 );
+				if ( LOG.isDebugEnabled() ) {
+					LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
+				}
+				return value;
+			}
+		}
+	}
+
 	@Override
 	public void configure(Optimizer optimizer) {
 		applyIncrementSizeToSourceValues = optimizer.applyIncrementSizeToSourceValues();
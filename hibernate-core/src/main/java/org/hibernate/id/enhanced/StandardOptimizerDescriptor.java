@@ -44,7 +44,23 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 	 * Here, specifically the lo value is stored in the database and ThreadLocal used to cache
 	 * the generation state.
 	 */
-	POOLED_LOTL;
+	POOLED_LOTL,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the hi value is stored in the database, and the next chunk is
+	 * retrieved in the background before the current chunk is exhausted.
+	 *
+	 * @since 6.6
+	 */
+	POOLED_PREFETCH,
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.
+	 * Here, specifically the lo value is stored in the database, and values are taken without
+	 * locking from a small number of chunks shared by the threads.
+	 *
+	 * @since 6.6
+	 */
+	POOLED_LO_STRIPED;
 
 	@Override
 	public String getExternalName() {
@@ -61,6 +77,10 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 				return "pooled-lo";
 			case POOLED_LOTL:
 				return "pooled-lotl";
+			case POOLED_PREFETCH:
+				return "pooled-prefetch";
+			case POOLED_LO_STRIPED:
+				return "pooled-lo-striped";
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -80,6 +100,10 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 				return PooledLoOptimizer.class;
 			case POOLED_LOTL:
 				return PooledLoThreadLocalOptimizer.class;
+			case POOLED_PREFETCH:
+				return PooledPrefetchOptimizer.class;
+			case POOLED_LO_STRIPED:
+				return PooledLoStripedOptimizer.class;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
 	}
@@ -94,6 +118,8 @@ public enum StandardOptimizerDescriptor implements OptimizerDescriptor {
 			case POOLED:
 			case POOLED_LO:
 			case POOLED_LOTL:
+			case POOLED_PREFETCH:
+			case POOLED_LO_STRIPED:
 				return true;
 		}
 		throw new AssertionFailure( "unknown StandardOptimizerDescriptor" );
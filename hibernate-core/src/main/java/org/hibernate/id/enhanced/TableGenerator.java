@@ -13,6 +13,8 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -217,7 +219,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 	private String updateQuery;
 
 	private Optimizer optimizer;
-	private long accessCount;
+	private final AtomicLong accessCount = new AtomicLong();
 
 	private String contributor;
 
@@ -319,7 +321,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 	 * @return Value for property 'tableAccessCount'.
 	 */
 	public final long getTableAccessCount() {
-		return accessCount;
+		return accessCount.get();
 	}
 
 	/**
@@ -556,47 +558,64 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 
 	@Override
 	public Object generate(final SharedSessionContractImplementor session, final Object obj) {
+		return optimizer.generate( buildCallback( session ) );
+	}
+
+	private AccessCallback buildCallback(final SharedSessionContractImplementor session) {
 		final SqlStatementLogger statementLogger = session.
 				getFactory().getJdbcServices()
 				.getSqlStatementLogger();
 		final SessionEventListenerManager statsCollector = session.getEventListenerManager();
+		final EventManager eventManager = session.getEventManager();
 
-		return optimizer.generate(
-				new AccessCallback() {
-					@Override
-					public IntegralDataTypeHolder getNextValue() {
-						return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
-								new AbstractReturningWork<>() {
-									@Override
-									public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-										return nextValue( connection, statementLogger, statsCollector, session );
-									}
-								},
-								true
-						);
-					}
+		return new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
+						new AbstractReturningWork<>() {
+							@Override
+							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+								return nextValue( connection, statementLogger, statsCollector, eventManager );
+							}
+						},
+						true
+				);
+			}
 
-					@Override
-					public String getTenantIdentifier() {
-						return session.getTenantIdentifier();
-					}
-				}
-		);
+			@Override
+			public CompletionStage<IntegralDataTypeHolder> getNextValueAsync() {
+				return AsyncIsolatedWork.delegateWork(
+						session,
+						isolatedStatsCollector -> new AbstractReturningWork<IntegralDataTypeHolder>() {
+							@Override
+							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+								return nextValue( connection, statementLogger, isolatedStatsCollector, eventManager );
+							}
+						},
+						true
+				);
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return session.getTenantIdentifier();
+			}
+		};
 	}
 
 	private IntegralDataTypeHolder nextValue(
 			Connection connection,
 			SqlStatementLogger logger,
 			SessionEventListenerManager listener,
-			SharedSessionContractImplementor session)
+			EventManager eventManager)
 			throws SQLException {
 		final IntegralDataTypeHolder value = makeValue();
 		int rows;
 		do {
 
-			try ( PreparedStatement selectPS = prepareStatement( connection, selectQuery, logger, listener, session ) ) {
+			try ( PreparedStatement selectPS = prepareStatement( connection, selectQuery, logger, listener, eventManager ) ) {
 				selectPS.setString( 1, segmentValue );
-				final ResultSet selectRS = executeQuery( selectPS, listener, selectQuery, session );
+				final ResultSet selectRS = executeQuery( selectPS, listener, selectQuery, eventManager );
 				if ( !selectRS.next() ) {
 					long initializationValue;
 					if ( storeLastUsedValue ) {
@@ -607,11 +626,11 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 					}
 					value.initialize( initializationValue );
 
-					try ( PreparedStatement statement = prepareStatement( connection, insertQuery, logger, listener, session ) ) {
+					try ( PreparedStatement statement = prepareStatement( connection, insertQuery, logger, listener, eventManager ) ) {
 						LOG.tracef( "binding parameter [%s] - [%s]", 1, segmentValue );
 						statement.setString( 1, segmentValue );
 						value.bind( statement, 2 );
-						executeUpdate( statement, listener, insertQuery, session);
+						executeUpdate( statement, listener, insertQuery, eventManager);
 					}
 				}
 				else {
@@ -632,7 +651,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 			}
 
 
-			try ( PreparedStatement statement = prepareStatement( connection, updateQuery, logger, listener, session ) ) {
+			try ( PreparedStatement statement = prepareStatement( connection, updateQuery, logger, listener, eventManager ) ) {
 				final IntegralDataTypeHolder updateValue = value.copy();
 				if ( optimizer.applyIncrementSizeToSourceValues() ) {
 					updateValue.add( incrementSize );
@@ -643,7 +662,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 				updateValue.bind( statement, 1 );
 				value.bind( statement, 2 );
 				statement.setString( 3, segmentValue );
-				rows = executeUpdate( statement, listener, updateQuery, session );
+				rows = executeUpdate( statement, listener, updateQuery, eventManager );
 			}
 			catch (SQLException e) {
 				LOG.unableToUpdateQueryHiValue( physicalTableName.render(), e );
@@ -652,7 +671,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 		}
 		while ( rows == 0 );
 
-		accessCount++;
+		accessCount.incrementAndGet();
 		if ( storeLastUsedValue ) {
 			return value.increment();
 		}
@@ -666,9 +685,8 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 			String sql,
 			SqlStatementLogger logger,
 			SessionEventListenerManager listener,
-			SharedSessionContractImplementor session) throws SQLException {
+			EventManager eventManager) throws SQLException {
 		logger.logStatement( sql, FormatStyle.BASIC.getFormatter() );
-		final EventManager eventManager = session.getEventManager();
 		final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
 		try {
 			listener.jdbcPrepareStatementStart();
@@ -684,8 +702,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 			PreparedStatement ps,
 			SessionEventListenerManager listener,
 			String sql,
-			SharedSessionContractImplementor session) throws SQLException {
-		final EventManager eventManager = session.getEventManager();
+			EventManager eventManager) throws SQLException {
 		final HibernateMonitoringEvent jdbcPreparedStatementExecutionEvent = eventManager.beginJdbcPreparedStatementExecutionEvent();
 		try {
 			listener.jdbcExecuteStatementStart();
@@ -701,8 +718,7 @@ public class TableGenerator implements PersistentIdentifierGenerator {
 			PreparedStatement ps,
 			SessionEventListenerManager listener,
 			String sql,
-			SharedSessionContractImplementor session) throws SQLException {
-		final EventManager eventManager = session.getEventManager();
+			EventManager eventManager) throws SQLException {
 		final HibernateMonitoringEvent jdbcPreparedStatementExecutionEvent = eventManager.beginJdbcPreparedStatementExecutionEvent();
 		try {
 			listener.jdbcExecuteStatementStart();
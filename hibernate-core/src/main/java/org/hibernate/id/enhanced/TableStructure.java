@@ -10,6 +10,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.LockMode;
@@ -65,7 +67,7 @@ public class TableStructure implements DatabaseStructure {
 	private String updateQuery;
 
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 
 
 	public TableStructure(
@@ -102,7 +104,7 @@ public class TableStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -128,6 +130,7 @@ public class TableStructure implements DatabaseStructure {
 		}
 
 		final SessionEventListenerManager statsCollector = session.getEventListenerManager();
+		final EventManager eventManager = session.getEventManager();
 
 		return new AccessCallback() {
 			@Override
@@ -136,58 +139,21 @@ public class TableStructure implements DatabaseStructure {
 						new AbstractReturningWork<IntegralDataTypeHolder>() {
 							@Override
 							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-								final IntegralDataTypeHolder value = makeValue();
-								int rows;
-								do {
-									try (PreparedStatement selectStatement = prepareStatement(
-											connection,
-											selectQuery,
-											statementLogger,
-											statsCollector,
-											session
-									)) {
-										final ResultSet selectRS = executeQuery(
-												selectStatement,
-												statsCollector,
-												selectQuery,
-												session
-										);
-										if ( !selectRS.next() ) {
-											final String err = "could not read a hi value - you need to populate the table: " + physicalTableName;
-											LOG.error( err );
-											throw new IdentifierGenerationException( err );
-										}
-										value.initialize( selectRS, 1 );
-										selectRS.close();
-									}
-									catch (SQLException sqle) {
-										LOG.error( "could not read a hi value", sqle );
-										throw sqle;
-									}
-
-
-									try (PreparedStatement updatePS = prepareStatement(
-											connection,
-											updateQuery,
-											statementLogger,
-											statsCollector,
-											session
-									)) {
-										final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
-										final IntegralDataTypeHolder updateValue = value.copy().add( increment );
-										updateValue.bind( updatePS, 1 );
-										value.bind( updatePS, 2 );
-										rows = executeUpdate( updatePS, statsCollector, updateQuery, session );
-									}
-									catch (SQLException e) {
-										LOG.unableToUpdateQueryHiValue( physicalTableName.render(), e );
-										throw e;
-									}
-								} while ( rows == 0 );
-
-								accessCounter++;
-
-								return value;
+								return nextValue( connection, statementLogger, statsCollector, eventManager );
+							}
+						},
+						true
+				);
+			}
+
+			@Override
+			public CompletionStage<IntegralDataTypeHolder> getNextValueAsync() {
+				return AsyncIsolatedWork.delegateWork(
+						session,
+						isolatedStatsCollector -> new AbstractReturningWork<IntegralDataTypeHolder>() {
+							@Override
+							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+								return nextValue( connection, statementLogger, isolatedStatsCollector, eventManager );
 							}
 						},
 						true
@@ -201,14 +167,72 @@ public class TableStructure implements DatabaseStructure {
 		};
 	}
 
+	private IntegralDataTypeHolder nextValue(
+			Connection connection,
+			SqlStatementLogger statementLogger,
+			SessionEventListenerManager statsCollector,
+			EventManager eventManager) throws SQLException {
+		final IntegralDataTypeHolder value = makeValue();
+		int rows;
+		do {
+			try (PreparedStatement selectStatement = prepareStatement(
+					connection,
+					selectQuery,
+					statementLogger,
+					statsCollector,
+					eventManager
+			)) {
+				final ResultSet selectRS = executeQuery(
+						selectStatement,
+						statsCollector,
+						selectQuery,
+						eventManager
+				);
+				if ( !selectRS.next() ) {
+					final String err = "could not read a hi value - you need to populate the table: " + physicalTableName;
+					LOG.error( err );
+					throw new IdentifierGenerationException( err );
+				}
+				value.initialize( selectRS, 1 );
+				selectRS.close();
+			}
+			catch (SQLException sqle) {
+				LOG.error( "could not read a hi value", sqle );
+				throw sqle;
+			}
+
+
+			try (PreparedStatement updatePS = prepareStatement(
+					connection,
+					updateQuery,
+					statementLogger,
+					statsCollector,
+					eventManager
+			)) {
+				final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
+				final IntegralDataTypeHolder updateValue = value.copy().add( increment );
+				updateValue.bind( updatePS, 1 );
+				value.bind( updatePS, 2 );
+				rows = executeUpdate( updatePS, statsCollector, updateQuery, eventManager );
+			}
+			catch (SQLException e) {
+				LOG.unableToUpdateQueryHiValue( physicalTableName.render(), e );
+				throw e;
+			}
+		} while ( rows == 0 );
+
+		accessCounter.incrementAndGet();
+
+		return value;
+	}
+
 	private PreparedStatement prepareStatement(
 			Connection connection,
 			String sql,
 			SqlStatementLogger statementLogger,
 			SessionEventListenerManager statsCollector,
-			SharedSessionContractImplementor session) throws SQLException {
+			EventManager eventManager) throws SQLException {
 		statementLogger.logStatement( sql, FormatStyle.BASIC.getFormatter() );
-		final EventManager eventManager = session.getEventManager();
 		final HibernateMonitoringEvent jdbcPreparedStatementCreation = eventManager.beginJdbcPreparedStatementCreationEvent();
 		try {
 			statsCollector.jdbcPrepareStatementStart();
@@ -224,8 +248,7 @@ public class TableStructure implements DatabaseStructure {
 			PreparedStatement ps,
 			SessionEventListenerManager statsCollector,
 			String sql,
-			SharedSessionContractImplementor session) throws SQLException {
-		final EventManager eventManager = session.getEventManager();
+			EventManager eventManager) throws SQLException {
 		final HibernateMonitoringEvent jdbcPreparedStatementExecutionEvent = eventManager.beginJdbcPreparedStatementExecutionEvent();
 		try {
 			statsCollector.jdbcExecuteStatementStart();
@@ -242,8 +265,7 @@ public class TableStructure implements DatabaseStructure {
 			PreparedStatement ps,
 			SessionEventListenerManager statsCollector,
 			String sql,
-			SharedSessionContractImplementor session) throws SQLException {
-		final EventManager eventManager = session.getEventManager();
+			EventManager eventManager) throws SQLException {
 		final HibernateMonitoringEvent jdbcPreparedStatementExecutionEvent = eventManager.beginJdbcPreparedStatementExecutionEvent();
 		try {
 			statsCollector.jdbcExecuteStatementStart();
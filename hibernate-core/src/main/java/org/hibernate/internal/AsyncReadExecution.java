@@ -0,0 +1,281 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Filter;
+import org.hibernate.FlushMode;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryOptions;
+
+/**
+ * Executes a read operation on behalf of a session, asynchronously, in a new
+ * session with its own logical connection. The new session is configured with
+ * the tenant, enabled filters, enabled fetch profiles, and cache mode of the
+ * owning session.
+ * <p>
+ * The new session never shares entity instances with the owning session. Instead,
+ * the state of the entities and collections read by the operation is disassembled
+ * before the new session is closed, and is later assembled into instances belonging
+ * to the owning session, in the thread of the owning session, in the same way as
+ * state read from the second-level cache, when the result of the operation is first
+ * used. An entity which already belongs to the owning session when the state is
+ * assembled takes precedence over the state read by the operation. The state is
+ * discarded if the owning session is cleared or closed, and the state of an entity
+ * removed from, or evicted by, the owning session is never assembled.
+ * <p>
+ * If the result of a query holds objects which might refer to entities, other than
+ * arrays, tuples, lists, and maps, for example the results of a dynamic instantiation,
+ * the query is executed again by the owning session when the result is first used.
+ * <p>
+ * Since the operation is executed using a different connection, it only sees
+ * data committed to the database, and not changes made by the owning session
+ * in its current transaction.
+ *
+ * @see org.hibernate.query.SelectionQuery#getResultListAsync()
+ * @see org.hibernate.Session#findAsync(Class, Object)
+ * @see org.hibernate.cfg.QuerySettings#ASYNC_QUERY_EXECUTOR
+ *
+ * @since 6.6
+ */
+public final class AsyncReadExecution {
+	private AsyncReadExecution() {
+	}
+
+	/**
+	 * Execute the given query asynchronously, in a new session. If the owning
+	 * session is stateful, the entities in the resulting list are resolved to
+	 * instances belonging to the owning session when the list is first accessed,
+	 * which must happen in a thread which is permitted to use the owning session.
+	 *
+	 * @param owner the session which initiated the operation
+	 * @param queryOptions the options of the query
+	 * @param operation the operation, which accepts the new session
+	 */
+	public static <R> CompletionStage<List<R>> list(
+			SharedSessionContractImplementor owner,
+			QueryOptions queryOptions,
+			Function<SharedSessionContractImplementor, List<R>> operation) {
+		// capture the state of the owning session on the calling thread
+		final SessionState state = new SessionState( owner, queryOptions );
+		if ( !( owner instanceof EventSource ) ) {
+			return supplyAsync( owner.getFactory(), () -> {
+				try ( SharedSessionContractImplementor session = state.openSession( owner.getFactory() ) ) {
+					return operation.apply( session );
+				}
+			} );
+		}
+		final EventSource eventSource = (EventSource) owner;
+		final AsyncResults results = AsyncResults.start( pending( owner ), state.isReadOnly() );
+		return supplyAsync( owner.getFactory(), () -> {
+			boolean associable = false;
+			try ( SharedSessionContractImplementor session = state.openSession( owner.getFactory() ) ) {
+				final List<R> list = operation.apply( session );
+				results.disassemble( session );
+				if ( results.isEmpty() ) {
+					// the query did not read any entity
+					return list;
+				}
+				else if ( !AsyncResults.isDetachable( list, session ) ) {
+					// the results might hold entities which cannot be replaced
+					// by instances belonging to the owning session
+					return new AsyncResults.ResultList<>( operation, eventSource );
+				}
+				final List<Object> rows = new ArrayList<>( list.size() );
+				for ( R row : list ) {
+					rows.add( results.detach( row, session ) );
+				}
+				associable = true;
+				results.complete();
+				return new AsyncResults.ResultList<>( results, rows, eventSource );
+			}
+			finally {
+				if ( !associable ) {
+					results.release();
+				}
+			}
+		} );
+	}
+
+	/**
+	 * Find the entity with the given identifier asynchronously, in a new session.
+	 * The resulting stage completes with the given proxy, which belongs to the
+	 * owning session, and which is initialized from the state read by the new
+	 * session, or with {@code null} if there is no such entity.
+	 *
+	 * @param owner the session which initiated the operation
+	 * @param persister the persister of the entity
+	 * @param id the identifier of the entity
+	 * @param proxy a proxy created by the owning session
+	 */
+	public static <T> CompletionStage<T> find(
+			SessionImplementor owner,
+			EntityPersister persister,
+			Object id,
+			T proxy) {
+		final SessionState state = new SessionState( owner, null );
+		final EntityKey key = owner.generateEntityKey( id, persister );
+		final AsyncResults results = AsyncResults.start( pending( owner ), state.isReadOnly() );
+		results.addProxy( key, proxy );
+		return supplyAsync( owner.getFactory(), () -> {
+			boolean found = false;
+			try ( SharedSessionContractImplementor session = state.openSession( owner.getFactory() ) ) {
+				if ( ( (SessionImplementor) session ).get( persister.getEntityName(), id ) == null ) {
+					return null;
+				}
+				results.disassemble( session );
+				found = true;
+			}
+			finally {
+				if ( !found ) {
+					results.release();
+				}
+			}
+			results.complete();
+			return proxy;
+		} );
+	}
+
+	private static AsyncResults.Pending pending(SharedSessionContractImplementor owner) {
+		return owner instanceof SessionImpl ? ( (SessionImpl) owner ).pendingAsyncResults() : null;
+	}
+
+	private static <T> CompletionStage<T> supplyAsync(SessionFactoryImplementor factory, Supplier<T> task) {
+		return CompletableFuture.supplyAsync( task, executor( factory ) );
+	}
+
+	/**
+	 * The {@linkplain org.hibernate.cfg.QuerySettings#ASYNC_QUERY_EXECUTOR executor}
+	 * used to execute asynchronous operations on behalf of sessions created by the
+	 * given factory.
+	 */
+	public static Executor executor(SessionFactoryImplementor factory) {
+		final Executor executor = factory.getSessionFactoryOptions().getAsyncQueryExecutor();
+		return executor == null ? DefaultExecutor.INSTANCE : executor;
+	}
+
+	/**
+	 * The state of the owning session which affects read operations
+	 */
+	private static class SessionState {
+		private final boolean stateless;
+		private final Object tenantIdentifier;
+		private final CacheMode cacheMode;
+		private final boolean readOnly;
+		private final Map<String, Map<String, ?>> enabledFilters;
+		private final Set<String> enabledFetchProfiles;
+
+		private SessionState(SharedSessionContractImplementor owner, QueryOptions queryOptions) {
+			stateless = !( owner instanceof SessionImplementor );
+			tenantIdentifier = owner.getTenantIdentifierValue();
+			final CacheMode queryCacheMode = queryOptions == null ? null : queryOptions.getCacheMode();
+			cacheMode = queryCacheMode == null ? owner.getCacheMode() : queryCacheMode;
+			final Boolean queryReadOnly = queryOptions == null ? null : queryOptions.isReadOnly();
+			readOnly = queryReadOnly == null ? owner.isDefaultReadOnly() : queryReadOnly;
+
+			final LoadQueryInfluencers influencers = owner.getLoadQueryInfluencers();
+			enabledFilters = new HashMap<>();
+			for ( Filter filter : influencers.getEnabledFilters().values() ) {
+				enabledFilters.put( filter.getName(), new HashMap<>( ( (FilterImpl) filter ).getParameters() ) );
+			}
+			enabledFetchProfiles = new HashSet<>( influencers.getEnabledFetchProfileNames() );
+			if ( queryOptions != null ) {
+				if ( queryOptions.getEnabledFetchProfiles() != null ) {
+					enabledFetchProfiles.addAll( queryOptions.getEnabledFetchProfiles() );
+				}
+				if ( queryOptions.getDisabledFetchProfiles() != null ) {
+					enabledFetchProfiles.removeAll( queryOptions.getDisabledFetchProfiles() );
+				}
+			}
+		}
+
+		private boolean isReadOnly() {
+			return readOnly;
+		}
+
+		private SharedSessionContractImplementor openSession(SessionFactoryImplementor factory) {
+			final SharedSessionContractImplementor session = stateless
+					? (SharedSessionContractImplementor) factory.withStatelessOptions()
+							.tenantIdentifier( tenantIdentifier )
+							.openStatelessSession()
+					: (SharedSessionContractImplementor) factory.withOptions()
+							.tenantIdentifier( tenantIdentifier )
+							.flushMode( FlushMode.MANUAL )
+							.openSession();
+			if ( !stateless ) {
+				session.setCacheMode( cacheMode );
+				( (SessionImplementor) session ).setDefaultReadOnly( true );
+			}
+
+			final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+			for ( String filterName : new HashSet<>( influencers.getEnabledFilterNames() ) ) {
+				if ( !enabledFilters.containsKey( filterName ) ) {
+					influencers.disableFilter( filterName );
+				}
+			}
+			for ( Map.Entry<String, Map<String, ?>> entry : enabledFilters.entrySet() ) {
+				final Filter filter = influencers.enableFilter( entry.getKey() );
+				for ( Map.Entry<String, ?> parameter : entry.getValue().entrySet() ) {
+					if ( parameter.getValue() instanceof Collection<?> ) {
+						filter.setParameterList( parameter.getKey(), (Collection<?>) parameter.getValue() );
+					}
+					else {
+						filter.setParameter( parameter.getKey(), parameter.getValue() );
+					}
+				}
+			}
+			for ( String fetchProfile : enabledFetchProfiles ) {
+				influencers.enableFetchProfile( fetchProfile );
+			}
+			return session;
+		}
+	}
+
+	/**
+	 * A virtual thread per operation on Java 21 and above, or, on earlier
+	 * versions of Java, a pool of daemon threads which grows as needed, since
+	 * the operations block while waiting for the database
+	 */
+	private static class DefaultExecutor {
+		private static final Executor INSTANCE = createDefaultExecutor();
+
+		private static Executor createDefaultExecutor() {
+			try {
+				return (Executor) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+			}
+			catch (ReflectiveOperationException e) {
+				final AtomicInteger threadNumber = new AtomicInteger();
+				return Executors.newCachedThreadPool( runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-async-read-" + threadNumber.incrementAndGet() );
+					thread.setDaemon( true );
+					return thread;
+				} );
+			}
+		}
+	}
+}
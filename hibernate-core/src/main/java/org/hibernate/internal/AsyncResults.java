@@ -0,0 +1,586 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.hibernate.LockMode;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.TwoPhaseLoad;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.sql.results.internal.TupleImpl;
+import org.hibernate.sql.results.internal.TupleMetadata;
+import org.hibernate.type.TypeHelper;
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
+
+/**
+ * The state of the entities and collections read by an {@linkplain AsyncReadExecution
+ * asynchronous operation}, in a form which does not refer to the session which read
+ * them, and which is assembled into new instances belonging to the owning session,
+ * in the thread of the owning session, in the same way as entities and collections
+ * read from the second-level cache.
+ * <p>
+ * The entities belonging to the results of the operation are replaced by references
+ * to their keys, which are resolved once the state has been associated with the
+ * owning session. An entity which already belongs to the owning session is never
+ * replaced, and so the owning session never contains two instances with the same
+ * identifier.
+ * <p>
+ * The state is only associated with the owning session once the result of the
+ * operation is actually used. It is discarded if the owning session is cleared
+ * or closed first, and the state of an entity which was removed from, or evicted
+ * by, the owning session after the operation started is never associated.
+ */
+class AsyncResults {
+	private final boolean readOnly;
+	private final Pending pending;
+	private final Map<EntityKey, StandardCacheEntryImpl> entities = new LinkedHashMap<>();
+	private final Map<CollectionKey, CollectionCacheEntry> collections = new LinkedHashMap<>();
+	private final Map<EntityKey, Object> proxies = new LinkedHashMap<>();
+	// set once the state is complete, by the thread which read it
+	private volatile boolean complete;
+	// only accessed in the thread of the owning session
+	private boolean associated;
+	private boolean discarded;
+	private Set<EntityKey> invalidatedKeys;
+
+	private AsyncResults(boolean readOnly, Pending pending) {
+		this.readOnly = readOnly;
+		this.pending = pending;
+	}
+
+	/**
+	 * Start an operation on behalf of the owning session. Must be called in the
+	 * thread of the owning session.
+	 *
+	 * @param pending the operations of the owning session, or {@code null} if the
+	 *                owning session does not keep track of them
+	 */
+	static AsyncResults start(Pending pending, boolean readOnly) {
+		final AsyncResults results = new AsyncResults( readOnly, pending );
+		if ( pending != null ) {
+			pending.operations.add( results );
+		}
+		return results;
+	}
+
+	/**
+	 * Disassemble the entities and initialized collections belonging to the
+	 * given session, which must still be open.
+	 */
+	void disassemble(SharedSessionContractImplementor session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+			final EntityEntry entityEntry = entry.getValue();
+			if ( entityEntry.getStatus() == Status.MANAGED || entityEntry.getStatus() == Status.READ_ONLY ) {
+				final Object entity = entry.getKey();
+				final EntityPersister persister = entityEntry.getPersister();
+				entities.put(
+						entityEntry.getEntityKey(),
+						new StandardCacheEntryImpl(
+								persister.getValues( entity ),
+								persister,
+								entityEntry.getVersion(),
+								session,
+								entity
+						)
+				);
+			}
+		}
+		for ( Map.Entry<CollectionKey, PersistentCollection<?>> entry
+				: persistenceContext.getCollectionsByKey().entrySet() ) {
+			final PersistentCollection<?> collection = entry.getValue();
+			if ( collection.wasInitialized() ) {
+				final CollectionEntry collectionEntry = persistenceContext.getCollectionEntry( collection );
+				collections.put(
+						entry.getKey(),
+						new CollectionCacheEntry( collection, collectionEntry.getLoadedPersister() )
+				);
+			}
+		}
+	}
+
+	/**
+	 * Make the state available to the owning session, once it is complete.
+	 */
+	void complete() {
+		complete = true;
+	}
+
+	/**
+	 * Forget the operation, whose state will never be associated with the owning session.
+	 */
+	void release() {
+		if ( pending != null ) {
+			pending.operations.remove( this );
+		}
+	}
+
+	boolean isEmpty() {
+		return entities.isEmpty() && collections.isEmpty();
+	}
+
+	/**
+	 * Whether the entities belonging to the given result of an operation may be
+	 * replaced by references to their keys. A result is detachable if it is an
+	 * entity, a basic value, or an array, {@link Tuple}, {@link List}, or
+	 * {@link Map} of detachable results. Other objects, for example the results
+	 * of a dynamic instantiation, might hold entities which cannot be replaced.
+	 */
+	static boolean isDetachable(Object result, SharedSessionContractImplementor session) {
+		if ( result == null || result instanceof Enum<?> ) {
+			return true;
+		}
+		else if ( result instanceof Object[] ) {
+			return areDetachable( List.of( (Object[]) result ), session );
+		}
+		else if ( result instanceof Tuple ) {
+			return areDetachable( List.of( ( (Tuple) result ).toArray() ), session );
+		}
+		else if ( result instanceof Collection<?> ) {
+			return result instanceof List<?> && areDetachable( (List<?>) result, session );
+		}
+		else if ( result instanceof Map<?, ?> ) {
+			final Map<?, ?> map = (Map<?, ?>) result;
+			return areDetachable( map.keySet(), session ) && areDetachable( map.values(), session );
+		}
+		else {
+			return entityKey( result, session ) != null
+				|| session.getFactory().getTypeConfiguration().getBasicTypeForJavaType( result.getClass() ) != null;
+		}
+	}
+
+	private static boolean areDetachable(Collection<?> results, SharedSessionContractImplementor session) {
+		for ( Object result : results ) {
+			// the elements of an array may be null
+			if ( result != null && !isDetachable( result, session ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Replace the entities belonging to the given result of an operation with
+	 * references to their keys. Must be called before the session which read
+	 * the result is closed.
+	 */
+	Object detach(Object result, SharedSessionContractImplementor session) {
+		if ( result instanceof Object[] ) {
+			return detach( (Object[]) result, session );
+		}
+		else if ( result instanceof Tuple ) {
+			final Tuple tuple = (Tuple) result;
+			return new DetachedTuple( tuple.getElements(), detach( tuple.toArray(), session ) );
+		}
+		else if ( result instanceof List<?> ) {
+			final List<?> list = (List<?>) result;
+			final List<Object> detached = new ArrayList<>( list.size() );
+			for ( Object element : list ) {
+				detached.add( detach( element, session ) );
+			}
+			return detached;
+		}
+		else if ( result instanceof Map<?, ?> ) {
+			final Map<?, ?> map = (Map<?, ?>) result;
+			final Map<Object, Object> detached = new LinkedHashMap<>();
+			for ( Map.Entry<?, ?> entry : map.entrySet() ) {
+				detached.put( detach( entry.getKey(), session ), detach( entry.getValue(), session ) );
+			}
+			return detached;
+		}
+		else {
+			final EntityKey key = entityKey( result, session );
+			return key == null ? result : new Reference( key );
+		}
+	}
+
+	private Object[] detach(Object[] row, SharedSessionContractImplementor session) {
+		final Object[] detached = new Object[row.length];
+		for ( int i = 0; i < row.length; i++ ) {
+			detached[i] = detach( row[i], session );
+		}
+		return detached;
+	}
+
+	static EntityKey entityKey(Object result, SharedSessionContractImplementor session) {
+		if ( result == null ) {
+			return null;
+		}
+		final LazyInitializer lazyInitializer = extractLazyInitializer( result );
+		if ( lazyInitializer != null ) {
+			final EntityPersister persister = session.getFactory().getMappingMetamodel()
+					.getEntityDescriptor( lazyInitializer.getEntityName() );
+			return session.generateEntityKey( lazyInitializer.getInternalIdentifier(), persister );
+		}
+		else {
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( result );
+			return entry == null ? null : entry.getEntityKey();
+		}
+	}
+
+	/**
+	 * Record a proxy created by the owning session for the entity with the
+	 * given key, which is registered with the owning session once the state
+	 * has been associated with it.
+	 */
+	void addProxy(EntityKey key, Object proxy) {
+		proxies.put( key, proxy );
+	}
+
+	/**
+	 * Associate the state with the owning session. Must be called in the thread
+	 * of the owning session, and has no effect if it was already called.
+	 */
+	void associate(EventSource owner) {
+		if ( associated ) {
+			return;
+		}
+		associated = true;
+		release();
+		if ( discarded ) {
+			// the owning session was cleared since the operation started
+			return;
+		}
+
+		final SessionFactoryImplementor factory = owner.getFactory();
+		final PersistenceContext persistenceContext = owner.getPersistenceContextInternal();
+		// first make every instance available, so that references between them resolve
+		final Map<EntityKey, Object> assembled = new LinkedHashMap<>();
+		for ( Map.Entry<EntityKey, StandardCacheEntryImpl> entry : entities.entrySet() ) {
+			final EntityKey key = entry.getKey();
+			final EntityHolder holder = persistenceContext.getEntityHolder( key );
+			if ( ( holder == null || holder.getEntity() == null ) && !isInvalidated( key ) ) {
+				final StandardCacheEntryImpl cacheEntry = entry.getValue();
+				final EntityPersister persister = factory.getMappingMetamodel()
+						.getEntityDescriptor( cacheEntry.getSubclass() );
+				final Object entity = owner.instantiate( persister, key.getIdentifier() );
+				if ( isPersistentAttributeInterceptable( entity )
+						&& asPersistentAttributeInterceptable( entity ).$$_hibernate_getInterceptor() == null ) {
+					persister.getBytecodeEnhancementMetadata().injectInterceptor( entity, key.getIdentifier(), owner );
+				}
+				TwoPhaseLoad.addUninitializedCachedEntity(
+						key,
+						entity,
+						persister,
+						LockMode.NONE,
+						cacheEntry.getVersion(),
+						owner
+				);
+				assembled.put( key, entity );
+			}
+		}
+		// then initialize them
+		for ( Map.Entry<EntityKey, Object> entry : assembled.entrySet() ) {
+			initialize( entry.getKey(), entry.getValue(), owner );
+		}
+		for ( Map.Entry<CollectionKey, CollectionCacheEntry> entry : collections.entrySet() ) {
+			final PersistentCollection<?> collection = persistenceContext.getCollection( entry.getKey() );
+			if ( collection != null && !collection.wasInitialized() && !collection.hasQueuedOperations() ) {
+				final CollectionEntry collectionEntry = persistenceContext.getCollectionEntry( collection );
+				final CollectionPersister persister = collectionEntry.getLoadedPersister();
+				final Object id = collectionEntry.getLoadedKey();
+				entry.getValue().assemble( collection, persister, persistenceContext.getCollectionOwner( id, persister ) );
+				collectionEntry.postInitialize( collection, owner );
+			}
+		}
+		persistenceContext.initializeNonLazyCollections();
+
+		for ( Map.Entry<EntityKey, Object> entry : proxies.entrySet() ) {
+			if ( persistenceContext.getProxy( entry.getKey() ) == null && persistenceContext.getEntity( entry.getKey() ) != null ) {
+				// the entity was found, and it was not removed or evicted since
+				persistenceContext.addProxy( entry.getKey(), entry.getValue() );
+			}
+		}
+		for ( Map.Entry<EntityKey, Object> entry : assembled.entrySet() ) {
+			final Object entity = entry.getValue();
+			final PostLoadEvent postLoadEvent = new PostLoadEvent( owner )
+					.setEntity( entity )
+					.setId( entry.getKey().getIdentifier() )
+					.setPersister( persistenceContext.getEntry( entity ).getPersister() );
+			factory.getFastSessionServices().firePostLoadEvent( postLoadEvent );
+		}
+	}
+
+	private boolean isInvalidated(EntityKey key) {
+		return invalidatedKeys != null && invalidatedKeys.contains( key );
+	}
+
+	private void invalidate(EntityKey key) {
+		if ( invalidatedKeys == null ) {
+			invalidatedKeys = new HashSet<>();
+		}
+		invalidatedKeys.add( key );
+	}
+
+	private void initialize(EntityKey key, Object entity, EventSource owner) {
+		final StandardCacheEntryImpl cacheEntry = entities.get( key );
+		final PersistenceContext persistenceContext = owner.getPersistenceContextInternal();
+		final EntityPersister persister = owner.getFactory().getMappingMetamodel()
+				.getEntityDescriptor( cacheEntry.getSubclass() );
+		final Object id = key.getIdentifier();
+		final Object[] values = cacheEntry.assemble( entity, id, persister, owner.getInterceptor(), owner );
+		TypeHelper.deepCopy( values, persister.getPropertyTypes(), persister.getPropertyUpdateability(), values, owner );
+		final Object proxy = persistenceContext.getProxy( key );
+		final boolean isReadOnly = proxy != null
+				? extractLazyInitializer( proxy ).isReadOnly()
+				: readOnly || !persister.isMutable();
+		final EntityEntry entityEntry = persistenceContext.addEntry(
+				entity,
+				isReadOnly ? Status.READ_ONLY : Status.MANAGED,
+				values,
+				null,
+				id,
+				cacheEntry.getVersion(),
+				LockMode.NONE,
+				true,
+				persister,
+				false
+		);
+		persistenceContext.getEntityHolder( key ).setEntityEntry( entityEntry );
+		persister.afterInitialize( entity, owner );
+	}
+
+	/**
+	 * Resolve the references belonging to the given detached result of an
+	 * operation to instances belonging to the owning session.
+	 */
+	Object resolve(Object result, EventSource owner) {
+		if ( result instanceof Object[] ) {
+			final Object[] row = (Object[]) result;
+			for ( int i = 0; i < row.length; i++ ) {
+				row[i] = resolve( row[i], owner );
+			}
+			return row;
+		}
+		else if ( result instanceof DetachedTuple ) {
+			final DetachedTuple tuple = (DetachedTuple) result;
+			return new TupleImpl( tuple.metadata, (Object[]) resolve( tuple.row, owner ) );
+		}
+		else if ( result instanceof List<?> ) {
+			@SuppressWarnings("unchecked")
+			final List<Object> list = (List<Object>) result;
+			list.replaceAll( element -> resolve( element, owner ) );
+			return list;
+		}
+		else if ( result instanceof Map<?, ?> ) {
+			final Map<?, ?> map = (Map<?, ?>) result;
+			final Map<Object, Object> resolved = new LinkedHashMap<>();
+			for ( Map.Entry<?, ?> entry : map.entrySet() ) {
+				resolved.put( resolve( entry.getKey(), owner ), resolve( entry.getValue(), owner ) );
+			}
+			return resolved;
+		}
+		else if ( result instanceof Reference ) {
+			final EntityKey key = ( (Reference) result ).key;
+			final PersistenceContext persistenceContext = owner.getPersistenceContextInternal();
+			final Object entity = persistenceContext.getEntity( key );
+			if ( entity != null ) {
+				return persistenceContext.proxyFor( entity );
+			}
+			else if ( entities.containsKey( key ) ) {
+				// the state read by the operation was not associated, since the
+				// entity was removed or evicted, or the session was cleared
+				return owner.internalLoad( key.getEntityName(), key.getIdentifier(), true, true );
+			}
+			else {
+				// the operation returned an uninitialized proxy
+				return owner.internalLoad( key.getEntityName(), key.getIdentifier(), false, true );
+			}
+		}
+		else {
+			return result;
+		}
+	}
+
+	/**
+	 * A reference to an entity belonging to the result of an operation
+	 */
+	private static final class Reference {
+		private final EntityKey key;
+
+		private Reference(EntityKey key) {
+			this.key = key;
+		}
+	}
+
+	/**
+	 * A {@link Tuple} belonging to the result of an operation
+	 */
+	private static final class DetachedTuple {
+		private final TupleMetadata metadata;
+		private final Object[] row;
+
+		private DetachedTuple(List<TupleElement<?>> elements, Object[] row) {
+			final String[] aliases = new String[elements.size()];
+			for ( int i = 0; i < aliases.length; i++ ) {
+				aliases[i] = elements.get( i ).getAlias();
+			}
+			this.metadata = new TupleMetadata( elements.toArray( new TupleElement<?>[0] ), aliases );
+			this.row = row;
+		}
+	}
+
+	/**
+	 * The operations executed on behalf of a session whose results have not
+	 * yet been associated with the session.
+	 */
+	static class Pending {
+		// operations are removed by the threads which execute them
+		private final Set<AsyncResults> operations = ConcurrentHashMap.newKeySet();
+
+		/**
+		 * Associate the state read by the completed operations which found the
+		 * entity with the given key with the owning session, when the proxy
+		 * returned by the operation is initialized. Must be called in the thread
+		 * of the owning session.
+		 */
+		void associate(EntityKey key, EventSource owner) {
+			if ( !operations.isEmpty() && !owner.getPersistenceContextInternal().isFlushing() ) {
+				for ( AsyncResults results : operations ) {
+					if ( results.complete && results.proxies.containsKey( key ) ) {
+						results.associate( owner );
+					}
+				}
+			}
+		}
+
+		/**
+		 * Never associate the state of the entity with the given key, which was
+		 * removed from, or evicted by, the owning session, with the owning session.
+		 * Must be called in the thread of the owning session.
+		 */
+		void invalidate(EntityKey key) {
+			for ( AsyncResults results : operations ) {
+				results.invalidate( key );
+			}
+		}
+
+		/**
+		 * Discard the state read by every operation, when the owning session is
+		 * cleared or closed. Must be called in the thread of the owning session.
+		 */
+		void clear() {
+			for ( AsyncResults results : operations ) {
+				results.discarded = true;
+			}
+			operations.clear();
+		}
+
+		boolean isEmpty() {
+			return operations.isEmpty();
+		}
+	}
+
+	/**
+	 * The list of results of a query, whose elements are resolved, in the
+	 * thread which first accesses them, to instances belonging to the
+	 * owning session.
+	 */
+	static class ResultList<R> extends AbstractList<R> {
+		private final AsyncResults results;
+		private final List<Object> rows;
+		private final EventSource owner;
+		private final Function<? super EventSource, List<R>> operation;
+		private List<R> resolved;
+
+		ResultList(AsyncResults results, List<Object> rows, EventSource owner) {
+			this.results = results;
+			this.rows = rows;
+			this.owner = owner;
+			this.operation = null;
+		}
+
+		/**
+		 * A list whose results could not be detached from the session which read
+		 * them, and which are read again by the owning session, when the list is
+		 * first accessed.
+		 */
+		ResultList(Function<? super EventSource, List<R>> operation, EventSource owner) {
+			this.results = null;
+			this.rows = null;
+			this.owner = owner;
+			this.operation = operation;
+		}
+
+		@SuppressWarnings("unchecked")
+		private List<R> resolved() {
+			if ( resolved == null ) {
+				if ( operation != null ) {
+					resolved = new ArrayList<>( operation.apply( owner ) );
+				}
+				else {
+					results.associate( owner );
+					final List<R> list = new ArrayList<>( rows.size() );
+					for ( Object row : rows ) {
+						list.add( (R) results.resolve( row, owner ) );
+					}
+					resolved = list;
+				}
+			}
+			return resolved;
+		}
+
+		@Override
+		public int size() {
+			return resolved == null && rows != null ? rows.size() : resolved().size();
+		}
+
+		@Override
+		public R get(int index) {
+			return resolved().get( index );
+		}
+
+		@Override
+		public R set(int index, R element) {
+			return resolved().set( index, element );
+		}
+
+		@Override
+		public void add(int index, R element) {
+			resolved().add( index, element );
+			modCount++;
+		}
+
+		@Override
+		public R remove(int index) {
+			final R removed = resolved().remove( index );
+			modCount++;
+			return removed;
+		}
+	}
+}
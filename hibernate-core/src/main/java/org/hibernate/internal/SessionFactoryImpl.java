@@ -340,6 +340,7 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 		}
 
 		LOG.debug( "Instantiated SessionFactory" );
+		bootstrapContext.getBootPhaseMonitor().logSummary( name );
 	}
 
 	private void deprecationCheck(Map<String, Object> settings) {
@@ -17,10 +17,14 @@ import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.NClob;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.CacheMode;
 import org.hibernate.ConnectionAcquisitionMode;
@@ -124,6 +128,7 @@ import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.query.Query;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.UnknownSqlResultSetMappingException;
+import org.hibernate.query.spi.AbstractSelectionQuery;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
@@ -131,6 +136,8 @@ import org.hibernate.resource.transaction.backend.jta.internal.JtaTransactionCoo
 import org.hibernate.resource.transaction.spi.TransactionCoordinator;
 import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder;
 import org.hibernate.resource.transaction.spi.TransactionStatus;
+import org.hibernate.sql.exec.internal.MultiSelectExecutor;
+import org.hibernate.sql.exec.spi.DeferredSelect;
 import org.hibernate.stat.SessionStatistics;
 import org.hibernate.stat.internal.SessionStatisticsImpl;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -223,6 +230,8 @@ public class SessionImpl
 
 	private transient TransactionObserver transactionObserver;
 
+	private transient AsyncResults.Pending pendingAsyncResults;
+
 	// TODO: this is unused and can be removed
 	private transient boolean isEnforcingFetchGraph;
 
@@ -370,6 +379,7 @@ public class SessionImpl
 	}
 
 	private void internalClear() {
+		clearAsyncResults();
 		persistenceContext.clear();
 		actionQueue.clear();
 
@@ -403,6 +413,8 @@ public class SessionImpl
 		final EventManager eventManager = getEventManager();
 		final HibernateMonitoringEvent sessionClosedEvent = eventManager.beginSessionClosedEvent();
 
+		clearAsyncResults();
+
 		// todo : we want this check if usage is JPA, but not native Hibernate usage
 		final SessionFactoryImplementor sessionFactory = getSessionFactory();
 		try {
@@ -965,6 +977,7 @@ public class SessionImpl
 			pulseTransactionCoordinator();
 			fastSessionServices.eventListenerGroup_DELETE
 					.fireEventOnEachListener( event, DeleteEventListener::onDelete );
+			invalidateAsyncResults( event.getObject() );
 		}
 		catch ( ObjectDeletedException sse ) {
 			throw getExceptionConverter().convert( new IllegalArgumentException( sse ) );
@@ -986,6 +999,7 @@ public class SessionImpl
 			pulseTransactionCoordinator();
 			fastSessionServices.eventListenerGroup_DELETE
 					.fireEventOnEachListener( event, transientEntities, DeleteEventListener::onDelete );
+			invalidateAsyncResults( event.getObject() );
 		}
 		catch ( ObjectDeletedException sse ) {
 			throw getExceptionConverter().convert( new IllegalArgumentException( sse ) );
@@ -1042,6 +1056,7 @@ public class SessionImpl
 					.getEntityDescriptor( entityName );
 			log.debugf( "Initializing proxy: %s", MessageHelper.infoString( persister, id, getFactory() ) );
 		}
+		associateAsyncResults( entityName, id );
 		LoadEvent event = loadEvent;
 		loadEvent = null;
 		event = recycleEventInstance( event, id, entityName );
@@ -1211,6 +1226,131 @@ public class SessionImpl
 		return new NaturalIdMultiLoadAccessStandard<>( requireEntityPersister( entityName ), this );
 	}
 
+	@Override
+	public List<List<?>> getResultLists(SelectionQuery<?>... queries) {
+		checkOpen();
+		final List<List<?>> results = new ArrayList<>( queries.length );
+		if ( queries.length > 1 && getJdbcServices().getDialect().supportsMultiQueryStatements() ) {
+			final List<Integer> deferredIndexes = new ArrayList<>( queries.length );
+			final List<DeferredSelect<?>> deferredSelects = new ArrayList<>( queries.length );
+			for ( int i = 0; i < queries.length; i++ ) {
+				final DeferredSelect<?> deferredSelect = deferList( queries[i] );
+				if ( deferredSelect == null ) {
+					results.add( queries[i].list() );
+				}
+				else {
+					results.add( null );
+					deferredIndexes.add( i );
+					deferredSelects.add( deferredSelect );
+				}
+			}
+			if ( !deferredSelects.isEmpty() ) {
+				final List<List<?>> deferredResults = listDeferred( deferredSelects );
+				for ( int i = 0; i < deferredIndexes.size(); i++ ) {
+					results.set( deferredIndexes.get( i ), deferredResults.get( i ) );
+				}
+			}
+		}
+		else {
+			for ( SelectionQuery<?> query : queries ) {
+				results.add( query.list() );
+			}
+		}
+		return results;
+	}
+
+	@Override
+	public <T> CompletionStage<T> findAsync(Class<T> entityType, Object id) {
+		checkOpen();
+		final EntityPersister persister = requireEntityPersister( entityType );
+		final Object coercedId = getFactory().getSessionFactoryOptions().getJpaCompliance().isLoadByIdComplianceEnabled()
+				? id
+				: persister.getIdentifierMapping().getJavaType().coerce( id, this );
+		final EntityKey key = generateEntityKey( coercedId, persister );
+		if ( !persister.hasProxy() || persistenceContext.getEntity( key ) != null ) {
+			// the entity already belongs to this session, or the
+			// result cannot be represented by an unloaded proxy
+			try {
+				return CompletableFuture.completedFuture( find( entityType, id ) );
+			}
+			catch (RuntimeException e) {
+				return CompletableFuture.failedFuture( e );
+			}
+		}
+		else {
+			// the proxy is registered with this session only once we know the entity exists
+			final Object proxy = persistenceContext.getProxy( key );
+			@SuppressWarnings("unchecked")
+			final T result = (T) ( proxy == null ? persister.createProxy( coercedId, this ) : proxy );
+			return AsyncReadExecution.find( this, persister, coercedId, result );
+		}
+	}
+
+	/**
+	 * The results of asynchronous operations executed on behalf of this session
+	 * which are waiting to be associated with this session.
+	 */
+	AsyncResults.Pending pendingAsyncResults() {
+		if ( pendingAsyncResults == null ) {
+			pendingAsyncResults = new AsyncResults.Pending();
+		}
+		return pendingAsyncResults;
+	}
+
+	/**
+	 * Associate the state read by the asynchronous operations which found the entity
+	 * with the given identifier, when the proxy returned by the operation is initialized.
+	 */
+	private void associateAsyncResults(String entityName, Object id) {
+		if ( pendingAsyncResults != null && !pendingAsyncResults.isEmpty() ) {
+			final EntityPersister persister = getFactory().getMappingMetamodel().getEntityDescriptor( entityName );
+			pendingAsyncResults.associate( generateEntityKey( id, persister ), this );
+		}
+	}
+
+	private void invalidateAsyncResults(Object entity) {
+		if ( pendingAsyncResults != null && !pendingAsyncResults.isEmpty() ) {
+			final EntityKey key = AsyncResults.entityKey( entity, this );
+			if ( key != null ) {
+				pendingAsyncResults.invalidate( key );
+			}
+		}
+	}
+
+	private void clearAsyncResults() {
+		if ( pendingAsyncResults != null ) {
+			pendingAsyncResults.clear();
+		}
+	}
+
+	private DeferredSelect<?> deferList(SelectionQuery<?> query) {
+		if ( query instanceof AbstractSelectionQuery<?> ) {
+			final AbstractSelectionQuery<?> selectionQuery = (AbstractSelectionQuery<?>) query;
+			return selectionQuery.getSession() == this ? selectionQuery.deferList() : null;
+		}
+		else {
+			return null;
+		}
+	}
+
+	private List<List<?>> listDeferred(List<DeferredSelect<?>> deferredSelects) {
+		boolean success = false;
+		try {
+			final List<List<?>> results = MultiSelectExecutor.list( deferredSelects, this );
+			success = true;
+			return results;
+		}
+		catch (HibernateException he) {
+			throw getExceptionConverter().convert( he );
+		}
+		finally {
+			if ( !isTransactionInProgress() ) {
+				getJdbcCoordinator().getLogicalConnection().afterTransaction();
+			}
+			afterOperation( success );
+		}
+	}
+
 	@Override
 	public void fireLoad(LoadEvent event, LoadType loadType) {
 		checkOpenOrWaitingForAutoClose();
@@ -1355,6 +1495,7 @@ public class SessionImpl
 	public void evict(Object object) throws HibernateException {
 		checkOpen();
 		pulseTransactionCoordinator();
+		invalidateAsyncResults( object );
 		final EvictEvent event = new EvictEvent( object, this );
 		fastSessionServices.eventListenerGroup_EVICT
 				.fireEventOnEachListener( event, EvictEventListener::onEvict );
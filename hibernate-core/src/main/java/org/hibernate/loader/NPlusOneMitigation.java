@@ -0,0 +1,60 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader;
+
+import java.util.Locale;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+
+/**
+ * What to do with an association role once Hibernate has detected, within a session,
+ * that its entities or collections are repeatedly loaded one at a time.
+ *
+ * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_THRESHOLD
+ * @see org.hibernate.cfg.FetchSettings#N_PLUS_ONE_MITIGATION
+ *
+ * @since 6.6
+ */
+@Incubating
+public enum NPlusOneMitigation {
+	/**
+	 * Only report the problem.
+	 */
+	NONE,
+	/**
+	 * Use batch fetching for the role, for the rest of the session.
+	 */
+	BATCH,
+	/**
+	 * Use subselect fetching for the collection role, for the rest of the session.
+	 * Collections whose owners have already been loaded, and entities, are batch
+	 * fetched instead.
+	 */
+	SUBSELECT;
+
+	public static NPlusOneMitigation interpret(Object setting) {
+		if ( setting == null ) {
+			return NONE;
+		}
+		else if ( setting instanceof NPlusOneMitigation ) {
+			return (NPlusOneMitigation) setting;
+		}
+		else {
+			final String name = setting.toString().trim();
+			if ( name.isEmpty() ) {
+				return NONE;
+			}
+			try {
+				return valueOf( name.toUpperCase( Locale.ROOT ) );
+			}
+			catch (IllegalArgumentException e) {
+				throw new HibernateException( "Unrecognized N+1 mitigation: " + setting );
+			}
+		}
+	}
+}
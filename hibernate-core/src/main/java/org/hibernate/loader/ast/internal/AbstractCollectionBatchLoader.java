@@ -99,6 +99,27 @@ public abstract class AbstractCollectionBatchLoader implements CollectionBatchLo
 		return session.getPersistenceContext().getCollection( collectionKey );
 	}
 
+	@Override
+	public void loadKeys(Object[] keys, SharedSessionContractImplementor session) {
+		if ( keys.length == 0 ) {
+			return;
+		}
+		if ( MULTI_KEY_LOAD_LOGGER.isDebugEnabled() ) {
+			MULTI_KEY_LOAD_LOGGER.debugf( "Fetching %s collections: %s",
+					keys.length, getLoadable().getNavigableRole().getFullPath() );
+		}
+
+		final Object[] keysToInitialize = (Object[]) Array.newInstance(
+				getKeyType( getLoadable().getKeyDescriptor().getKeyPart() ),
+				keys.length
+		);
+		System.arraycopy( keys, 0, keysToInitialize, 0, keys.length );
+
+		initializeKeys( keysToInitialize[0], keysToInitialize, session );
+
+		finishInitializingKeys( keysToInitialize, session );
+	}
+
 	abstract void finishInitializingKeys(Object[] key, SharedSessionContractImplementor session);
 
 	protected void finishInitializingKey(Object key, SharedSessionContractImplementor session) {
@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
+
+/**
+ * Chooses the number of keys to load by each batch fetch, per entity or collection role.
+ * <p>
+ * The sizes are limited to a few {@linkplain #determineBucketSizes buckets} derived from the
+ * configured batch size, and the smallest bucket able to hold all keys pending in the
+ * {@link org.hibernate.engine.spi.BatchFetchQueue} is used. When a target latency is given,
+ * the largest bucket available to a role is lowered when batches of that size are observed to
+ * be slower than the target, and raised again once they take less than half of it.
+ *
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+ */
+@Incubating
+public class AdaptiveBatchFetchSizing {
+	private static final int MAX_BUCKETS = 4;
+	private static final double LATENCY_SMOOTHING = 0.2;
+
+	private final long targetLatencyNanos;
+	private final ConcurrentMap<String, RoleStatistics> statisticsByRole = new ConcurrentHashMap<>();
+
+	public AdaptiveBatchFetchSizing(long targetLatencyMillis) {
+		this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos( targetLatencyMillis );
+	}
+
+	/**
+	 * The batch sizes used for a role with the given configured batch size, largest first.
+	 */
+	public static int[] determineBucketSizes(int maximumBatchSize) {
+		int count = 1;
+		for ( int size = maximumBatchSize / 2; size >= 2 && count < MAX_BUCKETS; size /= 2 ) {
+			count++;
+		}
+		final int[] sizes = new int[count];
+		sizes[0] = maximumBatchSize;
+		for ( int i = 1; i < count; i++ ) {
+			sizes[i] = sizes[i - 1] / 2;
+		}
+		return sizes;
+	}
+
+	/**
+	 * Determine the number of keys to load for the given role.
+	 *
+	 * @param role The entity name or collection role
+	 * @param numberOfPendingKeys The number of keys queued for batch fetching
+	 * @param bucketSizes The {@linkplain #determineBucketSizes bucket sizes} of the role
+	 *
+	 * @return One of the given bucket sizes
+	 */
+	public int determineBatchSize(String role, int numberOfPendingKeys, int[] bucketSizes) {
+		final RoleStatistics statistics = getOrCreateStatistics( role, bucketSizes );
+		final int maximumLevel = statistics.maximumLevel;
+		int level = maximumLevel;
+		while ( level + 1 < bucketSizes.length && bucketSizes[level + 1] >= numberOfPendingKeys ) {
+			level++;
+		}
+		return bucketSizes[level];
+	}
+
+	/**
+	 * Record the execution of a batch fetch for the given role.
+	 *
+	 * @param batchSize The {@linkplain #determineBatchSize batch size} which was used
+	 * @param numberOfKeys The number of keys which were actually loaded
+	 * @param nanos The time the load took
+	 */
+	public void batchLoaded(String role, int batchSize, int numberOfKeys, long nanos) {
+		final RoleStatistics statistics = statisticsByRole.get( role );
+		if ( statistics != null ) {
+			statistics.batchLoaded( batchSize, numberOfKeys, nanos );
+		}
+	}
+
+	/**
+	 * The statistics of the given role, or {@code null} if no batch fetch happened yet.
+	 */
+	public @Nullable RoleStatistics getStatistics(String role) {
+		return statisticsByRole.get( role );
+	}
+
+	private RoleStatistics getOrCreateStatistics(String role, int[] bucketSizes) {
+		final RoleStatistics statistics = statisticsByRole.get( role );
+		return statistics != null
+				? statistics
+				: statisticsByRole.computeIfAbsent( role, r -> new RoleStatistics( r, bucketSizes ) );
+	}
+
+	/**
+	 * Batch fetch statistics of a single entity or collection role.
+	 */
+	public class RoleStatistics {
+		private final String role;
+		private final int[] bucketSizes;
+
+		private final LongAdder batchCount = new LongAdder();
+		private final LongAdder keyCount = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+
+		// index of the largest bucket currently allowed
+		private volatile int maximumLevel;
+		// smoothed latency of the batches of the largest allowed size
+		private double latencyNanos;
+
+		private RoleStatistics(String role, int[] bucketSizes) {
+			this.role = role;
+			this.bucketSizes = bucketSizes;
+		}
+
+		private void batchLoaded(int batchSize, int numberOfKeys, long nanos) {
+			batchCount.increment();
+			keyCount.add( numberOfKeys );
+			totalNanos.add( nanos );
+			if ( targetLatencyNanos > 0 ) {
+				adjustMaximumLevel( batchSize, nanos );
+			}
+		}
+
+		private synchronized void adjustMaximumLevel(int batchSize, long nanos) {
+			if ( batchSize != bucketSizes[maximumLevel] ) {
+				return;
+			}
+			latencyNanos = latencyNanos == 0
+					? nanos
+					: latencyNanos + LATENCY_SMOOTHING * ( nanos - latencyNanos );
+			if ( latencyNanos > targetLatencyNanos && maximumLevel + 1 < bucketSizes.length ) {
+				maximumLevel++;
+				latencyNanos = 0;
+				MULTI_KEY_LOAD_LOGGER.debugf( "Lowering batch fetch size of `%s` to %s", role, bucketSizes[maximumLevel] );
+			}
+			else if ( latencyNanos < targetLatencyNanos / 2.0 && maximumLevel > 0 ) {
+				maximumLevel--;
+				latencyNanos = 0;
+				MULTI_KEY_LOAD_LOGGER.debugf( "Raising batch fetch size of `%s` to %s", role, bucketSizes[maximumLevel] );
+			}
+		}
+
+		public String getRole() {
+			return role;
+		}
+
+		/**
+		 * The number of batch fetches executed for the role.
+		 */
+		public long getBatchCount() {
+			return batchCount.sum();
+		}
+
+		/**
+		 * The total number of keys loaded by batch fetches of the role.
+		 */
+		public long getKeyCount() {
+			return keyCount.sum();
+		}
+
+		/**
+		 * The average number of keys loaded by each batch fetch.
+		 */
+		public double getAverageKeyCount() {
+			final long batches = getBatchCount();
+			return batches == 0 ? 0 : (double) getKeyCount() / batches;
+		}
+
+		/**
+		 * The average time taken by a batch fetch, in milliseconds.
+		 */
+		public double getAverageLatency() {
+			final long batches = getBatchCount();
+			return batches == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / batches;
+		}
+
+		/**
+		 * The largest batch size currently used for the role.
+		 */
+		public int getMaximumBatchSize() {
+			return bucketSizes[maximumLevel];
+		}
+
+		@Override
+		public String toString() {
+			return "RoleStatistics(" + role
+					+ ", batches=" + getBatchCount()
+					+ ", keys=" + getKeyCount()
+					+ ", maximumBatchSize=" + getMaximumBatchSize() + ")";
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntFunction;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.CollectionBatchLoader;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+
+/**
+ * A {@link CollectionBatchLoader} which delegates each load to a loader for one of a few
+ * batch sizes, chosen by {@link AdaptiveBatchFetchSizing}.
+ *
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+ */
+public class AdaptiveCollectionBatchLoader implements CollectionBatchLoader {
+	private final PluralAttributeMapping attributeMapping;
+	private final AdaptiveBatchFetchSizing sizing;
+	private final IntFunction<CollectionBatchLoader> loaderCreator;
+	private final int[] bucketSizes;
+	private final ConcurrentMap<Integer, CollectionBatchLoader> loadersBySize = new ConcurrentHashMap<>();
+
+	public AdaptiveCollectionBatchLoader(
+			int domainBatchSize,
+			PluralAttributeMapping attributeMapping,
+			AdaptiveBatchFetchSizing sizing,
+			IntFunction<CollectionBatchLoader> loaderCreator) {
+		this.attributeMapping = attributeMapping;
+		this.sizing = sizing;
+		this.loaderCreator = loaderCreator;
+		this.bucketSizes = AdaptiveBatchFetchSizing.determineBucketSizes( domainBatchSize );
+	}
+
+	@Override
+	public PluralAttributeMapping getLoadable() {
+		return attributeMapping;
+	}
+
+	@Override
+	public int getDomainBatchSize() {
+		return bucketSizes[0];
+	}
+
+	private CollectionBatchLoader getLoader(int batchSize) {
+		final CollectionBatchLoader loader = loadersBySize.get( batchSize );
+		return loader != null ? loader : loadersBySize.computeIfAbsent( batchSize, loaderCreator::apply );
+	}
+
+	@Override
+	public PersistentCollection<?> load(Object key, SharedSessionContractImplementor session) {
+		final String role = attributeMapping.getNavigableRole().getFullPath();
+		final int pendingKeys = session.getPersistenceContextInternal().getBatchFetchQueue()
+				.getBatchLoadableCollectionCount( attributeMapping );
+		final int batchSize = sizing.determineBatchSize( role, pendingKeys, bucketSizes );
+		final long start = System.nanoTime();
+		final PersistentCollection<?> collection = getLoader( batchSize ).load( key, session );
+		sizing.batchLoaded( role, batchSize, Math.max( 1, Math.min( pendingKeys, batchSize ) ), System.nanoTime() - start );
+		return collection;
+	}
+
+	@Override
+	public void loadKeys(Object[] keys, SharedSessionContractImplementor session) {
+		// the number of keys is given, so there is nothing to adapt
+		getLoader( getDomainBatchSize() ).loadKeys( keys, session );
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"AdaptiveCollectionBatchLoader(%s [%s])",
+				attributeMapping.getNavigableRole().getFullPath(),
+				getDomainBatchSize()
+		);
+	}
+}
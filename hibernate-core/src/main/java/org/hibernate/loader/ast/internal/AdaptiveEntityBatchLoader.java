@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntFunction;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.EntityBatchLoader;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+
+/**
+ * An {@link EntityBatchLoader} which delegates each load to a loader for one of a few
+ * batch sizes, chosen by {@link AdaptiveBatchFetchSizing}.
+ *
+ * @see org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH
+ */
+public class AdaptiveEntityBatchLoader<T> implements EntityBatchLoader<T> {
+	private final EntityMappingType entityDescriptor;
+	private final AdaptiveBatchFetchSizing sizing;
+	private final IntFunction<EntityBatchLoader<T>> loaderCreator;
+	private final int[] bucketSizes;
+	private final ConcurrentMap<Integer, EntityBatchLoader<T>> loadersBySize = new ConcurrentHashMap<>();
+
+	public AdaptiveEntityBatchLoader(
+			int domainBatchSize,
+			EntityMappingType entityDescriptor,
+			AdaptiveBatchFetchSizing sizing,
+			IntFunction<EntityBatchLoader<T>> loaderCreator) {
+		this.entityDescriptor = entityDescriptor;
+		this.sizing = sizing;
+		this.loaderCreator = loaderCreator;
+		this.bucketSizes = AdaptiveBatchFetchSizing.determineBucketSizes( domainBatchSize );
+	}
+
+	@Override
+	public EntityMappingType getLoadable() {
+		return entityDescriptor;
+	}
+
+	@Override
+	public int getDomainBatchSize() {
+		return bucketSizes[0];
+	}
+
+	private EntityBatchLoader<T> getLoader(int batchSize) {
+		final EntityBatchLoader<T> loader = loadersBySize.get( batchSize );
+		return loader != null ? loader : loadersBySize.computeIfAbsent( batchSize, loaderCreator::apply );
+	}
+
+	@Override
+	public T load(Object pkValue, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
+		return load( pkValue, null, lockOptions, readOnly, session );
+	}
+
+	@Override
+	public T load(
+			Object pkValue,
+			Object entityInstance,
+			LockOptions lockOptions,
+			Boolean readOnly,
+			SharedSessionContractImplementor session) {
+		if ( lockOptions.getLockMode() != LockMode.NONE ) {
+			// not batched anyway
+			return getLoader( getDomainBatchSize() ).load( pkValue, entityInstance, lockOptions, readOnly, session );
+		}
+		final String role = entityDescriptor.getEntityName();
+		final int pendingKeys = session.getPersistenceContextInternal().getBatchFetchQueue()
+				.getBatchLoadableEntityKeyCount( entityDescriptor );
+		final int batchSize = sizing.determineBatchSize( role, pendingKeys, bucketSizes );
+		final long start = System.nanoTime();
+		final T result = getLoader( batchSize ).load( pkValue, entityInstance, lockOptions, readOnly, session );
+		sizing.batchLoaded( role, batchSize, Math.max( 1, Math.min( pendingKeys, batchSize ) ), System.nanoTime() - start );
+		return result;
+	}
+
+	@Override
+	public T load(
+			Object pkValue,
+			Object entityInstance,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		if ( lockOptions.getLockMode() != LockMode.NONE ) {
+			return getLoader( getDomainBatchSize() ).load( pkValue, entityInstance, lockOptions, session );
+		}
+		final String role = entityDescriptor.getEntityName();
+		final int pendingKeys = session.getPersistenceContextInternal().getBatchFetchQueue()
+				.getBatchLoadableEntityKeyCount( entityDescriptor );
+		final int batchSize = sizing.determineBatchSize( role, pendingKeys, bucketSizes );
+		final long start = System.nanoTime();
+		final T result = getLoader( batchSize ).load( pkValue, entityInstance, lockOptions, session );
+		sizing.batchLoaded( role, batchSize, Math.max( 1, Math.min( pendingKeys, batchSize ) ), System.nanoTime() - start );
+		return result;
+	}
+
+	@Override
+	public Object[] loadDatabaseSnapshot(Object id, SharedSessionContractImplementor session) {
+		return getLoader( getDomainBatchSize() ).loadDatabaseSnapshot( id, session );
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				Locale.ROOT,
+				"AdaptiveEntityBatchLoader(%s [%s])",
+				entityDescriptor.getEntityName(),
+				getDomainBatchSize()
+		);
+	}
+}
@@ -120,6 +120,23 @@ public class CollectionBatchLoaderArrayParam
 
 	}
 
+	@Override
+	public void loadKeys(Object[] keys, SharedSessionContractImplementor session) {
+		if ( getLoadable().getKeyDescriptor().isEmbedded() ) {
+			// the keys would need to be disassembled, so let the batch fetch queue drive the loading
+			for ( Object key : keys ) {
+				final CollectionKey collectionKey = new CollectionKey( getLoadable().getCollectionDescriptor(), key );
+				final PersistentCollection<?> collection = session.getPersistenceContextInternal().getCollection( collectionKey );
+				if ( collection == null || !collection.wasInitialized() ) {
+					load( key, session );
+				}
+			}
+		}
+		else {
+			super.loadKeys( keys, session );
+		}
+	}
+
 	private PersistentCollection<?> loadEmbeddable(
 			Object keyBeingLoaded,
 			SharedSessionContractImplementor session,
@@ -19,6 +19,12 @@ import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.Type;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.cfg.FetchSettings.ADAPTIVE_BATCH_FETCH;
+import static org.hibernate.cfg.FetchSettings.ADAPTIVE_BATCH_FETCH_TARGET_LATENCY;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 
 /**
@@ -27,8 +33,21 @@ import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlAr
  * @author Steve Ebersole
  */
 public class StandardBatchLoaderFactory implements BatchLoaderFactory {
+	private final @Nullable AdaptiveBatchFetchSizing adaptiveSizing;
+
 	@SuppressWarnings("unused")
 	public StandardBatchLoaderFactory(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		adaptiveSizing = getBoolean( ADAPTIVE_BATCH_FETCH, configurationValues )
+				? new AdaptiveBatchFetchSizing( getLong( ADAPTIVE_BATCH_FETCH_TARGET_LATENCY, configurationValues, 100 ) )
+				: null;
+	}
+
+	/**
+	 * The sizing used when {@linkplain org.hibernate.cfg.FetchSettings#ADAPTIVE_BATCH_FETCH adaptive
+	 * batch fetching} is enabled, giving access to its per-role statistics.
+	 */
+	public @Nullable AdaptiveBatchFetchSizing getAdaptiveSizing() {
+		return adaptiveSizing;
 	}
 
 	@Override
@@ -36,6 +55,21 @@ public class StandardBatchLoaderFactory implements BatchLoaderFactory {
 			int domainBatchSize,
 			EntityMappingType entityDescriptor,
 			LoadQueryInfluencers loadQueryInfluencers) {
+		if ( adaptiveSizing != null && domainBatchSize > 2 ) {
+			return new AdaptiveEntityBatchLoader<>(
+					domainBatchSize,
+					entityDescriptor,
+					adaptiveSizing,
+					batchSize -> createStandardEntityBatchLoader( batchSize, entityDescriptor, loadQueryInfluencers )
+			);
+		}
+		return createStandardEntityBatchLoader( domainBatchSize, entityDescriptor, loadQueryInfluencers );
+	}
+
+	private <T> EntityBatchLoader<T> createStandardEntityBatchLoader(
+			int domainBatchSize,
+			EntityMappingType entityDescriptor,
+			LoadQueryInfluencers loadQueryInfluencers) {
 		final SessionFactoryImplementor factory = loadQueryInfluencers.getSessionFactory();
 		// NOTE : don't use the EntityIdentifierMapping here because it will not be known until later
 		final Type identifierType = entityDescriptor.getEntityPersister().getIdentifierType();
@@ -56,6 +90,22 @@ public class StandardBatchLoaderFactory implements BatchLoaderFactory {
 			LoadQueryInfluencers influencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor factory) {
+		if ( adaptiveSizing != null && domainBatchSize > 2 ) {
+			return new AdaptiveCollectionBatchLoader(
+					domainBatchSize,
+					attributeMapping,
+					adaptiveSizing,
+					batchSize -> createStandardCollectionBatchLoader( batchSize, influencers, attributeMapping, factory )
+			);
+		}
+		return createStandardCollectionBatchLoader( domainBatchSize, influencers, attributeMapping, factory );
+	}
+
+	private CollectionBatchLoader createStandardCollectionBatchLoader(
+			int domainBatchSize,
+			LoadQueryInfluencers influencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor factory) {
 		if ( attributeMapping.getKeyDescriptor().getJdbcTypeCount() == 1
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() ) ) {
 			// we can use a single ARRAY parameter to send all the ids
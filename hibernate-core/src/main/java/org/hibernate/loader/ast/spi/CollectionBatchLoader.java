@@ -6,10 +6,35 @@
  */
 package org.hibernate.loader.ast.spi;
 
+import org.hibernate.Incubating;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
 /**
  * BatchLoader specialization for {@linkplain org.hibernate.metamodel.mapping.PluralAttributeMapping collection} fetching
  *
  * @author Steve Ebersole
  */
 public interface CollectionBatchLoader extends BatchLoader, CollectionLoader {
+	/**
+	 * Initialize the collections with the given keys, independently of the
+	 * {@linkplain #getDomainBatchSize() domain batch size} and of the keys
+	 * queued in the {@link org.hibernate.engine.spi.BatchFetchQueue}.
+	 *
+	 * @param keys The keys of uninitialized collections already registered
+	 *             with the persistence context
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default void loadKeys(Object[] keys, SharedSessionContractImplementor session) {
+		for ( Object key : keys ) {
+			final PersistentCollection<?> collection = session.getPersistenceContextInternal()
+					.getCollection( new CollectionKey( getLoadable().getCollectionDescriptor(), key ) );
+			if ( collection == null || !collection.wasInitialized() ) {
+				load( key, session );
+			}
+		}
+	}
 }
@@ -53,7 +53,8 @@ public interface Loadable extends ModelPart, RootTableGroupProducer {
 
 	private boolean isAffectedByBatchSize(LoadQueryInfluencers influencers) {
 		return influencers.getBatchSize() > 0
-			&& influencers.getBatchSize() != getBatchSize();
+			&& influencers.getBatchSize() != getBatchSize()
+			|| influencers.getBatchSize( getRootPathName() ) > 1;
 	}
 
 	int getBatchSize();
@@ -6,6 +6,7 @@
  */
 package org.hibernate.mapping;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -97,10 +98,11 @@ public class BasicValue extends SimpleValue implements JdbcTypeIndicators, Resol
 	private String explicitTypeName;
 	private Map<String,String> explicitLocalTypeParams;
 
-	private Function<TypeConfiguration, BasicJavaType> explicitJavaTypeAccess;
-	private Function<TypeConfiguration, JdbcType> explicitJdbcTypeAccess;
-	private Function<TypeConfiguration, MutabilityPlan> explicitMutabilityPlanAccess;
-	private Function<TypeConfiguration, java.lang.reflect.Type> implicitJavaTypeAccess;
+	// only needed until the value is resolved, and not serializable
+	private transient Function<TypeConfiguration, BasicJavaType> explicitJavaTypeAccess;
+	private transient Function<TypeConfiguration, JdbcType> explicitJdbcTypeAccess;
+	private transient Function<TypeConfiguration, MutabilityPlan> explicitMutabilityPlanAccess;
+	private transient Function<TypeConfiguration, java.lang.reflect.Type> implicitJavaTypeAccess;
 
 	private EnumType enumerationStyle;
 	private TemporalType temporalPrecision;
@@ -1148,7 +1150,7 @@ public class BasicValue extends SimpleValue implements JdbcTypeIndicators, Resol
 	 * Resolved form of {@link BasicValue} as part of interpreting the
 	 * boot-time model into the run-time model
 	 */
-	public interface Resolution<J> {
+	public interface Resolution<J> extends Serializable {
 		/**
 		 * The BasicType resolved using the pre-6.0 rules.  This is temporarily
 		 * needed because of the split in extracting / binding
@@ -6,6 +6,7 @@
  */
 package org.hibernate.mapping;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -13,7 +14,7 @@ import java.util.Objects;
  *
  * @author Gavin King
  */
-public class CheckConstraint {
+public class CheckConstraint implements Serializable {
 	private String name;
 	private String constraint;
 
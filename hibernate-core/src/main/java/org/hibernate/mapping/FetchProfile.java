@@ -9,6 +9,7 @@ package org.hibernate.mapping;
 import jakarta.persistence.FetchType;
 import org.hibernate.annotations.FetchMode;
 
+import java.io.Serializable;
 import java.util.LinkedHashSet;
 import java.util.Locale;
 
@@ -21,7 +22,7 @@ import static jakarta.persistence.FetchType.EAGER;
  *
  * @see org.hibernate.engine.profile.FetchProfile
  */
-public class FetchProfile {
+public class FetchProfile implements Serializable {
 
 	private final String name;
 	private final MetadataSource source;
@@ -109,7 +110,7 @@ public class FetchProfile {
 	/**
 	 * An individual association fetch within the given profile.
 	 */
-	public static class Fetch {
+	public static class Fetch implements Serializable {
 		private final String entity;
 		private final String association;
 		private final FetchMode method;
@@ -5,6 +5,7 @@
  * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
  */
 package org.hibernate.mapping;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -17,7 +18,7 @@ import java.util.List;
  *
  * @author Emmanuel Bernard
  */
-public class MappedSuperclass implements IdentifiableTypeClass {
+public class MappedSuperclass implements IdentifiableTypeClass, Serializable {
 	private final MappedSuperclass superMappedSuperclass;
 	private final PersistentClass superPersistentClass;
 	private final List<Property> declaredProperties;
@@ -107,7 +107,8 @@ public abstract class SimpleValue implements KeyValue {
 	private Type type;
 
 	private IdentifierGeneratorCreator customIdGeneratorCreator;
-	private Generator generator;
+	// holds runtime state, and is created again from the customIdGeneratorCreator
+	private transient Generator generator;
 
 	public SimpleValue(MetadataBuildingContext buildingContext) {
 		this.buildingContext = buildingContext;
@@ -996,10 +997,11 @@ public abstract class SimpleValue implements KeyValue {
 		}
 	}
 
-	private static final class ParameterTypeImpl implements DynamicParameterizedType.ParameterType {
+	private static final class ParameterTypeImpl implements DynamicParameterizedType.ParameterType, Serializable {
 
 		private final Class<?> returnedClass;
-		private final java.lang.reflect.Type returnedJavaType;
+		// only needed to build the type, and not serializable
+		private final transient java.lang.reflect.Type returnedJavaType;
 		private final Annotation[] annotationsMethod;
 		private final String catalog;
 		private final String schema;
@@ -16,6 +16,7 @@ import java.util.function.Supplier;
 import org.hibernate.HibernateException;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.bytecode.internal.GeneratedReflectionOptimizer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
@@ -244,6 +245,12 @@ public class EmbeddableRepresentationStrategyPojo implements EmbeddableRepresent
 			i++;
 		}
 
+		// prefer the accessors generated at build time, if any
+		final ReflectionOptimizer generatedOptimizer =
+				GeneratedReflectionOptimizer.resolve( bootDescriptor.getComponentClass(), propertyAccessMap );
+		if ( generatedOptimizer != null ) {
+			return generatedOptimizer;
+		}
 		return creationContext.getServiceRegistry()
 				.requireService( BytecodeProvider.class )
 				.getReflectionOptimizer( bootDescriptor.getComponentClass(), propertyAccessMap );
@@ -14,11 +14,14 @@ import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
+import org.hibernate.boot.internal.BootPhaseMonitor;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.bytecode.internal.GeneratedReflectionOptimizer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.bytecode.spi.ReflectionOptimizer.InstantiationOptimizer;
 import org.hibernate.classic.Lifecycle;
+import org.hibernate.event.spi.EventManager.BootPhase;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.ReflectHelper;
@@ -176,7 +179,16 @@ public class EntityRepresentationStrategyPojoStandard implements EntityRepresent
 		}
 
 		if ( proxyJtd != null && entityMetamodel.isLazy() ) {
-			final ProxyFactory proxyFactory = createProxyFactory( bootDescriptor, bytecodeProvider, creationContext );
+			final BootPhaseMonitor bootPhaseMonitor = creationContext.getBootstrapContext().getBootPhaseMonitor();
+			final BootPhaseMonitor.Timing proxyGeneration =
+					bootPhaseMonitor.begin( BootPhase.PROXY_GENERATION, bootDescriptor.getEntityName() );
+			final ProxyFactory proxyFactory;
+			try {
+				proxyFactory = createProxyFactory( bootDescriptor, bytecodeProvider, creationContext );
+			}
+			finally {
+				bootPhaseMonitor.complete( proxyGeneration );
+			}
 			if ( proxyFactory == null ) {
 				entityMetamodel.setLazy( false );
 			}
@@ -322,6 +334,12 @@ public class EntityRepresentationStrategyPojoStandard implements EntityRepresent
 	}
 
 	private ReflectionOptimizer resolveReflectionOptimizer(BytecodeProvider bytecodeProvider) {
+		// prefer the accessors generated at build time, if any
+		final ReflectionOptimizer generatedOptimizer =
+				GeneratedReflectionOptimizer.resolve( mappedJtd.getJavaTypeClass(), propertyAccessMap );
+		if ( generatedOptimizer != null ) {
+			return generatedOptimizer;
+		}
 		return bytecodeProvider.getReflectionOptimizer(
 				mappedJtd.getJavaTypeClass(),
 				propertyAccessMap
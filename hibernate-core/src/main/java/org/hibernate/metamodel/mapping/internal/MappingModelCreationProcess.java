@@ -7,11 +7,34 @@
 package org.hibernate.metamodel.mapping.internal;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
+import org.hibernate.HibernateException;
+import org.hibernate.boot.internal.BootPhaseMonitor;
+import org.hibernate.event.spi.EventManager.BootPhase;
+import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.Component;
+import org.hibernate.mapping.IndexedCollection;
+import org.hibernate.mapping.OneToMany;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.ToOne;
+import org.hibernate.mapping.Value;
+import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.metamodel.mapping.NonTransientException;
@@ -21,9 +44,23 @@ import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.sqm.function.SqmFunctionRegistry;
 
+import static org.hibernate.cfg.MappingSettings.MAPPING_MODEL_CREATION_PARALLELISM;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.metamodel.mapping.MappingModelCreationLogging.MAPPING_MODEL_CREATION_MESSAGE_LOGGER;
 
 /**
+ * Creates the mapping model of the entities, either on the calling thread or, when
+ * {@value org.hibernate.cfg.MappingSettings#MAPPING_MODEL_CREATION_PARALLELISM} is
+ * greater than one, on a bounded pool of threads.
+ * <p>
+ * In parallel, the entities of an inheritance hierarchy are prepared by the same task,
+ * since a subtype depends on its supertype, and a hierarchy is only prepared once the
+ * hierarchies it is associated with are prepared, see {@link #prepareInParallel()}.
+ * The callbacks registered by the tasks, and the failures of the tasks, are handled in
+ * the order of the tasks, so that errors are reported deterministically.  The post-init
+ * callbacks, which complete the mapping models of several hierarchies at once, are
+ * always executed sequentially, on the calling thread.
+ *
  * @author Steve Ebersole
  */
 public class MappingModelCreationProcess {
@@ -44,15 +81,20 @@ public class MappingModelCreationProcess {
 
 	private final EntityPersisterConcurrentMap entityPersisterMap;
 	private final RuntimeModelCreationContext creationContext;
+	private final BootPhaseMonitor bootPhaseMonitor;
 
-	private String currentlyProcessingRole;
+	private final ThreadLocal<String> currentlyProcessingRole = new ThreadLocal<>();
+	// the callbacks registered by the task running on the current thread, when in parallel
+	private final ThreadLocal<List<PostInitCallbackEntry>> taskPostInitCallbacks = new ThreadLocal<>();
 	private List<PostInitCallbackEntry> postInitCallbacks;
+	private ExecutorService executor;
 
 	private MappingModelCreationProcess(
 			EntityPersisterConcurrentMap entityPersisterMap,
 			RuntimeModelCreationContext creationContext) {
 		this.entityPersisterMap = entityPersisterMap;
 		this.creationContext = creationContext;
+		this.bootPhaseMonitor = creationContext.getBootstrapContext().getBootPhaseMonitor();
 	}
 
 	public RuntimeModelCreationContext getCreationContext() {
@@ -71,27 +113,233 @@ public class MappingModelCreationProcess {
 	 * Instance-level trigger for {@link #process}
 	 */
 	private void execute() {
+		final BootPhaseMonitor.Timing mappingModelCreation = bootPhaseMonitor.begin( BootPhase.MAPPING_MODEL_CREATION );
+		final long startTime = System.nanoTime();
 		for ( EntityPersister entityPersister : entityPersisterMap.values() ) {
 			if ( entityPersister instanceof InFlightEntityMappingType ) {
 				( (InFlightEntityMappingType) entityPersister ).linkWithSuperType( this );
 			}
 		}
+		final long linkedTime = System.nanoTime();
 
-		for ( EntityPersister entityPersister : entityPersisterMap.values() ) {
-			currentlyProcessingRole = entityPersister.getEntityName();
+		final int parallelism = getInt( MAPPING_MODEL_CREATION_PARALLELISM, creationContext.getSettings(), 1 );
+		if ( parallelism > 1 ) {
+			executor = Executors.newFixedThreadPool( parallelism, new MappingModelCreationThreadFactory() );
+		}
+		try {
+			if ( executor == null ) {
+				for ( EntityPersister entityPersister : entityPersisterMap.values() ) {
+					prepareMappingModel( entityPersister );
+				}
+			}
+			else {
+				prepareInParallel();
+			}
+			final long preparedTime = System.nanoTime();
 
-			if ( entityPersister instanceof InFlightEntityMappingType ) {
+			executePostInitCallbacks();
+			final long completedTime = System.nanoTime();
+
+			MAPPING_MODEL_CREATION_MESSAGE_LOGGER.debugf(
+					"Mapping-model creation of %s entities took %sms with %s thread(s) (linking: %sms, preparing: %sms, post-init callbacks: %sms)",
+					entityPersisterMap.values().length,
+					TimeUnit.NANOSECONDS.toMillis( completedTime - startTime ),
+					Math.max( 1, parallelism ),
+					TimeUnit.NANOSECONDS.toMillis( linkedTime - startTime ),
+					TimeUnit.NANOSECONDS.toMillis( preparedTime - linkedTime ),
+					TimeUnit.NANOSECONDS.toMillis( completedTime - preparedTime )
+			);
+		}
+		finally {
+			currentlyProcessingRole.remove();
+			if ( executor != null ) {
+				executor.shutdownNow();
+				executor = null;
+			}
+			bootPhaseMonitor.complete( mappingModelCreation );
+		}
+	}
+
+	private void prepareMappingModel(EntityPersister entityPersister) {
+		currentlyProcessingRole.set( entityPersister.getEntityName() );
+
+		if ( entityPersister instanceof InFlightEntityMappingType ) {
+			final BootPhaseMonitor.Timing timing =
+					bootPhaseMonitor.begin( BootPhase.MAPPING_MODEL_CREATION, entityPersister.getEntityName() );
+			try {
 				( (InFlightEntityMappingType) entityPersister ).prepareMappingModel( this );
 			}
+			finally {
+				bootPhaseMonitor.complete( timing );
+			}
 		}
+	}
 
-		executePostInitCallbacks();
+	/**
+	 * Prepare the inheritance hierarchies in waves, each wave made of the hierarchies
+	 * whose associated hierarchies are all prepared, so that a hierarchy only reads the
+	 * mapping model of another hierarchy once the task which prepared it has completed.
+	 * Hierarchies which reference each other are prepared one at a time, in the same
+	 * order as when the mapping model is created sequentially.
+	 */
+	private void prepareInParallel() {
+		final Map<EntityMappingType, List<EntityPersister>> remaining = hierarchies();
+		final Map<EntityMappingType, Set<EntityMappingType>> dependencies = new HashMap<>();
+		for ( Map.Entry<EntityMappingType, List<EntityPersister>> entry : remaining.entrySet() ) {
+			dependencies.put( entry.getKey(), associatedHierarchies( entry.getKey(), entry.getValue() ) );
+		}
+
+		while ( !remaining.isEmpty() ) {
+			final List<EntityMappingType> wave = new ArrayList<>();
+			for ( EntityMappingType rootType : remaining.keySet() ) {
+				if ( Collections.disjoint( dependencies.get( rootType ), remaining.keySet() ) ) {
+					wave.add( rootType );
+				}
+			}
+			if ( wave.isEmpty() ) {
+				// the remaining hierarchies depend on each other
+				wave.add( remaining.keySet().iterator().next() );
+			}
+
+			final List<List<EntityPersister>> tasks = new ArrayList<>( wave.size() );
+			for ( EntityMappingType rootType : wave ) {
+				tasks.add( remaining.remove( rootType ) );
+			}
+			executeInParallel( tasks, hierarchy -> hierarchy.forEach( this::prepareMappingModel ) );
+		}
+	}
+
+	/**
+	 * The entities grouped by inheritance hierarchy, in the order of the root entities
+	 */
+	private Map<EntityMappingType, List<EntityPersister>> hierarchies() {
+		final Map<EntityMappingType, List<EntityPersister>> hierarchies = new LinkedHashMap<>();
+		for ( EntityPersister entityPersister : entityPersisterMap.values() ) {
+			hierarchies.computeIfAbsent( rootType( entityPersister ), root -> new ArrayList<>() ).add( entityPersister );
+		}
+		return hierarchies;
+	}
+
+	private static EntityMappingType rootType(EntityMappingType entityMappingType) {
+		EntityMappingType rootType = entityMappingType;
+		while ( rootType.getSuperMappingType() != null ) {
+			rootType = rootType.getSuperMappingType();
+		}
+		return rootType;
+	}
+
+	/**
+	 * The other hierarchies the given hierarchy is associated with, according to the
+	 * boot model, and whose mapping model it may read while it is prepared
+	 */
+	private Set<EntityMappingType> associatedHierarchies(EntityMappingType rootType, List<EntityPersister> hierarchy) {
+		final Set<String> entityNames = new HashSet<>();
+		for ( EntityPersister entityPersister : hierarchy ) {
+			final PersistentClass bootEntityDescriptor =
+					creationContext.getBootModel().getEntityBinding( entityPersister.getEntityName() );
+			if ( bootEntityDescriptor != null ) {
+				if ( bootEntityDescriptor.getSuperclass() == null ) {
+					collectAssociatedEntityNames( bootEntityDescriptor.getIdentifier(), entityNames );
+					collectAssociatedEntityNames( bootEntityDescriptor.getIdentifierMapper(), entityNames );
+				}
+				for ( Property property : bootEntityDescriptor.getProperties() ) {
+					collectAssociatedEntityNames( property.getValue(), entityNames );
+				}
+			}
+		}
+
+		final Set<EntityMappingType> associatedHierarchies = new HashSet<>();
+		for ( String entityName : entityNames ) {
+			final EntityPersister associatedPersister = entityPersisterMap.get( entityName );
+			if ( associatedPersister != null ) {
+				associatedHierarchies.add( rootType( associatedPersister ) );
+			}
+		}
+		associatedHierarchies.remove( rootType );
+		return associatedHierarchies;
+	}
+
+	private static void collectAssociatedEntityNames(Value value, Set<String> entityNames) {
+		if ( value instanceof ToOne ) {
+			entityNames.add( ( (ToOne) value ).getReferencedEntityName() );
+		}
+		else if ( value instanceof OneToMany ) {
+			entityNames.add( ( (OneToMany) value ).getReferencedEntityName() );
+		}
+		else if ( value instanceof Component ) {
+			for ( Property property : ( (Component) value ).getProperties() ) {
+				collectAssociatedEntityNames( property.getValue(), entityNames );
+			}
+		}
+		else if ( value instanceof Collection ) {
+			final Collection collection = (Collection) value;
+			collectAssociatedEntityNames( collection.getElement(), entityNames );
+			if ( collection instanceof IndexedCollection ) {
+				collectAssociatedEntityNames( ( (IndexedCollection) collection ).getIndex(), entityNames );
+			}
+		}
+	}
+
+	/**
+	 * Execute the given action for each of the given tasks on the executor, and wait for
+	 * all of them.  The callbacks registered by each task are then added in the order of
+	 * the tasks, and the failure of the first failed task is rethrown with the failures of
+	 * the following tasks suppressed.
+	 */
+	private <T> void executeInParallel(List<T> tasks, Consumer<T> action) {
+		final List<Future<List<PostInitCallbackEntry>>> futures = new ArrayList<>( tasks.size() );
+		for ( T task : tasks ) {
+			futures.add( executor.submit( () -> {
+				final List<PostInitCallbackEntry> registeredCallbacks = new ArrayList<>();
+				taskPostInitCallbacks.set( registeredCallbacks );
+				try {
+					action.accept( task );
+				}
+				finally {
+					taskPostInitCallbacks.remove();
+					currentlyProcessingRole.remove();
+				}
+				return registeredCallbacks;
+			} ) );
+		}
+
+		Throwable failure = null;
+		for ( Future<List<PostInitCallbackEntry>> future : futures ) {
+			try {
+				for ( PostInitCallbackEntry callbackEntry : future.get() ) {
+					addPostInitCallback( callbackEntry );
+				}
+			}
+			catch (ExecutionException e) {
+				if ( failure == null ) {
+					failure = e.getCause();
+				}
+				else {
+					failure.addSuppressed( e.getCause() );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while creating the mapping model", e );
+			}
+		}
+
+		if ( failure instanceof RuntimeException ) {
+			throw (RuntimeException) failure;
+		}
+		else if ( failure instanceof Error ) {
+			throw (Error) failure;
+		}
+		else if ( failure != null ) {
+			throw new HibernateException( "Mapping-model creation failed", failure );
+		}
 	}
 
 	private void executePostInitCallbacks() {
 		MAPPING_MODEL_CREATION_MESSAGE_LOGGER.debugf( "Starting post-init callbacks" );
 
-		Map<PostInitCallbackEntry, Exception> exceptions = new HashMap<>();
+		// in registration order, so that the suppressed errors are reported deterministically
+		Map<PostInitCallbackEntry, Exception> exceptions = new LinkedHashMap<>();
 		while ( postInitCallbacks != null && !postInitCallbacks.isEmpty() ) {
 			// copy to avoid CCME
 			final ArrayList<PostInitCallbackEntry> copy = new ArrayList<>( postInitCallbacks );
@@ -154,24 +402,37 @@ public class MappingModelCreationProcess {
 	public <T extends ModelPart> T processSubPart(
 			String localName,
 			SubPartMappingProducer<T> subPartMappingProducer) {
-		assert currentlyProcessingRole != null;
+		final String initialRole = currentlyProcessingRole.get();
+		assert initialRole != null;
 
-		final String initialRole = currentlyProcessingRole;
-		currentlyProcessingRole = currentlyProcessingRole + '#' + localName;
+		final String role = initialRole + '#' + localName;
+		currentlyProcessingRole.set( role );
 
 		try {
-			return subPartMappingProducer.produceSubMapping( currentlyProcessingRole, this );
+			return subPartMappingProducer.produceSubMapping( role, this );
 		}
 		finally {
-			currentlyProcessingRole = initialRole;
+			currentlyProcessingRole.set( initialRole );
 		}
 	}
 
 	public void registerInitializationCallback(String description, PostInitCallback callback) {
+		final PostInitCallbackEntry callbackEntry = new PostInitCallbackEntry( description, callback );
+		final List<PostInitCallbackEntry> registeredCallbacks = taskPostInitCallbacks.get();
+		if ( registeredCallbacks != null ) {
+			// added once the task completes, see executeInParallel()
+			registeredCallbacks.add( callbackEntry );
+		}
+		else {
+			addPostInitCallback( callbackEntry );
+		}
+	}
+
+	private void addPostInitCallback(PostInitCallbackEntry callbackEntry) {
 		if ( postInitCallbacks == null ) {
 			postInitCallbacks = new ArrayList<>();
 		}
-		postInitCallbacks.add( new PostInitCallbackEntry( description, callback ) );
+		postInitCallbacks.add( callbackEntry );
 	}
 
 	public void registerForeignKeyPostInitCallbacks(String description, PostInitCallback callback) {
@@ -181,7 +442,8 @@ public class MappingModelCreationProcess {
 	private final Map<NavigableRole,ForeignKeyDescriptor> keyDescriptorMap = new HashMap<>();
 	private final Map<NavigableRole,List<Consumer<ForeignKeyDescriptor>>> keyDescriptorWaitingConsumerMap = new HashMap<>();
 
-	public void withForeignKey(ModelPart keyOwner, Consumer<ForeignKeyDescriptor> consumer) {
+	// synchronized since the tasks run in parallel may register foreign keys
+	public synchronized void withForeignKey(ModelPart keyOwner, Consumer<ForeignKeyDescriptor> consumer) {
 		withForeignKey( keyOwner.getNavigableRole(), consumer );
 	}
 
@@ -204,7 +466,7 @@ public class MappingModelCreationProcess {
 		}
 	}
 
-	public void registerForeignKey(ModelPart keyOwner, ForeignKeyDescriptor keyDescriptor) {
+	public synchronized void registerForeignKey(ModelPart keyOwner, ForeignKeyDescriptor keyDescriptor) {
 		final NavigableRole navigableRole = keyOwner.getNavigableRole();
 		keyDescriptorMap.put( navigableRole, keyDescriptor );
 
@@ -251,4 +513,15 @@ public class MappingModelCreationProcess {
 			return "PostInitCallbackEntry - " + description;
 		}
 	}
+
+	private static class MappingModelCreationThreadFactory implements ThreadFactory {
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable, "Hibernate Mapping Model Creation Thread " + counter.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		}
+	}
 }
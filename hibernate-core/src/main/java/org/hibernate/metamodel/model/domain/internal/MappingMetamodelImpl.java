@@ -23,6 +23,7 @@ import org.hibernate.EntityNameResolver;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.UnknownEntityTypeException;
+import org.hibernate.boot.internal.BootPhaseMonitor;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.boot.spi.MetadataImplementor;
@@ -30,6 +31,7 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.event.spi.EventManager.BootPhase;
 import org.hibernate.graph.RootGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.internal.EntityManagerMessageLogger;
@@ -58,6 +60,7 @@ import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.persister.spi.PersisterFactory;
@@ -180,18 +183,25 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		final PersisterFactory persisterFactory =
 				jpaMetamodel.getServiceRegistry().requireService( PersisterFactory.class );
 		final CacheImplementor cache = context.getCache();
-		processBootEntities(
-				bootModel.getEntityBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
-		processBootCollections(
-				bootModel.getCollectionBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
+		final BootPhaseMonitor bootPhaseMonitor = context.getBootstrapContext().getBootPhaseMonitor();
+		final BootPhaseMonitor.Timing persisterCreation = bootPhaseMonitor.begin( BootPhase.PERSISTER_CREATION );
+		try {
+			processBootEntities(
+					bootModel.getEntityBindings(),
+					cache,
+					persisterFactory,
+					context
+			);
+			processBootCollections(
+					bootModel.getCollectionBindings(),
+					cache,
+					persisterFactory,
+					context
+			);
+		}
+		finally {
+			bootPhaseMonitor.complete( persisterCreation );
+		}
 
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// after *all* persisters and named queries are registered
@@ -204,7 +214,10 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		}
 
 		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.prepareLoaders();
+			if ( !( persister instanceof AbstractEntityPersister )
+					|| !( (AbstractEntityPersister) persister ).isInitializedOnFirstUse() ) {
+				persister.prepareLoaders();
+			}
 		}
 
 		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
@@ -240,18 +253,27 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
 			RuntimeModelCreationContext modelCreationContext) {
+		final BootPhaseMonitor bootPhaseMonitor = modelCreationContext.getBootstrapContext().getBootPhaseMonitor();
 		for ( final PersistentClass model : entityBindings ) {
 			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
 			final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
 			final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
 					.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
 
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					modelCreationContext
-			);
+			final BootPhaseMonitor.Timing persisterCreation =
+					bootPhaseMonitor.begin( BootPhase.PERSISTER_CREATION, model.getEntityName() );
+			final EntityPersister cp;
+			try {
+				cp = persisterFactory.createEntityPersister(
+						model,
+						accessStrategy,
+						naturalIdAccessStrategy,
+						modelCreationContext
+				);
+			}
+			finally {
+				bootPhaseMonitor.complete( persisterCreation );
+			}
 			entityPersisterMap.put( model.getEntityName(), cp );
 			// Also register the persister under the class name if available,
 			// otherwise the getEntityDescriptor(Class) won't work for entities with custom entity names
@@ -28,6 +28,7 @@ import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.function.Supplier;
 
 import org.hibernate.AssertionFailure;
@@ -51,6 +52,7 @@ import org.hibernate.boot.model.internal.SoftDeleteHelper;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
@@ -77,6 +79,7 @@ import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.internal.ImmutableEntityEntryFactory;
 import org.hibernate.engine.internal.MutableEntityEntryFactory;
+import org.hibernate.engine.internal.NPlusOneDetector;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -303,6 +306,7 @@ import org.hibernate.type.spi.TypeConfiguration;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static org.hibernate.cfg.MappingSettings.LAZY_PERSISTER_INITIALIZATION;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfManagedEntity;
@@ -325,6 +329,7 @@ import static org.hibernate.internal.util.collections.CollectionHelper.combine;
 import static org.hibernate.internal.util.collections.CollectionHelper.isNotEmpty;
 import static org.hibernate.internal.util.collections.CollectionHelper.setOfSize;
 import static org.hibernate.internal.util.collections.CollectionHelper.toSmallList;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 import static org.hibernate.metamodel.RepresentationMode.POJO;
 import static org.hibernate.persister.entity.DiscriminatorHelper.NOT_NULL_DISCRIMINATOR;
@@ -416,6 +421,10 @@ public abstract class AbstractEntityPersister
 	private DeleteCoordinator deleteCoordinator;
 	private UpdateCoordinator mergeCoordinator;
 
+	// see MappingSettings.LAZY_PERSISTER_INITIALIZATION
+	private final boolean initializedOnFirstUse;
+	private volatile boolean firstUseInitializationPending;
+
 	private SqmMultiTableMutationStrategy sqmMultiTableMutationStrategy;
 	private SqmMultiTableInsertStrategy sqmMultiTableInsertStrategy;
 
@@ -489,6 +498,8 @@ public abstract class AbstractEntityPersister
 
 	private List<UniqueKeyEntry> uniqueKeyEntries = null; //lazily initialized
 
+	private volatile TrackedFieldPositions trackedFieldPositions; //lazily initialized
+
 	@Deprecated(since = "6.0")
 	public AbstractEntityPersister(
 			final PersistentClass persistentClass,
@@ -508,6 +519,9 @@ public abstract class AbstractEntityPersister
 		//set it here, but don't call it, since it's still uninitialized!
 		factory = creationContext.getSessionFactory();
 
+		initializedOnFirstUse = getBoolean( LAZY_PERSISTER_INITIALIZATION, creationContext.getSettings() );
+		firstUseInitializationPending = initializedOnFirstUse;
+
 		sqlAliasStem = SqlAliasStemHelper.INSTANCE.generateStemFromEntityName( persistentClass.getEntityName() );
 
 		navigableRole = new NavigableRole( persistentClass.getEntityName() );
@@ -1090,30 +1104,36 @@ public abstract class AbstractEntityPersister
 	}
 
 	SingleIdArrayLoadPlan getSQLLazySelectLoadPlan(String fetchGroup) {
+		initializeIfFirstUse();
 		return lazyLoadPlanByFetchGroup.get( fetchGroup );
 	}
 
 	@Override
 	public InsertCoordinator getInsertCoordinator() {
+		initializeIfFirstUse();
 		return insertCoordinator;
 	}
 
 	@Override
 	public UpdateCoordinator getUpdateCoordinator() {
+		initializeIfFirstUse();
 		return updateCoordinator;
 	}
 
 	@Override
 	public DeleteCoordinator getDeleteCoordinator() {
+		initializeIfFirstUse();
 		return deleteCoordinator;
 	}
 
 	@Override
 	public UpdateCoordinator getMergeCoordinator() {
+		initializeIfFirstUse();
 		return mergeCoordinator;
 	}
 
 	public String getVersionSelectString() {
+		initializeIfFirstUse();
 		return sqlVersionSelectString;
 	}
 
@@ -1671,6 +1691,7 @@ public abstract class AbstractEntityPersister
 		try {
 			Object result = null;
 			final Object[] values = lazySelect.load( id, session );
+			NPlusOneDetector.lazyAttributeLoaded( this, fieldName, session );
 			int i = 0;
 			for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
 				final boolean previousInitialized = initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() );
@@ -2037,7 +2058,7 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, SharedSessionContractImplementor session) throws HibernateException {
-		return singleIdLoader.loadDatabaseSnapshot( id, session );
+		return getSingleIdLoader().loadDatabaseSnapshot( id, session );
 	}
 
 	@Override
@@ -2081,7 +2102,7 @@ public abstract class AbstractEntityPersister
 	public Object forceVersionIncrement(Object id, Object currentVersion, SharedSessionContractImplementor session) {
 		assert getMappedTableDetails().getTableName().equals( getVersionedTableName() );
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, session );
 		return nextVersion;
 	}
 
@@ -2093,7 +2114,7 @@ public abstract class AbstractEntityPersister
 			SharedSessionContractImplementor session) throws HibernateException {
 		assert getMappedTableDetails().getTableName().equals( getVersionedTableName() );
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
 		return nextVersion;
 	}
 
@@ -2548,18 +2569,7 @@ public abstract class AbstractEntityPersister
 		if ( estimatedSize == 0 ) {
 			return ArrayHelper.EMPTY_INT_ARRAY;
 		}
-		if ( !mutablePropertiesIndexes.isEmpty() ) {
-			// We have to check the state for "mutable" properties as dirty tracking isn't aware of mutable types
-			final Type[] propertyTypes = entityMetamodel.getPropertyTypes();
-			final boolean[] propertyCheckability = entityMetamodel.getPropertyCheckability();
-			for ( int i = mutablePropertiesIndexes.nextSetBit(0); i >= 0;
-					i = mutablePropertiesIndexes.nextSetBit(i + 1) ) {
-				// This is kindly borrowed from org.hibernate.type.TypeHelper.findDirty
-				if ( isDirty( currentState, previousState, propertyTypes, propertyCheckability, i, session ) ) {
-					fields.add( i );
-				}
-			}
-		}
+		addDirtyMutableProperties( currentState, previousState, session, fields::add );
 
 		if ( attributeNames.length != 0 ) {
 			final boolean[] propertyUpdateability = entityMetamodel.getPropertyUpdateability();
@@ -2623,6 +2633,91 @@ public abstract class AbstractEntityPersister
 		return toIntArray( fields );
 	}
 
+	@Override
+	public int[] resolveDirtyAttributeIndexes(
+			final Object[] currentState,
+			final Object[] previousState,
+			final SimpleFieldTracker dirtyTracker,
+			final SessionImplementor session) {
+		final BitSet fields = new BitSet( attributeMappings.size() );
+		addDirtyMutableProperties( currentState, previousState, session, fields::set );
+
+		final int[] positions = getTrackedFieldPositions( dirtyTracker.getFieldNames() );
+		for ( int index = dirtyTracker.nextDirtyIndex( 0 ); index >= 0;
+				index = dirtyTracker.nextDirtyIndex( index + 1 ) ) {
+			final int position = positions[index];
+			if ( position >= 0 ) {
+				fields.set( position );
+			}
+		}
+
+		final String[] paths = dirtyTracker.getPaths();
+		if ( paths.length != 0 ) {
+			final boolean[] propertyUpdateability = entityMetamodel.getPropertyUpdateability();
+			for ( String path : paths ) {
+				final int dot = path.indexOf( '.' );
+				final Integer index =
+						entityMetamodel.getPropertyIndexOrNull( dot < 0 ? path : path.substring( 0, dot ) );
+				if ( index != null && propertyUpdateability[index] ) {
+					fields.set( index );
+				}
+			}
+		}
+
+		return fields.stream().toArray();
+	}
+
+	/**
+	 * The state array positions of the updatable attributes corresponding to
+	 * the fields tracked by a {@link SimpleFieldTracker}, or {@code -1} for
+	 * fields which are not updatable attributes of this entity.
+	 */
+	private int[] getTrackedFieldPositions(String[] fieldNames) {
+		TrackedFieldPositions cached = trackedFieldPositions;
+		// all instances of the entity class share the same array of names
+		if ( cached == null || cached.fieldNames != fieldNames ) {
+			final boolean[] propertyUpdateability = entityMetamodel.getPropertyUpdateability();
+			final int[] positions = new int[fieldNames.length];
+			for ( int i = 0; i < fieldNames.length; i++ ) {
+				final Integer index = entityMetamodel.getPropertyIndexOrNull( fieldNames[i] );
+				positions[i] = index != null && propertyUpdateability[index] ? index : -1;
+			}
+			cached = new TrackedFieldPositions( fieldNames, positions );
+			trackedFieldPositions = cached;
+		}
+		return cached.positions;
+	}
+
+	private static final class TrackedFieldPositions {
+		private final String[] fieldNames;
+		private final int[] positions;
+
+		private TrackedFieldPositions(String[] fieldNames, int[] positions) {
+			this.fieldNames = fieldNames;
+			this.positions = positions;
+		}
+	}
+
+	private void addDirtyMutableProperties(
+			Object[] currentState,
+			Object[] previousState,
+			SessionImplementor session,
+			IntConsumer dirtyProperties) {
+		final BitSet mutablePropertiesIndexes = entityMetamodel.getMutablePropertiesIndexes();
+		if ( !mutablePropertiesIndexes.isEmpty() ) {
+			// We have to check the state for "mutable" properties as dirty tracking isn't aware of mutable types
+			final Type[] propertyTypes = entityMetamodel.getPropertyTypes();
+			final boolean[] propertyCheckability = entityMetamodel.getPropertyCheckability();
+			for ( int i = mutablePropertiesIndexes.nextSetBit(0); i >= 0;
+					i = mutablePropertiesIndexes.nextSetBit(i + 1) ) {
+				// This is kindly borrowed from org.hibernate.type.TypeHelper.findDirty
+				if ( isDirty( currentState, previousState, propertyTypes, propertyCheckability, i, session ) ) {
+					dirtyProperties.accept( i );
+				}
+			}
+		}
+	}
+
 	private boolean isDirty(
 			Object[] currentState,
 			Object[] previousState,
@@ -2953,7 +3048,7 @@ public abstract class AbstractEntityPersister
 	 */
 	@Override
 	public void delete(Object id, Object version, Object object, SharedSessionContractImplementor session) {
-		deleteCoordinator.delete( object, id, version, session );
+		getDeleteCoordinator().delete( object, id, version, session );
 	}
 
 	/**
@@ -3438,11 +3533,6 @@ public abstract class AbstractEntityPersister
 			updateGeneratedValuesProcessor = createGeneratedValuesProcessor( UPDATE, updateGeneratedAttributes );
 		}
 
-		insertCoordinator = buildInsertCoordinator();
-		updateCoordinator = buildUpdateCoordinator();
-		deleteCoordinator = buildDeleteCoordinator();
-		mergeCoordinator = buildMergeCoordinator();
-
 		final int joinSpan = getTableSpan();
 
 		tableHasColumns = new boolean[joinSpan];
@@ -3452,10 +3542,50 @@ public abstract class AbstractEntityPersister
 			tableHasColumns[j] = tableMapping.hasColumns();
 		}
 
+		if ( !initializedOnFirstUse ) {
+			prepareMutations();
+		}
+	}
+
+	private void prepareMutations() {
+		insertCoordinator = buildInsertCoordinator();
+		updateCoordinator = buildUpdateCoordinator();
+		deleteCoordinator = buildDeleteCoordinator();
+		mergeCoordinator = buildMergeCoordinator();
+
 		//select SQL
 		sqlVersionSelectString = generateSelectVersionString();
 	}
 
+	/**
+	 * Whether the loaders and the mutation coordinators of this persister are
+	 * built on first use, rather than when the {@code SessionFactory} is built,
+	 * in which case {@link #prepareLoaders()} is not called at that time.
+	 *
+	 * @see org.hibernate.cfg.MappingSettings#LAZY_PERSISTER_INITIALIZATION
+	 */
+	@Internal
+	public boolean isInitializedOnFirstUse() {
+		return initializedOnFirstUse;
+	}
+
+	private void initializeIfFirstUse() {
+		// check the final flag first, so that there is no volatile
+		// read when the persister is not initialized on first use
+		if ( initializedOnFirstUse && firstUseInitializationPending ) {
+			initializeOnFirstUse();
+		}
+	}
+
+	private synchronized void initializeOnFirstUse() {
+		if ( firstUseInitializationPending ) {
+			LOG.debugf( "Initializing entity persister on first use : %s", getEntityName() );
+			prepareMutations();
+			prepareLoaders();
+			firstUseInitializationPending = false;
+		}
+	}
+
 	protected GeneratedValuesMutationDelegate createInsertDelegate() {
 		if ( isIdentifierAssignedByInsert() ) {
 			final OnExecutionGenerator generator = (OnExecutionGenerator) getGenerator();
@@ -3785,6 +3915,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	public SingleIdEntityLoader<?> getSingleIdLoader() {
+		initializeIfFirstUse();
 		return singleIdLoader;
 	}
 
@@ -3808,6 +3939,7 @@ public abstract class AbstractEntityPersister
 			}
 			if ( loaded == null ) {
 				loaded = determineLoaderToUse( session ).load( identifier, entity, LockOptions.NONE, session );
+				NPlusOneDetector.entityLoaded( this, session );
 			}
 
 			if ( loaded == null ) {
@@ -3839,6 +3971,7 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions) {
+		initializeIfFirstUse();
 		return multiIdLoader.load( ids, loadOptions, session );
 	}
 
@@ -6426,7 +6559,7 @@ public abstract class AbstractEntityPersister
 	@Deprecated(forRemoval = true)
 	@Remove
 	public String[] getSQLDeleteStrings() {
-		return extractSqlStrings( deleteCoordinator.getStaticMutationOperationGroup() );
+		return extractSqlStrings( getDeleteCoordinator().getStaticMutationOperationGroup() );
 	}
 
 	private String[] extractSqlStrings(MutationOperationGroup operationGroup) {
@@ -6448,7 +6581,7 @@ public abstract class AbstractEntityPersister
 	@Deprecated(forRemoval = true)
 	@Remove
 	public String[] getSQLUpdateStrings() {
-		return extractSqlStrings( updateCoordinator.getStaticMutationOperationGroup() );
+		return extractSqlStrings( getUpdateCoordinator().getStaticMutationOperationGroup() );
 	}
 
 	/**
@@ -17,6 +17,7 @@ import org.hibernate.Incubating;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
+import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.MutableCacheKeyBuilder;
@@ -1250,6 +1251,25 @@ public interface EntityPersister extends EntityMappingType, EntityMutationTarget
 		return resolveAttributeIndexes( attributeNames );
 	}
 
+	/**
+	 * Like {@link #resolveDirtyAttributeIndexes(Object[], Object[], String[], SessionImplementor)}
+	 * but reads the changed attributes directly from the indexes recorded by the given tracker
+	 *
+	 * @param dirtyTracker The tracker of the changed attributes of the entity
+	 *
+	 * @return A set of unique indexes of the changed attributes found in the metamodel
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default int[] resolveDirtyAttributeIndexes(
+			Object[] values,
+			Object[] loadedState,
+			SimpleFieldTracker dirtyTracker,
+			SessionImplementor session) {
+		return resolveDirtyAttributeIndexes( values, loadedState, dirtyTracker.get(), session );
+	}
+
 	boolean canUseReferenceCacheEntries();
 
 	@Incubating
@@ -10,14 +10,19 @@ import static org.hibernate.internal.CoreLogging.messageLogger;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
+import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.bytecode.internal.bytebuddy.ByteBuddyState;
 import org.hibernate.engine.spi.PrimeAmongSecondarySupertypes;
 import org.hibernate.internal.CoreMessageLogger;
@@ -53,6 +58,11 @@ public class ByteBuddyProxyHelper implements Serializable {
 	public Class buildProxy(
 			final Class<?> persistentClass,
 			final Class<?>[] interfaces) {
+		final Class<?> pregeneratedProxy = findPregeneratedProxy( persistentClass, interfaces );
+		if ( pregeneratedProxy != null ) {
+			return pregeneratedProxy;
+		}
+
 		Set<Class<?>> key = new HashSet<>();
 		if ( interfaces.length == 1 ) {
 			key.add( persistentClass );
@@ -80,6 +90,128 @@ public class ByteBuddyProxyHelper implements Serializable {
 		return byteBuddyState.make( typePool, proxyBuilder( persistentClass, interfaces ) );
 	}
 
+	/**
+	 * Build a proxy for the given entity class with the given name, for generation at build time.
+	 *
+	 * @see org.hibernate.bytecode.enhance.spi.Enhancer#generateProxy(String, byte[])
+	 */
+	public DynamicType.Unloaded<?> buildUnloadedProxy(TypePool typePool, TypeDefinition persistentClass,
+			String proxyClassName) {
+		final Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder = proxyBuilder( persistentClass,
+				List.of( TypeDescription.ForLoadedType.of( HibernateProxy.class ) ) );
+		return byteBuddyState.make( typePool, byteBuddy -> proxyBuilder.apply( byteBuddy ).name( proxyClassName ) );
+	}
+
+	/**
+	 * Locate the proxy class generated at build time for the given entity class, if any,
+	 * and if it still matches the entity class.
+	 */
+	private static Class<?> findPregeneratedProxy(Class<?> persistentClass, Class<?>[] interfaces) {
+		// only proxies which extend the entity class are generated at build time
+		if ( interfaces.length != 1 || interfaces[0] != HibernateProxy.class
+				|| persistentClass.getClassLoader() == null ) {
+			return null;
+		}
+		final String proxyClassName = persistentClass.getName() + EnhancerConstants.PROXY_CLASS_NAME_SUFFIX;
+		final Class<?> proxyClass;
+		try {
+			proxyClass = Class.forName( proxyClassName, false, persistentClass.getClassLoader() );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return null;
+		}
+		if ( proxyClass.getSuperclass() != persistentClass
+				|| !HibernateProxy.class.isAssignableFrom( proxyClass )
+				|| !ProxyConfiguration.class.isAssignableFrom( proxyClass )
+				|| !overridesDeclaredMethods( proxyClass, persistentClass ) ) {
+			LOG.debugf( "Ignoring proxy class [%s]: it does not match entity class [%s], which was probably recompiled",
+					proxyClassName, persistentClass.getName() );
+			return null;
+		}
+		LOG.tracef( "Using proxy class [%s] generated at build time", proxyClassName );
+		return proxyClass;
+	}
+
+	/**
+	 * Whether the proxy class overrides every method it would override if it were generated now,
+	 * that is, every method of the entity class, or inherited from a superclass or interface,
+	 * which may be overridden. The proxy class is stale if a method was added anywhere in the
+	 * hierarchy since it was generated.
+	 */
+	private static boolean overridesDeclaredMethods(Class<?> proxyClass, Class<?> persistentClass) {
+		final Set<List<Object>> visitedSignatures = new HashSet<>();
+		for ( Class<?> type = persistentClass; type != null && type != Object.class; type = type.getSuperclass() ) {
+			if ( !overridesMethods( proxyClass, persistentClass, type, visitedSignatures ) ) {
+				return false;
+			}
+		}
+		for ( Class<?> type : interfaces( persistentClass ) ) {
+			if ( !overridesMethods( proxyClass, persistentClass, type, visitedSignatures ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean overridesMethods(
+			Class<?> proxyClass,
+			Class<?> persistentClass,
+			Class<?> type,
+			Set<List<Object>> visitedSignatures) {
+		for ( Method method : type.getDeclaredMethods() ) {
+			final int modifiers = method.getModifiers();
+			if ( Modifier.isStatic( modifiers ) || Modifier.isPrivate( modifiers ) || method.isSynthetic() ) {
+				continue;
+			}
+			// the most specific declaration of a method decides whether it may be overridden
+			if ( visitedSignatures.add( signature( method ) )
+					&& !Modifier.isFinal( modifiers ) && !isFinalizer( method )
+					&& isVisible( method, persistentClass ) ) {
+				try {
+					proxyClass.getDeclaredMethod( method.getName(), method.getParameterTypes() );
+				}
+				catch (NoSuchMethodException e) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static Set<Class<?>> interfaces(Class<?> persistentClass) {
+		final Set<Class<?>> interfaces = new LinkedHashSet<>();
+		for ( Class<?> type = persistentClass; type != null; type = type.getSuperclass() ) {
+			collectInterfaces( type, interfaces );
+		}
+		return interfaces;
+	}
+
+	private static void collectInterfaces(Class<?> type, Set<Class<?>> interfaces) {
+		for ( Class<?> implemented : type.getInterfaces() ) {
+			if ( interfaces.add( implemented ) ) {
+				collectInterfaces( implemented, interfaces );
+			}
+		}
+	}
+
+	private static List<Object> signature(Method method) {
+		final List<Object> signature = new ArrayList<>( method.getParameterCount() + 1 );
+		signature.add( method.getName() );
+		Collections.addAll( signature, method.getParameterTypes() );
+		return signature;
+	}
+
+	private static boolean isVisible(Method method, Class<?> persistentClass) {
+		final int modifiers = method.getModifiers();
+		return Modifier.isPublic( modifiers ) || Modifier.isProtected( modifiers )
+				// package private methods of superclasses in other packages cannot be overridden
+				|| method.getDeclaringClass().getPackageName().equals( persistentClass.getPackageName() );
+	}
+
+	private static boolean isFinalizer(Method method) {
+		return method.getParameterCount() == 0 && method.getName().equals( "finalize" );
+	}
+
 	private Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder(TypeDefinition persistentClass,
 			Collection<? extends TypeDefinition> interfaces) {
 		ByteBuddyState.ProxyDefinitionHelpers helpers = byteBuddyState.getProxyDefinitionHelpers();
@@ -584,6 +584,9 @@ public interface NativeQuery<T> extends Query<T>, SynchronizeableQuery {
 	@Override
 	NativeQuery<T> setReadOnly(boolean readOnly);
 
+	@Override
+	NativeQuery<T> setStreamHighWaterMark(int highWaterMark);
+
 	/**
 	 * @inheritDoc
 	 *
@@ -879,6 +879,9 @@ public interface Query<R> extends SelectionQuery<R>, MutationQuery, TypedQuery<R
 	@Override
 	Query<R> setReadOnly(boolean readOnly);
 
+	@Override
+	Query<R> setStreamHighWaterMark(int highWaterMark);
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// covariant overrides - jakarta.persistence.Query/TypedQuery
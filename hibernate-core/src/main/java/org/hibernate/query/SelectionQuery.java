@@ -13,6 +13,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -124,6 +125,39 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 		return list();
 	}
 
+	/**
+	 * Execute the query asynchronously, returning a {@link CompletionStage}
+	 * which completes with the query results as a {@link List}.
+	 * <p>
+	 * The query is executed by the {@linkplain
+	 * org.hibernate.cfg.QuerySettings#ASYNC_QUERY_EXECUTOR configured executor},
+	 * by default, in a virtual thread, in a new session with its own connection
+	 * to the database. It therefore only sees data which has been committed, and
+	 * not changes made in the current transaction. The state of the entities read
+	 * by the query is assembled into instances belonging to the session which
+	 * created this query when the result list is first accessed, unless the
+	 * session already contains an instance of the entity with the same identifier,
+	 * in which case the result list contains that instance. The result list must
+	 * therefore only be accessed by a thread which is permitted to use the session.
+	 * If the session is cleared before the result list is accessed, or if an entity
+	 * read by the query has since been removed from, or evicted by, the session, the
+	 * state read by the query is discarded, and the entity is read again. A result
+	 * list holding objects which might refer to entities, other than arrays, tuples,
+	 * lists, and maps, for example, the results of a dynamic instantiation, is read
+	 * again by the session when it is first accessed.
+	 * <p>
+	 * The query may be modified, and the session may be used, while the stage is
+	 * incomplete. A query which makes use of pessimistic locking, or which cannot
+	 * be executed in a different session, such as a native query, is executed
+	 * immediately, and the returned stage is already complete.
+	 *
+	 * @return a stage which completes with the result list
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	CompletionStage<List<R>> getResultListAsync();
+
 	/**
 	 * Returns scrollable access to the query results.
 	 * <p>
@@ -253,6 +287,29 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	@Incubating
 	KeyedResultList<R> getKeyedResultList(KeyedPage<R> page);
 
+	/**
+	 * Returns forward-only scrollable access to the query results,
+	 * which are fetched in chunks of the size of the given
+	 * {@linkplain KeyedPage page}, using key-based pagination.
+	 * <p>
+	 * Unlike {@link #scroll(ScrollMode)}, this does not keep a
+	 * database cursor open while the results are processed. Each
+	 * chunk is fetched by re-executing the query, restricted to
+	 * results which follow the key of the last result of the
+	 * previous chunk, and only the results of the current chunk
+	 * are held in memory. This makes it suitable for walking very
+	 * large result sets over a long period of time.
+	 *
+	 * @param page the key-based specification of the first chunk
+	 *        as an instance of {@link KeyedPage}
+	 *
+	 * @since 6.6
+	 *
+	 * @see #getKeyedResultList(KeyedPage)
+	 */
+	@Incubating
+	ScrollableResults<R> scroll(KeyedPage<R> page);
+
 	SelectionQuery<R> setHint(String hintName, Object value);
 
 	/**
@@ -612,6 +669,44 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	 */
 	SelectionQuery<R> setFollowOnLocking(boolean enable);
 
+	/**
+	 * The maximum number of entities the persistence context may hold while the
+	 * results of {@link #getResultStream()} or {@link #stream()} are consumed,
+	 * or {@code 0} if entities returned by the stream are never evicted.
+	 *
+	 * @see #setStreamHighWaterMark(int)
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	int getStreamHighWaterMark();
+
+	/**
+	 * Keep memory bounded while streaming the results of this query through a
+	 * stateful session. Whenever the consumer of {@link #getResultStream()} or
+	 * {@link #stream()} moves to the next result, and the persistence context
+	 * holds more than the given number of entities, the entities loaded for
+	 * previous results are {@linkplain org.hibernate.Session#evict evicted}
+	 * from the session.
+	 * <p>
+	 * Every entity and proxy added to the persistence context while the stream
+	 * is consumed is evicted, whether it was returned as a query result, as an
+	 * element of an array result, or loaded as an association, along with its
+	 * collections. Entities which already belonged to the persistence context
+	 * when the stream was opened remain managed, and so do entities with changes
+	 * which have not been flushed yet, until the next flush. Changes made to an
+	 * entity returned by the stream after it was evicted are lost.
+	 *
+	 * @param highWaterMark the maximum number of managed entities, or {@code 0}
+	 *                      to never evict entities returned by the stream
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	SelectionQuery<R> setStreamHighWaterMark(int highWaterMark);
+
 	@Override
 	SelectionQuery<R> setParameter(String name, Object value);
 
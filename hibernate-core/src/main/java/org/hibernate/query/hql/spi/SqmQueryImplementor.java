@@ -65,6 +65,9 @@ public interface SqmQueryImplementor<R> extends QueryImplementor<R>, SqmQuery, N
 
 	SqmQueryImplementor<R> setReadOnly(boolean readOnly);
 
+	@Override
+	SqmQueryImplementor<R> setStreamHighWaterMark(int highWaterMark);
+
 	@Override
 	SqmQueryImplementor<R> applyGraph(@SuppressWarnings("rawtypes") RootGraph graph, GraphSemantic semantic);
 
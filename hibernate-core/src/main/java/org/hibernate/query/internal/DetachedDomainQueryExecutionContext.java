@@ -0,0 +1,275 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.query.ResultListTransformer;
+import org.hibernate.query.TupleTransformer;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.Limit;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.sql.exec.internal.CallbackImpl;
+import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+
+/**
+ * A {@link DomainQueryExecutionContext} holding a copy of the options, arguments,
+ * and result type of a query, which executes the query in a session other than
+ * the session which created it, and which is not affected by later changes to
+ * the query.
+ *
+ * @see org.hibernate.query.SelectionQuery#getResultListAsync()
+ *
+ * @since 6.6
+ */
+public class DetachedDomainQueryExecutionContext implements DomainQueryExecutionContext {
+	private final QueryOptions queryOptions;
+	private final QueryParameterBindings parameterBindings;
+	private final Class<?> resultType;
+	private final SharedSessionContractImplementor session;
+	private final Callback callback = new CallbackImpl();
+
+	private DetachedDomainQueryExecutionContext(
+			QueryOptions queryOptions,
+			QueryParameterBindings parameterBindings,
+			Class<?> resultType,
+			SharedSessionContractImplementor session) {
+		this.queryOptions = queryOptions;
+		this.parameterBindings = parameterBindings;
+		this.resultType = resultType;
+		this.session = session;
+	}
+
+	/**
+	 * Copy the state of the query described by the given context, which must
+	 * be done in the thread which created the query.
+	 *
+	 * @return a copy of the context, which must be {@linkplain #inSession bound}
+	 *         to a session before the query is executed
+	 */
+	public static DetachedDomainQueryExecutionContext detach(DomainQueryExecutionContext executionContext) {
+		final QueryParameterBindings parameterBindings = executionContext.getQueryParameterBindings();
+		return new DetachedDomainQueryExecutionContext(
+				new DetachedQueryOptions( executionContext.getQueryOptions() ),
+				parameterBindings instanceof QueryParameterBindingsImpl
+						? ( (QueryParameterBindingsImpl) parameterBindings ).copy()
+						: parameterBindings,
+				executionContext.getResultType(),
+				null
+		);
+	}
+
+	/**
+	 * A copy of this context, which executes the query in the given session
+	 */
+	public DetachedDomainQueryExecutionContext inSession(SharedSessionContractImplementor session) {
+		return new DetachedDomainQueryExecutionContext( queryOptions, parameterBindings, resultType, session );
+	}
+
+	@Override
+	public QueryOptions getQueryOptions() {
+		return queryOptions;
+	}
+
+	@Override
+	public QueryParameterBindings getQueryParameterBindings() {
+		return parameterBindings;
+	}
+
+	@Override
+	public Callback getCallback() {
+		return callback;
+	}
+
+	@Override
+	public SharedSessionContractImplementor getSession() {
+		return session;
+	}
+
+	@Override
+	public Class<?> getResultType() {
+		return resultType;
+	}
+
+	private static class DetachedQueryOptions implements QueryOptions, AppliedGraph {
+		private final Integer timeout;
+		private final FlushMode flushMode;
+		private final Boolean readOnly;
+		private final RootGraphImplementor<?> graph;
+		private final GraphSemantic semantic;
+		private final TupleTransformer<?> tupleTransformer;
+		private final ResultListTransformer<?> resultListTransformer;
+		private final Boolean resultCachingEnabled;
+		private final CacheRetrieveMode cacheRetrieveMode;
+		private final CacheStoreMode cacheStoreMode;
+		private final CacheMode cacheMode;
+		private final String resultCacheRegionName;
+		private final Boolean queryPlanCachingEnabled;
+		private final Set<String> enabledFetchProfiles;
+		private final Set<String> disabledFetchProfiles;
+		private final LockOptions lockOptions;
+		private final String comment;
+		private final List<String> databaseHints;
+		private final Integer fetchSize;
+		private final Limit limit;
+		private final ListResultsConsumer.UniqueSemantic uniqueSemantic;
+
+		private DetachedQueryOptions(QueryOptions options) {
+			timeout = options.getTimeout();
+			flushMode = options.getFlushMode();
+			readOnly = options.isReadOnly();
+			final AppliedGraph appliedGraph = options.getAppliedGraph();
+			graph = appliedGraph == null ? null : appliedGraph.getGraph();
+			semantic = appliedGraph == null ? null : appliedGraph.getSemantic();
+			tupleTransformer = options.getTupleTransformer();
+			resultListTransformer = options.getResultListTransformer();
+			resultCachingEnabled = options.isResultCachingEnabled();
+			cacheRetrieveMode = options.getCacheRetrieveMode();
+			cacheStoreMode = options.getCacheStoreMode();
+			cacheMode = options.getCacheMode();
+			resultCacheRegionName = options.getResultCacheRegionName();
+			queryPlanCachingEnabled = options.getQueryPlanCachingEnabled();
+			enabledFetchProfiles = copy( options.getEnabledFetchProfiles() );
+			disabledFetchProfiles = copy( options.getDisabledFetchProfiles() );
+			lockOptions = options.getLockOptions() == null ? null : options.getLockOptions().makeCopy();
+			comment = options.getComment();
+			databaseHints = options.getDatabaseHints() == null ? null : new ArrayList<>( options.getDatabaseHints() );
+			fetchSize = options.getFetchSize();
+			limit = options.getLimit() == null ? null : options.getLimit().makeCopy();
+			uniqueSemantic = options.getUniqueSemantic();
+		}
+
+		private static Set<String> copy(Set<String> names) {
+			return names == null ? null : new HashSet<>( names );
+		}
+
+		@Override
+		public Integer getTimeout() {
+			return timeout;
+		}
+
+		@Override
+		public FlushMode getFlushMode() {
+			return flushMode;
+		}
+
+		@Override
+		public Boolean isReadOnly() {
+			return readOnly;
+		}
+
+		@Override
+		public AppliedGraph getAppliedGraph() {
+			return this;
+		}
+
+		@Override
+		public RootGraphImplementor<?> getGraph() {
+			return graph;
+		}
+
+		@Override
+		public GraphSemantic getSemantic() {
+			return semantic;
+		}
+
+		@Override
+		public TupleTransformer<?> getTupleTransformer() {
+			return tupleTransformer;
+		}
+
+		@Override
+		public ResultListTransformer<?> getResultListTransformer() {
+			return resultListTransformer;
+		}
+
+		@Override
+		public Boolean isResultCachingEnabled() {
+			return resultCachingEnabled;
+		}
+
+		@Override
+		public CacheRetrieveMode getCacheRetrieveMode() {
+			return cacheRetrieveMode;
+		}
+
+		@Override
+		public CacheStoreMode getCacheStoreMode() {
+			return cacheStoreMode;
+		}
+
+		@Override
+		public CacheMode getCacheMode() {
+			return cacheMode;
+		}
+
+		@Override
+		public String getResultCacheRegionName() {
+			return resultCacheRegionName;
+		}
+
+		@Override
+		public Boolean getQueryPlanCachingEnabled() {
+			return queryPlanCachingEnabled;
+		}
+
+		@Override
+		public Set<String> getEnabledFetchProfiles() {
+			return enabledFetchProfiles;
+		}
+
+		@Override
+		public Set<String> getDisabledFetchProfiles() {
+			return disabledFetchProfiles;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return lockOptions;
+		}
+
+		@Override
+		public String getComment() {
+			return comment;
+		}
+
+		@Override
+		public List<String> getDatabaseHints() {
+			return databaseHints;
+		}
+
+		@Override
+		public Integer getFetchSize() {
+			return fetchSize;
+		}
+
+		@Override
+		public Limit getLimit() {
+			return limit;
+		}
+
+		@Override
+		public ListResultsConsumer.UniqueSemantic getUniqueSemantic() {
+			return uniqueSemantic;
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityHolder;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.CloseableIterator;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * Like {@link ScrollableResultsIterator}, but keeps the persistence context from growing
+ * without bound: once the consumer moves past a row, and the persistence context holds
+ * more than a given number of entities, every entity and proxy which was added to the
+ * persistence context since the iteration started, whether returned by a row or loaded
+ * as one of its associations, is evicted from the session, along with its collections.
+ * <p>
+ * Entities which already belonged to the persistence context when the iteration started
+ * are never evicted. Neither are entities with changes which have not been flushed yet:
+ * entities which are dirty, or own a dirty collection, or which were persisted or removed
+ * by the consumer, are kept until the next flush. Changes made to an entity after it was
+ * evicted are, however, lost.
+ *
+ * @see org.hibernate.query.SelectionQuery#setStreamHighWaterMark(int)
+ *
+ * @since 6.6
+ */
+@Incubating
+public class DetachingScrollableResultsIterator<T> implements CloseableIterator<T> {
+	private final ScrollableResultsImplementor<T> scrollableResults;
+	private final EventSource session;
+	private final int highWaterMark;
+	private final Set<EntityKey> previouslyManagedKeys;
+	// the entities which could not be evicted count towards the next high-water mark
+	private int evictionThreshold;
+
+	public DetachingScrollableResultsIterator(
+			ScrollableResultsImplementor<T> scrollableResults,
+			EventSource session,
+			int highWaterMark) {
+		this.scrollableResults = scrollableResults;
+		this.session = session;
+		this.highWaterMark = highWaterMark;
+		this.evictionThreshold = highWaterMark;
+		final Map<EntityKey, EntityHolder> entityHolders =
+				session.getPersistenceContextInternal().getEntityHoldersByKey();
+		this.previouslyManagedKeys = entityHolders == null || entityHolders.isEmpty()
+				? Set.of()
+				: new HashSet<>( entityHolders.keySet() );
+	}
+
+	@Override
+	public void close() {
+		scrollableResults.close();
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( scrollableResults.isClosed() ) {
+			return false;
+		}
+		else {
+			evictLoadedEntitiesIfNecessary();
+			return scrollableResults.next();
+		}
+	}
+
+	@Override
+	public T next() {
+		return scrollableResults.get();
+	}
+
+	private void evictLoadedEntitiesIfNecessary() {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( persistenceContext.getNumberOfManagedEntities() > evictionThreshold ) {
+			final Map<EntityKey, EntityHolder> entityHolders = persistenceContext.getEntityHoldersByKey();
+			if ( entityHolders != null ) {
+				final Set<Object> ownersOfDirtyCollections = ownersOfDirtyCollections( persistenceContext );
+				for ( EntityKey key : new ArrayList<>( entityHolders.keySet() ) ) {
+					if ( !previouslyManagedKeys.contains( key ) ) {
+						// the holder may already be gone if the eviction of another entity cascaded to it
+						final EntityHolder holder = persistenceContext.getEntityHolder( key );
+						if ( holder != null && isEvictable( holder, ownersOfDirtyCollections ) ) {
+							session.evict( holder.getProxy() != null ? holder.getProxy() : holder.getEntity() );
+						}
+					}
+				}
+			}
+			evictionThreshold = persistenceContext.getNumberOfManagedEntities() + highWaterMark;
+		}
+	}
+
+	private boolean isEvictable(EntityHolder holder, Set<Object> ownersOfDirtyCollections) {
+		final Object entity = holder.getEntity();
+		final EntityEntry entry = holder.getEntityEntry();
+		if ( entity == null || entry == null ) {
+			// an uninitialized proxy holds no state
+			return entity == null && holder.getProxy() != null;
+		}
+		else {
+			return !hasUnflushedChanges( entity, entry ) && !ownersOfDirtyCollections.contains( entity );
+		}
+	}
+
+	private boolean hasUnflushedChanges(Object entity, EntityEntry entry) {
+		if ( entry.getStatus() != Status.MANAGED && entry.getStatus() != Status.READ_ONLY
+				|| !entry.isExistsInDatabase() ) {
+			// pending insertion or deletion
+			return true;
+		}
+		else if ( !entry.requiresDirtyCheck( entity ) ) {
+			return false;
+		}
+		else {
+			final Object[] loadedState = entry.getLoadedState();
+			final EntityPersister persister = entry.getPersister();
+			return loadedState == null
+				|| persister.findDirty( persister.getValues( entity ), loadedState, entity, session ) != null;
+		}
+	}
+
+	private static Set<Object> ownersOfDirtyCollections(PersistenceContext persistenceContext) {
+		final Set<Object> owners = Collections.newSetFromMap( new IdentityHashMap<>() );
+		persistenceContext.forEachCollectionEntry(
+				(collection, entry) -> {
+					if ( collection.isDirty() && collection.getOwner() != null ) {
+						owners.add( collection.getOwner() );
+					}
+				},
+				false
+		);
+		return owners;
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.query.internal;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.query.KeyedPage;
+import org.hibernate.query.KeyedResultList;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * Forward-only {@link org.hibernate.ScrollableResults} which walks the results of a
+ * query in chunks, one {@linkplain KeyedPage key-based page} at a time, re-executing
+ * the query with the key of the last result of each chunk as a bound. No cursor stays
+ * open between chunks, and only the results of the current chunk are held.
+ *
+ * @see SelectionQuery#scroll(KeyedPage)
+ *
+ * @since 6.6
+ */
+@Incubating
+public class KeyedScrollableResults<R> implements ScrollableResultsImplementor<R> {
+	private final SelectionQuery<R> query;
+
+	private KeyedResultList<R> chunk;
+	private List<R> chunkResults;
+	private int positionInChunk = -1;
+	private int rowNumber = -1;
+	private R current;
+	private boolean closed;
+
+	public KeyedScrollableResults(SelectionQuery<R> query, KeyedPage<R> firstPage) {
+		this.query = query;
+		loadChunk( firstPage );
+	}
+
+	private void loadChunk(KeyedPage<R> page) {
+		chunk = query.getKeyedResultList( page );
+		chunkResults = chunk.getResultList();
+		positionInChunk = -1;
+	}
+
+	@Override
+	public R get() {
+		return current;
+	}
+
+	@Override
+	public boolean next() {
+		if ( closed ) {
+			return false;
+		}
+		if ( positionInChunk + 1 >= chunkResults.size() ) {
+			final KeyedPage<R> nextPage = chunk.getNextPage();
+			if ( nextPage == null || chunkResults.isEmpty() ) {
+				positionInChunk = chunkResults.size();
+				current = null;
+				return false;
+			}
+			loadChunk( nextPage );
+			if ( chunkResults.isEmpty() ) {
+				current = null;
+				return false;
+			}
+		}
+		current = chunkResults.get( ++positionInChunk );
+		rowNumber++;
+		return true;
+	}
+
+	@Override
+	public boolean scroll(int positions) {
+		if ( positions < 0 ) {
+			throw unsupported();
+		}
+		for ( int i = 0; i < positions; i++ ) {
+			if ( !next() ) {
+				return false;
+			}
+		}
+		return current != null;
+	}
+
+	@Override
+	public boolean position(int position) {
+		if ( position < rowNumber ) {
+			throw unsupported();
+		}
+		return scroll( position - rowNumber );
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) {
+		return position( rowNumber );
+	}
+
+	@Override
+	public boolean previous() {
+		throw unsupported();
+	}
+
+	@Override
+	public boolean last() {
+		throw unsupported();
+	}
+
+	@Override
+	public boolean first() {
+		throw unsupported();
+	}
+
+	@Override
+	public void beforeFirst() {
+		throw unsupported();
+	}
+
+	@Override
+	public void afterLast() {
+		throw unsupported();
+	}
+
+	@Override
+	public boolean isFirst() {
+		return rowNumber == 0 && current != null;
+	}
+
+	@Override
+	public boolean isLast() {
+		return current != null
+			&& positionInChunk == chunkResults.size() - 1
+			&& chunk.getNextPage() == null;
+	}
+
+	@Override
+	public int getRowNumber() {
+		return current == null ? -1 : rowNumber;
+	}
+
+	@Override
+	public void setFetchSize(int fetchSize) {
+		// applies to the chunks not yet loaded
+		query.setFetchSize( fetchSize );
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		chunk = null;
+		chunkResults = List.of();
+		current = null;
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+	private static UnsupportedOperationException unsupported() {
+		return new UnsupportedOperationException( "Key-based scrollable results may only be scrolled forward" );
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 
@@ -66,6 +67,27 @@ public class QueryParameterBindingImpl<T> implements QueryParameterBinding<T>, J
 		this.bindType = bindType;
 	}
 
+	private QueryParameterBindingImpl(QueryParameterBindingImpl<T> original) {
+		this.queryParameter = original.queryParameter;
+		this.sessionFactory = original.sessionFactory;
+		this.isBound = original.isBound;
+		this.isMultiValued = original.isMultiValued;
+		this.bindType = original.bindType;
+		this.type = original.type;
+		this.explicitTemporalPrecision = original.explicitTemporalPrecision;
+		this.bindValue = original.bindValue;
+		this.bindValues = original.bindValues == null ? null : new ArrayList<>( original.bindValues );
+	}
+
+	/**
+	 * A copy of this binding, which is not affected by later changes to this binding.
+	 *
+	 * @since 6.6
+	 */
+	public QueryParameterBindingImpl<T> copy() {
+		return new QueryParameterBindingImpl<>( this );
+	}
+
 	@Override
 	public BindableType<? super T> getBindType() {
 		return bindType;
@@ -76,6 +76,26 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 		this.parameterBindingMap = new ConcurrentHashMap<>( parameterMetadata.getParameterCount() );
 	}
 
+	/**
+	 * A copy of these bindings, which is not affected by later changes to these
+	 * bindings, allowing the query to be executed in another thread.
+	 *
+	 * @since 6.6
+	 */
+	public QueryParameterBindingsImpl copy() {
+		final QueryParameterBindingsImpl copy = new QueryParameterBindingsImpl( sessionFactory, parameterMetadata );
+		for ( Map.Entry<QueryParameter<?>, QueryParameterBinding<?>> entry : parameterBindingMap.entrySet() ) {
+			final QueryParameterBinding<?> binding = entry.getValue();
+			copy.parameterBindingMap.put(
+					entry.getKey(),
+					binding instanceof QueryParameterBindingImpl<?>
+							? ( (QueryParameterBindingImpl<?>) binding ).copy()
+							: binding
+			);
+		}
+		return copy;
+	}
+
 	protected <T> QueryParameterBinding<T> makeBinding(QueryParameterImplementor<T> queryParameter) {
 		if ( parameterBindingMap == null ) {
 			parameterBindingMap = new IdentityHashMap<>();
@@ -269,6 +269,12 @@ public abstract class AbstractQuery<R>
 		return this;
 	}
 
+	@Override
+	public QueryImplementor<R> setStreamHighWaterMark(int highWaterMark) {
+		super.setStreamHighWaterMark( highWaterMark );
+		return this;
+	}
+
 	@Override
 	public LockOptions getLockOptions() {
 		return getQueryOptions().getLockOptions();
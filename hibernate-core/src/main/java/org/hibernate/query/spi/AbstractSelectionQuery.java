@@ -15,7 +15,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -35,6 +39,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.NonUniqueResultException;
@@ -45,15 +50,19 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.internal.AsyncReadExecution;
 import org.hibernate.jpa.internal.util.LockModeTypeHelper;
 import org.hibernate.metamodel.model.domain.BasicDomainType;
 import org.hibernate.metamodel.model.domain.DomainType;
 import org.hibernate.query.BindableType;
 import org.hibernate.query.IllegalQueryOperationException;
+import org.hibernate.query.KeyedPage;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.QueryTypeMismatchException;
 import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.JpaSelection;
+import org.hibernate.query.internal.DetachingScrollableResultsIterator;
+import org.hibernate.query.internal.KeyedScrollableResults;
 import org.hibernate.query.internal.ScrollableResultsIterator;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.sqm.SqmExpressible;
@@ -70,6 +79,7 @@ import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.exec.internal.CallbackImpl;
 import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.exec.spi.DeferredSelect;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.BasicTypeRegistry;
@@ -106,6 +116,8 @@ public abstract class AbstractSelectionQuery<R>
 
 	private Callback callback;
 
+	private int streamHighWaterMark;
+
 	public AbstractSelectionQuery(SharedSessionContractImplementor session) {
 		super( session );
 	}
@@ -481,6 +493,117 @@ public abstract class AbstractSelectionQuery<R>
 		}
 	}
 
+	@Override
+	public CompletionStage<List<R>> getResultListAsync() {
+		final MutableQueryOptions options = getQueryOptions();
+		if ( options.getLockOptions().isEmpty() ) {
+			getQueryParameterBindings().validate();
+			getSession().prepareForQueryExecution( false );
+			prepareForExecution();
+			final Function<SharedSessionContractImplementor, List<R>> listInSession = prepareList();
+			if ( listInSession != null ) {
+				final LockOptions lockOptions = options.getLockOptions().makeCopy();
+				return AsyncReadExecution.list(
+						getSession(),
+						options,
+						session -> {
+							try {
+								return listInSession.apply( session );
+							}
+							catch (IllegalQueryOperationException e) {
+								throw new IllegalStateException( e );
+							}
+							catch (HibernateException he) {
+								throw session.getExceptionConverter().convert( he, lockOptions );
+							}
+						}
+				);
+			}
+		}
+		// the query must be executed in this session
+		try {
+			return CompletableFuture.completedFuture( list() );
+		}
+		catch (RuntimeException e) {
+			return CompletableFuture.failedFuture( e );
+		}
+	}
+
+	/**
+	 * Interpret this query, returning a function which executes it in a given
+	 * session, other than the session which created the query, so that it may
+	 * be {@linkplain #getResultListAsync() executed asynchronously}.
+	 *
+	 * @return the function, or {@code null} if this query must be executed in
+	 *         the session which created it
+	 *
+	 * @since 6.6
+	 */
+	protected Function<SharedSessionContractImplementor, List<R>> prepareList() {
+		return null;
+	}
+
+	/**
+	 * Interpret this query and bind its arguments, deferring its execution,
+	 * so that it may be {@linkplain org.hibernate.Session#getResultLists
+	 * executed together} with other queries.
+	 *
+	 * @return the deferred select, or {@code null} if this query must be
+	 *         executed by calling {@link #list()}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	public DeferredSelect<R> deferList() {
+		if ( !isDeferrable() ) {
+			return null;
+		}
+		final HashSet<String> fetchProfiles = beforeQueryHandlingFetchProfiles();
+		boolean success = false;
+		try {
+			final DeferredSelect<R> result = doDeferList();
+			success = true;
+			return result;
+		}
+		catch (IllegalQueryOperationException e) {
+			throw new IllegalStateException( e );
+		}
+		catch (HibernateException he) {
+			throw getSession().getExceptionConverter().convert( he, getQueryOptions().getLockOptions() );
+		}
+		finally {
+			afterQueryHandlingFetchProfiles( success, fetchProfiles );
+		}
+	}
+
+	/**
+	 * @see #deferList()
+	 *
+	 * @since 6.6
+	 */
+	protected DeferredSelect<R> doDeferList() {
+		return null;
+	}
+
+	/**
+	 * Whether execution of this query may be deferred, that is, whether it
+	 * is independent of every option which is only applied to the session
+	 * for the duration of the call to {@link #list()}, and does not make
+	 * use of the query cache.
+	 */
+	protected boolean isDeferrable() {
+		final MutableQueryOptions options = getQueryOptions();
+		return options.getLockOptions().isEmpty()
+			&& options.getCacheMode() == null
+			&& !isCacheable()
+			&& isEmpty( options.getEnabledFetchProfiles() )
+			&& isEmpty( options.getDisabledFetchProfiles() );
+	}
+
+	private static boolean isEmpty(Set<String> fetchProfiles) {
+		return fetchProfiles == null || fetchProfiles.isEmpty();
+	}
+
 	protected HashSet<String> beforeQueryHandlingFetchProfiles() {
 		beforeQuery();
 		final MutableQueryOptions options = getQueryOptions();
@@ -574,6 +697,14 @@ public abstract class AbstractSelectionQuery<R>
 
 	protected abstract ScrollableResultsImplementor<R> doScroll(ScrollMode scrollMode);
 
+	@Override
+	public ScrollableResultsImplementor<R> scroll(KeyedPage<R> keyedPage) {
+		if ( keyedPage == null ) {
+			throw new IllegalArgumentException( "KeyedPage was null" );
+		}
+		return new KeyedScrollableResults<>( this, keyedPage );
+	}
+
 	@Override
 	public Stream<R> getResultStream() {
 		return stream();
@@ -583,7 +714,9 @@ public abstract class AbstractSelectionQuery<R>
 	@Override
 	public Stream stream() {
 		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final CloseableIterator iterator = streamHighWaterMark > 0 && getSession().isEventSource()
+				? new DetachingScrollableResultsIterator<>( scrollableResults, getSession().asEventSource(), streamHighWaterMark )
+				: new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator spliterator = spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream stream = StreamSupport.stream( spliterator, false );
@@ -781,6 +914,20 @@ public abstract class AbstractSelectionQuery<R>
 		return this;
 	}
 
+	@Override
+	public int getStreamHighWaterMark() {
+		return streamHighWaterMark;
+	}
+
+	@Override
+	public SelectionQuery<R> setStreamHighWaterMark(int highWaterMark) {
+		if ( highWaterMark < 0 ) {
+			throw new IllegalArgumentException( "Stream high-water mark may not be negative: " + highWaterMark );
+		}
+		this.streamHighWaterMark = highWaterMark;
+		return this;
+	}
+
 	protected void collectHints(Map<String, Object> hints) {
 		super.collectHints( hints );
 
@@ -11,6 +11,7 @@ import java.util.List;
 import org.hibernate.Incubating;
 import org.hibernate.ScrollMode;
 import org.hibernate.query.Query;
+import org.hibernate.sql.exec.spi.DeferredSelect;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 
 /**
@@ -49,4 +50,19 @@ public interface SelectQueryPlan<R> extends QueryPlan {
 	 */
 	ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext);
 
+	/**
+	 * Interpret the query and bind its parameters, deferring its execution, so that
+	 * it may be {@linkplain org.hibernate.Session#getResultLists executed together}
+	 * with other queries.
+	 *
+	 * @return the deferred select, or {@code null} if the query must be executed
+	 *         by calling {@link #performList}
+	 *
+	 * @since 6.6
+	 */
+	@Incubating
+	default DeferredSelect<R> deferList(DomainQueryExecutionContext executionContext) {
+		return null;
+	}
+
 }
@@ -1239,6 +1239,12 @@ public class NativeQueryImpl<R>
 		return this;
 	}
 
+	@Override
+	public NativeQueryImplementor<R> setStreamHighWaterMark(int highWaterMark) {
+		super.setStreamHighWaterMark( highWaterMark );
+		return this;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T unwrap(Class<T> javaType) {
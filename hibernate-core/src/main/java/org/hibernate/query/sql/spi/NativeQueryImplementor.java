@@ -172,6 +172,9 @@ public interface NativeQueryImplementor<R> extends QueryImplementor<R>, NativeQu
 	@Override
 	NativeQueryImplementor<R> setReadOnly(boolean readOnly);
 
+	@Override
+	NativeQueryImplementor<R> setStreamHighWaterMark(int highWaterMark);
+
 	@Override
 	NativeQueryImplementor<R> setLockOptions(LockOptions lockOptions);
 
@@ -161,4 +161,7 @@ public interface SqmSelectionQuery<R> extends SqmQuery, SelectionQuery<R> {
 
 	@Override
 	SqmSelectionQuery<R> setReadOnly(boolean readOnly);
+
+	@Override
+	SqmSelectionQuery<R> setStreamHighWaterMark(int highWaterMark);
 }
@@ -19,6 +19,7 @@ import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.ValueHandlingMode;
 import org.hibernate.query.hql.internal.QuerySplitter;
 import org.hibernate.query.spi.AbstractSelectionQuery;
+import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -48,15 +49,23 @@ abstract class AbstractSqmSelectionQuery<R> extends AbstractSelectionQuery<R> {
 	}
 
 	protected int max(boolean hasLimit, SqmSelectStatement<?> sqmStatement, List<R> list) {
-		return !hasLimit || getQueryOptions().getLimit().getMaxRows() == null
+		return max( hasLimit, sqmStatement, list, getQueryOptions().getLimit() );
+	}
+
+	protected int max(boolean hasLimit, SqmSelectStatement<?> sqmStatement, List<R> list, Limit limit) {
+		return !hasLimit || limit.getMaxRows() == null
 				? getMaxRows( sqmStatement, list.size() )
-				: getQueryOptions().getLimit().getMaxRows();
+				: limit.getMaxRows();
 	}
 
 	protected int first(boolean hasLimit, SqmSelectStatement<?> sqmStatement) {
-		return !hasLimit || getQueryOptions().getLimit().getFirstRow() == null
+		return first( hasLimit, sqmStatement, getQueryOptions().getLimit() );
+	}
+
+	protected int first(boolean hasLimit, SqmSelectStatement<?> sqmStatement, Limit limit) {
+		return !hasLimit || limit.getFirstRow() == null
 				? getIntegerLiteral( sqmStatement.getOffset(), 0 )
-				: getQueryOptions().getLimit().getFirstRow();
+				: limit.getFirstRow();
 	}
 
 	protected static boolean hasLimit(SqmSelectStatement<?> sqm, MutableQueryOptions queryOptions) {
@@ -39,6 +39,7 @@ import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.DeferredSelect;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
@@ -75,6 +76,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final RowTransformer<R> rowTransformer;
 	private final SqmInterpreter<Object, ResultsConsumer<?, R>> executeQueryInterpreter;
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
+	private final SqmInterpreter<DeferredSelect<R>, Void> deferListInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
@@ -151,6 +153,31 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				domainParameterXref.clearExpansions();
 			}
 		};
+		this.deferListInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
+			final SharedSessionContractImplementor session = executionContext.getSession();
+			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
+			try {
+				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+						session.getPersistenceContext().getBatchFetchQueue(),
+						sqmInterpretation.selectStatement,
+						JdbcParametersList.empty(),
+						jdbcParameterBindings
+				);
+				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+				//noinspection unchecked
+				return new DeferredSelect<>(
+						jdbcSelect,
+						jdbcParameterBindings,
+						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+						rowTransformer,
+						(Class<R>) executionContext.getResultType(),
+						uniqueSemantic
+				);
+			}
+			finally {
+				domainParameterXref.clearExpansions();
+			}
+		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
@@ -330,6 +357,14 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return withCacheableSqmInterpretation( executionContext, null, listInterpreter );
 	}
 
+	@Override
+	public DeferredSelect<R> deferList(DomainQueryExecutionContext executionContext) {
+		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
+			return null;
+		}
+		return withCacheableSqmInterpretation( executionContext, null, deferListInterpreter );
+	}
+
 	@Override
 	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
 		if ( executionContext.getQueryOptions().getEffectiveLimit().getMaxRowsJpa() == 0 ) {
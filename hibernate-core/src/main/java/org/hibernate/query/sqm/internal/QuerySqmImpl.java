@@ -17,6 +17,7 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import jakarta.persistence.EntityGraph;
@@ -60,12 +61,14 @@ import org.hibernate.query.hql.internal.NamedHqlQueryMementoImpl;
 import org.hibernate.query.hql.internal.QuerySplitter;
 import org.hibernate.query.hql.spi.SqmQueryImplementor;
 import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.internal.DetachedDomainQueryExecutionContext;
 import org.hibernate.query.internal.ParameterMetadataImpl;
 import org.hibernate.query.internal.QueryParameterBindingsImpl;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.spi.DelegatingQueryOptions;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.NonSelectQueryPlan;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
@@ -97,6 +100,7 @@ import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelectableNode;
 import org.hibernate.query.sqm.tree.update.SqmAssignment;
 import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+import org.hibernate.sql.exec.spi.DeferredSelect;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 
@@ -119,6 +123,7 @@ import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_RETRIEVE_MODE;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_STORE_MODE;
 import static org.hibernate.jpa.SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE;
 import static org.hibernate.jpa.SpecHints.HINT_SPEC_CACHE_STORE_MODE;
+import static org.hibernate.query.internal.DetachedDomainQueryExecutionContext.detach;
 import static org.hibernate.query.spi.SqlOmittingQueryOptions.omitSqlQueryOptions;
 import static org.hibernate.query.spi.SqlOmittingQueryOptions.omitSqlQueryOptionsWithUniqueSemanticFilter;
 import static org.hibernate.query.sqm.internal.AppliedGraphs.containsCollectionFetches;
@@ -509,9 +514,48 @@ public class QuerySqmImpl<R>
 		return needsDistinct ? handleDistinct( hasLimit, statement, list ) : list;
 	}
 
+	@Override
+	protected Function<SharedSessionContractImplementor, List<R>> prepareList() {
+		verifySelect();
+		final SqmSelectStatement<?> statement = (SqmSelectStatement<?>) getSqmStatement();
+		final boolean containsCollectionFetches =
+				statement.containsCollectionFetches()
+						|| containsCollectionFetches( getQueryOptions() );
+		final boolean hasLimit = hasLimit( statement, getQueryOptions() );
+		final boolean needsDistinct = needsDistinct( containsCollectionFetches, hasLimit, statement );
+		final SelectQueryPlan<R> queryPlan = resolveSelectQueryPlan();
+		// the query may be modified once this method returns
+		final DetachedDomainQueryExecutionContext executionContext = detach( executionContextForDoList( containsCollectionFetches, hasLimit, needsDistinct ) );
+		final Limit limit = getQueryOptions().getLimit().makeCopy();
+		return session -> {
+			final List<R> list = queryPlan.performList( executionContext.inSession( session ) );
+			return needsDistinct ? handleDistinct( hasLimit, statement, list, limit ) : list;
+		};
+	}
+
+	@Override
+	protected DeferredSelect<R> doDeferList() {
+		verifySelect();
+		final SqmSelectStatement<?> statement = (SqmSelectStatement<?>) getSqmStatement();
+		final boolean containsCollectionFetches =
+				statement.containsCollectionFetches()
+						|| containsCollectionFetches( getQueryOptions() );
+		final boolean hasLimit = hasLimit( statement, getQueryOptions() );
+		final boolean needsDistinct = needsDistinct( containsCollectionFetches, hasLimit, statement );
+		final DeferredSelect<R> select = resolveSelectQueryPlan()
+				.deferList( executionContextForDoList( containsCollectionFetches, hasLimit, needsDistinct ) );
+		return select != null && needsDistinct
+				? select.transformResults( list -> handleDistinct( hasLimit, statement, list ) )
+				: select;
+	}
+
 	private List<R> handleDistinct(boolean hasLimit, SqmSelectStatement<?> statement, List<R> list) {
-		final int first = first( hasLimit, statement );
-		final int max = max( hasLimit, statement, list );
+		return handleDistinct( hasLimit, statement, list, getQueryOptions().getLimit() );
+	}
+
+	private List<R> handleDistinct(boolean hasLimit, SqmSelectStatement<?> statement, List<R> list, Limit limit) {
+		final int first = first( hasLimit, statement, limit );
+		final int max = max( hasLimit, statement, list, limit );
 		if ( first > 0 || max != -1 ) {
 			final int resultSize = list.size();
 			if ( first > resultSize ) {
@@ -1170,6 +1214,12 @@ public class QuerySqmImpl<R>
 		return this;
 	}
 
+	@Override
+	public SqmQueryImplementor<R> setStreamHighWaterMark(int highWaterMark) {
+		super.setStreamHighWaterMark( highWaterMark );
+		return this;
+	}
+
 	@Override
 	public SqmQueryImplementor<R> setProperties(Object bean) {
 		super.setProperties( bean );
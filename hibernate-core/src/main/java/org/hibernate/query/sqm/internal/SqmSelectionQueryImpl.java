@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import jakarta.persistence.CacheRetrieveMode;
@@ -37,10 +38,12 @@ import org.hibernate.query.SelectionQuery;
 import org.hibernate.query.criteria.internal.NamedCriteriaQueryMementoImpl;
 import org.hibernate.query.hql.internal.NamedHqlQueryMementoImpl;
 import org.hibernate.query.internal.DelegatingDomainQueryExecutionContext;
+import org.hibernate.query.internal.DetachedDomainQueryExecutionContext;
 import org.hibernate.query.internal.ParameterMetadataImpl;
 import org.hibernate.query.internal.QueryParameterBindingsImpl;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.MutableQueryOptions;
 import org.hibernate.query.spi.ParameterMetadataImplementor;
 import org.hibernate.query.spi.QueryEngine;
@@ -58,6 +61,7 @@ import org.hibernate.query.sqm.tree.expression.SqmJpaCriteriaParameterWrapper;
 import org.hibernate.query.sqm.tree.expression.SqmParameter;
 import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 import org.hibernate.query.sqm.tree.select.SqmSelection;
+import org.hibernate.sql.exec.spi.DeferredSelect;
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.SingleResultConsumer;
@@ -72,6 +76,7 @@ import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_RETRIEVE_MODE;
 import static org.hibernate.jpa.LegacySpecHints.HINT_JAVAEE_CACHE_STORE_MODE;
 import static org.hibernate.jpa.SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE;
 import static org.hibernate.jpa.SpecHints.HINT_SPEC_CACHE_STORE_MODE;
+import static org.hibernate.query.internal.DetachedDomainQueryExecutionContext.detach;
 import static org.hibernate.query.spi.SqlOmittingQueryOptions.omitSqlQueryOptions;
 import static org.hibernate.query.sqm.internal.SqmInterpretationsKey.createInterpretationsKey;
 import static org.hibernate.query.sqm.internal.SqmUtil.isSelectionAssignableToResultType;
@@ -310,11 +315,44 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		return needsDistinct ? handleDistinct( hasLimit, statement, list ) : list;
 	}
 
+	@Override
+	protected Function<SharedSessionContractImplementor, List<R>> prepareList() {
+		final SqmSelectStatement<?> statement = getSqmStatement();
+		final boolean containsCollectionFetches = statement.containsCollectionFetches();
+		final boolean hasLimit = hasLimit( statement, getQueryOptions() );
+		final boolean needsDistinct = needsDistinct( containsCollectionFetches, hasLimit, statement );
+		final SelectQueryPlan<R> queryPlan = resolveQueryPlan();
+		// the query may be modified once this method returns
+		final DetachedDomainQueryExecutionContext executionContext = detach( executionContext( hasLimit, containsCollectionFetches ) );
+		final Limit limit = getQueryOptions().getLimit().makeCopy();
+		return session -> {
+			final List<R> list = queryPlan.performList( executionContext.inSession( session ) );
+			return needsDistinct ? handleDistinct( hasLimit, statement, list, limit ) : list;
+		};
+	}
+
+	@Override
+	protected DeferredSelect<R> doDeferList() {
+		final SqmSelectStatement<?> statement = getSqmStatement();
+		final boolean containsCollectionFetches = statement.containsCollectionFetches();
+		final boolean hasLimit = hasLimit( statement, getQueryOptions() );
+		final boolean needsDistinct = needsDistinct( containsCollectionFetches, hasLimit, statement );
+		final DeferredSelect<R> select = resolveQueryPlan()
+				.deferList( executionContext( hasLimit, containsCollectionFetches ) );
+		return select != null && needsDistinct
+				? select.transformResults( list -> handleDistinct( hasLimit, statement, list ) )
+				: select;
+	}
+
 	private List<R> handleDistinct(boolean hasLimit, SqmSelectStatement<?> statement, List<R> list) {
+		return handleDistinct( hasLimit, statement, list, getQueryOptions().getLimit() );
+	}
+
+	private List<R> handleDistinct(boolean hasLimit, SqmSelectStatement<?> statement, List<R> list, Limit limit) {
 		int includedCount = -1;
 		// NOTE: 'firstRow' is zero-based
-		final int first = first( hasLimit, statement );
-		final int max = max( hasLimit, statement, list );
+		final int first = first( hasLimit, statement, limit );
+		final int max = max( hasLimit, statement, list, limit );
 		final List<R> distinctList = new ArrayList<>( list.size() );
 		final IdentitySet<Object> distinction = new IdentitySet<>( list.size() );
 		for ( final R result : list) {
@@ -486,6 +524,12 @@ public class SqmSelectionQueryImpl<R> extends AbstractSqmSelectionQuery<R>
 		return this;
 	}
 
+	@Override
+	public SqmSelectionQuery<R> setStreamHighWaterMark(int highWaterMark) {
+		super.setStreamHighWaterMark( highWaterMark );
+		return this;
+	}
+
 	@Override
 	public SqmSelectionQuery<R> setCacheMode(CacheMode cacheMode) {
 		super.setCacheMode( cacheMode );
@@ -13,6 +13,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 import org.hibernate.CacheMode;
@@ -101,6 +102,11 @@ public abstract class DelegatingSqmSelectionQueryImplementor<R> implements SqmSe
 		return getDelegate().getResultCount();
 	}
 
+	@Override
+	public CompletionStage<List<R>> getResultListAsync() {
+		return getDelegate().getResultListAsync();
+	}
+
 	@Override
 	public KeyedResultList<R> getKeyedResultList(KeyedPage<R> page) {
 		return getDelegate().getKeyedResultList( page );
@@ -116,6 +122,12 @@ public abstract class DelegatingSqmSelectionQueryImplementor<R> implements SqmSe
 		return getDelegate().scroll( scrollMode );
 	}
 
+	@Override
+	@Incubating
+	public ScrollableResults<R> scroll(KeyedPage<R> page) {
+		return getDelegate().scroll( page );
+	}
+
 	@Override
 	public Stream<R> getResultStream() {
 		return getDelegate().getResultStream();
@@ -312,6 +324,19 @@ public abstract class DelegatingSqmSelectionQueryImplementor<R> implements SqmSe
 		return this;
 	}
 
+	@Override
+	@Incubating
+	public int getStreamHighWaterMark() {
+		return getDelegate().getStreamHighWaterMark();
+	}
+
+	@Override
+	@Incubating
+	public SqmSelectionQueryImplementor<R> setStreamHighWaterMark(int highWaterMark) {
+		getDelegate().setStreamHighWaterMark( highWaterMark );
+		return this;
+	}
+
 	@Override
 	public String getQueryString() {
 		return getDelegate().getQueryString();
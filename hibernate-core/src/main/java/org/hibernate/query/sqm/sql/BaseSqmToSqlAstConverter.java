@@ -16,6 +16,8 @@ import org.hibernate.boot.model.process.internal.InferredBasicValueResolver;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.function.TimestampaddFunction;
 import org.hibernate.dialect.function.TimestampdiffFunction;
+import org.hibernate.dialect.function.array.ArrayAggFunction;
+import org.hibernate.dialect.function.array.DdlTypeHelper;
 import org.hibernate.engine.FetchStyle;
 import org.hibernate.engine.FetchTiming;
 import org.hibernate.engine.profile.FetchProfile;
@@ -382,7 +384,10 @@ import org.hibernate.sql.results.graph.Fetch;
 import org.hibernate.sql.results.graph.FetchParent;
 import org.hibernate.sql.results.graph.Fetchable;
 import org.hibernate.sql.results.graph.FetchableContainer;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.graph.collection.internal.AggregatedCollectionFetch;
 import org.hibernate.sql.results.graph.collection.internal.EagerCollectionFetch;
+import org.hibernate.sql.results.graph.collection.internal.SplitCollectionFetch;
 import org.hibernate.sql.results.graph.entity.EntityResultGraphNode;
 import org.hibernate.sql.results.graph.instantiation.internal.DynamicInstantiation;
 import org.hibernate.sql.results.graph.internal.ImmutableFetchList;
@@ -471,6 +476,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 
 	private int fetchDepth;
 	private String currentBagRole;
+	private boolean collectionJoinFetched;
 	private boolean resolvingCircularFetch;
 	private boolean deduplicateSelectionItems;
 	private ForeignKeyDescriptor.Nature currentlyResolvingForeignKeySide;
@@ -8303,6 +8309,8 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		EntityGraphTraversalState.TraversalResult traversalResult = null;
 
 		TableGroup joinedTableGroup = null;
+		BasicType<?> aggregateType = null;
+		boolean split = false;
 
 		if ( fetchedJoin != null ) {
 			fetchablePath = fetchedJoin.getNavigablePath();
@@ -8384,6 +8392,20 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 				}
 			}
 
+			if ( fetchTiming == FetchTiming.IMMEDIATE && fetchable instanceof PluralAttributeMapping ) {
+				aggregateType = resolveCollectionAggregateType( fetchParent, (PluralAttributeMapping) fetchable );
+				if ( aggregateType != null ) {
+					// the collection is read from a correlated subquery instead
+					joined = false;
+				}
+				else if ( joined && traversalResult != null && collectionJoinFetched
+						&& isSplitFetchable( (PluralAttributeMapping) fetchable ) ) {
+					// the collection is loaded by a separate query once all results are read
+					joined = false;
+					split = true;
+				}
+			}
+
 			if ( joined && fetchable instanceof TableGroupJoinProducer ) {
 				joinedTableGroup = fromClauseIndex.resolveTableGroup(
 						fetchablePath,
@@ -8439,14 +8461,21 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 					return biDirectionalFetch;
 				}
 			}
-			final Fetch fetch = buildFetch(
-					fetchablePath,
-					fetchParent,
-					fetchable,
-					fetchTiming,
-					joined,
-					alias
-			);
+			final Fetch fetch;
+			if ( aggregateType != null ) {
+				fetch = buildAggregatedCollectionFetch(
+						fetchablePath,
+						fetchParent,
+						(PluralAttributeMapping) fetchable,
+						aggregateType
+				);
+			}
+			else if ( split ) {
+				fetch = buildSplitCollectionFetch( fetchablePath, fetchParent, (PluralAttributeMapping) fetchable );
+			}
+			else {
+				fetch = buildFetch( fetchablePath, fetchParent, fetchable, fetchTiming, joined, alias );
+			}
 
 			if ( sqlSelectionsToTrack != null ) {
 				final List<SqlSelection> selections = currentSqlSelectionCollector().getSelections( sqlSelectionsToTrack.getKey() );
@@ -8454,7 +8483,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 			}
 
 			if ( fetch != null && fetch.getTiming() == FetchTiming.IMMEDIATE ) {
-				if ( fetchable instanceof TableGroupJoinProducer ) {
+				if ( fetchable instanceof TableGroupJoinProducer && aggregateType == null && !split ) {
 					if ( joinedTableGroup != null ) {
 						final TableGroup actualTableGroup = joinedTableGroup instanceof PluralTableGroup ?
 								( (PluralTableGroup) joinedTableGroup ).getElementTableGroup() :
@@ -8480,6 +8509,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 						}
 					}
 					if ( fetchable instanceof PluralAttributeMapping ) {
+						collectionJoinFetched = true;
 						final PluralAttributeMapping pluralAttributeMapping = (PluralAttributeMapping) fetchable;
 						final CollectionClassification collectionClassification = pluralAttributeMapping.getMappedType()
 								.getCollectionSemantics()
@@ -8606,6 +8636,181 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		}
 	}
 
+	/**
+	 * Determine if the given collection may be fetched by aggregating its elements into a SQL array,
+	 * returning the type of the array if so, or {@code null} otherwise.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#COLLECTION_AGGREGATE_FETCH
+	 */
+	private BasicType<?> resolveCollectionAggregateType(
+			FetchParent fetchParent,
+			PluralAttributeMapping pluralAttributeMapping) {
+		if ( !creationContext.getSessionFactory().getSessionFactoryOptions().isCollectionAggregateFetchEnabled()
+				|| pluralAttributeMapping.getIndexDescriptor() != null
+				|| pluralAttributeMapping.getOrderByFragment() != null
+				|| !( pluralAttributeMapping.getElementDescriptor() instanceof BasicValuedCollectionPart )
+				|| getFromClauseIndex().findTableGroup( fetchParent.getNavigablePath() ) == null
+				|| resolveFunction( ArrayAggFunction.FUNCTION_NAME ) == null ) {
+			return null;
+		}
+		switch ( pluralAttributeMapping.getMappedType().getCollectionSemantics().getCollectionClassification() ) {
+			case SET:
+			case SORTED_SET:
+			case ORDERED_SET:
+			case BAG:
+				break;
+			default:
+				return null;
+		}
+		final JdbcMapping elementMapping =
+				( (BasicValuedCollectionPart) pluralAttributeMapping.getElementDescriptor() ).getJdbcMapping();
+		if ( elementMapping.getValueConverter() != null || !( elementMapping instanceof BasicType<?> ) ) {
+			return null;
+		}
+		return DdlTypeHelper.resolveArrayType(
+				(BasicType<?>) elementMapping,
+				creationContext.getMappingMetamodel().getTypeConfiguration()
+		);
+	}
+
+	/**
+	 * Determine if the given collection, requested by an entity graph, may be loaded by a
+	 * separate query after the results have been read.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#SPLIT_COLLECTION_FETCH
+	 */
+	private boolean isSplitFetchable(PluralAttributeMapping pluralAttributeMapping) {
+		return getLoadQueryInfluencers().isSplitCollectionFetchEnabled()
+				&& !pluralAttributeMapping.getKeyDescriptor().isEmbedded()
+				&& !pluralAttributeMapping.getCollectionDescriptor().getCollectionType().hasHolder();
+	}
+
+	private Fetch buildSplitCollectionFetch(
+			NavigablePath fetchablePath,
+			FetchParent fetchParent,
+			PluralAttributeMapping pluralAttributeMapping) {
+		final DomainResult<?> collectionKeyResult;
+		if ( pluralAttributeMapping.getCollectionDescriptor().getCollectionType().getLHSPropertyName() != null ) {
+			collectionKeyResult = pluralAttributeMapping.getKeyDescriptor().createTargetDomainResult(
+					fetchablePath,
+					getFromClauseIndex().getTableGroup( fetchParent.getNavigablePath() ),
+					fetchParent,
+					this
+			);
+		}
+		else {
+			collectionKeyResult = null;
+		}
+		return new SplitCollectionFetch( fetchablePath, pluralAttributeMapping, collectionKeyResult, fetchParent );
+	}
+
+	/**
+	 * Render the collection as a correlated subquery selecting the {@code array_agg()}
+	 * of its elements, and read the whole collection from that single column.
+	 */
+	private Fetch buildAggregatedCollectionFetch(
+			NavigablePath fetchablePath,
+			FetchParent fetchParent,
+			PluralAttributeMapping pluralAttributeMapping,
+			BasicType<?> aggregateType) {
+		final TableGroup parentTableGroup = getFromClauseIndex().getTableGroup( fetchParent.getNavigablePath() );
+		final QuerySpec subQuerySpec = new QuerySpec( false );
+		pushProcessingState(
+				new SqlAstQueryPartProcessingStateImpl(
+						subQuerySpec,
+						getCurrentProcessingState(),
+						this,
+						currentClauseStack::getCurrent,
+						false
+				)
+		);
+		try {
+			final TableGroup tableGroup = pluralAttributeMapping.createRootTableGroup(
+					true,
+					fetchablePath,
+					null,
+					null,
+					() -> subQuerySpec::applyPredicate,
+					this
+			);
+
+			pluralAttributeMapping.applyBaseRestrictions(
+					subQuerySpec::applyPredicate,
+					tableGroup,
+					true,
+					getLoadQueryInfluencers().getEnabledFilters(),
+					false,
+					null,
+					this
+			);
+
+			subQuerySpec.getFromClause().addRoot( tableGroup );
+
+			final BasicValuedCollectionPart elementPart =
+					(BasicValuedCollectionPart) pluralAttributeMapping.getElementDescriptor();
+			final Expression element = getSqlExpressionResolver().resolveSqlExpression(
+					tableGroup.resolveTableReference( fetchablePath, elementPart.getContainingTableExpression() ),
+					elementPart
+			);
+			final AbstractSqmSelfRenderingFunctionDescriptor functionDescriptor =
+					resolveFunction( ArrayAggFunction.FUNCTION_NAME );
+			final Expression expression = new SelfRenderingAggregateFunctionSqlAstExpression(
+					functionDescriptor.getName(),
+					functionDescriptor,
+					singletonList( element ),
+					null,
+					aggregateType,
+					aggregateType
+			);
+			subQuerySpec.getSelectClause().addSqlSelection( new SqlSelectionImpl( expression ) );
+
+			subQuerySpec.applyPredicate(
+					pluralAttributeMapping.getKeyDescriptor().generateJoinPredicate(
+							parentTableGroup,
+							tableGroup,
+							this
+					)
+			);
+		}
+		finally {
+			popProcessingStateStack();
+		}
+
+		final SqlSelection sqlSelection = getSqlExpressionResolver().resolveSqlSelection(
+				new SelectStatement( subQuerySpec ),
+				aggregateType.getJdbcJavaType(),
+				fetchParent,
+				creationContext.getMappingMetamodel().getTypeConfiguration()
+		);
+		final DomainResult<?> aggregateResult = new BasicResult<>(
+				sqlSelection.getValuesArrayPosition(),
+				null,
+				aggregateType,
+				fetchablePath,
+				false,
+				false
+		);
+		final DomainResult<?> collectionKeyResult;
+		if ( pluralAttributeMapping.getCollectionDescriptor().getCollectionType().getLHSPropertyName() != null ) {
+			collectionKeyResult = pluralAttributeMapping.getKeyDescriptor().createTargetDomainResult(
+					fetchablePath,
+					parentTableGroup,
+					fetchParent,
+					this
+			);
+		}
+		else {
+			collectionKeyResult = null;
+		}
+		return new AggregatedCollectionFetch(
+				fetchablePath,
+				pluralAttributeMapping,
+				collectionKeyResult,
+				aggregateResult,
+				fetchParent
+		);
+	}
+
 	private void applyOrdering(TableGroup tableGroup, PluralAttributeMapping pluralAttributeMapping) {
 		if ( pluralAttributeMapping.getOrderByFragment() != null ) {
 			applyOrdering( tableGroup, pluralAttributeMapping.getOrderByFragment() );
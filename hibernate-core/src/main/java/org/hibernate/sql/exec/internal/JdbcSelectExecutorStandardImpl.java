@@ -8,10 +8,12 @@ package org.hibernate.sql.exec.internal;
 
 import java.io.Serializable;
 import java.sql.PreparedStatement;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.hibernate.CacheMode;
 import org.hibernate.cache.spi.QueryKey;
@@ -21,6 +23,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.query.TupleTransformer;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.exec.SqlExecLogger;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
@@ -41,8 +44,10 @@ import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
 import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.sql.results.spi.ScrollableResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.BasicType;
@@ -70,6 +75,56 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			Class<R> domainResultType,
 			Function<String, PreparedStatement> statementCreator,
 			ResultsConsumer<T, R> resultsConsumer) {
+		return executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				resultsConsumer,
+				() -> new DeferredResultSetAccess(
+						jdbcSelect,
+						jdbcParameterBindings,
+						executionContext,
+						statementCreator,
+						resultsConsumer instanceof ScrollableResultsConsumer
+				)
+		);
+	}
+
+	/**
+	 * Execute the given select, obtaining its results from the given
+	 * {@link DeferredResultSetAccess}
+	 *
+	 * @since 6.6
+	 */
+	public <T, R> T executeQuery(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ResultsConsumer<T, R> resultsConsumer,
+			DeferredResultSetAccess deferredResultSetAccess) {
+		return executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				resultsConsumer,
+				() -> deferredResultSetAccess
+		);
+	}
+
+	private <T, R> T executeQuery(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ResultsConsumer<T, R> resultsConsumer,
+			Supplier<DeferredResultSetAccess> resultSetAccessSupplier) {
 		final PersistenceContext persistenceContext = executionContext.getSession().getPersistenceContext();
 		boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
 		Boolean readOnly = executionContext.getQueryOptions().isReadOnly();
@@ -85,8 +140,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					executionContext,
 					rowTransformer,
 					domainResultType,
-					statementCreator,
-					resultsConsumer
+					resultsConsumer,
+					resultSetAccessSupplier
 			);
 		}
 		finally {
@@ -102,15 +157,45 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			ExecutionContext executionContext,
 			RowTransformer<R> rowTransformer,
 			Class<R> domainResultType,
-			Function<String, PreparedStatement> statementCreator,
-			ResultsConsumer<T, R> resultsConsumer) {
+			ResultsConsumer<T, R> resultsConsumer,
+			Supplier<DeferredResultSetAccess> resultSetAccessSupplier) {
+
+		final QueryResultsCache transformedResultsCache =
+				resolveTransformedResultsCache( executionContext, rowTransformer, resultsConsumer );
+		final QueryKey transformedResultsKey;
+		if ( transformedResultsCache == null ) {
+			transformedResultsKey = null;
+		}
+		else {
+			transformedResultsKey = QueryKey.from(
+					jdbcSelect.getSqlString(),
+					executionContext.getQueryOptions().getLimit(),
+					executionContext.getQueryParameterBindings(),
+					executionContext.getSession()
+			);
+			if ( JdbcExecHelper.resolveCacheMode( executionContext ).isGetEnabled() ) {
+				final List<?> cachedResults = transformedResultsCache.getTransformedResults(
+						transformedResultsKey,
+						jdbcSelect.getJdbcValuesMappingProducer(),
+						rowTransformer,
+						jdbcSelect.getAffectedTableNames(),
+						executionContext.getSession()
+				);
+				if ( cachedResults != null ) {
+					final StatisticsImplementor statistics = executionContext.getSession().getFactory().getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.queryCacheHit(
+								executionContext.getQueryIdentifier( jdbcSelect.getSqlString() ),
+								transformedResultsCache.getRegion().getName()
+						);
+					}
+					//noinspection unchecked
+					return (T) cachedResults;
+				}
+			}
+		}
 
-		final DeferredResultSetAccess deferredResultSetAccess = new DeferredResultSetAccess(
-				jdbcSelect,
-				jdbcParameterBindings,
-				executionContext,
-				statementCreator
-		);
+		final DeferredResultSetAccess deferredResultSetAccess = resultSetAccessSupplier.get();
 		final JdbcValues jdbcValues = resolveJdbcValuesSource(
 				executionContext.getQueryIdentifier( deferredResultSetAccess.getFinalSql() ),
 				jdbcSelect,
@@ -200,7 +285,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 
 		rowReader.startLoading( rowProcessingState );
 
-		final T result = resultsConsumer.consume(
+		T result = resultsConsumer.consume(
 				jdbcValues,
 				session,
 				processingOptions,
@@ -209,6 +294,22 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				rowReader
 		);
 
+		if ( transformedResultsKey != null
+				&& JdbcExecHelper.resolveCacheMode( executionContext ).isPutEnabled()
+				&& isScalar( jdbcValues.getValuesMapping() ) ) {
+			final List<?> immutableResults = Collections.unmodifiableList( (List<?>) result );
+			if ( transformedResultsCache.putTransformedResults(
+					transformedResultsKey,
+					jdbcSelect.getJdbcValuesMappingProducer(),
+					rowTransformer,
+					immutableResults,
+					session
+			) ) {
+				//noinspection unchecked
+				result = (T) immutableResults;
+			}
+		}
+
 		if ( stats ) {
 			final long endTime = System.nanoTime();
 			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
@@ -222,6 +323,41 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		return result;
 	}
 
+	/**
+	 * The query result cache which keeps the fully transformed results of
+	 * the given query, or {@code null} if the query is not eligible, that
+	 * is, if it is not a cacheable, read-only query returning a list whose
+	 * rows are transformed by a row transformer held by the query plan.
+	 */
+	private static QueryResultsCache resolveTransformedResultsCache(
+			ExecutionContext executionContext,
+			RowTransformer<?> rowTransformer,
+			ResultsConsumer<?, ?> resultsConsumer) {
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		if ( rowTransformer == null
+				|| !( resultsConsumer instanceof ListResultsConsumer )
+				|| !factory.getSessionFactoryOptions().isQueryCacheEnabled()
+				|| queryOptions.isResultCachingEnabled() != Boolean.TRUE
+				|| queryOptions.isReadOnly() != Boolean.TRUE
+				|| queryOptions.getTupleTransformer() != null
+				|| queryOptions.getResultListTransformer() != null ) {
+			return null;
+		}
+		final QueryResultsCache queryCache =
+				factory.getCache().getQueryResultsCache( queryOptions.getResultCacheRegionName() );
+		return queryCache != null && queryCache.isTransformedResultsCachingEnabled() ? queryCache : null;
+	}
+
+	private static boolean isScalar(JdbcValuesMapping valuesMapping) {
+		for ( DomainResult<?> domainResult : valuesMapping.getDomainResults() ) {
+			if ( domainResult.containsAnyNonScalarResults() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private <T> int getResultSize(T result) {
 		if ( result instanceof List ) {
 			return ( (List<?>) result ).size();
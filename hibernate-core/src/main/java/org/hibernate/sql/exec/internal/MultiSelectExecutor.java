@@ -0,0 +1,186 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.exec.spi.DeferredSelect;
+import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
+import org.hibernate.sql.results.jdbc.internal.SharedStatementResultSetAccess;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+/**
+ * Executes several {@linkplain DeferredSelect deferred selects} in a single round
+ * trip, as one {@link PreparedStatement} containing the SQL of every select, and
+ * reads the results of each select from its own {@link java.sql.ResultSet}. This
+ * requires that the database and driver {@linkplain
+ * org.hibernate.dialect.Dialect#supportsMultiQueryStatements support} multiple
+ * result sets per statement.
+ * <p>
+ * A select which {@linkplain SharedStatementResultSetAccess#canShareStatement
+ * cannot share the statement} is executed on its own.
+ *
+ * @see org.hibernate.Session#getResultLists
+ *
+ * @since 6.6
+ */
+public final class MultiSelectExecutor {
+	private MultiSelectExecutor() {
+	}
+
+	/**
+	 * Execute the given selects, returning the result list of each of them, in order
+	 */
+	public static List<List<?>> list(List<DeferredSelect<?>> selects, SharedSessionContractImplementor session) {
+		final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory().getJdbcServices().getJdbcSelectExecutor();
+		final List<List<?>> results = new ArrayList<>( Collections.nCopies( selects.size(), null ) );
+		final List<Integer> sharingIndexes = new ArrayList<>( selects.size() );
+		final List<SharedStatementResultSetAccess> sharingAccesses = new ArrayList<>( selects.size() );
+		for ( int i = 0; i < selects.size(); i++ ) {
+			final DeferredSelect<?> select = selects.get( i );
+			final SharedStatementResultSetAccess resultSetAccess = new SharedStatementResultSetAccess(
+					select.getJdbcSelect(),
+					select.getJdbcParameterBindings(),
+					select.getExecutionContext()
+			);
+			if ( jdbcSelectExecutor instanceof JdbcSelectExecutorStandardImpl
+					&& resultSetAccess.canShareStatement() ) {
+				sharingIndexes.add( i );
+				sharingAccesses.add( resultSetAccess );
+			}
+			else {
+				results.set( i, list( select, jdbcSelectExecutor ) );
+			}
+		}
+
+		if ( sharingIndexes.size() == 1 ) {
+			final int index = sharingIndexes.get( 0 );
+			results.set( index, list( selects.get( index ), jdbcSelectExecutor ) );
+		}
+		else if ( !sharingIndexes.isEmpty() ) {
+			final List<DeferredSelect<?>> sharingSelects = new ArrayList<>( sharingIndexes.size() );
+			for ( int index : sharingIndexes ) {
+				sharingSelects.add( selects.get( index ) );
+			}
+			final List<List<?>> sharedResults = listWithSharedStatement( sharingSelects, sharingAccesses, session );
+			for ( int i = 0; i < sharingIndexes.size(); i++ ) {
+				results.set( sharingIndexes.get( i ), sharedResults.get( i ) );
+			}
+		}
+		return results;
+	}
+
+	private static List<List<?>> listWithSharedStatement(
+			List<DeferredSelect<?>> selects,
+			List<SharedStatementResultSetAccess> resultSetAccesses,
+			SharedSessionContractImplementor session) {
+		final StringBuilder sql = new StringBuilder();
+		for ( SharedStatementResultSetAccess resultSetAccess : resultSetAccesses ) {
+			if ( sql.length() > 0 ) {
+				sql.append( ";\n" );
+			}
+			sql.append( resultSetAccess.getFinalSql() );
+		}
+		final String finalSql = sql.toString();
+
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final LogicalConnectionImplementor logicalConnection = jdbcCoordinator.getLogicalConnection();
+		final PreparedStatement statement =
+				jdbcCoordinator.getStatementPreparer().prepareQueryStatement( finalSql, false, null );
+		try {
+			int position = 1;
+			for ( SharedStatementResultSetAccess resultSetAccess : resultSetAccesses ) {
+				position = resultSetAccess.bindParameters( statement, position );
+			}
+
+			boolean isResultSet = execute( statement, finalSql, session );
+			final List<List<?>> results = new ArrayList<>( selects.size() );
+			for ( int i = 0; i < selects.size(); i++ ) {
+				while ( !isResultSet && statement.getUpdateCount() != -1 ) {
+					isResultSet = statement.getMoreResults();
+				}
+				if ( !isResultSet ) {
+					throw new HibernateException( "Statement returned " + i + " result sets, but "
+							+ selects.size() + " were expected [" + finalSql + "]" );
+				}
+				final SharedStatementResultSetAccess resultSetAccess = resultSetAccesses.get( i );
+				resultSetAccess.setResultSet( statement, statement.getResultSet() );
+				results.add( list( selects.get( i ), resultSetAccess ) );
+				isResultSet = statement.getMoreResults();
+			}
+			return results;
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"JDBC exception executing SQL [" + finalSql + "]"
+			);
+		}
+		finally {
+			logicalConnection.getResourceRegistry().release( statement );
+			logicalConnection.afterStatement();
+		}
+	}
+
+	private static boolean execute(PreparedStatement statement, String sql, SharedSessionContractImplementor session)
+			throws SQLException {
+		final SqlStatementLogger sqlStatementLogger = session.getJdbcServices().getSqlStatementLogger();
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		final EventManager eventManager = session.getEventManager();
+		final long executeStartNanos = sqlStatementLogger.getLogSlowQuery() > 0 ? System.nanoTime() : 0;
+		final HibernateMonitoringEvent jdbcPreparedStatementExecutionEvent =
+				eventManager.beginJdbcPreparedStatementExecutionEvent();
+		try {
+			eventListenerManager.jdbcExecuteStatementStart();
+			return statement.execute();
+		}
+		finally {
+			eventManager.completeJdbcPreparedStatementExecutionEvent( jdbcPreparedStatementExecutionEvent, sql );
+			eventListenerManager.jdbcExecuteStatementEnd();
+			sqlStatementLogger.logSlowQuery(
+					sql,
+					executeStartNanos,
+					session.getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext()
+			);
+		}
+	}
+
+	private static <R> List<R> list(DeferredSelect<R> select, JdbcSelectExecutor jdbcSelectExecutor) {
+		return select.transformResults( jdbcSelectExecutor.list(
+				select.getJdbcSelect(),
+				select.getJdbcParameterBindings(),
+				select.getExecutionContext(),
+				select.getRowTransformer(),
+				select.getDomainResultType(),
+				select.getUniqueSemantic()
+		) );
+	}
+
+	private static <R> List<R> list(DeferredSelect<R> select, SharedStatementResultSetAccess resultSetAccess) {
+		return select.transformResults( JdbcSelectExecutorStandardImpl.INSTANCE.executeQuery(
+				select.getJdbcSelect(),
+				select.getJdbcParameterBindings(),
+				select.getExecutionContext(),
+				select.getRowTransformer(),
+				select.getDomainResultType(),
+				ListResultsConsumer.instance( select.getUniqueSemantic() ),
+				resultSetAccess
+		) );
+	}
+}
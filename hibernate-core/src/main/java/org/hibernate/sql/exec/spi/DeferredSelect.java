@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.exec.spi;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.hibernate.Incubating;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+/**
+ * A {@linkplain JdbcOperationQuerySelect select} which has been interpreted and
+ * had its parameters bound, but whose execution was deferred, so that it may be
+ * executed together with other selects in a single round trip to the database.
+ *
+ * @see org.hibernate.query.spi.SelectQueryPlan#deferList
+ * @see org.hibernate.Session#getResultLists
+ *
+ * @since 6.6
+ */
+@Incubating
+public class DeferredSelect<R> {
+	private final JdbcOperationQuerySelect jdbcSelect;
+	private final JdbcParameterBindings jdbcParameterBindings;
+	private final ExecutionContext executionContext;
+	private final RowTransformer<R> rowTransformer;
+	private final Class<R> domainResultType;
+	private final ListResultsConsumer.UniqueSemantic uniqueSemantic;
+	private final UnaryOperator<List<R>> resultsTransformer;
+
+	public DeferredSelect(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ListResultsConsumer.UniqueSemantic uniqueSemantic) {
+		this(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				uniqueSemantic,
+				UnaryOperator.identity()
+		);
+	}
+
+	private DeferredSelect(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			RowTransformer<R> rowTransformer,
+			Class<R> domainResultType,
+			ListResultsConsumer.UniqueSemantic uniqueSemantic,
+			UnaryOperator<List<R>> resultsTransformer) {
+		this.jdbcSelect = jdbcSelect;
+		this.jdbcParameterBindings = jdbcParameterBindings;
+		this.executionContext = executionContext;
+		this.rowTransformer = rowTransformer;
+		this.domainResultType = domainResultType;
+		this.uniqueSemantic = uniqueSemantic;
+		this.resultsTransformer = resultsTransformer;
+	}
+
+	/**
+	 * A copy of this deferred select which applies the given
+	 * function to the result list, once it has been read
+	 */
+	public DeferredSelect<R> transformResults(UnaryOperator<List<R>> transformer) {
+		return new DeferredSelect<>(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				rowTransformer,
+				domainResultType,
+				uniqueSemantic,
+				list -> transformer.apply( resultsTransformer.apply( list ) )
+		);
+	}
+
+	public JdbcOperationQuerySelect getJdbcSelect() {
+		return jdbcSelect;
+	}
+
+	public JdbcParameterBindings getJdbcParameterBindings() {
+		return jdbcParameterBindings;
+	}
+
+	public ExecutionContext getExecutionContext() {
+		return executionContext;
+	}
+
+	public RowTransformer<R> getRowTransformer() {
+		return rowTransformer;
+	}
+
+	public Class<R> getDomainResultType() {
+		return domainResultType;
+	}
+
+	public ListResultsConsumer.UniqueSemantic getUniqueSemantic() {
+		return uniqueSemantic;
+	}
+
+	/**
+	 * Apply any transformation of the result list which
+	 * happens after the results have been read
+	 */
+	public List<R> transformResults(List<R> results) {
+		return resultsTransformer.apply( results );
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.graph.collection.internal;
+
+import java.util.BitSet;
+
+import org.hibernate.engine.FetchTiming;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.results.graph.AssemblerCreationState;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.FetchParent;
+import org.hibernate.sql.results.graph.InitializerParent;
+import org.hibernate.sql.results.graph.collection.CollectionInitializer;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A collection fetch which reads the whole collection from a single
+ * column of the owner's row, holding the elements aggregated into an
+ * SQL array by a correlated subquery. Unlike a join fetch, this does
+ * not multiply the rows of the owner, so any number of collections
+ * may be fetched this way in a single query.
+ *
+ * @see org.hibernate.cfg.QuerySettings#COLLECTION_AGGREGATE_FETCH
+ */
+public class AggregatedCollectionFetch extends CollectionFetch {
+	private final @Nullable DomainResult<?> collectionKeyResult;
+	private final DomainResult<?> aggregateResult;
+
+	public AggregatedCollectionFetch(
+			NavigablePath fetchedPath,
+			PluralAttributeMapping fetchedAttribute,
+			@Nullable DomainResult<?> collectionKeyResult,
+			DomainResult<?> aggregateResult,
+			FetchParent fetchParent) {
+		super( fetchedPath, fetchedAttribute, fetchParent );
+		this.collectionKeyResult = collectionKeyResult;
+		this.aggregateResult = aggregateResult;
+	}
+
+	@Override
+	public FetchTiming getTiming() {
+		return FetchTiming.IMMEDIATE;
+	}
+
+	@Override
+	public boolean hasTableGroup() {
+		return false;
+	}
+
+	@Override
+	public CollectionInitializer<?> createInitializer(InitializerParent<?> parent, AssemblerCreationState creationState) {
+		return new AggregatedCollectionInitializer(
+				getNavigablePath(),
+				getFetchedMapping(),
+				parent,
+				collectionKeyResult,
+				aggregateResult,
+				creationState
+		);
+	}
+
+	@Override
+	public JavaType<?> getResultJavaType() {
+		return getFetchedMapping().getJavaType();
+	}
+
+	@Override
+	public void collectValueIndexesToCache(BitSet valueIndexes) {
+		if ( collectionKeyResult != null ) {
+			collectionKeyResult.collectValueIndexesToCache( valueIndexes );
+		}
+		aggregateResult.collectValueIndexesToCache( valueIndexes );
+	}
+}
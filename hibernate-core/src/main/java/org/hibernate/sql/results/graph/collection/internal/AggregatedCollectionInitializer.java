@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.graph.collection.internal;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.log.LoggingHelper;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.results.graph.AssemblerCreationState;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.graph.InitializerParent;
+import org.hibernate.sql.results.graph.collection.LoadingCollectionEntry;
+import org.hibernate.sql.results.internal.LoadingCollectionEntryImpl;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Initializes a collection from the SQL array read by an {@link AggregatedCollectionFetch},
+ * that is, from a single row containing all elements of the collection.
+ *
+ * @see AggregatedCollectionFetch
+ */
+public class AggregatedCollectionInitializer
+		extends AbstractCollectionInitializer<AggregatedCollectionInitializer.AggregatedCollectionInitializerData> {
+
+	private final DomainResultAssembler<?> aggregateAssembler;
+
+	public static class AggregatedCollectionInitializerData extends CollectionInitializerData {
+		protected @Nullable LoadingCollectionEntryImpl responsibility;
+
+		public AggregatedCollectionInitializerData(RowProcessingState rowProcessingState) {
+			super( rowProcessingState );
+		}
+	}
+
+	public AggregatedCollectionInitializer(
+			NavigablePath fetchedPath,
+			PluralAttributeMapping fetchedMapping,
+			InitializerParent<?> parent,
+			@Nullable DomainResult<?> collectionKeyResult,
+			DomainResult<?> aggregateResult,
+			AssemblerCreationState creationState) {
+		super( fetchedPath, fetchedMapping, parent, collectionKeyResult, false, creationState );
+		this.aggregateAssembler = aggregateResult.createResultAssembler( this, creationState );
+	}
+
+	@Override
+	protected InitializerData createInitializerData(RowProcessingState rowProcessingState) {
+		return new AggregatedCollectionInitializerData( rowProcessingState );
+	}
+
+	@Override
+	protected void setMissing(AggregatedCollectionInitializerData data) {
+		super.setMissing( data );
+		data.responsibility = null;
+	}
+
+	@Override
+	public void resolveInstance(AggregatedCollectionInitializerData data) {
+		if ( data.getState() != State.KEY_RESOLVED ) {
+			// already resolved
+			return;
+		}
+
+		resolveCollectionKey( data, false );
+		if ( data.getState() != State.KEY_RESOLVED ) {
+			return;
+		}
+
+		final RowProcessingState rowProcessingState = data.getRowProcessingState();
+		if ( owningEntityInitializer != null
+				&& owningEntityInitializer.getData( rowProcessingState ).getState() == State.INITIALIZED ) {
+			// the collection object can not be referred to, so there is no point in creating it
+			data.setState( State.MISSING );
+			return;
+		}
+		data.setState( State.RESOLVED );
+		data.responsibility = null;
+
+		final SharedSessionContractImplementor session = rowProcessingState.getSession();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final LoadingCollectionEntry loadingEntry =
+				persistenceContext.getLoadContexts().findLoadingCollectionEntry( data.collectionKey );
+		if ( loadingEntry != null ) {
+			// the collection is already being loaded elsewhere
+			data.setCollectionInstance( loadingEntry.getCollectionInstance() );
+			data.setState( State.INITIALIZED );
+			return;
+		}
+
+		final PersistentCollection<?> existing = persistenceContext.getCollection( data.collectionKey );
+		if ( existing != null ) {
+			data.setCollectionInstance( existing );
+			if ( existing.wasInitialized() ) {
+				data.setState( State.INITIALIZED );
+				return;
+			}
+		}
+		else {
+			final CollectionPersister collectionDescriptor = collectionAttributeMapping.getCollectionDescriptor();
+			final Object key = data.collectionKey.getKey();
+			data.setCollectionInstance(
+					collectionDescriptor.getCollectionSemantics().instantiateWrapper( key, collectionDescriptor, session )
+			);
+			if ( owningEntityInitializer != null ) {
+				assert owningEntityInitializer.getTargetInstance( rowProcessingState ) != null;
+				data.getCollectionInstance().setOwner( owningEntityInitializer.getTargetInstance( rowProcessingState ) );
+			}
+			persistenceContext.addUninitializedCollection( collectionDescriptor, data.getCollectionInstance(), key );
+		}
+		takeResponsibility( data );
+	}
+
+	@Override
+	public void resolveInstance(@Nullable Object instance, AggregatedCollectionInitializerData data) {
+		if ( instance == null ) {
+			setMissing( data );
+			return;
+		}
+		// arrays are never fetched by aggregation, so the instance is always a PersistentCollection
+		final PersistentCollection<?> collection = (PersistentCollection<?>) instance;
+		final RowProcessingState rowProcessingState = data.getRowProcessingState();
+		data.setCollectionInstance( collection );
+		data.responsibility = null;
+		if ( collection.wasInitialized() ) {
+			data.setState( State.INITIALIZED );
+		}
+		else {
+			data.collectionKeyValue = collection.getKey();
+			data.collectionKey = new CollectionKey(
+					collectionAttributeMapping.getCollectionDescriptor(),
+					data.collectionKeyValue
+			);
+			if ( rowProcessingState.getSession().getPersistenceContextInternal().getLoadContexts()
+					.findLoadingCollectionEntry( data.collectionKey ) != null ) {
+				data.setState( State.INITIALIZED );
+			}
+			else {
+				data.setState( State.RESOLVED );
+				takeResponsibility( data );
+			}
+		}
+		if ( rowProcessingState.needsResolveState() ) {
+			// Resolve the state of the identifier if result caching is enabled and this is not a query cache hit
+			if ( collectionKeyResultAssembler != null ) {
+				collectionKeyResultAssembler.resolveState( rowProcessingState );
+			}
+			aggregateAssembler.resolveState( rowProcessingState );
+		}
+	}
+
+	protected void takeResponsibility(AggregatedCollectionInitializerData data) {
+		data.responsibility = new LoadingCollectionEntryImpl(
+				collectionAttributeMapping.getCollectionDescriptor(),
+				this,
+				data.collectionKey.getKey(),
+				data.getCollectionInstance()
+		);
+		data.getRowProcessingState().getJdbcValuesSourceProcessingState().registerLoadingCollection(
+				data.collectionKey,
+				data.responsibility
+		);
+	}
+
+	@Override
+	public void initializeInstance(AggregatedCollectionInitializerData data) {
+		if ( data.getState() != State.RESOLVED || data.responsibility == null ) {
+			return;
+		}
+		data.setState( State.INITIALIZED );
+
+		// the subquery yields null rather than an empty array when the collection has no elements
+		final Object[] elements = (Object[]) aggregateAssembler.assemble( data.getRowProcessingState() );
+		if ( elements != null ) {
+			data.responsibility.load( loadingState -> {
+				for ( Object element : elements ) {
+					if ( element != null ) {
+						loadingState.add( element );
+					}
+				}
+			} );
+		}
+	}
+
+	@Override
+	public void initializeInstanceFromParent(Object parentInstance, AggregatedCollectionInitializerData data) {
+		data.setCollectionInstance( (PersistentCollection<?>) getInitializedPart().getValue( parentInstance ) );
+		data.setState( State.INITIALIZED );
+	}
+
+	@Override
+	public String toString() {
+		return "AggregatedCollectionInitializer(" + LoggingHelper.toLoggableString( getNavigablePath() ) + ")";
+	}
+}
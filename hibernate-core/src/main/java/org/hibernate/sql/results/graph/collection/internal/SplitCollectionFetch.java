@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.graph.collection.internal;
+
+import java.util.BitSet;
+
+import org.hibernate.engine.FetchTiming;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.BatchLoaderFactory;
+import org.hibernate.loader.ast.spi.CollectionBatchLoader;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.results.graph.AssemblerCreationState;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.FetchParent;
+import org.hibernate.sql.results.graph.InitializerParent;
+import org.hibernate.sql.results.graph.collection.CollectionInitializer;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A collection fetch which is not part of the query, but is executed once all
+ * results have been read, by a single {@linkplain CollectionBatchLoader batch load}
+ * of the collections of every owner returned by the query.
+ *
+ * @see org.hibernate.cfg.QuerySettings#SPLIT_COLLECTION_FETCH
+ */
+public class SplitCollectionFetch extends CollectionFetch {
+	/**
+	 * The batch size used to build the loader, which only determines the chunk size
+	 * in case the dialect does not support passing the keys as a single array
+	 */
+	private static final int BATCH_SIZE = 256;
+
+	private final @Nullable DomainResult<?> collectionKeyResult;
+
+	private volatile @Nullable CollectionBatchLoader batchLoader;
+
+	public SplitCollectionFetch(
+			NavigablePath fetchedPath,
+			PluralAttributeMapping fetchedAttribute,
+			@Nullable DomainResult<?> collectionKeyResult,
+			FetchParent fetchParent) {
+		super( fetchedPath, fetchedAttribute, fetchParent );
+		this.collectionKeyResult = collectionKeyResult;
+	}
+
+	@Override
+	public FetchTiming getTiming() {
+		return FetchTiming.IMMEDIATE;
+	}
+
+	@Override
+	public boolean hasTableGroup() {
+		return false;
+	}
+
+	@Override
+	public CollectionInitializer<?> createInitializer(InitializerParent<?> parent, AssemblerCreationState creationState) {
+		return new SplitCollectionInitializer(
+				getNavigablePath(),
+				getFetchedMapping(),
+				parent,
+				collectionKeyResult,
+				this,
+				creationState
+		);
+	}
+
+	/**
+	 * The loader used to initialize all the collections read by one execution
+	 * of the query, which is shared unless the session has filters or fetch
+	 * profiles enabled which affect the collection.
+	 */
+	public CollectionBatchLoader getBatchLoader(SharedSessionContractImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( getFetchedMapping().isAffectedByInfluencers( influencers, true ) ) {
+			return createBatchLoader( influencers, factory );
+		}
+		CollectionBatchLoader loader = batchLoader;
+		if ( loader == null ) {
+			loader = createBatchLoader( new LoadQueryInfluencers( factory ), factory );
+			batchLoader = loader;
+		}
+		return loader;
+	}
+
+	private CollectionBatchLoader createBatchLoader(
+			LoadQueryInfluencers influencers,
+			SessionFactoryImplementor factory) {
+		return factory.getServiceRegistry()
+				.requireService( BatchLoaderFactory.class )
+				.createCollectionBatchLoader( BATCH_SIZE, influencers, getFetchedMapping(), factory );
+	}
+
+	@Override
+	public JavaType<?> getResultJavaType() {
+		return getFetchedMapping().getJavaType();
+	}
+
+	@Override
+	public void collectValueIndexesToCache(BitSet valueIndexes) {
+		if ( collectionKeyResult != null ) {
+			collectionKeyResult.collectValueIndexesToCache( valueIndexes );
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.graph.collection.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.log.LoggingHelper;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.spi.NavigablePath;
+import org.hibernate.sql.results.graph.AssemblerCreationState;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.InitializerData;
+import org.hibernate.sql.results.graph.InitializerParent;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Collects the keys of the uninitialized collections of all rows, and initializes
+ * them at the {@linkplain #endLoading end of the processing} of the results, using
+ * one batch load for all of them.
+ *
+ * @see SplitCollectionFetch
+ */
+public class SplitCollectionInitializer
+		extends AbstractCollectionInitializer<SplitCollectionInitializer.SplitCollectionInitializerData> {
+
+	private final SplitCollectionFetch fetch;
+
+	public static class SplitCollectionInitializerData extends CollectionInitializerData {
+		// state accumulated over all rows
+		protected @Nullable Set<CollectionKey> keysToLoad;
+
+		public SplitCollectionInitializerData(RowProcessingState rowProcessingState) {
+			super( rowProcessingState );
+		}
+	}
+
+	public SplitCollectionInitializer(
+			NavigablePath fetchedPath,
+			PluralAttributeMapping fetchedMapping,
+			InitializerParent<?> parent,
+			@Nullable DomainResult<?> collectionKeyResult,
+			SplitCollectionFetch fetch,
+			AssemblerCreationState creationState) {
+		super( fetchedPath, fetchedMapping, parent, collectionKeyResult, false, creationState );
+		this.fetch = fetch;
+	}
+
+	@Override
+	protected InitializerData createInitializerData(RowProcessingState rowProcessingState) {
+		return new SplitCollectionInitializerData( rowProcessingState );
+	}
+
+	@Override
+	public void resolveInstance(SplitCollectionInitializerData data) {
+		resolveInstance( data, false );
+		registerKeyToLoad( data, data.collectionKey );
+	}
+
+	@Override
+	public void resolveInstance(@Nullable Object instance, SplitCollectionInitializerData data) {
+		resolveInstance( instance, data, false );
+		registerKeyToLoad( data, null );
+	}
+
+	private void registerKeyToLoad(SplitCollectionInitializerData data, @Nullable CollectionKey collectionKey) {
+		if ( data.getState() == State.RESOLVED ) {
+			final PersistentCollection<?> collection = data.getCollectionInstance();
+			if ( collection != null && !collection.wasInitialized() ) {
+				if ( data.keysToLoad == null ) {
+					data.keysToLoad = new LinkedHashSet<>();
+				}
+				data.keysToLoad.add(
+						collectionKey != null
+								? collectionKey
+								: new CollectionKey( collectionAttributeMapping.getCollectionDescriptor(), collection.getKey() )
+				);
+			}
+		}
+	}
+
+	@Override
+	public void endLoading(SplitCollectionInitializerData data) {
+		final Set<CollectionKey> keysToLoad = data.keysToLoad;
+		if ( keysToLoad != null ) {
+			data.keysToLoad = null;
+			final SharedSessionContractImplementor session = data.getRowProcessingState().getSession();
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final List<Object> keys = new ArrayList<>( keysToLoad.size() );
+			for ( CollectionKey collectionKey : keysToLoad ) {
+				// the collection might have been initialized in the meantime
+				final PersistentCollection<?> collection = persistenceContext.getCollection( collectionKey );
+				if ( collection != null && !collection.wasInitialized() ) {
+					keys.add( collectionKey.getKey() );
+				}
+			}
+			if ( !keys.isEmpty() ) {
+				fetch.getBatchLoader( session ).loadKeys( keys.toArray(), session );
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "SplitCollectionInitializer(" + LoggingHelper.toLoggableString( getNavigablePath() ) + ")";
+	}
+}
@@ -6,9 +6,8 @@
  */
 package org.hibernate.sql.results.graph.instantiation.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
 
@@ -18,13 +17,21 @@ import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 import org.hibernate.type.descriptor.java.JavaType;
 
+import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.spreadingConstructorHandle;
+
 /**
+ * Assembles a dynamic instantiation by calling a constructor of the target class.
+ * The constructor is invoked via a {@linkplain InstantiationHelper#spreadingConstructorHandle
+ * spreading method handle}, which avoids the per-row argument checks and array copy of
+ * reflective instantiation.
+ *
  * @author Steve Ebersole
  */
 public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainResultAssembler<R> {
 	private final Constructor<R> targetConstructor;
+	private final MethodHandle constructorHandle;
 	private final JavaType<R> resultType;
-	private final List<ArgumentReader<?>> argumentReaders;
+	private final ArgumentReader<?>[] argumentReaders;
 
 	public DynamicInstantiationAssemblerConstructorImpl(
 			Constructor<R> targetConstructor,
@@ -32,7 +39,14 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 			List<ArgumentReader<?>> argumentReaders) {
 		this.targetConstructor = targetConstructor;
 		this.resultType = resultType;
-		this.argumentReaders = argumentReaders;
+		this.argumentReaders = argumentReaders.toArray( new ArgumentReader<?>[0] );
+		try {
+			this.constructorHandle = spreadingConstructorHandle( targetConstructor );
+		}
+		catch (IllegalAccessException e) {
+			throw new InstantiationException( "Cannot access constructor of class '"
+					+ targetConstructor.getDeclaringClass().getName() + "'", e );
+		}
 	}
 
 	@Override
@@ -42,20 +56,20 @@ public class DynamicInstantiationAssemblerConstructorImpl<R> implements DomainRe
 
 	@Override
 	public R assemble(RowProcessingState rowProcessingState) {
-		final int numberOfArgs = argumentReaders.size();
-		Object[] args = new Object[ numberOfArgs ];
+		final int numberOfArgs = argumentReaders.length;
+		final Object[] args = new Object[ numberOfArgs ];
 		for ( int i = 0; i < numberOfArgs; i++ ) {
-			args[i] = argumentReaders.get( i ).assemble( rowProcessingState );
+			args[i] = argumentReaders[i].assemble( rowProcessingState );
 		}
 
 		try {
-			return targetConstructor.newInstance( args );
+			//noinspection unchecked
+			return (R) (Object) constructorHandle.invokeExact( args );
 		}
-		catch (InvocationTargetException e) {
-			throw new InstantiationException( "Error instantiating class '"
-					+ targetConstructor.getDeclaringClass().getName() + "'", e.getCause() );
+		catch (Error e) {
+			throw e;
 		}
-		catch (Exception e) {
+		catch (Throwable e) {
 			throw new InstantiationException( "Error instantiating class '"
 					+ targetConstructor.getDeclaringClass().getName() + "'", e );
 		}
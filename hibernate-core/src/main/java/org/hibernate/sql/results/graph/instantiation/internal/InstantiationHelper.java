@@ -12,6 +12,9 @@ import org.jboss.logging.Logger;
 
 import java.beans.BeanInfo;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
@@ -97,6 +100,27 @@ public class InstantiationHelper {
 		}
 	}
 
+	/**
+	 * Obtain a {@link MethodHandle} for the given constructor which accepts all
+	 * its arguments packed into a single {@code Object[]} and returns {@code Object},
+	 * so that it may be called via {@link MethodHandle#invokeExact} once per row.
+	 * Unlike {@link Constructor#newInstance}, this does not check and copy the
+	 * argument array on each call, and primitive parameters are unboxed by the
+	 * handle itself.
+	 *
+	 * @param constructor a constructor which has already been made
+	 *                    {@linkplain Constructor#setAccessible accessible}
+	 *
+	 * @since 6.6
+	 */
+	public static MethodHandle spreadingConstructorHandle(Constructor<?> constructor)
+			throws IllegalAccessException {
+		final int parameterCount = constructor.getParameterCount();
+		return MethodHandles.lookup().unreflectConstructor( constructor )
+				.asType( MethodType.genericMethodType( parameterCount ) )
+				.asSpreader( Object[].class, parameterCount );
+	}
+
 	static Field findField(Class<?> declaringClass, String name, Class<?> javaType) {
 		try {
 			final Field field = declaringClass.getDeclaredField( name );
@@ -11,20 +11,28 @@ import jakarta.persistence.TupleElement;
 import org.hibernate.InstantiationException;
 import org.hibernate.sql.results.spi.RowTransformer;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.util.List;
 
 import org.hibernate.query.sqm.SqmExpressible;
 import org.hibernate.query.sqm.tree.SqmExpressibleAccessor;
 
+import static org.hibernate.query.sqm.tree.expression.Compatibility.isWrapper;
+import static org.hibernate.query.sqm.tree.expression.Compatibility.primitiveEquivalent;
+import static org.hibernate.query.sqm.tree.expression.Compatibility.wrapperEquivalent;
+import static org.hibernate.sql.results.graph.instantiation.internal.InstantiationHelper.spreadingConstructorHandle;
+
 /**
- * {@link RowTransformer} instantiating an arbitrary class
+ * {@link RowTransformer} instantiating an arbitrary class, passing the
+ * row directly to a {@linkplain MethodHandle method handle} for its
+ * constructor, which unboxes the values of any primitive parameters
  *
  * @author Gavin King
  */
 public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	private final Class<T> type;
-	private final Constructor<T> constructor;
+	private final MethodHandle constructor;
 
 	public RowTransformerConstructorImpl(Class<T> type, TupleMetadata tupleMetadata) {
 		this.type = type;
@@ -34,15 +42,100 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 			sig[i] = resolveElementJavaType( elements.get( i ) );
 		}
 		try {
-			constructor = type.getDeclaredConstructor( sig );
+			final Constructor<T> constructor = findConstructor( type, sig );
 			constructor.setAccessible( true );
+			this.constructor = spreadingConstructorHandle( constructor );
+		}
+		catch (InstantiationException e) {
+			throw e;
 		}
 		catch (Exception e) {
-			//TODO try again with primitive types
 			throw new InstantiationException( "Cannot instantiate query result type ", type, e );
 		}
 	}
 
+	/**
+	 * Find the constructor whose parameter types are exactly the given types or,
+	 * failing that, the only constructor to which the given types may be passed
+	 * via boxing, unboxing, and widening primitive conversions.
+	 */
+	private static <T> Constructor<T> findConstructor(Class<T> type, Class<?>[] sig)
+			throws NoSuchMethodException {
+		try {
+			return type.getDeclaredConstructor( sig );
+		}
+		catch (NoSuchMethodException e) {
+			Constructor<?> match = null;
+			for ( Constructor<?> constructor : type.getDeclaredConstructors() ) {
+				if ( isConvertible( constructor.getParameterTypes(), sig ) ) {
+					if ( match != null ) {
+						throw new InstantiationException(
+								"Ambiguous constructors [" + match + "] and [" + constructor
+										+ "] for query result type",
+								type
+						);
+					}
+					match = constructor;
+				}
+			}
+			if ( match == null ) {
+				throw e;
+			}
+			//noinspection unchecked
+			return (Constructor<T>) match;
+		}
+	}
+
+	private static boolean isConvertible(Class<?>[] parameterTypes, Class<?>[] sig) {
+		if ( parameterTypes.length != sig.length ) {
+			return false;
+		}
+		for ( int i = 0; i < sig.length; i++ ) {
+			if ( !isConvertible( parameterTypes[i], sig[i] ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isConvertible(Class<?> parameterType, Class<?> argumentType) {
+		if ( parameterType == argumentType ) {
+			return true;
+		}
+		else if ( parameterType.isPrimitive() ) {
+			// unboxing, possibly followed by a widening primitive conversion
+			return isWrapper( argumentType ) && isWidening( parameterType, primitiveEquivalent( argumentType ) );
+		}
+		else {
+			// boxing
+			return argumentType.isPrimitive() && parameterType == wrapperEquivalent( argumentType );
+		}
+	}
+
+	private static boolean isWidening(Class<?> to, Class<?> from) {
+		if ( to == from ) {
+			return true;
+		}
+		else if ( to == double.class ) {
+			return isWidening( float.class, from );
+		}
+		else if ( to == float.class ) {
+			return isWidening( long.class, from );
+		}
+		else if ( to == long.class ) {
+			return isWidening( int.class, from );
+		}
+		else if ( to == int.class ) {
+			return from == char.class || isWidening( short.class, from );
+		}
+		else if ( to == short.class ) {
+			return from == byte.class;
+		}
+		else {
+			return false;
+		}
+	}
+
 	private static Class<?> resolveElementJavaType(TupleElement<?> element) {
 		if ( element instanceof SqmExpressibleAccessor ) {
 			final SqmExpressible<?> expressible = ( (SqmExpressibleAccessor<?>) element ).getExpressible();
@@ -57,9 +150,13 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 	@Override
 	public T transformRow(Object[] row) {
 		try {
-			return constructor.newInstance( row );
+			//noinspection unchecked
+			return (T) (Object) constructor.invokeExact( row );
 		}
-		catch (Exception e) {
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
 			throw new InstantiationException( "Cannot instantiate query result type", type, e );
 		}
 	}
@@ -10,10 +10,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
@@ -25,15 +27,19 @@ import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
 import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.ast.spi.SqlSelection;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
+import org.hibernate.type.SqlTypes;
 
 /**
  * @author Steve Ebersole
@@ -43,6 +49,15 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			DeferredResultSetAccess.class
 	);
 
+	/**
+	 * The assumed size of a column of variable length, for example, a string
+	 */
+	private static final int VARIABLE_COLUMN_SIZE = 64;
+	/**
+	 * The assumed size of a row whose columns are not known
+	 */
+	private static final int UNKNOWN_ROW_SIZE = 256;
+
 	private final JdbcOperationQuerySelect jdbcSelect;
 	private final JdbcParameterBindings jdbcParameterBindings;
 	private final ExecutionContext executionContext;
@@ -52,6 +67,7 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 	private final Limit limit;
 	private final LimitHandler limitHandler;
 	private final boolean usesFollowOnLocking;
+	private final boolean scrolling;
 
 	private PreparedStatement preparedStatement;
 	private ResultSet resultSet;
@@ -61,11 +77,28 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			JdbcParameterBindings jdbcParameterBindings,
 			ExecutionContext executionContext,
 			Function<String, PreparedStatement> statementCreator) {
+		this( jdbcSelect, jdbcParameterBindings, executionContext, statementCreator, false );
+	}
+
+	/**
+	 * @param scrolling whether the results will be {@linkplain org.hibernate.ScrollableResults scrolled},
+	 *                  rather than read all at once, in which case the
+	 *                  {@linkplain Dialect#getDefaultScrollFetchSize() default scroll fetch size} applies
+	 *
+	 * @since 6.6
+	 */
+	public DeferredResultSetAccess(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext,
+			Function<String, PreparedStatement> statementCreator,
+			boolean scrolling) {
 		super( executionContext.getSession() );
 		this.jdbcParameterBindings = jdbcParameterBindings;
 		this.executionContext = executionContext;
 		this.jdbcSelect = jdbcSelect;
 		this.statementCreator = statementCreator;
+		this.scrolling = scrolling;
 		this.sqlStatementLogger = executionContext.getSession().getJdbcServices().getSqlStatementLogger();
 
 		final QueryOptions queryOptions = executionContext.getQueryOptions();
@@ -190,6 +223,12 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			if ( queryOptions.getFetchSize() != null ) {
 				preparedStatement.setFetchSize( queryOptions.getFetchSize() );
 			}
+			else {
+				final int defaultFetchSize = determineDefaultFetchSize();
+				if ( defaultFetchSize > 0 ) {
+					preparedStatement.setFetchSize( defaultFetchSize );
+				}
+			}
 			if ( queryOptions.getTimeout() != null ) {
 				preparedStatement.setQueryTimeout( queryOptions.getTimeout() );
 			}
@@ -221,6 +260,90 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		}
 	}
 
+	/**
+	 * Determine a fetch size for a query which did not specify one, either from the
+	 * {@linkplain SessionFactoryOptions#getJdbcFetchMemoryBudget() memory budget} and
+	 * the estimated size of a row, or, for scrolled results, from the {@link Dialect}.
+	 *
+	 * @return the fetch size, or {@code 0} if the current fetch size should be kept
+	 */
+	private int determineDefaultFetchSize() {
+		final SessionFactoryOptions options = getFactory().getSessionFactoryOptions();
+		if ( options.getJdbcFetchSize() != null ) {
+			// already applied when the statement was prepared
+			return 0;
+		}
+		final int fetchSize;
+		final int memoryBudget = options.getJdbcFetchMemoryBudget();
+		if ( memoryBudget > 0 ) {
+			fetchSize = Math.max( 1, memoryBudget / estimateRowSize( jdbcSelect ) );
+		}
+		else if ( scrolling ) {
+			fetchSize = executionContext.getSession().getJdbcServices().getDialect().getDefaultScrollFetchSize();
+		}
+		else {
+			return 0;
+		}
+		// there's no point fetching more rows than the query will return
+		if ( fetchSize > 0 && limit != null && limit.getMaxRows() != null && limit.getMaxRows() > 0 ) {
+			return Math.min( fetchSize, limit.getMaxRows() );
+		}
+		else {
+			return fetchSize;
+		}
+	}
+
+	private static int estimateRowSize(JdbcOperationQuerySelect jdbcSelect) {
+		final JdbcValuesMappingProducer producer = jdbcSelect.getJdbcValuesMappingProducer();
+		if ( producer instanceof JdbcValuesMappingProducerStandard ) {
+			final List<SqlSelection> sqlSelections =
+					( (JdbcValuesMappingProducerStandard) producer ).getResolvedMapping().getSqlSelections();
+			int rowSize = 0;
+			for ( SqlSelection sqlSelection : sqlSelections ) {
+				rowSize += estimateColumnSize( sqlSelection.getExpressionType() );
+			}
+			return Math.max( 1, rowSize );
+		}
+		else {
+			// the selections of a native query are only known from the ResultSetMetaData
+			return UNKNOWN_ROW_SIZE;
+		}
+	}
+
+	private static int estimateColumnSize(JdbcMappingContainer type) {
+		if ( type == null || type.getJdbcTypeCount() != 1 ) {
+			return VARIABLE_COLUMN_SIZE;
+		}
+		switch ( type.getSingleJdbcMapping().getJdbcType().getDefaultSqlTypeCode() ) {
+			case SqlTypes.BOOLEAN:
+			case SqlTypes.BIT:
+			case SqlTypes.TINYINT:
+				return 1;
+			case SqlTypes.SMALLINT:
+				return 2;
+			case SqlTypes.INTEGER:
+			case SqlTypes.REAL:
+				return 4;
+			case SqlTypes.BIGINT:
+			case SqlTypes.FLOAT:
+			case SqlTypes.DOUBLE:
+			case SqlTypes.DATE:
+			case SqlTypes.TIME:
+			case SqlTypes.TIMESTAMP:
+				return 8;
+			case SqlTypes.NUMERIC:
+			case SqlTypes.DECIMAL:
+			case SqlTypes.UUID:
+			case SqlTypes.TIME_WITH_TIMEZONE:
+			case SqlTypes.TIMESTAMP_UTC:
+			case SqlTypes.TIMESTAMP_WITH_TIMEZONE:
+				return 16;
+			default:
+				// strings, binary data, LOB locators, etc.
+				return VARIABLE_COLUMN_SIZE;
+		}
+	}
+
 	private void executeQuery() {
 		final LogicalConnectionImplementor logicalConnection = getPersistenceContext().getJdbcCoordinator().getLogicalConnection();
 
@@ -36,6 +36,13 @@ public class JdbcValuesMappingProducerStandard implements JdbcValuesMappingProdu
 		this.resolvedMapping = new StandardJdbcValuesMapping( sqlSelections, domainResults );
 	}
 
+	/**
+	 * The mapping, as determined before resolution against the {@link JdbcValuesMetadata}
+	 */
+	public JdbcValuesMapping getResolvedMapping() {
+		return resolvedMapping;
+	}
+
 	@Override
 	public void addAffectedTableNames(Set<String> affectedTableNames, SessionFactoryImplementor sessionFactory) {
 
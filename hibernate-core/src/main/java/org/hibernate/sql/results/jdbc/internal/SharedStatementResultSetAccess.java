@@ -0,0 +1,116 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.dialect.pagination.NoopLimitHandler;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+/**
+ * Access to the {@link ResultSet} of one of several selects executed together
+ * by a single {@link PreparedStatement}, each select producing one result set.
+ * The statement is prepared, executed, and released by the caller, which hands
+ * each result set to the corresponding {@code SharedStatementResultSetAccess}.
+ *
+ * @see org.hibernate.sql.exec.internal.MultiSelectExecutor
+ *
+ * @since 6.6
+ */
+public class SharedStatementResultSetAccess extends DeferredResultSetAccess {
+	private final JdbcOperationQuerySelect jdbcSelect;
+	private final JdbcParameterBindings jdbcParameterBindings;
+	private final ExecutionContext executionContext;
+
+	private PreparedStatement statement;
+	private ResultSet resultSet;
+
+	public SharedStatementResultSetAccess(
+			JdbcOperationQuerySelect jdbcSelect,
+			JdbcParameterBindings jdbcParameterBindings,
+			ExecutionContext executionContext) {
+		super(
+				jdbcSelect,
+				jdbcParameterBindings,
+				executionContext,
+				sql -> {
+					throw new IllegalStateException( "Statement is prepared by the caller" );
+				}
+		);
+		this.jdbcSelect = jdbcSelect;
+		this.jdbcParameterBindings = jdbcParameterBindings;
+		this.executionContext = executionContext;
+	}
+
+	/**
+	 * Whether the select may share a statement with other selects, that is,
+	 * whether it does not depend on any option which applies to the whole
+	 * statement, such as the maximum number of rows or the timeout, or on
+	 * a limit or lock which must be applied to its SQL.
+	 */
+	public boolean canShareStatement() {
+		final QueryOptions queryOptions = executionContext.getQueryOptions();
+		return getLimitHandler() == NoopLimitHandler.NO_LIMIT
+			&& !usesFollowOnLocking()
+			&& jdbcSelect.getMaxRows() == Integer.MAX_VALUE
+			&& ( queryOptions == null || queryOptions.getTimeout() == null );
+	}
+
+	/**
+	 * Bind the parameters of this select to the shared statement
+	 *
+	 * @param position the position of the first parameter of this select
+	 *
+	 * @return the position of the first parameter of the following select
+	 */
+	public int bindParameters(PreparedStatement statement, int position) throws SQLException {
+		for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
+			parameterBinder.bindParameterValue(
+					statement,
+					position++,
+					jdbcParameterBindings,
+					executionContext
+			);
+		}
+		return position;
+	}
+
+	/**
+	 * Provide the result set of this select, once the shared statement was executed
+	 */
+	public void setResultSet(PreparedStatement statement, ResultSet resultSet) throws SQLException {
+		this.statement = statement;
+		this.resultSet = wrapResultSet( resultSet );
+		getPersistenceContext().getJdbcCoordinator().getLogicalConnection().getResourceRegistry()
+				.register( this.resultSet, statement );
+		skipRows( this.resultSet );
+	}
+
+	@Override
+	public ResultSet getResultSet() {
+		if ( resultSet == null ) {
+			throw new IllegalStateException( "Shared statement was not yet executed" );
+		}
+		return resultSet;
+	}
+
+	@Override
+	public void release() {
+		// only the result set, since the statement is released by the caller
+		if ( resultSet != null ) {
+			getPersistenceContext().getJdbcCoordinator().getLogicalConnection().getResourceRegistry()
+					.release( resultSet, statement );
+			resultSet = null;
+		}
+	}
+}
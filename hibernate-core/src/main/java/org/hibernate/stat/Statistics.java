@@ -289,6 +289,16 @@ public interface Statistics {
 	 */
 	long getCollectionFetchCount();
 
+	/**
+	 * The number of times an entity or collection role was detected to be
+	 * repeatedly loaded one instance at a time within a session.
+	 *
+	 * @since 6.6
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_THRESHOLD
+	 */
+	long getNPlusOneDetectionCount();
+
 	/**
 	 * The global number of collections updated.
 	 */
@@ -343,6 +353,18 @@ public interface Statistics {
 	 */
 	Map<String,Long> getSlowQueries();
 
+	/**
+	 * If {@value org.hibernate.cfg.AvailableSettings#CACHE_WARMUP_PREFIX}
+	 * is used to warm up the second-level cache at startup, an unmodifiable
+	 * map from the entity name or collection role to the number of instances
+	 * loaded into the cache so far.
+	 *
+	 * @since 6.6
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_WARMUP_PREFIX
+	 */
+	Map<String,Long> getCacheWarmUpLoadCounts();
+
 	/**
 	 * The names of all entities.
 	 */
@@ -76,6 +76,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder collectionRemoveCount = new LongAdder();
 	private final LongAdder collectionRecreateCount = new LongAdder();
 	private final LongAdder collectionFetchCount = new LongAdder();
+	private final LongAdder nPlusOneDetectionCount = new LongAdder();
 
 	private final LongAdder secondLevelCacheHitCount = new LongAdder();
 	private final LongAdder secondLevelCacheMissCount = new LongAdder();
@@ -127,6 +128,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
 
+	/**
+	 * Keyed by entity name or collection role
+	 */
+	private final Map<String, Long> cacheWarmUpLoadCounts = new ConcurrentHashMap<>();
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -184,6 +190,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		collectionRecreateCount.reset();
 		collectionLoadCount.reset();
 		collectionFetchCount.reset();
+		nPlusOneDetectionCount.reset();
 
 		queryExecutionCount.reset();
 		queryCacheHitCount.reset();
@@ -210,6 +217,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
+		cacheWarmUpLoadCounts.clear();
+
 		resetStart();
 	}
 
@@ -400,6 +409,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public long getNPlusOneDetectionCount() {
+		return nPlusOneDetectionCount.sum();
+	}
+
+	@Override
+	public void nPlusOneDetected(String role) {
+		nPlusOneDetectionCount.increment();
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -959,6 +978,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",collections removed=" + collectionRemoveCount +
 				",collections recreated=" + collectionRecreateCount +
 				",collections fetched=" + collectionFetchCount +
+				",N+1 selects detected=" + nPlusOneDetectionCount +
 				",naturalId queries executed to database=" + naturalIdQueryExecutionCount +
 				",naturalId cache puts=" + naturalIdCachePutCount +
 				",naturalId cache hits=" + naturalIdCacheHitCount +
@@ -1039,4 +1059,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	public void slowQuery(String sql, long executionTime) {
 		slowQueries.merge( sql, executionTime, Math::max );
 	}
+
+	@Override
+	public Map<String, Long> getCacheWarmUpLoadCounts() {
+		return Map.copyOf( cacheWarmUpLoadCounts );
+	}
+
+	@Override
+	public void cacheWarmUpLoad(String role, int count) {
+		cacheWarmUpLoadCounts.merge( role, (long) count, Long::sum );
+	}
 }
@@ -291,4 +291,32 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 		return emptyMap();
 	}
+
+	/**
+	 * Register the loading of instances of the given entity or
+	 * collection role into the second-level cache during warm-up.
+	 */
+	default void cacheWarmUpLoad(String role, int count) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Register the detection of a likely N+1 select problem for
+	 * the given entity or collection role.
+	 */
+	default void nPlusOneDetected(String role) {
+		//For backward compatibility
+	}
+
+	@Override
+	default long getNPlusOneDetectionCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	@Override
+	default Map<String, Long> getCacheWarmUpLoadCounts() {
+		//For backward compatibility
+		return emptyMap();
+	}
 }
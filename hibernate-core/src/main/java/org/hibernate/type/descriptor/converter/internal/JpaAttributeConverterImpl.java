@@ -6,6 +6,8 @@
  */
 package org.hibernate.type.descriptor.converter.internal;
 
+import java.io.Serializable;
+
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.PersistenceException;
 
@@ -24,7 +26,7 @@ import org.hibernate.type.descriptor.java.spi.RegistryHelper;
  *
  * @author Steve Ebersole
  */
-public class JpaAttributeConverterImpl<O,R> implements JpaAttributeConverter<O,R> {
+public class JpaAttributeConverterImpl<O,R> implements JpaAttributeConverter<O,R>, Serializable {
 	private final ManagedBean<? extends AttributeConverter<O,R>> attributeConverterBean;
 	private final JavaType<? extends AttributeConverter<O, R>> converterJtd;
 	private final JavaType<O> domainJtd;
@@ -0,0 +1,177 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.ast.internal.AdaptiveBatchFetchSizing;
+import org.hibernate.loader.ast.internal.StandardBatchLoaderFactory;
+import org.hibernate.loader.ast.spi.BatchLoaderFactory;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(
+		annotatedClasses = {
+				AdaptiveBatchFetchTest.Department.class,
+				AdaptiveBatchFetchTest.Employee.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "32"),
+				@Setting(name = AvailableSettings.ADAPTIVE_BATCH_FETCH, value = "true")
+		}
+)
+public class AdaptiveBatchFetchTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Department department = new Department( i );
+				session.persist( department );
+				session.persist( new Employee( i, department ) );
+				session.persist( new Employee( i + 10, department ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPendingEntitiesAreLoadedByOneSmallBatch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Employee> employees = session.createQuery( "from Employee where id < 10", Employee.class )
+					.getResultList();
+			statementInspector.clear();
+
+			Hibernate.initialize( employees.get( 0 ).department );
+
+			statementInspector.assertExecutedCount( 1 );
+			for ( Employee employee : employees ) {
+				assertThat( Hibernate.isInitialized( employee.department ) ).isTrue();
+			}
+		} );
+
+		final AdaptiveBatchFetchSizing.RoleStatistics statistics =
+				getSizing( scope ).getStatistics( Department.class.getName() );
+		assertThat( statistics ).isNotNull();
+		assertThat( statistics.getBatchCount() ).isEqualTo( 1 );
+		assertThat( statistics.getKeyCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testPendingCollectionsAreLoadedByOneSmallBatch(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Department> departments = session.createQuery( "from Department", Department.class )
+					.getResultList();
+			statementInspector.clear();
+
+			assertThat( departments.get( 0 ).employees ).hasSize( 2 );
+
+			statementInspector.assertExecutedCount( 1 );
+			for ( Department department : departments ) {
+				assertThat( Hibernate.isInitialized( department.employees ) ).isTrue();
+			}
+		} );
+
+		final AdaptiveBatchFetchSizing.RoleStatistics statistics =
+				getSizing( scope ).getStatistics( Department.class.getName() + ".employees" );
+		assertThat( statistics ).isNotNull();
+		assertThat( statistics.getBatchCount() ).isEqualTo( 1 );
+		assertThat( statistics.getKeyCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testBatchSizeFollowsPendingKeysAndLatency() {
+		final int[] bucketSizes = AdaptiveBatchFetchSizing.determineBucketSizes( 32 );
+		assertThat( bucketSizes ).containsExactly( 32, 16, 8, 4 );
+
+		final AdaptiveBatchFetchSizing sizing = new AdaptiveBatchFetchSizing( 10 );
+		assertThat( sizing.determineBatchSize( "role", 1, bucketSizes ) ).isEqualTo( 4 );
+		assertThat( sizing.determineBatchSize( "role", 9, bucketSizes ) ).isEqualTo( 16 );
+		assertThat( sizing.determineBatchSize( "role", 100, bucketSizes ) ).isEqualTo( 32 );
+
+		// full batches slower than the target lower the largest size used
+		sizing.batchLoaded( "role", 32, 32, TimeUnit.MILLISECONDS.toNanos( 50 ) );
+		assertThat( sizing.getStatistics( "role" ).getMaximumBatchSize() ).isEqualTo( 16 );
+		assertThat( sizing.determineBatchSize( "role", 100, bucketSizes ) ).isEqualTo( 16 );
+
+		// and fast batches raise it again
+		sizing.batchLoaded( "role", 16, 16, TimeUnit.MILLISECONDS.toNanos( 1 ) );
+		assertThat( sizing.determineBatchSize( "role", 100, bucketSizes ) ).isEqualTo( 32 );
+		assertThat( sizing.getStatistics( "role" ).getBatchCount() ).isEqualTo( 2 );
+	}
+
+	private static AdaptiveBatchFetchSizing getSizing(SessionFactoryScope scope) {
+		final BatchLoaderFactory batchLoaderFactory = scope.getSessionFactory().getServiceRegistry()
+				.requireService( BatchLoaderFactory.class );
+		return ( (StandardBatchLoaderFactory) batchLoaderFactory ).getAdaptiveSizing();
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		Integer id;
+
+		@OneToMany(mappedBy = "department")
+		List<Employee> employees = new ArrayList<>();
+
+		Department() {
+		}
+
+		Department(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Department department;
+
+		Employee() {
+		}
+
+		Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
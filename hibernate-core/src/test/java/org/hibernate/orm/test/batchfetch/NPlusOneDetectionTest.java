@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(
+		annotatedClasses = {
+				NPlusOneDetectionTest.Department.class,
+				NPlusOneDetectionTest.Employee.class
+		}
+)
+@SessionFactory(useCollectingStatementInspector = true, generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.N_PLUS_ONE_THRESHOLD, value = "2"),
+				@Setting(name = AvailableSettings.N_PLUS_ONE_MITIGATION, value = "batch")
+		}
+)
+public class NPlusOneDetectionTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Department department = new Department( i );
+				session.persist( department );
+				session.persist( new Employee( i, department ) );
+				session.persist( new Employee( i + 10, department ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Employee" ).executeUpdate();
+			session.createMutationQuery( "delete from Department" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testCollectionsAreBatchFetchedAfterThreshold(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Department> departments = session.createQuery( "from Department order by id", Department.class )
+					.getResultList();
+			statementInspector.clear();
+
+			for ( Department department : departments ) {
+				assertThat( department.employees ).hasSize( 2 );
+			}
+
+			// two single loads, then one batch for the three remaining collections
+			statementInspector.assertExecutedCount( 3 );
+		} );
+
+		assertThat( scope.getSessionFactory().getStatistics().getNPlusOneDetectionCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testProxiesAreBatchFetchedAfterThreshold(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final List<Employee> employees = session.createQuery( "from Employee where id < 10 order by id", Employee.class )
+					.getResultList();
+			statementInspector.clear();
+
+			for ( Employee employee : employees ) {
+				Hibernate.initialize( employee.department );
+			}
+
+			statementInspector.assertExecutedCount( 3 );
+		} );
+
+		assertThat( scope.getSessionFactory().getStatistics().getNPlusOneDetectionCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testDetectionIsPerSession(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		for ( int i = 1; i <= 2; i++ ) {
+			scope.inTransaction( session -> {
+				statementInspector.clear();
+				Hibernate.initialize( session.find( Department.class, 1 ).employees );
+				statementInspector.assertExecutedCount( 2 );
+			} );
+		}
+
+		assertThat( scope.getSessionFactory().getStatistics().getNPlusOneDetectionCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		Integer id;
+
+		@OneToMany(mappedBy = "department")
+		List<Employee> employees = new ArrayList<>();
+
+		Department() {
+		}
+
+		Department(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Department department;
+
+		Employee() {
+		}
+
+		Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.boot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.MappingSettings;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Convert;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.Version;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The boot metadata is read back from its snapshot when nothing it is built from has changed
+ */
+public class MetadataSnapshotTest {
+	private static final FileTime WRITTEN = FileTime.fromMillis( 0 );
+
+	@Test
+	public void testSnapshotIsReadOnRestart(@TempDir Path directory) throws IOException {
+		final Path snapshot = directory.resolve( "metadata.snapshot" );
+
+		boot( snapshot, "1" );
+		assertTrue( Files.isRegularFile( snapshot ) );
+		Files.setLastModifiedTime( snapshot, WRITTEN );
+
+		// the snapshot is read, and not written again
+		boot( snapshot, "1" );
+		assertEquals( WRITTEN, Files.getLastModifiedTime( snapshot ) );
+
+		// a changed setting makes the snapshot outdated
+		boot( snapshot, "5" );
+		assertNotEquals( WRITTEN, Files.getLastModifiedTime( snapshot ) );
+	}
+
+	@Test
+	public void testUnexpectedObjectIsNotRead(@TempDir Path directory) throws IOException {
+		final Path snapshot = directory.resolve( "metadata.snapshot" );
+		boot( snapshot, "1" );
+
+		// keep the valid header, but replace the metadata by an object of a class which is not allowed
+		final Path tampered = directory.resolve( "tampered.snapshot" );
+		try ( ObjectInputStream input = new ObjectInputStream( Files.newInputStream( snapshot ) );
+				ObjectOutputStream output = new ObjectOutputStream( Files.newOutputStream( tampered ) ) ) {
+			output.writeUTF( input.readUTF() );
+			output.writeUTF( input.readUTF() );
+			final int classDigestCount = input.readInt();
+			output.writeInt( classDigestCount );
+			for ( int i = 0; i < classDigestCount * 2; i++ ) {
+				output.writeUTF( input.readUTF() );
+			}
+			output.writeObject( new File( "unexpected" ) );
+		}
+		Files.move( tampered, snapshot, StandardCopyOption.REPLACE_EXISTING );
+		Files.setLastModifiedTime( snapshot, WRITTEN );
+
+		// the mappings are bound again, and the snapshot replaced
+		boot( snapshot, "1" );
+		assertNotEquals( WRITTEN, Files.getLastModifiedTime( snapshot ) );
+	}
+
+	@Test
+	public void testChangedConverterMakesSnapshotOutdated(@TempDir Path directory) throws IOException {
+		final Path snapshot = directory.resolve( "metadata.snapshot" );
+		boot( snapshot, "1" );
+		Files.setLastModifiedTime( snapshot, WRITTEN );
+
+		// the converter is not a managed class, but the snapshot depends on it
+		boot( snapshot, "1", new RecompiledConverterClassLoader( directory ) );
+		assertNotEquals( WRITTEN, Files.getLastModifiedTime( snapshot ) );
+	}
+
+	private static void boot(Path snapshot, String batchSize) {
+		boot( snapshot, batchSize, MetadataSnapshotTest.class.getClassLoader() );
+	}
+
+	private static void boot(Path snapshot, String batchSize, ClassLoader classLoader) {
+		final StandardServiceRegistry ssr = ServiceRegistryUtil.serviceRegistryBuilder(
+						new BootstrapServiceRegistryBuilder().applyClassLoader( classLoader ).build()
+				)
+				.applySetting( MappingSettings.METADATA_SNAPSHOT_FILE, snapshot.toString() )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, batchSize )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.build();
+		try {
+			final Metadata metadata = new MetadataSources( ssr )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata();
+			try ( SessionFactory sessionFactory = metadata.buildSessionFactory() ) {
+				sessionFactory.inTransaction( session -> {
+					final Author author = new Author( 1, "Gavin" );
+					session.persist( author );
+					final Book book = new Book( "Hibernate in Action", author );
+					book.tags.add( "orm" );
+					session.persist( book );
+				} );
+				sessionFactory.inTransaction( session -> {
+					final Book book = session.createNamedQuery( "bookByTitle", Book.class )
+							.setParameter( "title", "Hibernate in Action" )
+							.getSingleResult();
+					assertEquals( "GAVIN", book.author.name );
+					assertEquals( List.of( "orm" ), book.tags );
+					book.title = "Java Persistence with Hibernate";
+				} );
+				sessionFactory.inTransaction( session -> assertEquals(
+						1,
+						session.createSelectionQuery( "select version from Book", Integer.class ).getSingleResult()
+				) );
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Integer id;
+		@Convert(converter = UpperCaseConverter.class)
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "bookByTitle", query = "from Book where title = :title")
+	public static class Book {
+		@Id
+		@GeneratedValue
+		Long id;
+		String title;
+		@ManyToOne
+		Author author;
+		@ElementCollection
+		List<String> tags = new ArrayList<>();
+		@Version
+		int version;
+
+		public Book() {
+		}
+
+		public Book(String title, Author author) {
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	public static class UpperCaseConverter implements AttributeConverter<String, String> {
+		@Override
+		public String convertToDatabaseColumn(String attribute) {
+			return attribute == null ? null : attribute.toUpperCase();
+		}
+
+		@Override
+		public String convertToEntityAttribute(String dbData) {
+			return dbData;
+		}
+	}
+
+	/**
+	 * Locates a different class file for the converter, as if it had been recompiled
+	 * since the snapshot was written
+	 */
+	private static class RecompiledConverterClassLoader extends ClassLoader {
+		private static final String CONVERTER_CLASS_FILE = UpperCaseConverter.class.getName().replace( '.', '/' ) + ".class";
+
+		private final URL converterClassFile;
+
+		private RecompiledConverterClassLoader(Path directory) throws IOException {
+			super( MetadataSnapshotTest.class.getClassLoader() );
+			final Path classFile = directory.resolve( "UpperCaseConverter.class" );
+			try ( InputStream stream = getParent().getResourceAsStream( CONVERTER_CLASS_FILE ) ) {
+				final byte[] bytes = stream.readAllBytes();
+				// any change to the class file, such as a changed constant
+				bytes[bytes.length - 1]++;
+				Files.write( classFile, bytes );
+			}
+			converterClassFile = classFile.toUri().toURL();
+		}
+
+		@Override
+		public URL getResource(String name) {
+			return CONVERTER_CLASS_FILE.equals( name ) ? converterClassFile : super.getResource( name );
+		}
+	}
+}
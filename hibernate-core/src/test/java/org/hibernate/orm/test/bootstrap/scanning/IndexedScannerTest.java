@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hibernate.boot.archive.scan.internal.IndexedScanner;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.internal.StandardScanner;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanIndex;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
+import org.hibernate.jpa.boot.internal.StandardJpaScanEnvironmentImpl;
+import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
+import org.hibernate.orm.test.jpa.pack.explodedpar.Carpet;
+
+import org.junit.jupiter.api.Test;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.importer.ExplodedImporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the {@link IndexedScanner}, which reads the {@link ScanIndex} written at build time
+ */
+public class IndexedScannerTest extends PackagingTestCase {
+	@Test
+	public void testIndexedDirectory() throws Exception {
+		final File explodedPar = buildExplodedPar();
+		final Path indexFile = ScanIndex.write( List.of( explodedPar.toPath() ), explodedPar.toPath() );
+		assertTrue( Files.isRegularFile( indexFile ) );
+
+		final String expected = describe( scan( new StandardScanner(), explodedPar ) );
+		assertTrue( expected.contains( Carpet.class.getName() ) );
+		assertEquals( expected, describe( scan( new IndexedScanner(), explodedPar ) ) );
+
+		// the index, rather than the archive, is what is read
+		truncateIndex( indexFile );
+		final ScanResult indexedResult = scan( new IndexedScanner(), explodedPar );
+		assertEquals( 1, indexedResult.getLocatedClasses().size() );
+		assertEquals( 0, indexedResult.getLocatedMappingFiles().size() );
+
+		// once the archive changed, the index no longer matches it, and the archive is visited
+		final Path addedFile = explodedPar.toPath().resolve( "added.xml" );
+		Files.writeString( addedFile, "<added/>", UTF_8 );
+		assertEquals(
+				describe( scan( new StandardScanner(), explodedPar ) ),
+				describe( scan( new IndexedScanner(), explodedPar ) )
+		);
+		Files.delete( addedFile );
+		assertEquals( 1, scan( new IndexedScanner(), explodedPar ).getLocatedClasses().size() );
+
+		// without an index, the archive is visited
+		Files.delete( indexFile );
+		assertEquals( expected, describe( scan( new IndexedScanner(), explodedPar ) ) );
+	}
+
+	@Test
+	public void testIndexedJar() throws Exception {
+		final File explodedPar = buildExplodedPar();
+		ScanIndex.write( List.of( explodedPar.toPath() ), explodedPar.toPath() );
+
+		final File indexedPar = new File( packageTargetDir, "indexedpar.par" );
+		ShrinkWrap.create( JavaArchive.class, indexedPar.getName() )
+				.as( ExplodedImporter.class )
+				.importDirectory( explodedPar )
+				.as( ZipExporter.class )
+				.exportTo( indexedPar, true );
+
+		final ScanResult indexedResult = scan( new IndexedScanner(), indexedPar );
+		assertEquals( describe( scan( new StandardScanner(), indexedPar ) ), describe( indexedResult ) );
+		for ( ClassDescriptor classDescriptor : indexedResult.getLocatedClasses() ) {
+			try ( InputStream stream = classDescriptor.getStreamAccess().accessInputStream() ) {
+				assertNotNull( stream );
+			}
+		}
+		for ( MappingFileDescriptor mappingFileDescriptor : indexedResult.getLocatedMappingFiles() ) {
+			try ( InputStream stream = mappingFileDescriptor.getStreamAccess().accessInputStream() ) {
+				assertNotNull( stream );
+			}
+		}
+
+		// the index of a jar is checked against the entries of the jar
+		truncateIndex( explodedPar.toPath().resolve( ScanIndex.INDEX_FILE_NAME ) );
+		final File truncatedIndexPar = new File( packageTargetDir, "truncatedindexpar.par" );
+		ShrinkWrap.create( JavaArchive.class, truncatedIndexPar.getName() )
+				.as( ExplodedImporter.class )
+				.importDirectory( explodedPar )
+				.as( ZipExporter.class )
+				.exportTo( truncatedIndexPar, true );
+		assertEquals( 1, scan( new IndexedScanner(), truncatedIndexPar ).getLocatedClasses().size() );
+	}
+
+	/**
+	 * Keep only the first model class in the index, along with its header and fingerprint
+	 */
+	private static void truncateIndex(Path indexFile) throws Exception {
+		final List<String> lines = Files.readAllLines( indexFile, UTF_8 );
+		Files.write( indexFile, List.of( lines.get( 0 ), lines.get( 1 ), "model " + Carpet.class.getName() ), UTF_8 );
+	}
+
+	private static ScanResult scan(Scanner scanner, File par) throws Exception {
+		final PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( par.toURL() );
+		return scanner.scan(
+				new StandardJpaScanEnvironmentImpl( descriptor ),
+				new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() ),
+				StandardScanParameters.INSTANCE
+		);
+	}
+
+	private static String describe(ScanResult scanResult) {
+		final Set<String> entries = new TreeSet<>();
+		for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+			entries.add( classDescriptor.getCategorization() + " " + classDescriptor.getName() );
+		}
+		for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+			entries.add( "PACKAGE " + packageDescriptor.getName() );
+		}
+		for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+			entries.add( "MAPPING_FILE " + mappingFileDescriptor.getName() );
+		}
+		return entries.toString();
+	}
+}
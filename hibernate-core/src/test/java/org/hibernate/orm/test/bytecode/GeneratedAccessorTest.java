@@ -0,0 +1,256 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bytecode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
+import org.hibernate.bytecode.enhance.spi.EnhancementContext;
+import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
+import org.hibernate.bytecode.enhance.spi.UnloadedClass;
+import org.hibernate.bytecode.internal.GeneratedReflectionOptimizer;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.GeneratedFieldAccessor;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Accessors generated at build time replace reflection and the runtime generation
+ * of the {@link ReflectionOptimizer}
+ */
+@DomainModel(annotatedClasses = { GeneratedAccessorTest.Book.class })
+@SessionFactory
+public class GeneratedAccessorTest {
+
+	@BeforeAll
+	public void init(SessionFactoryScope scope) throws IOException, IllegalAccessException {
+		// simulate the build time generation of the accessors, before the SessionFactory is built
+		final Enhancer enhancer = new BytecodeProviderImpl().getEnhancer( new DefaultEnhancementContext() );
+		assertNull( enhancer.generateAccessor( NotManaged.class.getName(), classBytes( NotManaged.class ) ) );
+		for ( Class<?> managedClass : new Class<?>[] { Item.class, Book.class, Isbn.class } ) {
+			final byte[] accessorBytes = enhancer.generateAccessor( managedClass.getName(), classBytes( managedClass ) );
+			assertNotNull( accessorBytes );
+			MethodHandles.lookup().defineClass( accessorBytes );
+		}
+
+		scope.inTransaction( session -> session.persist( new Book( 1, "Hibernate in Action", new Isbn( "1932394155" ), 400 ) ) );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testGeneratedAccessorsAreUsed(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Book.class );
+		final ReflectionOptimizer optimizer = persister.getRepresentationStrategy().getReflectionOptimizer();
+		assertInstanceOf( GeneratedReflectionOptimizer.class, optimizer );
+		assertNotNull( optimizer.getInstantiationOptimizer() );
+
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1 );
+			assertEquals( "Hibernate in Action", book.title );
+			assertEquals( "1932394155", book.isbn.code );
+			assertEquals( 400, book.pages );
+			book.title = "Java Persistence with Hibernate";
+			book.pages = 880;
+		} );
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1 );
+			assertEquals( "Java Persistence with Hibernate", book.title );
+			assertEquals( 880, book.pages );
+		} );
+	}
+
+	@Test
+	public void testPrivateFieldsOfNestHost() throws Exception {
+		final EnhancementContext enhancementContext = new DefaultEnhancementContext() {
+			@Override
+			public boolean isEntityClass(UnloadedClass classDescriptor) {
+				return classDescriptor.getName().equals( Bean.class.getName() );
+			}
+
+			@Override
+			public boolean doGenerateAccessor(UnloadedClass classDescriptor) {
+				return true;
+			}
+		};
+		final Enhancer enhancer = new BytecodeProviderImpl().getEnhancer( enhancementContext );
+		final byte[] enhancedBytes = enhancer.enhance( Bean.class.getName(), classBytes( Bean.class ) );
+		final byte[] accessorBytes = enhancer.generateAccessor( Bean.class.getName(), enhancedBytes );
+		assertNotNull( accessorBytes );
+
+		final String accessorName = Bean.class.getName() + EnhancerConstants.ACCESSOR_CLASS_NAME_SUFFIX;
+		final GeneratedClassLoader classLoader = new GeneratedClassLoader(
+				Map.of( Bean.class.getName(), enhancedBytes, accessorName, accessorBytes )
+		);
+		final Class<?> beanClass = classLoader.loadClass( Bean.class.getName() );
+		final Class<?> accessorClass = classLoader.loadClass( accessorName );
+		assertTrue( accessorClass.isNestmateOf( beanClass ) );
+
+		final GeneratedFieldAccessor accessor =
+				(GeneratedFieldAccessor) accessorClass.getConstructor().newInstance();
+		assertThat( accessor.getFieldNames() )
+				.containsExactly( "someString", "someLong", "someInteger", "someDate", "somelong", "someint", "someObject" );
+		assertThat( accessor.getFieldDescriptors() )
+				.containsExactly( "Ljava/lang/String;", "Ljava/lang/Long;", "Ljava/lang/Integer;", "Ljava/util/Date;", "J", "I", "Ljava/lang/Object;" );
+
+		final Map<String, PropertyAccess> propertyAccessMap = new LinkedHashMap<>();
+		for ( String name : new String[] { "someint", "someString", "somelong" } ) {
+			propertyAccessMap.put( name, PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( beanClass, name, true ) );
+		}
+		final ReflectionOptimizer optimizer = GeneratedReflectionOptimizer.resolve( beanClass, propertyAccessMap );
+		assertNotNull( optimizer );
+		assertArrayEquals( new String[] { "someint", "someString", "somelong" }, optimizer.getAccessOptimizer().getPropertyNames() );
+
+		final Object bean = optimizer.getInstantiationOptimizer().newInstance();
+		assertEquals( beanClass, bean.getClass() );
+		optimizer.getAccessOptimizer().setPropertyValues( bean, new Object[] { 7, "seven", 7L } );
+		assertEquals( Arrays.asList( 7, "seven", 7L ), Arrays.asList( optimizer.getAccessOptimizer().getPropertyValues( bean ) ) );
+		assertEquals( "seven", accessor.getFieldValue( bean, 0 ) );
+	}
+
+	@Test
+	public void testAccessorWithChangedFieldTypeIsIgnored() {
+		final Map<String, PropertyAccess> propertyAccessMap = Map.of(
+				"count",
+				PropertyAccessStrategyFieldImpl.INSTANCE.buildPropertyAccess( Counter.class, "count", true )
+		);
+		assertNull( GeneratedReflectionOptimizer.resolve( Counter.class, propertyAccessMap ) );
+	}
+
+	private static byte[] classBytes(Class<?> type) throws IOException {
+		try ( InputStream stream = type.getClassLoader()
+				.getResourceAsStream( type.getName().replace( '.', '/' ) + ".class" ) ) {
+			return stream.readAllBytes();
+		}
+	}
+
+	private static class GeneratedClassLoader extends ClassLoader {
+		private final Map<String, byte[]> classes;
+
+		private GeneratedClassLoader(Map<String, byte[]> classes) {
+			super( GeneratedAccessorTest.class.getClassLoader() );
+			this.classes = classes;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			synchronized ( getClassLoadingLock( name ) ) {
+				final byte[] bytes = classes.get( name );
+				if ( bytes == null ) {
+					return super.loadClass( name, resolve );
+				}
+				Class<?> loaded = findLoadedClass( name );
+				if ( loaded == null ) {
+					loaded = defineClass( name, bytes, 0, bytes.length );
+				}
+				return loaded;
+			}
+		}
+	}
+
+	@MappedSuperclass
+	public static class Item {
+		@Id
+		Integer id;
+		String title;
+	}
+
+	@Entity(name = "Book")
+	public static class Book extends Item {
+		@Embedded
+		Isbn isbn;
+		int pages;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Isbn isbn, int pages) {
+			this.id = id;
+			this.title = title;
+			this.isbn = isbn;
+			this.pages = pages;
+		}
+	}
+
+	@Embeddable
+	public static class Isbn {
+		String code;
+
+		public Isbn() {
+		}
+
+		public Isbn(String code) {
+			this.code = code;
+		}
+	}
+
+	public static class Counter {
+		int count;
+
+		/**
+		 * Simulates an accessor generated when the field was a {@code long}
+		 */
+		public static final class HibernateAccessor implements GeneratedFieldAccessor {
+			@Override
+			public String[] getFieldNames() {
+				return new String[] { "count" };
+			}
+
+			@Override
+			public String[] getFieldDescriptors() {
+				return new String[] { "J" };
+			}
+
+			@Override
+			public Object getFieldValue(Object instance, int index) {
+				throw new NoSuchFieldError( "count" );
+			}
+
+			@Override
+			public void setFieldValue(Object instance, int index, Object value) {
+				throw new NoSuchFieldError( "count" );
+			}
+		}
+	}
+
+	public static class NotManaged {
+		String name;
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bytecode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.Hibernate;
+import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
+import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.ProxyConfiguration;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.implementation.SuperMethodCall;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+
+/**
+ * Proxy classes generated at build time are used instead of generating them at runtime
+ */
+@DomainModel(annotatedClasses = {
+		PregeneratedProxyTest.Book.class,
+		PregeneratedProxyTest.Publisher.class,
+		PregeneratedProxyTest.Author.class
+})
+@SessionFactory
+public class PregeneratedProxyTest {
+
+	private Class<?> pregeneratedProxyClass;
+
+	@BeforeAll
+	public void init(SessionFactoryScope scope) throws IOException, IllegalAccessException {
+		// simulate the build time generation of the proxy class, before the SessionFactory is built
+		final Enhancer enhancer = new BytecodeProviderImpl().getEnhancer( new DefaultEnhancementContext() );
+		assertNull( enhancer.generateProxy( NotAnEntity.class.getName(), classBytes( NotAnEntity.class ) ) );
+		final byte[] proxyBytes = enhancer.generateProxy( Book.class.getName(), classBytes( Book.class ) );
+		assertNotNull( proxyBytes );
+		pregeneratedProxyClass = MethodHandles.lookup().defineClass( proxyBytes );
+		assertEquals( Book.class.getName() + EnhancerConstants.PROXY_CLASS_NAME_SUFFIX, pregeneratedProxyClass.getName() );
+
+		// a proxy class generated before the superclass of the entity declared its methods
+		MethodHandles.lookup().defineClass( new ByteBuddy()
+				.subclass( Author.class )
+				.name( Author.class.getName() + EnhancerConstants.PROXY_CLASS_NAME_SUFFIX )
+				.implement( HibernateProxy.class, ProxyConfiguration.class )
+				.method( isDeclaredBy( Author.class ) )
+						.intercept( SuperMethodCall.INSTANCE )
+				.make()
+				.getBytes() );
+
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Hibernate in Action" ) );
+			session.persist( new Publisher( 1, "Manning" ) );
+			session.persist( new Author( 1, "Gavin King" ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Publisher" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPregeneratedProxyIsUsed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Book book = session.getReference( Book.class, 1 );
+			assertSame( pregeneratedProxyClass, book.getClass() );
+			assertTrue( book instanceof HibernateProxy );
+			assertFalse( Hibernate.isInitialized( book ) );
+			assertEquals( 1, book.getId() );
+			assertFalse( Hibernate.isInitialized( book ) );
+			assertEquals( "Hibernate in Action", book.getTitle() );
+			assertTrue( Hibernate.isInitialized( book ) );
+		} );
+	}
+
+	@Test
+	public void testMismatchedProxyIsIgnored(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Publisher publisher = session.getReference( Publisher.class, 1 );
+			assertTrue( publisher instanceof HibernateProxy );
+			assertNotEquals( Publisher.HibernateProxy.class, publisher.getClass() );
+			assertEquals( "Manning", publisher.getName() );
+		} );
+	}
+
+	@Test
+	public void testProxyMissingInheritedMethodsIsIgnored(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.getReference( Author.class, 1 );
+			assertTrue( author instanceof HibernateProxy );
+			assertNotEquals( Author.class.getName() + EnhancerConstants.PROXY_CLASS_NAME_SUFFIX, author.getClass().getName() );
+			assertFalse( Hibernate.isInitialized( author ) );
+			assertEquals( "Gavin King", author.getName() );
+			assertTrue( Hibernate.isInitialized( author ) );
+		} );
+	}
+
+	private static byte[] classBytes(Class<?> type) throws IOException {
+		try ( InputStream stream = type.getClassLoader()
+				.getResourceAsStream( type.getName().replace( '.', '/' ) + ".class" ) ) {
+			return stream.readAllBytes();
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	public static class Publisher {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		// has the name of a proxy class generated at build time, but is not one
+		public static class HibernateProxy {
+		}
+	}
+
+	@MappedSuperclass
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author extends Person {
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			super( id, name );
+		}
+	}
+
+	public static class NotAnEntity {
+	}
+}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.orm.test.bytecode.enhancement.tracker;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.hibernate.bytecode.enhance.internal.tracker.DirtyTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
 import org.hibernate.bytecode.enhance.internal.tracker.SortedFieldTracker;
@@ -14,6 +17,7 @@ import org.junit.Test;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -78,6 +82,78 @@ public class DirtyTrackerTest {
         assertEquals( 4, tracker.get().length );
     }
 
+    @Test
+    public void testSimpleTrackerForClass() {
+        SimpleFieldTracker tracker = new SimpleFieldTracker( Child.class );
+        // fields of the superclass first, the fields of each class in the order of their names
+        assertArrayEquals( new String[]{"bar", "foo", "baz"}, tracker.getFieldNames() );
+        assertTrue( tracker.isEmpty() );
+        assertEquals( 0, tracker.get().length );
+
+        tracker.add( "baz", 2 );
+        assertFalse( tracker.isEmpty() );
+        assertArrayEquals( tracker.get(), new String[]{"baz"} );
+
+        tracker.clear();
+        assertTrue( tracker.isEmpty() );
+        assertEquals( 0, tracker.get().length );
+
+        tracker.add( "foo", 1 );
+        tracker.add( "bar" );
+        tracker.add( "another.bar" );
+        tracker.add( "foo" );
+        tracker.add( "another.foo" );
+        tracker.add( "another.bar" );
+        // a mismatched index falls back to the name
+        tracker.add( "bar", 2 );
+        assertArrayEquals( tracker.get(), new String[]{"foo", "bar", "another.bar", "another.foo"} );
+        assertArrayEquals( tracker.getPaths(), new String[]{"another.bar", "another.foo"} );
+        assertTrue( tracker.contains( "bar" ) );
+        assertTrue( tracker.contains( "another.foo" ) );
+        assertFalse( tracker.contains( "baz" ) );
+        assertEquals( 0, tracker.nextDirtyIndex( 0 ) );
+        assertEquals( 1, tracker.nextDirtyIndex( 1 ) );
+        assertEquals( -1, tracker.nextDirtyIndex( 2 ) );
+
+        tracker.add( "baz", 0 );
+        assertTrue( tracker.contains( "baz" ) );
+        assertEquals( 2, tracker.nextDirtyIndex( 2 ) );
+
+        tracker.suspend( true );
+        tracker.add( "one more" );
+        assertEquals( 5, tracker.get().length );
+
+        // trackers of the same class share their table of fields
+        assertSame( tracker.getFieldNames(), new SimpleFieldTracker( Child.class ).getFieldNames() );
+    }
+
+    @Test
+    public void testSimpleTrackerForClassWithManyFields() {
+        SimpleFieldTracker tracker = new SimpleFieldTracker( Wide.class );
+        List<String> fieldNames = Arrays.asList( tracker.getFieldNames() );
+        assertEquals( 140, fieldNames.size() );
+
+        tracker.add( "f70" );
+        tracker.add( "f3", fieldNames.indexOf( "f3" ) );
+        tracker.add( "f139" );
+        assertArrayEquals( tracker.get(), new String[]{"f70", "f3", "f139"} );
+        assertTrue( tracker.contains( "f70" ) );
+        assertFalse( tracker.contains( "f71" ) );
+
+        int first = tracker.nextDirtyIndex( 0 );
+        int second = tracker.nextDirtyIndex( first + 1 );
+        int third = tracker.nextDirtyIndex( second + 1 );
+        assertEquals( fieldNames.indexOf( "f139" ), first );
+        assertEquals( fieldNames.indexOf( "f3" ), second );
+        assertEquals( fieldNames.indexOf( "f70" ), third );
+        assertTrue( third >= Long.SIZE );
+        assertEquals( -1, tracker.nextDirtyIndex( third + 1 ) );
+
+        tracker.clear();
+        assertTrue( tracker.isEmpty() );
+        assertEquals( -1, tracker.nextDirtyIndex( 0 ) );
+    }
+
     private boolean isSorted(String[] arr) {
         for ( int i = 1; i < arr.length; i++ ) {
             if ( arr[i - 1].compareTo( arr[i] ) > 0 ) {
@@ -86,6 +162,25 @@ public class DirtyTrackerTest {
         }
         return true;
     }
-}
 
+    private static class Parent {
+        private static final String CONSTANT = "constant";
+        private String foo;
+        private String bar;
+    }
+
+    private static class Child extends Parent {
+        private String baz;
+    }
 
+    private static class Wide {
+        private int f0, f1, f2, f3, f4, f5, f6, f7, f8, f9, f10, f11, f12, f13, f14, f15, f16, f17, f18, f19,
+                f20, f21, f22, f23, f24, f25, f26, f27, f28, f29, f30, f31, f32, f33, f34, f35, f36, f37, f38, f39,
+                f40, f41, f42, f43, f44, f45, f46, f47, f48, f49, f50, f51, f52, f53, f54, f55, f56, f57, f58, f59,
+                f60, f61, f62, f63, f64, f65, f66, f67, f68, f69, f70, f71, f72, f73, f74, f75, f76, f77, f78, f79,
+                f80, f81, f82, f83, f84, f85, f86, f87, f88, f89, f90, f91, f92, f93, f94, f95, f96, f97, f98, f99,
+                f100, f101, f102, f103, f104, f105, f106, f107, f108, f109, f110, f111, f112, f113, f114, f115, f116,
+                f117, f118, f119, f120, f121, f122, f123, f124, f125, f126, f127, f128, f129, f130, f131, f132, f133,
+                f134, f135, f136, f137, f138, f139;
+    }
+}
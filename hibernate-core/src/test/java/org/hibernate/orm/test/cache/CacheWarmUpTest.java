@@ -0,0 +1,268 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.CacheWarmUp;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.cfg.AvailableSettings.CACHE_WARMUP_KEYS_FILE;
+import static org.hibernate.cfg.AvailableSettings.CACHE_WARMUP_PREFIX;
+
+@DomainModel(annotatedClasses = { CacheWarmUpTest.Author.class, CacheWarmUpTest.Book.class })
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"))
+public class CacheWarmUpTest {
+
+	private static final String AUTHOR = Author.class.getName();
+	private static final String BOOKS = AUTHOR + ".books";
+	private static final String BOOK = Book.class.getName();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long i = 1; i <= 5; i++ ) {
+				final Author author = new Author( i );
+				session.persist( author );
+				for ( long j = 1; j <= 3; j++ ) {
+					final Book book = new Book( i * 10 + j );
+					author.books.add( book );
+					session.persist( book );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "from Author", Author.class ).getResultList().forEach( author -> author.books.clear() );
+			session.flush();
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testWarmUpAll(SessionFactoryScope scope) throws Exception {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getCache().evictAllRegions();
+		sessionFactory.getStatistics().clear();
+
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( CACHE_WARMUP_PREFIX + "." + AUTHOR, "all" );
+		settings.put( CACHE_WARMUP_PREFIX + "." + BOOKS, "ALL" );
+		CacheWarmUp.fromSettings( settings ).sessionFactoryCreated( sessionFactory );
+
+		awaitWarmUp( sessionFactory.getStatistics(), AUTHOR, 5 );
+		awaitWarmUp( sessionFactory.getStatistics(), BOOKS, 5 );
+
+		for ( long i = 1; i <= 5; i++ ) {
+			assertThat( sessionFactory.getCache().containsEntity( Author.class, i ) ).isTrue();
+			assertThat( sessionFactory.getCache().containsCollection( BOOKS, i ) ).isTrue();
+		}
+	}
+
+	@Test
+	public void testCollectionWarmUpIsBatched(SessionFactoryScope scope) throws Exception {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getCache().evictAllRegions();
+		sessionFactory.getStatistics().clear();
+
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( CACHE_WARMUP_PREFIX + "." + BOOKS, "all" );
+		CacheWarmUp.fromSettings( settings ).sessionFactoryCreated( sessionFactory );
+
+		awaitWarmUp( sessionFactory.getStatistics(), BOOKS, 5 );
+
+		// the keys, the owners, and the collections of every owner at once
+		assertThat( sessionFactory.getStatistics().getPrepareStatementCount() ).isEqualTo( 3 );
+		for ( long i = 1; i <= 5; i++ ) {
+			assertThat( sessionFactory.getCache().containsCollection( BOOKS, i ) ).isTrue();
+		}
+		assertThatThrownBy( () -> sessionFactory.getStatistics().getCacheWarmUpLoadCounts().clear() )
+				.isInstanceOf( UnsupportedOperationException.class );
+	}
+
+	@Test
+	public void testWarmUpByQuery(SessionFactoryScope scope) throws Exception {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		sessionFactory.getCache().evictAllRegions();
+		sessionFactory.getStatistics().clear();
+
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( CACHE_WARMUP_PREFIX + "." + AUTHOR, "select a.id from Author a where a.id < 3" );
+		CacheWarmUp.fromSettings( settings ).sessionFactoryCreated( sessionFactory );
+
+		awaitWarmUp( sessionFactory.getStatistics(), AUTHOR, 2 );
+
+		assertThat( sessionFactory.getCache().containsEntity( Author.class, 1L ) ).isTrue();
+		assertThat( sessionFactory.getCache().containsEntity( Author.class, 2L ) ).isTrue();
+		assertThat( sessionFactory.getCache().containsEntity( Author.class, 3L ) ).isFalse();
+		assertThat( sessionFactory.getCache().containsCollection( BOOKS, 1L ) ).isFalse();
+	}
+
+	@Test
+	public void testWarmUpRecorded(SessionFactoryScope scope) throws Exception {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final Path keysFile = Files.createTempFile( "warmup", ".keys" );
+		try {
+			final Map<String, Object> settings = new HashMap<>();
+			settings.put( CACHE_WARMUP_PREFIX + "." + AUTHOR, "recorded" );
+			settings.put( CACHE_WARMUP_KEYS_FILE, keysFile.toString() );
+
+			final CacheWarmUp recording = CacheWarmUp.fromSettings( settings );
+			sessionFactory.getServiceRegistry().requireService( EventListenerRegistry.class )
+					.appendListeners( EventType.POST_LOAD, recording );
+			scope.inTransaction( session -> {
+				session.find( Author.class, 2L );
+				session.find( Author.class, 4L );
+			} );
+			recording.sessionFactoryClosing( sessionFactory );
+
+			sessionFactory.getCache().evictAllRegions();
+			sessionFactory.getStatistics().clear();
+			CacheWarmUp.fromSettings( settings ).sessionFactoryCreated( sessionFactory );
+
+			awaitWarmUp( sessionFactory.getStatistics(), AUTHOR, 2 );
+
+			final Set<Long> cached = new HashSet<>();
+			for ( long i = 1; i <= 5; i++ ) {
+				if ( sessionFactory.getCache().containsEntity( Author.class, i ) ) {
+					cached.add( i );
+				}
+			}
+			assertThat( cached ).containsExactlyInAnyOrder( 2L, 4L );
+		}
+		finally {
+			Files.deleteIfExists( keysFile );
+		}
+	}
+
+	@Test
+	public void testUnexpectedRecordedKeysAreNotRead(SessionFactoryScope scope) throws Exception {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final Path keysFile = Files.createTempFile( "warmup", ".keys" );
+		try {
+			final HashMap<String, List<?>> keys = new HashMap<>();
+			keys.put( AUTHOR, new ArrayList<>( List.of( 2L, new Unexpected() ) ) );
+			try ( ObjectOutputStream output = new ObjectOutputStream( Files.newOutputStream( keysFile ) ) ) {
+				output.writeObject( keys );
+			}
+			sessionFactory.getCache().evictAllRegions();
+			sessionFactory.getStatistics().clear();
+
+			// the roles are warmed up one after the other, in this order
+			final Map<String, Object> settings = new LinkedHashMap<>();
+			settings.put( CACHE_WARMUP_PREFIX + "." + AUTHOR, "recorded" );
+			settings.put( CACHE_WARMUP_PREFIX + "." + BOOK, "all" );
+			settings.put( CACHE_WARMUP_KEYS_FILE, keysFile.toString() );
+			CacheWarmUp.fromSettings( settings ).sessionFactoryCreated( sessionFactory );
+
+			awaitWarmUp( sessionFactory.getStatistics(), BOOK, 15 );
+
+			assertThat( Unexpected.READ.get() ).isFalse();
+			assertThat( sessionFactory.getStatistics().getCacheWarmUpLoadCounts() ).doesNotContainKey( AUTHOR );
+			assertThat( sessionFactory.getCache().containsEntity( Author.class, 2L ) ).isFalse();
+		}
+		finally {
+			Files.deleteIfExists( keysFile );
+		}
+	}
+
+	private static void awaitWarmUp(StatisticsImplementor statistics, String role, long expectedCount)
+			throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + 10_000;
+		while ( statistics.getCacheWarmUpLoadCounts().getOrDefault( role, 0L ) < expectedCount
+				&& System.currentTimeMillis() < deadline ) {
+			Thread.sleep( 10 );
+		}
+		assertThat( statistics.getCacheWarmUpLoadCounts().get( role ) ).isEqualTo( expectedCount );
+	}
+
+	/**
+	 * Records whether it was deserialized, as a class which is not an identifier type
+	 */
+	public static class Unexpected implements Serializable {
+		static final AtomicBoolean READ = new AtomicBoolean();
+
+		private void readObject(ObjectInputStream input) throws IOException, ClassNotFoundException {
+			input.defaultReadObject();
+			READ.set( true );
+		}
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Author {
+		@Id
+		Long id;
+
+		@OneToMany
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		Set<Book> books = new HashSet<>();
+
+		Author() {
+		}
+
+		Author(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		Long id;
+
+		Book() {
+		}
+
+		Book(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.NearCacheStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = { NearCacheTest.Product.class, NearCacheTest.Order.class })
+@SessionFactory(generateStatistics = true)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.CACHE_NEAR_CACHE_SIZE, value = "100"),
+				@Setting(name = AvailableSettings.CACHE_NEAR_CACHE_TTL, value = "60000")
+		}
+)
+public class NearCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Product( 1L, "kettle" ) ) );
+		scope.getSessionFactory().getCache().evictAllRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testReadsAreServedFromNearCache(SessionFactoryScope scope) {
+		final NearCacheStorageAccess nearCache = nearCache( scope );
+
+		// the first read loads from the database, the second one populates the near cache
+		scope.inTransaction( session -> session.find( Product.class, 1L ) );
+		scope.inTransaction( session -> session.find( Product.class, 1L ) );
+		final DomainDataStorageAccess remote = nearCache.getDelegate();
+		final Object key = cacheKey( scope );
+		assertThat( remote.contains( key ) ).isTrue();
+
+		// bypass the near cache, as though the entry had been lost by the remote cache
+		remote.evictData( key );
+		assertThat( remote.contains( key ) ).isFalse();
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( session.find( Product.class, 1L ).name ).isEqualTo( "kettle" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testLocalWritesInvalidateNearCache(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Product.class, 1L ) );
+		scope.inTransaction( session -> session.find( Product.class, 1L ).name = "teapot" );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( session.find( Product.class, 1L ).name ).isEqualTo( "teapot" ) );
+		scope.inTransaction( session -> assertThat( session.find( Product.class, 1L ).name ).isEqualTo( "teapot" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+
+		scope.getSessionFactory().getCache().evictEntityData( Product.class, 1L );
+		assertThat( nearCache( scope ).contains( cacheKey( scope ) ) ).isFalse();
+	}
+
+	@Test
+	public void testReadWriteRegionHasNoNearCache(SessionFactoryScope scope) {
+		final DomainDataRegionTemplate region = (DomainDataRegionTemplate) scope.getSessionFactory()
+				.getMappingMetamodel().getEntityDescriptor( Order.class ).getCacheAccessStrategy().getRegion();
+		assertThat( region.getCacheStorageAccess() ).isNotInstanceOf( NearCacheStorageAccess.class );
+	}
+
+	private static NearCacheStorageAccess nearCache(SessionFactoryScope scope) {
+		final EntityPersister persister = persister( scope );
+		final DomainDataRegionTemplate region =
+				(DomainDataRegionTemplate) persister.getCacheAccessStrategy().getRegion();
+		assertThat( region.getCacheStorageAccess() ).isInstanceOf( NearCacheStorageAccess.class );
+		return (NearCacheStorageAccess) region.getCacheStorageAccess();
+	}
+
+	private static Object cacheKey(SessionFactoryScope scope) {
+		final EntityPersister persister = persister( scope );
+		return persister.getCacheAccessStrategy()
+				.generateCacheKey( 1L, persister, scope.getSessionFactory(), null );
+	}
+
+	private static EntityPersister persister(SessionFactoryScope scope) {
+		return scope.getSessionFactory().getMappingMetamodel().getEntityDescriptor( Product.class );
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	public static class Product {
+		@Id
+		Long id;
+
+		String name;
+
+		Product() {
+		}
+
+		Product(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Order")
+	@Table(name = "orders")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Order {
+		@Id
+		Long id;
+	}
+}
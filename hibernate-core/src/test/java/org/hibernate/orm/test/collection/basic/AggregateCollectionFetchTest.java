@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.collection.basic;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.SpecHints;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel(annotatedClasses = {
+		AggregateCollectionFetchTest.Article.class,
+		AggregateCollectionFetchTest.Author.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.COLLECTION_AGGREGATE_FETCH, value = "true"))
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsStructuralArrays.class)
+public class AggregateCollectionFetchTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Article first = new Article( 1L );
+			first.tags.add( "orm" );
+			first.tags.add( "sql" );
+			first.keywords.add( "hibernate" );
+			first.ratings.add( 4 );
+			first.ratings.add( 5 );
+			session.persist( first );
+			session.persist( new Article( 2L ) );
+
+			final Author author = new Author( 1L );
+			author.aliases.add( "gk" );
+			session.persist( author );
+			session.persist( new Author( 2L ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "from Article", Article.class ).getResultList().forEach( session::remove );
+			session.createQuery( "from Author", Author.class ).getResultList().forEach( session::remove );
+		} );
+	}
+
+	@Test
+	public void testEntityGraphFetchesSeveralBagsInOneStatement(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			final EntityGraph<Article> graph = session.createEntityGraph( Article.class );
+			graph.addAttributeNodes( "tags", "keywords", "ratings" );
+
+			statementInspector.clear();
+			final List<Article> articles = session.createQuery( "from Article order by id", Article.class )
+					.setHint( SpecHints.HINT_SPEC_FETCH_GRAPH, graph )
+					.getResultList();
+
+			assertThat( articles ).hasSize( 2 );
+			final Article first = articles.get( 0 );
+			assertThat( Hibernate.isInitialized( first.tags ) ).isTrue();
+			assertThat( Hibernate.isInitialized( first.keywords ) ).isTrue();
+			assertThat( Hibernate.isInitialized( first.ratings ) ).isTrue();
+			assertThat( first.tags ).containsExactlyInAnyOrder( "orm", "sql" );
+			assertThat( first.keywords ).containsExactly( "hibernate" );
+			assertThat( first.ratings ).containsExactlyInAnyOrder( 4, 5 );
+
+			final Article second = articles.get( 1 );
+			assertThat( Hibernate.isInitialized( second.tags ) ).isTrue();
+			assertThat( second.tags ).isEmpty();
+			assertThat( second.ratings ).isEmpty();
+
+			statementInspector.assertExecutedCount( 1 );
+			statementInspector.assertNumberOfJoins( 0, 0 );
+		} );
+	}
+
+	@Test
+	public void testEagerCollectionIsNotLoadedBySubsequentSelects(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Author> authors = session.createQuery( "from Author order by id", Author.class )
+					.getResultList();
+
+			assertThat( authors.get( 0 ).aliases ).containsExactly( "gk" );
+			assertThat( authors.get( 1 ).aliases ).isEmpty();
+			statementInspector.assertExecutedCount( 1 );
+		} );
+	}
+
+	@Test
+	public void testAggregatedCollectionIsDirtyChecked(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = session.createQuery( "from Author where id = 1", Author.class )
+					.getSingleResult();
+			author.aliases.add( "gavin" );
+		} );
+		scope.inTransaction( session ->
+				assertThat( session.find( Author.class, 1L ).aliases ).containsExactlyInAnyOrder( "gk", "gavin" )
+		);
+	}
+
+	@Entity(name = "Article")
+	public static class Article {
+		@Id
+		Long id;
+
+		@ElementCollection
+		List<String> tags = new ArrayList<>();
+
+		@ElementCollection
+		List<String> keywords = new ArrayList<>();
+
+		@ElementCollection
+		Set<Integer> ratings = new HashSet<>();
+
+		Article() {
+		}
+
+		Article(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Long id;
+
+		@ElementCollection(fetch = FetchType.EAGER)
+		Set<String> aliases = new HashSet<>();
+
+		Author() {
+		}
+
+		Author(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.entitygraph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.loader.MultipleBagFetchException;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_FETCH_GRAPH;
+
+@DomainModel( annotatedClasses = {
+		EntityGraphSplitCollectionFetchTest.Team.class,
+		EntityGraphSplitCollectionFetchTest.Player.class,
+		EntityGraphSplitCollectionFetchTest.Coach.class
+} )
+@SessionFactory( useCollectingStatementInspector = true )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.SPLIT_COLLECTION_FETCH, value = "true" ) )
+public class EntityGraphSplitCollectionFetchTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				final Team team = new Team( id );
+				team.nicknames.add( "team" + id );
+				session.persist( team );
+				for ( int i = 0; i < 2; i++ ) {
+					session.persist( new Player( id * 10 + i, team ) );
+				}
+				session.persist( new Coach( id, team ) );
+			}
+			session.persist( new Team( 4L ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Player" ).executeUpdate();
+			session.createMutationQuery( "delete from Coach" ).executeUpdate();
+			session.createQuery( "from Team", Team.class ).getResultList().forEach( session::remove );
+		} );
+	}
+
+	@Test
+	public void testEachAdditionalCollectionIsLoadedOnce(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		scope.inTransaction( session -> {
+			statementInspector.clear();
+			final List<Team> teams = findTeams( session );
+
+			// the root query joins the first bag, each other collection needs one more query
+			statementInspector.assertExecutedCount( 3 );
+			assertThat( teams ).hasSize( 4 );
+			for ( Team team : teams ) {
+				assertThat( Hibernate.isInitialized( team.players ) ).isTrue();
+				assertThat( Hibernate.isInitialized( team.coaches ) ).isTrue();
+				assertThat( Hibernate.isInitialized( team.nicknames ) ).isTrue();
+			}
+			final Team first = teams.get( 0 );
+			assertThat( first.players ).extracting( player -> player.id ).containsExactlyInAnyOrder( 10L, 11L );
+			assertThat( first.coaches ).extracting( coach -> coach.id ).containsExactly( 1L );
+			assertThat( first.nicknames ).containsExactly( "team1" );
+			assertThat( teams.get( 3 ).coaches ).isEmpty();
+			statementInspector.assertExecutedCount( 3 );
+		} );
+	}
+
+	@Test
+	public void testSessionCanDisableSplitFetching(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.getLoadQueryInfluencers().setSplitCollectionFetchEnabled( false );
+			assertThatThrownBy( () -> findTeams( session ) )
+					.hasRootCauseInstanceOf( MultipleBagFetchException.class );
+		} );
+	}
+
+	private static List<Team> findTeams(SessionImplementor session) {
+		final EntityGraph<Team> graph = session.createEntityGraph( Team.class );
+		graph.addAttributeNodes( "players", "coaches", "nicknames" );
+		return session.createQuery( "select distinct t from Team t order by t.id", Team.class )
+				.setHint( HINT_SPEC_FETCH_GRAPH, graph )
+				.getResultList();
+	}
+
+	@Entity( name = "Team" )
+	public static class Team {
+		@Id
+		Long id;
+
+		@OneToMany( mappedBy = "team" )
+		List<Player> players = new ArrayList<>();
+
+		@OneToMany( mappedBy = "team" )
+		List<Coach> coaches = new ArrayList<>();
+
+		@ElementCollection
+		List<String> nicknames = new ArrayList<>();
+
+		Team() {
+		}
+
+		Team(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity( name = "Player" )
+	public static class Player {
+		@Id
+		Long id;
+
+		@ManyToOne
+		Team team;
+
+		Player() {
+		}
+
+		Player(Long id, Team team) {
+			this.id = id;
+			this.team = team;
+		}
+	}
+
+	@Entity( name = "Coach" )
+	public static class Coach {
+		@Id
+		Long id;
+
+		@ManyToOne
+		Team team;
+
+		Coach() {
+		}
+
+		Coach(Long id, Team team) {
+			this.id = id;
+			this.team = team;
+		}
+	}
+}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -304,6 +307,78 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicPooledLoStripedOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Optimizer optimizer = buildPooledLoStripedOptimizer( 1, 3 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		// a single thread always takes its values from the same stripe
+		for ( int i = 1; i <= 3; i++ ) {
+			final Long next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+			assertEquals( 1, sequence.getTimesCalled() );
+			assertEquals( 1, sequence.getCurrentValue() );
+		}
+
+		// force a "clock over"
+		final Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+3), sequence.getCurrentValue() );
+		assertEquals( (1+3), optimizer.getLastSourceValue().makeValue().intValue() );
+	}
+
+	@Test
+	public void testBasicPooledPrefetchOptimizerUsage() {
+		Long next;
+		final SourceMock sequence = new AsyncSourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledPrefetchOptimizer( -1, 10 );
+		for ( int i = 1; i <= 6; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() ); // twice to initialize state
+		assertEquals( 11, sequence.getCurrentValue() );
+		// reach the low-water mark of the pool, and retrieve the next one ahead of time
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 7, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+		for ( int i = 8; i <= 12; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		// the "clock over" used the value retrieved ahead of time
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testPooledPrefetchOptimizerFailedPrefetch() {
+		Long next;
+		final SourceMock sequence = new SourceMock( 1, 10 ) {
+			@Override
+			public CompletionStage<IntegralDataTypeHolder> getNextValueAsync() {
+				return CompletableFuture.failedFuture( new IllegalStateException( "no connection" ) );
+			}
+		};
+		final Optimizer optimizer = buildPooledPrefetchOptimizer( -1, 10 );
+		for ( int i = 1; i <= 11; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		// the values are retrieved synchronously instead
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 11, sequence.getCurrentValue() );
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 12, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -324,6 +399,14 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoStripedOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_STRIPED, initial, increment );
+	}
+
+	private static Optimizer buildPooledPrefetchOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_PREFETCH, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -331,6 +414,17 @@ public class OptimizerUnitTest {
 		return OptimizerFactory.buildOptimizer( descriptor, Long.class, increment, initial );
 	}
 
+	private static class AsyncSourceMock extends SourceMock {
+		public AsyncSourceMock(long initialValue, int increment) {
+			super( initialValue, increment );
+		}
+
+		@Override
+		public CompletionStage<IntegralDataTypeHolder> getNextValueAsync() {
+			return CompletableFuture.completedFuture( getNextValue() );
+		}
+	}
+
 	private static class SourceMock implements AccessCallback {
 		private IdentifierGeneratorHelper.BasicHolder value = new IdentifierGeneratorHelper.BasicHolder( Long.class );
 		private long initialValue;
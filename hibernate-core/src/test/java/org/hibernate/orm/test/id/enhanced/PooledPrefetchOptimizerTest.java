@@ -0,0 +1,104 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.id.enhanced;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.enhanced.PooledPrefetchOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.TableGenerator;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link PooledPrefetchOptimizer}, which retrieves the next pool of values in the background
+ */
+@DomainModel(annotatedClasses = {
+		PooledPrefetchOptimizerTest.SequenceEntity.class,
+		PooledPrefetchOptimizerTest.TableEntity.class
+})
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PREFERRED_POOLED_OPTIMIZER, value = "pooled-prefetch"))
+@SessionFactory
+public class PooledPrefetchOptimizerTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete SequenceEntity" ).executeUpdate();
+			session.createMutationQuery( "delete TableEntity" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testSequence(SessionFactoryScope scope) {
+		final SequenceStyleGenerator generator = (SequenceStyleGenerator) scope.getSessionFactory()
+				.getMappingMetamodel().getEntityDescriptor( SequenceEntity.class ).getGenerator();
+		assertThat( generator.getOptimizer() ).isInstanceOf( PooledPrefetchOptimizer.class );
+
+		for ( int i = 0; i < 25; i++ ) {
+			scope.inTransaction( session -> session.persist( new SequenceEntity() ) );
+		}
+		scope.inTransaction( session -> assertThat( session.createSelectionQuery(
+				"select id from SequenceEntity order by id",
+				Long.class
+		).getResultList() ).isEqualTo( expectedIds() ) );
+		// the pool of values following the current one was retrieved ahead of time
+		assertThat( generator.getDatabaseStructure().getTimesAccessed() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void testTable(SessionFactoryScope scope) {
+		final TableGenerator generator = (TableGenerator) scope.getSessionFactory()
+				.getMappingMetamodel().getEntityDescriptor( TableEntity.class ).getGenerator();
+		assertThat( generator.getOptimizer() ).isInstanceOf( PooledPrefetchOptimizer.class );
+
+		for ( int i = 0; i < 25; i++ ) {
+			scope.inTransaction( session -> session.persist( new TableEntity() ) );
+		}
+		scope.inTransaction( session -> assertThat( session.createSelectionQuery(
+				"select id from TableEntity order by id",
+				Long.class
+		).getResultList() ).isEqualTo( expectedIds() ) );
+	}
+
+	private static List<Long> expectedIds() {
+		return IntStream.rangeClosed( 1, 25 ).mapToObj( Long::valueOf ).collect( Collectors.toList() );
+	}
+
+	@Entity(name = "SequenceEntity")
+	public static class SequenceEntity {
+		@Id
+		@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "prefetch_seq")
+		@SequenceGenerator(name = "prefetch_seq", sequenceName = "prefetch_seq", allocationSize = 10)
+		Long id;
+	}
+
+	@Entity(name = "TableEntity")
+	public static class TableEntity {
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "prefetch_table")
+		@jakarta.persistence.TableGenerator(name = "prefetch_table", table = "prefetch_table", allocationSize = 10)
+		Long id;
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping;
+
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.cfg.MappingSettings;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Entity persisters initialized on first use behave as if they were initialized eagerly
+ */
+@ServiceRegistry(settings = @Setting(name = MappingSettings.LAZY_PERSISTER_INITIALIZATION, value = "true"))
+@DomainModel(annotatedClasses = {
+		LazyPersisterInitializationTest.Author.class,
+		LazyPersisterInitializationTest.Book.class
+})
+@SessionFactory
+public class LazyPersisterInitializationTest {
+
+	@Test
+	public void testInitializationOnFirstUse(SessionFactoryScope scope) {
+		final AbstractEntityPersister persister = (AbstractEntityPersister) scope.getSessionFactory()
+				.getMappingMetamodel().getEntityDescriptor( Book.class );
+		assertTrue( persister.isInitializedOnFirstUse() );
+
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Gavin" );
+			session.persist( author );
+			session.persist( new Book( 1, "Hibernate in Action", author ) );
+			session.persist( new Book( 2, "Java Persistence with Hibernate", author ) );
+		} );
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1 );
+			assertEquals( "Gavin", book.author.name );
+			book.title = "Hibernate in Action, 2nd edition";
+			session.lock( book.author, LockMode.OPTIMISTIC_FORCE_INCREMENT );
+		} );
+		scope.inTransaction( session -> {
+			final List<Book> books = session.byMultipleIds( Book.class ).multiLoad( 1, 2 );
+			assertEquals( "Hibernate in Action, 2nd edition", books.get( 0 ).title );
+			assertEquals( 1, books.get( 0 ).author.version );
+			assertNotNull( books.get( 1 ) );
+			session.remove( books.get( 1 ) );
+		} );
+		scope.inTransaction( session -> {
+			assertNull( session.find( Book.class, 2 ) );
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+		@Version
+		int version;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
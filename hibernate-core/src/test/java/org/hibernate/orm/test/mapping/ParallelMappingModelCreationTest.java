@@ -0,0 +1,221 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.SoftDelete;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.MappingSettings;
+import org.hibernate.metamodel.UnsupportedMappingException;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The mapping model created in parallel is complete and usable
+ */
+@ServiceRegistry(settings = @Setting(name = MappingSettings.MAPPING_MODEL_CREATION_PARALLELISM, value = "4"))
+@DomainModel(annotatedClasses = {
+		ParallelMappingModelCreationTest.Vehicle.class,
+		ParallelMappingModelCreationTest.Car.class,
+		ParallelMappingModelCreationTest.Truck.class,
+		ParallelMappingModelCreationTest.Owner.class,
+		ParallelMappingModelCreationTest.Garage.class
+})
+@SessionFactory
+public class ParallelMappingModelCreationTest {
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Vehicle" ).executeUpdate();
+			session.createMutationQuery( "delete from Owner" ).executeUpdate();
+			session.createMutationQuery( "delete from Garage" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testMappingModel(SessionFactoryScope scope) {
+		for ( Class<?> entityClass : new Class<?>[] { Vehicle.class, Car.class, Truck.class, Owner.class, Garage.class } ) {
+			final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+					.getEntityDescriptor( entityClass );
+			assertNotNull( persister.getIdentifierMapping() );
+		}
+
+		scope.inTransaction( session -> {
+			final Garage garage = new Garage( 1, new Address( "Main Street", "Springfield" ) );
+			final Owner owner = new Owner( 1, "Homer", garage );
+			session.persist( garage );
+			session.persist( owner );
+			session.persist( new Car( 1, owner, 5 ) );
+			session.persist( new Truck( 2, owner, 12.5 ) );
+		} );
+		scope.inTransaction( session -> {
+			final Owner owner = session.find( Owner.class, 1 );
+			assertEquals( 2, owner.vehicles.size() );
+			assertEquals( "Springfield", owner.garage.address.city );
+			final List<Vehicle> vehicles = session.createSelectionQuery( "from Vehicle v order by v.id", Vehicle.class )
+					.getResultList();
+			assertEquals( 5, ( (Car) vehicles.get( 0 ) ).seats );
+			assertEquals( 12.5, ( (Truck) vehicles.get( 1 ) ).payload );
+		} );
+	}
+
+	@Test
+	public void testAssociatedHierarchyPreparedFirst() {
+		// the soft-delete mapping of the associated entity is always visible to the
+		// to-one attributes referencing it, whichever hierarchy is processed first
+		final StandardServiceRegistry ssr = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( MappingSettings.MAPPING_MODEL_CREATION_PARALLELISM, 4 )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( ssr )
+					.addAnnotatedClass( Ticket.class )
+					.addAnnotatedClass( Archive.class );
+			assertThrows(
+					UnsupportedMappingException.class,
+					() -> metadataSources.buildMetadata().buildSessionFactory().close()
+			);
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		Integer id;
+		@ManyToOne
+		Owner owner;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, Owner owner) {
+			this.id = id;
+			this.owner = owner;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		int seats;
+
+		public Car() {
+		}
+
+		public Car(Integer id, Owner owner, int seats) {
+			super( id, owner );
+			this.seats = seats;
+		}
+	}
+
+	@Entity(name = "Truck")
+	public static class Truck extends Vehicle {
+		double payload;
+
+		public Truck() {
+		}
+
+		public Truck(Integer id, Owner owner, double payload) {
+			super( id, owner );
+			this.payload = payload;
+		}
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		Integer id;
+		String name;
+		@ManyToOne
+		Garage garage;
+		@OneToMany(mappedBy = "owner")
+		List<Vehicle> vehicles = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name, Garage garage) {
+			this.id = id;
+			this.name = name;
+			this.garage = garage;
+		}
+	}
+
+	@Entity(name = "Garage")
+	public static class Garage {
+		@Id
+		Integer id;
+		@Embedded
+		Address address;
+
+		public Garage() {
+		}
+
+		public Garage(Integer id, Address address) {
+			this.id = id;
+			this.address = address;
+		}
+	}
+
+	@Embeddable
+	public static class Address {
+		String street;
+		String city;
+
+		public Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+
+	@Entity(name = "Ticket")
+	public static class Ticket {
+		@Id
+		Integer id;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Archive archive;
+	}
+
+	@Entity(name = "Archive")
+	@SoftDelete
+	public static class Archive {
+		@Id
+		Integer id;
+	}
+}
@@ -0,0 +1,86 @@
+package org.hibernate.orm.test.paging.keybased;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.Order;
+import org.hibernate.query.Page;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SessionFactory(useCollectingStatementInspector = true)
+@DomainModel(annotatedClasses = KeyBasedScrollTest.Item.class)
+public class KeyBasedScrollTest {
+	@BeforeAll void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(session -> {
+			for (int i = 1; i<=17; i++) {
+				Item item = new Item();
+				item.id = i;
+				item.name = "item " + (100 - i);
+				session.persist(item);
+			}
+		});
+	}
+
+	@AfterAll void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(session -> session.createMutationQuery("delete from Item").executeUpdate());
+	}
+
+	@Test void testScrollInChunks(SessionFactoryScope scope) {
+		SQLStatementInspector inspector = scope.getCollectingStatementInspector();
+		scope.inSession(session -> {
+			inspector.clear();
+			List<Integer> ids = new ArrayList<>();
+			try (ScrollableResults<Item> results =
+					session.createSelectionQuery("from Item", Item.class)
+							.scroll(Page.first(5).keyedBy(Order.asc(Item.class, "name")))) {
+				while ( results.next() ) {
+					assertEquals( ids.size(), results.getRowNumber() );
+					ids.add( results.get().id );
+					assertEquals( ids.size() == 17, results.isLast() );
+				}
+				assertNull( results.get() );
+				assertFalse( results.next() );
+			}
+			assertEquals(17, ids.size());
+			// ordered by name, that is, by descending id
+			for (int i = 0; i < ids.size(); i++) {
+				assertEquals(17 - i, ids.get(i));
+			}
+			// one query per chunk of five
+			assertEquals(4, inspector.getSqlQueries().size());
+		});
+	}
+
+	@Test void testScrollForward(SessionFactoryScope scope) {
+		scope.inSession(session -> {
+			try (ScrollableResults<Item> results =
+					session.createSelectionQuery("from Item where id > 10", Item.class)
+							.scroll(Page.first(2).keyedBy(Order.asc(Item.class, "id")))) {
+				assertTrue( results.scroll(3) );
+				assertEquals( 13, results.get().id );
+				assertTrue( results.position(5) );
+				assertEquals( 16, results.get().id );
+				assertThrows( UnsupportedOperationException.class, results::previous );
+				assertFalse( results.scroll(5) );
+			}
+		});
+	}
+
+	@Entity(name="Item")
+	static class Item {
+		@Id Integer id;
+		String name;
+	}
+}
@@ -0,0 +1,314 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Tuple;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(annotatedClasses = { AsyncQueryTest.Author.class, AsyncQueryTest.Book.class })
+@ServiceRegistry(settings = @Setting(
+		name = AvailableSettings.ASYNC_QUERY_EXECUTOR,
+		value = "org.hibernate.orm.test.query.AsyncQueryTest$CountingExecutor"
+))
+@SessionFactory
+public class AsyncQueryTest {
+
+	@BeforeAll
+	public void init(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author bauer = new Author( 1, "Bauer" );
+			final Author bloch = new Author( 2, "Bloch" );
+			session.persist( bauer );
+			session.persist( bloch );
+			session.persist( new Book( 1, "Hibernate in Action", bauer ) );
+			session.persist( new Book( 2, "Java Persistence with Hibernate", bauer ) );
+			session.persist( new Book( 3, "Effective Java", bloch ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testResultsAreManagedByOwningSession(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final int executions = CountingExecutor.EXECUTIONS.get();
+			final CompletionStage<List<Author>> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class )
+							.getResultListAsync();
+			final CompletionStage<List<Book>> books =
+					session.createSelectionQuery( "from Book where title like :title order by id", Book.class )
+							.setParameter( "title", "%Java%" )
+							.getResultListAsync();
+
+			final List<Author> authorList = authors.toCompletableFuture().join();
+			final List<Book> bookList = books.toCompletableFuture().join();
+			assertEquals( executions + 2, CountingExecutor.EXECUTIONS.get() );
+
+			assertEquals( 2, authorList.size() );
+			assertEquals( 2, bookList.size() );
+			for ( Author author : authorList ) {
+				assertTrue( session.contains( author ) );
+			}
+			for ( Book book : bookList ) {
+				assertTrue( session.contains( book ) );
+			}
+			assertSame( authorList.get( 0 ), session.find( Author.class, 1 ) );
+			// associations of the results refer to the instances belonging to the owning session
+			assertSame( authorList.get( 1 ), bookList.get( 1 ).getAuthor() );
+
+			// lazy associations are initialized by the owning session
+			final Author bauer = authorList.get( 0 );
+			assertFalse( Hibernate.isInitialized( bauer.getBooks() ) );
+			assertEquals( 2, bauer.getBooks().size() );
+		} );
+	}
+
+	@Test
+	public void testManagedInstanceIsReturned(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author bloch = session.find( Author.class, 2 );
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class )
+							.getResultListAsync().toCompletableFuture().join();
+			assertSame( bloch, authors.get( 1 ) );
+			assertTrue( session.contains( authors.get( 0 ) ) );
+		} );
+	}
+
+	@Test
+	public void testResultsAreNotAssociatedUntilUsed(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class )
+							.getResultListAsync().toCompletableFuture().join();
+			// an unrelated load does not associate the state read by the query
+			session.find( Book.class, 1 );
+			assertEquals( 2, session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+			assertEquals( 2, authors.size() );
+			assertTrue( session.contains( authors.get( 1 ) ) );
+		} );
+	}
+
+	@Test
+	public void testClearDiscardsResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Author> authors =
+					session.createSelectionQuery( "from Author order by id", Author.class )
+							.getResultListAsync().toCompletableFuture().join();
+			session.clear();
+			final Author bauer = session.find( Author.class, 1 );
+			assertEquals( 1, session.getPersistenceContextInternal().getNumberOfManagedEntities() );
+			assertSame( bauer, authors.get( 0 ) );
+			assertTrue( session.contains( authors.get( 1 ) ) );
+			assertEquals( "Bloch", authors.get( 1 ).getName() );
+		} );
+	}
+
+	@Test
+	public void testRemovedEntityIsNotAssociated(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.persist( new Author( 3, "King" ) ) );
+		scope.inSession( session -> {
+			session.getTransaction().begin();
+			try {
+				final List<Author> authors =
+						session.createSelectionQuery( "from Author order by id", Author.class )
+								.getResultListAsync().toCompletableFuture().join();
+				session.remove( session.find( Author.class, 3 ) );
+				session.flush();
+				assertNull( session.find( Author.class, 3 ) );
+				assertEquals( 3, authors.size() );
+				assertNull( authors.get( 2 ) );
+				assertNull( session.find( Author.class, 3 ) );
+				assertTrue( session.contains( authors.get( 0 ) ) );
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		} );
+		scope.inTransaction( session -> session.remove( session.find( Author.class, 3 ) ) );
+	}
+
+	@Test
+	public void testTupleResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Tuple> tuples =
+					session.createSelectionQuery( "select a as author, a.name as name from Author a order by a.id", Tuple.class )
+							.getResultListAsync().toCompletableFuture().join();
+			assertEquals( 2, tuples.size() );
+			final Author bauer = tuples.get( 0 ).get( "author", Author.class );
+			assertTrue( session.contains( bauer ) );
+			assertSame( bauer, session.find( Author.class, 1 ) );
+			assertSame( bauer, tuples.get( 0 ).get( 0 ) );
+			assertEquals( "Bloch", tuples.get( 1 ).get( "name" ) );
+		} );
+	}
+
+	@Test
+	public void testInstantiationResultsAreReadBySession(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<AuthorSummary> summaries =
+					session.createSelectionQuery(
+									"select new " + AuthorSummary.class.getName() + "(a, a.name) from Author a order by a.id",
+									AuthorSummary.class
+							)
+							.getResultListAsync().toCompletableFuture().join();
+			assertEquals( 2, summaries.size() );
+			final Author bauer = summaries.get( 0 ).author;
+			assertNotNull( bauer );
+			assertTrue( session.contains( bauer ) );
+			assertSame( bauer, session.find( Author.class, 1 ) );
+		} );
+	}
+
+	@Test
+	public void testFindAsync(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Book book = session.findAsync( Book.class, 3 ).toCompletableFuture().join();
+			assertEquals( "Effective Java", book.getTitle() );
+			assertTrue( session.contains( book ) );
+			assertEquals( "Bloch", book.getAuthor().getName() );
+			assertTrue( session.contains( book.getAuthor() ) );
+			assertSame( book, session.find( Book.class, 3 ) );
+			assertNull( session.findAsync( Book.class, 4 ).toCompletableFuture().join() );
+		} );
+	}
+
+	@Test
+	public void testNativeQueryIsExecutedImmediately(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final CompletionStage<List<String>> titles =
+					session.createNativeQuery( "select title from Book order by id", String.class )
+							.getResultListAsync();
+			assertTrue( titles.toCompletableFuture().isDone() );
+			assertEquals( 3, titles.toCompletableFuture().join().size() );
+		} );
+	}
+
+	@Test
+	public void testStatelessSession(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( session -> {
+			final List<String> names =
+					session.createSelectionQuery( "select name from Author order by id", String.class )
+							.getResultListAsync().toCompletableFuture().join();
+			assertEquals( List.of( "Bauer", "Bloch" ), names );
+		} );
+	}
+
+	public static class CountingExecutor implements Executor {
+		static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+		@Override
+		public void execute(Runnable command) {
+			EXECUTIONS.incrementAndGet();
+			CompletableFuture.runAsync( command );
+		}
+	}
+
+	public static class AuthorSummary {
+		private final Author author;
+		private final String name;
+
+		public AuthorSummary(Author author, String name) {
+			this.author = author;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "author")
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProvider;
+import org.hibernate.testing.orm.jdbc.PreparedStatementSpyConnectionProviderSettingProvider;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DomainModel(annotatedClasses = FetchMemoryBudgetTest.Reading.class)
+@ServiceRegistry(
+		// an Integer, a Long, and a String make an estimated 4 + 8 + 64 = 76 bytes per row
+		settings = @Setting(name = AvailableSettings.STATEMENT_FETCH_MEMORY_BUDGET, value = "7600"),
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.CONNECTION_PROVIDER,
+				provider = PreparedStatementSpyConnectionProviderSettingProvider.class
+		)
+)
+@SessionFactory
+@RequiresDialect(H2Dialect.class)
+public class FetchMemoryBudgetTest {
+	private PreparedStatementSpyConnectionProvider connectionProvider;
+
+	@BeforeAll
+	public void init(SessionFactoryScope scope) {
+		final Map<String, Object> props = scope.getSessionFactory().getProperties();
+		connectionProvider = (PreparedStatementSpyConnectionProvider) props.get( AvailableSettings.CONNECTION_PROVIDER );
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Reading( i, i * 10L, "reading " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Reading" ).executeUpdate() );
+	}
+
+	@BeforeEach
+	public void clear() {
+		connectionProvider.clear();
+	}
+
+	@Test
+	public void testFetchSizeDerivedFromBudget(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Reading> results =
+					session.createQuery( "from Reading", Reading.class ).getResultList();
+			assertEquals( 10, results.size() );
+			assertEquals( 100, lastFetchSize() );
+		} );
+	}
+
+	@Test
+	public void testFetchSizeLimitedByMaxResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "from Reading", Reading.class ).setMaxResults( 5 ).getResultList();
+			assertEquals( 5, lastFetchSize() );
+		} );
+	}
+
+	@Test
+	public void testExplicitFetchSizeWins(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createQuery( "from Reading", Reading.class ).setFetchSize( 7 ).getResultList();
+			assertEquals( 7, lastFetchSize() );
+		} );
+	}
+
+	private int lastFetchSize() {
+		try {
+			final List<Object[]> calls = connectionProvider.spyContext.getCalls(
+					Statement.class.getMethod( "setFetchSize", int.class ),
+					connectionProvider.getPreparedStatements().get( 0 )
+			);
+			assertEquals( 1, calls.size() );
+			return (Integer) calls.get( 0 )[0];
+		}
+		catch (NoSuchMethodException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		Integer id;
+		Long takenAt;
+		String sensor;
+
+		public Reading() {
+		}
+
+		public Reading(Integer id, Long takenAt, String sensor) {
+			this.id = id;
+			this.takenAt = takenAt;
+			this.sensor = sensor;
+		}
+	}
+}
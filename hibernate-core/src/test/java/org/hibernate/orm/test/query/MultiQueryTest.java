@@ -0,0 +1,177 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(annotatedClasses = MultiQueryTest.Book.class)
+@SessionFactory(generateStatistics = true)
+public class MultiQueryTest {
+
+	@BeforeAll
+	public void init(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Hibernate in Action", "Bauer" ) );
+			session.persist( new Book( 2, "Java Persistence with Hibernate", "Bauer" ) );
+			session.persist( new Book( 3, "Effective Java", "Bloch" ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testResultListsMatchIndividualExecution(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<List<?>> results = session.getResultLists(
+					session.createSelectionQuery( "from Book where author = :author order by id", Book.class )
+							.setParameter( "author", "Bauer" ),
+					session.createSelectionQuery( "select count(*) from Book", Long.class ),
+					session.createSelectionQuery( "select id from Book order by id desc", Integer.class )
+							.setMaxResults( 2 ),
+					session.createSelectionQuery( "select title from Book where id = ?1", String.class )
+							.setParameter( 1, 3 )
+			);
+			assertEquals( 4, results.size() );
+			assertEquals( 2, results.get( 0 ).size() );
+			assertEquals( List.of( 3L ), results.get( 1 ) );
+			assertEquals( List.of( 3, 2 ), results.get( 2 ) );
+			assertEquals( List.of( "Effective Java" ), results.get( 3 ) );
+
+			// the entities are managed by the session
+			final Book book = (Book) results.get( 0 ).get( 0 );
+			assertTrue( session.contains( book ) );
+			assertSame( book, session.find( Book.class, 1 ) );
+		} );
+	}
+
+	@Test
+	public void testQueriesWhichCannotBeDeferred(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<List<?>> results = session.getResultLists(
+					session.createSelectionQuery( "from Book order by id", Book.class )
+							.setTimeout( 5 ),
+					session.createSelectionQuery( "from Book where id = 2", Book.class )
+							.setHibernateLockMode( LockMode.PESSIMISTIC_WRITE ),
+					session.createSelectionQuery( "select title from Book where author = 'Bloch'", String.class )
+			);
+			assertEquals( 3, results.get( 0 ).size() );
+			assertEquals( 2, ( (Book) results.get( 1 ).get( 0 ) ).getId() );
+			assertEquals( LockMode.PESSIMISTIC_WRITE, session.getCurrentLockMode( results.get( 1 ).get( 0 ) ) );
+			assertEquals( List.of( "Effective Java" ), results.get( 2 ) );
+		} );
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsMultiQueryStatements.class)
+	public void testQueriesShareStatement(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			statistics.clear();
+			final List<List<?>> results = session.getResultLists(
+					session.createSelectionQuery( "from Book where author = :author order by id", Book.class )
+							.setParameter( "author", "Bauer" ),
+					session.createSelectionQuery( "select count(*) from Book", Long.class ),
+					session.createSelectionQuery( "select title from Book where id = ?1", String.class )
+							.setParameter( 1, 3 )
+			);
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+			assertEquals( 2, results.get( 0 ).size() );
+			assertEquals( 1, ( (Book) results.get( 0 ).get( 0 ) ).getId() );
+			assertEquals( 2, ( (Book) results.get( 0 ).get( 1 ) ).getId() );
+			assertEquals( List.of( 3L ), results.get( 1 ) );
+			assertEquals( List.of( "Effective Java" ), results.get( 2 ) );
+		} );
+	}
+
+	@Test
+	@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsMultiQueryStatements.class)
+	public void testQueriesWhichCannotShareStatement(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			statistics.clear();
+			final List<List<?>> results = session.getResultLists(
+					session.createSelectionQuery( "select id from Book order by id", Integer.class ),
+					session.createSelectionQuery( "select id from Book order by id desc", Integer.class )
+							.setMaxResults( 2 ),
+					session.createSelectionQuery( "from Book where id = 2", Book.class )
+							.setHibernateLockMode( LockMode.PESSIMISTIC_WRITE ),
+					session.createSelectionQuery( "select title from Book where id = 1", String.class )
+							.setTimeout( 5 ),
+					session.createSelectionQuery( "select author from Book where id = 3", String.class )
+			);
+			// the first and last queries share a statement, the others run on their own
+			assertEquals( 4, statistics.getPrepareStatementCount() );
+			assertEquals( List.of( 1, 2, 3 ), results.get( 0 ) );
+			assertEquals( List.of( 3, 2 ), results.get( 1 ) );
+			assertEquals( 2, ( (Book) results.get( 2 ).get( 0 ) ).getId() );
+			assertEquals( LockMode.PESSIMISTIC_WRITE, session.getCurrentLockMode( results.get( 2 ).get( 0 ) ) );
+			assertEquals( List.of( "Hibernate in Action" ), results.get( 3 ) );
+			assertEquals( List.of( "Bloch" ), results.get( 4 ) );
+		} );
+	}
+
+	@Test
+	public void testSingleQuery(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<List<?>> results = session.getResultLists(
+					session.createSelectionQuery( "select id from Book order by id", Integer.class )
+			);
+			assertEquals( List.of( List.of( 1, 2, 3 ) ), results );
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		private String author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, String author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public String getAuthor() {
+			return author;
+		}
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.hql.instantiation;
+
+import java.util.List;
+
+import org.hibernate.InstantiationException;
+import org.hibernate.annotations.Imported;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel( annotatedClasses = {
+		InstantiationWithPrimitiveRecordComponentsTest.Measurement.class,
+		InstantiationWithPrimitiveRecordComponentsTest.Reading.class,
+} )
+@SessionFactory
+public class InstantiationWithPrimitiveRecordComponentsTest {
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				session.persist( new Measurement( i, i * 1000L, i / 2.0, "sensor " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testDynamicInstantiation(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Reading> readings = session.createQuery(
+					"select new Reading(m.id, m.takenAt, m.amount, m.sensor) from Measurement m order by m.id",
+					Reading.class
+			).getResultList();
+			assertReadings( readings );
+		} );
+	}
+
+	@Test
+	public void testImplicitInstantiation(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Reading> readings = session.createQuery(
+					"select m.id, m.takenAt, m.amount, m.sensor from Measurement m order by m.id",
+					Reading.class
+			).getResultList();
+			assertReadings( readings );
+		} );
+	}
+
+	@Test
+	public void testImplicitInstantiationWithWidening(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<WideReading> readings = session.createQuery(
+					"select m.id, m.takenAt from Measurement m order by m.id",
+					WideReading.class
+			).getResultList();
+			assertThat( readings ).hasSize( 20 );
+			assertThat( readings.get( 2 ).id() ).isEqualTo( 3L );
+			assertThat( readings.get( 2 ).timestamp() ).isEqualTo( 3000.0 );
+		} );
+	}
+
+	@Test
+	public void testImplicitInstantiationWithAmbiguousConstructors(SessionFactoryScope scope) {
+		scope.inSession( session -> assertThatThrownBy(
+				() -> session.createQuery( "select m.id, m.takenAt from Measurement m", AmbiguousReading.class )
+						.getResultList()
+		).isInstanceOf( InstantiationException.class ).hasMessageContaining( "Ambiguous constructors" ) );
+	}
+
+	@Test
+	public void testErrorIsNotWrapped(SessionFactoryScope scope) {
+		scope.inSession( session -> {
+			assertThatThrownBy(
+					() -> session.createQuery( "select m.id, m.sensor from Measurement m", FaultyReading.class )
+							.getResultList()
+			).isInstanceOf( ReadingError.class );
+			assertThatThrownBy(
+					() -> session.createQuery( "select new FaultyReading(m.id, m.sensor) from Measurement m", FaultyReading.class )
+							.getResultList()
+			).isInstanceOf( ReadingError.class );
+		} );
+	}
+
+	private static void assertReadings(List<Reading> readings) {
+		assertThat( readings ).hasSize( 20 );
+		for ( int i = 0; i < readings.size(); i++ ) {
+			final Reading reading = readings.get( i );
+			assertThat( reading.id() ).isEqualTo( i + 1 );
+			assertThat( reading.timestamp() ).isEqualTo( ( i + 1 ) * 1000L );
+			assertThat( reading.value() ).isEqualTo( ( i + 1 ) / 2.0 );
+			assertThat( reading.sensor() ).isEqualTo( "sensor " + ( i + 1 ) );
+		}
+	}
+
+	@Entity( name = "Measurement" )
+	public static class Measurement {
+		@Id
+		private Integer id;
+
+		private Long takenAt;
+
+		private Double amount;
+
+		private String sensor;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, Long takenAt, Double amount, String sensor) {
+			this.id = id;
+			this.takenAt = takenAt;
+			this.amount = amount;
+			this.sensor = sensor;
+		}
+	}
+
+	@Imported
+	public record Reading(int id, long timestamp, double value, String sensor) {
+	}
+
+	public record WideReading(long id, double timestamp) {
+	}
+
+	public static class AmbiguousReading {
+		public AmbiguousReading(long id, long timestamp) {
+		}
+
+		public AmbiguousReading(double id, double timestamp) {
+		}
+	}
+
+	@Imported
+	public record FaultyReading(int id, String sensor) {
+		public FaultyReading {
+			throw new ReadingError();
+		}
+	}
+
+	public static class ReadingError extends Error {
+	}
+}
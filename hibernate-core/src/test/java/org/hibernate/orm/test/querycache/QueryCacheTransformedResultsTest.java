@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DomainModel( annotatedClasses = QueryCacheTransformedResultsTest.Sale.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.QUERY_CACHE_TRANSFORMED_RESULTS_SIZE, value = "10" )
+} )
+public class QueryCacheTransformedResultsTest {
+
+	private static final String QUERY = "select s.region, s.amount from Sale s order by s.id";
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Sale( 1L, "north", 10 ) );
+			session.persist( new Sale( 2L, "south", 20 ) );
+		} );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Sale" ).executeUpdate() );
+	}
+
+	@Test
+	public void testReadOnlyQueryReturnsCachedList(SessionFactoryScope scope) {
+		final List<Total> first = scope.fromTransaction( session -> totals( session, true ) );
+		final List<Total> second = scope.fromTransaction( session -> totals( session, true ) );
+		final List<Total> third = scope.fromTransaction( session -> totals( session, true ) );
+
+		assertThat( second ).containsExactly( new Total( "north", 10 ), new Total( "south", 20 ) );
+		assertThat( third ).isSameAs( second ).isSameAs( first );
+		assertThatThrownBy( () -> third.add( new Total( "east", 0 ) ) )
+				.isInstanceOf( UnsupportedOperationException.class );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 2 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testModifiableQueryIsNotShared(SessionFactoryScope scope) {
+		scope.inTransaction( session -> totals( session, false ) );
+		final List<Total> second = scope.fromTransaction( session -> totals( session, false ) );
+		final List<Total> third = scope.fromTransaction( session -> totals( session, false ) );
+
+		assertThat( third ).isNotSameAs( second ).isEqualTo( second );
+		assertThat( scope.getSessionFactory().getStatistics().getQueryCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testDistinctResultTypesAreNotConfused(SessionFactoryScope scope) {
+		scope.inTransaction( session -> totals( session, true ) );
+		final List<Object[]> rows = scope.fromTransaction( session -> session.createSelectionQuery( QUERY, Object[].class )
+				.setCacheable( true )
+				.setReadOnly( true )
+				.getResultList() );
+
+		assertThat( rows ).hasSize( 2 );
+		assertThat( rows.get( 0 ) ).containsExactly( "north", 10 );
+	}
+
+	@Test
+	public void testUpdateInvalidatesCachedList(SessionFactoryScope scope) {
+		final List<Total> first = scope.fromTransaction( session -> totals( session, true ) );
+		scope.inTransaction( session -> session.find( Sale.class, 1L ).amount = 15 );
+		final List<Total> second = scope.fromTransaction( session -> totals( session, true ) );
+
+		assertThat( second ).isNotSameAs( first )
+				.containsExactly( new Total( "north", 15 ), new Total( "south", 20 ) );
+	}
+
+	private static List<Total> totals(SessionImplementor session, boolean readOnly) {
+		return session.createSelectionQuery( QUERY, Total.class )
+				.setCacheable( true )
+				.setReadOnly( readOnly )
+				.getResultList();
+	}
+
+	public record Total(String region, Integer amount) {
+	}
+
+	@Entity( name = "Sale" )
+	public static class Sale {
+		@Id
+		private Long id;
+
+		private String region;
+
+		private int amount;
+
+		public Sale() {
+		}
+
+		public Sale(Long id, String region, int amount) {
+			this.id = id;
+			this.region = region;
+			this.amount = amount;
+		}
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.Hibernate;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DomainModel( annotatedClasses = {
+		DetachingStreamTest.Book.class,
+		DetachingStreamTest.Review.class,
+		DetachingStreamTest.Critic.class
+} )
+@SessionFactory
+public class DetachingStreamTest {
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 50; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+			}
+			for ( int i = 1; i <= 30; i++ ) {
+				final Critic critic = new Critic( i, "Critic " + i );
+				session.persist( critic );
+				session.persist( new Review( i, "Review " + i, critic ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createSelectionQuery( "from Review", Review.class ).getResultList().forEach( session::remove );
+			session.flush();
+			session.createMutationQuery( "delete from Critic" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEmittedEntitiesAreEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final int[] maxManagedEntities = new int[1];
+			try (final Stream<Book> stream = session.createSelectionQuery( "from Book order by id", Book.class )
+					.setStreamHighWaterMark( 10 )
+					.getResultStream()) {
+				final long count = stream.peek( book -> {
+					assertThat( session.contains( book ) ).isTrue();
+					maxManagedEntities[0] = Math.max(
+							maxManagedEntities[0],
+							session.getPersistenceContextInternal().getNumberOfManagedEntities()
+					);
+				} ).count();
+				assertThat( count ).isEqualTo( 50 );
+			}
+			assertThat( maxManagedEntities[0] ).isLessThanOrEqualTo( 11 );
+		} );
+	}
+
+	@Test
+	public void testArrayResultsAreEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try (final Stream<Object[]> stream = session.createSelectionQuery(
+							"select b, b.title from Book b order by b.id",
+							Object[].class
+					)
+					.setStreamHighWaterMark( 5 )
+					.getResultStream()) {
+				stream.forEach( row -> assertThat( session.getPersistenceContextInternal()
+						.getNumberOfManagedEntities() ).isLessThanOrEqualTo( 6 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testPreviouslyManagedEntitiesAreKept(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Book first = session.find( Book.class, 1 );
+			final Book last = session.find( Book.class, 50 );
+			try (final Stream<Book> stream = session.createQuery( "from Book order by id", Book.class )
+					.setStreamHighWaterMark( 10 )
+					.setReadOnly( true )
+					.getResultStream()) {
+				assertThat( stream.count() ).isEqualTo( 50 );
+			}
+			assertThat( session.contains( first ) ).isTrue();
+			assertThat( session.contains( last ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testNativeQueryEntitiesAreEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try (final Stream<Book> stream = session.createNativeQuery( "select * from Book order by id", Book.class )
+					.setStreamHighWaterMark( 10 )
+					.setFetchSize( 5 )
+					.getResultStream()) {
+				stream.forEach( book -> assertThat( session.getPersistenceContextInternal()
+						.getNumberOfManagedEntities() ).isLessThanOrEqualTo( 11 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testAssociatedEntitiesAndCollectionsAreEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try (final Stream<Review> stream = session.createSelectionQuery( "from Review order by id", Review.class )
+					.setStreamHighWaterMark( 10 )
+					.getResultStream()) {
+				stream.forEach( review -> {
+					assertThat( Hibernate.isInitialized( review.critic ) ).isTrue();
+					Hibernate.initialize( review.tags );
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() )
+							.isLessThanOrEqualTo( 12 );
+					assertThat( session.getPersistenceContextInternal().getCollectionEntriesSize() )
+							.isLessThanOrEqualTo( 6 );
+				} );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntitiesWithUnflushedChangesAreKept(SessionFactoryScope scope) {
+		final List<Review> changed = new ArrayList<>();
+		scope.inTransaction( session -> {
+			try (final Stream<Review> stream = session.createSelectionQuery( "from Review order by id", Review.class )
+					.setStreamHighWaterMark( 5 )
+					.getResultStream()) {
+				stream.forEach( review -> {
+					if ( review.id == 1 ) {
+						review.text = "Changed";
+						changed.add( review );
+					}
+					else if ( review.id == 2 ) {
+						review.tags.add( "changed" );
+						changed.add( review );
+					}
+				} );
+			}
+			for ( Review review : changed ) {
+				assertThat( session.contains( review ) ).isTrue();
+			}
+		} );
+		scope.inTransaction( session -> {
+			assertThat( session.find( Review.class, 1 ).text ).isEqualTo( "Changed" );
+			assertThat( session.find( Review.class, 2 ).tags ).containsExactly( "changed" );
+		} );
+	}
+
+	@Test
+	public void testEntitiesAreKeptByDefault(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			try (final Stream<Book> stream = session.createSelectionQuery( "from Book", Book.class )
+					.getResultStream()) {
+				assertThat( stream.count() ).isEqualTo( 50 );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 50 );
+		} );
+	}
+
+	@Test
+	public void testNegativeHighWaterMark(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThrows(
+				IllegalArgumentException.class,
+				() -> session.createSelectionQuery( "from Book", Book.class ).setStreamHighWaterMark( -1 )
+		) );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		private Integer id;
+
+		private String text;
+
+		@ManyToOne
+		private Critic critic;
+
+		@ElementCollection
+		private List<String> tags = new ArrayList<>();
+
+		public Review() {
+		}
+
+		public Review(Integer id, String text, Critic critic) {
+			this.id = id;
+			this.text = text;
+			this.critic = critic;
+		}
+	}
+
+	@Entity(name = "Critic")
+	public static class Critic {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Critic() {
+		}
+
+		public Critic(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.tenantid;
+
+import org.hibernate.annotations.TenantId;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cache.internal.TenantPartitionedTimestampsCacheFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryProducer;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SessionFactory
+@DomainModel(annotatedClasses = TenantPartitionedQueryCacheTest.Note.class)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, value = "create-drop"),
+				@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+				@Setting(name = AvailableSettings.QUERY_CACHE_FACTORY, value = TenantPartitionedTimestampsCacheFactory.SHORT_NAME)
+		}
+)
+public class TenantPartitionedQueryCacheTest implements SessionFactoryProducer {
+
+	String currentTenant;
+
+	@Override
+	public SessionFactoryImplementor produceSessionFactory(MetadataImplementor model) {
+		final SessionFactoryBuilder sessionFactoryBuilder = model.getSessionFactoryBuilder();
+		sessionFactoryBuilder.applyCurrentTenantIdentifierResolver( new CurrentTenantIdentifierResolver<String>() {
+			@Override
+			public String resolveCurrentTenantIdentifier() {
+				return currentTenant;
+			}
+
+			@Override
+			public boolean validateExistingCurrentSessions() {
+				return false;
+			}
+
+			@Override
+			public boolean isRoot(String tenantId) {
+				return "root".equals( tenantId );
+			}
+		} );
+		return (SessionFactoryImplementor) sessionFactoryBuilder.build();
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		currentTenant = "root";
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Note" ).executeUpdate() );
+	}
+
+	@Test
+	public void testWritesOfOtherTenantsDoNotInvalidate(SessionFactoryScope scope) {
+		currentTenant = "mine";
+		scope.inTransaction( session -> session.persist( new Note( "first" ) ) );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		statistics.clear();
+
+		scope.inTransaction( session -> executeQuery( session, 1 ) );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+
+		currentTenant = "yours";
+		scope.inTransaction( session -> session.persist( new Note( "other" ) ) );
+
+		currentTenant = "mine";
+		scope.inTransaction( session -> executeQuery( session, 1 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( session -> session.persist( new Note( "second" ) ) );
+
+		scope.inTransaction( session -> executeQuery( session, 2 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testRootTenantWritesInvalidateAllTenants(SessionFactoryScope scope) {
+		currentTenant = "mine";
+		scope.inTransaction( session -> session.persist( new Note( "first" ) ) );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		statistics.clear();
+
+		scope.inTransaction( session -> executeQuery( session, 1 ) );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+
+		currentTenant = "root";
+		scope.inTransaction( session -> session.createMutationQuery( "update Note set text = 'changed'" ).executeUpdate() );
+
+		currentTenant = "mine";
+		scope.inTransaction( session -> executeQuery( session, 1 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testRootTenantQueriesSeeAllTenantWrites(SessionFactoryScope scope) {
+		currentTenant = "mine";
+		scope.inTransaction( session -> session.persist( new Note( "first" ) ) );
+
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		statistics.clear();
+
+		currentTenant = "root";
+		scope.inTransaction( session -> executeQuery( session, 1 ) );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+
+		currentTenant = "yours";
+		scope.inTransaction( session -> session.persist( new Note( "other" ) ) );
+
+		currentTenant = "root";
+		scope.inTransaction( session -> executeQuery( session, 2 ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	private static void executeQuery(SessionImplementor session, int expectedResults) {
+		assertThat( session.createSelectionQuery( "from Note", Note.class ).setCacheable( true ).getResultList() )
+				.hasSize( expectedResults );
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@TenantId
+		String tenantId;
+
+		String text;
+
+		Note() {
+		}
+
+		Note(String text) {
+			this.text = text;
+		}
+	}
+}
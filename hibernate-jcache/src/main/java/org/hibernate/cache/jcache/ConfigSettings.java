@@ -44,4 +44,22 @@ public interface ConfigSettings {
 	 * @see javax.cache.spi.CachingProvider#getCacheManager(URI, ClassLoader)
 	 */
 	String CONFIG_URI = PROP_PREFIX + "uri";
+
+	/**
+	 * Designates a file to which the contents of the entity, collection, natural id
+	 * and update timestamps regions are written when the SessionFactory is closed,
+	 * and from which they are reloaded when the next SessionFactory with the same
+	 * mappings is created. Only useful for a local (single node) cache.
+	 *
+	 * The file is read using Java serialization, and must be trusted.
+	 */
+	String SNAPSHOT_FILE = PROP_PREFIX + "snapshot_file";
+
+	/**
+	 * The maximum age, in seconds, of a snapshot which is reloaded from the
+	 * {@link #SNAPSHOT_FILE}. Older snapshots are discarded.
+	 *
+	 * By default, snapshots are reloaded whatever their age.
+	 */
+	String SNAPSHOT_MAX_AGE = PROP_PREFIX + "snapshot_max_age";
 }
@@ -0,0 +1,274 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.cache.Cache;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.hibernate.cache.spi.support.DirectAccessRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.NearCacheStorageAccess;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+
+/**
+ * Writes the contents of the entity, collection, natural id and update
+ * timestamps regions backed by JCache to a {@linkplain org.hibernate.cache.jcache.ConfigSettings#SNAPSHOT_FILE
+ * snapshot file} when the {@link SessionFactory} is closed, and reloads
+ * them when the next {@code SessionFactory} is created.
+ * <p>
+ * A snapshot is only reloaded if it was written by a {@code SessionFactory}
+ * with the same mapping model, as identified by a fingerprint of the entity
+ * and collection persisters. Entries which are locked by an in-flight
+ * transaction when the snapshot is written are not included, and pending
+ * pre-invalidations of the update timestamps region are completed as of the
+ * time the snapshot was written.
+ */
+public class JCacheSnapshot implements SessionFactoryObserver {
+	private static final int FORMAT_VERSION = 1;
+
+	private final Path snapshotFile;
+	private final long maxAgeMillis;
+
+	public JCacheSnapshot(Path snapshotFile, long maxAgeSeconds) {
+		this.snapshotFile = snapshotFile;
+		this.maxAgeMillis = maxAgeSeconds > 0 ? TimeUnit.SECONDS.toMillis( maxAgeSeconds ) : Long.MAX_VALUE;
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		if ( Files.exists( snapshotFile ) ) {
+			final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+			try {
+				restore( sessionFactory );
+			}
+			catch (IOException | RuntimeException e) {
+				L2CACHE_LOGGER.warnf( e, "Unable to reload second-level cache snapshot from '%s'", snapshotFile );
+			}
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		final SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
+		try {
+			write( sessionFactory );
+		}
+		catch (IOException | RuntimeException e) {
+			L2CACHE_LOGGER.warnf( e, "Unable to write second-level cache snapshot to '%s'", snapshotFile );
+		}
+	}
+
+	private void write(SessionFactoryImplementor sessionFactory) throws IOException {
+		final Map<String, Cache<Object, Object>> caches = snapshotCaches( sessionFactory.getCache() );
+		final long timestamp = sessionFactory.getCache().getRegionFactory().nextTimestamp();
+		final Path temporaryFile = snapshotFile.resolveSibling( snapshotFile.getFileName() + ".tmp" );
+		int count = 0;
+		try ( DataOutputStream output = new DataOutputStream(
+				new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+			output.writeInt( FORMAT_VERSION );
+			output.writeUTF( fingerprint( sessionFactory ) );
+			output.writeLong( System.currentTimeMillis() );
+			output.writeLong( timestamp );
+			for ( Map.Entry<String, Cache<Object, Object>> region : caches.entrySet() ) {
+				output.writeBoolean( true );
+				output.writeUTF( region.getKey() );
+				for ( Cache.Entry<Object, Object> entry : region.getValue() ) {
+					final byte[] bytes = serializeEntry( entry.getKey(), entry.getValue() );
+					if ( bytes != null ) {
+						output.writeInt( bytes.length );
+						output.write( bytes );
+						count++;
+					}
+				}
+				output.writeInt( -1 );
+			}
+			output.writeBoolean( false );
+		}
+		Files.move( temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING );
+		L2CACHE_LOGGER.debugf( "Wrote %s second-level cache entries to snapshot '%s'", count, snapshotFile );
+	}
+
+	private void restore(SessionFactoryImplementor sessionFactory) throws IOException {
+		final CacheImplementor cache = sessionFactory.getCache();
+		final Map<String, Cache<Object, Object>> caches = snapshotCaches( cache );
+		final TimestampsRegion timestampsRegion = cache.getTimestampsCache().getRegion();
+		final String timestampsRegionName = timestampsRegion == null ? null : timestampsRegion.getName();
+		int count = 0;
+		try ( DataInputStream input = new DataInputStream(
+				new BufferedInputStream( Files.newInputStream( snapshotFile ) ) ) ) {
+			if ( input.readInt() != FORMAT_VERSION ) {
+				L2CACHE_LOGGER.debugf( "Discarding second-level cache snapshot '%s': unknown format", snapshotFile );
+				return;
+			}
+			if ( !fingerprint( sessionFactory ).equals( input.readUTF() ) ) {
+				L2CACHE_LOGGER.debugf( "Discarding second-level cache snapshot '%s': mappings have changed", snapshotFile );
+				return;
+			}
+			if ( System.currentTimeMillis() - input.readLong() > maxAgeMillis ) {
+				L2CACHE_LOGGER.debugf( "Discarding second-level cache snapshot '%s': snapshot is too old", snapshotFile );
+				return;
+			}
+			final long timestamp = input.readLong();
+			while ( input.readBoolean() ) {
+				final String regionName = input.readUTF();
+				final Cache<Object, Object> region = caches.get( regionName );
+				final boolean isTimestampsRegion = regionName.equals( timestampsRegionName );
+				for ( int length = input.readInt(); length >= 0; length = input.readInt() ) {
+					final byte[] bytes = new byte[length];
+					input.readFully( bytes );
+					if ( region != null ) {
+						final Object[] entry = deserializeEntry( bytes );
+						if ( entry != null ) {
+							final Object value = isTimestampsRegion && (Long) entry[1] > timestamp
+									// there are no in-flight transactions after a restart
+									? timestamp
+									: entry[1];
+							if ( region.putIfAbsent( entry[0], value ) ) {
+								count++;
+							}
+						}
+					}
+				}
+			}
+		}
+		L2CACHE_LOGGER.infof( "Reloaded %s second-level cache entries from snapshot '%s'", count, snapshotFile );
+	}
+
+	private static byte[] serializeEntry(Object key, Object value) {
+		if ( value instanceof AbstractReadWriteAccess.SoftLockImpl ) {
+			// locked by an in-flight transaction
+			return null;
+		}
+		try {
+			return SerializationHelper.serialize( new Object[] { key, value } );
+		}
+		catch (RuntimeException e) {
+			L2CACHE_LOGGER.debugf( "Skipping non-serializable second-level cache entry: %s", key );
+			return null;
+		}
+	}
+
+	private static Object[] deserializeEntry(byte[] bytes) {
+		try {
+			return (Object[]) SerializationHelper.deserialize( bytes );
+		}
+		catch (RuntimeException e) {
+			L2CACHE_LOGGER.debugf( "Skipping second-level cache snapshot entry which could not be deserialized" );
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Cache<Object, Object>> snapshotCaches(CacheImplementor cache) {
+		final Map<String, Cache<Object, Object>> caches = new LinkedHashMap<>();
+		for ( String regionName : cache.getCacheRegionNames() ) {
+			final Region region = cache.getRegion( regionName );
+			if ( region instanceof DomainDataRegionTemplate ) {
+				DomainDataStorageAccess storageAccess = ( (DomainDataRegionTemplate) region ).getCacheStorageAccess();
+				if ( storageAccess instanceof NearCacheStorageAccess ) {
+					storageAccess = ( (NearCacheStorageAccess) storageAccess ).getDelegate();
+				}
+				if ( storageAccess instanceof JCacheAccessImpl ) {
+					caches.put( regionName, ( (JCacheAccessImpl) storageAccess ).getUnderlyingCache() );
+				}
+			}
+		}
+		final TimestampsRegion timestampsRegion = cache.getTimestampsCache().getRegion();
+		if ( timestampsRegion instanceof DirectAccessRegionTemplate ) {
+			final StorageAccess storageAccess = ( (DirectAccessRegionTemplate) timestampsRegion ).getStorageAccess();
+			if ( storageAccess instanceof JCacheAccessImpl ) {
+				caches.put( timestampsRegion.getName(), ( (JCacheAccessImpl) storageAccess ).getUnderlyingCache() );
+			}
+		}
+		return caches;
+	}
+
+	/**
+	 * A fingerprint of the parts of the mapping model which determine
+	 * the structure of the data stored in the second-level cache.
+	 */
+	static String fingerprint(SessionFactoryImplementor sessionFactory) {
+		final List<String> descriptions = new ArrayList<>();
+		sessionFactory.getMappingMetamodel().forEachEntityDescriptor( persister -> {
+			if ( persister.canWriteToCache() || persister.hasNaturalIdCache() ) {
+				descriptions.add( describe( persister ) );
+			}
+		} );
+		sessionFactory.getMappingMetamodel().forEachCollectionDescriptor( persister -> {
+			if ( persister.hasCache() ) {
+				descriptions.add( persister.getRole()
+						+ '(' + persister.getKeyType().getName()
+						+ ',' + persister.getElementType().getName()
+						+ ( persister.getIndexType() == null ? "" : ',' + persister.getIndexType().getName() )
+						+ ')' );
+			}
+		} );
+		descriptions.sort( String::compareTo );
+		final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+		descriptions.add( "structured=" + options.isStructuredCacheEntriesEnabled() );
+		descriptions.add( "reference=" + options.isDirectReferenceCacheEntriesEnabled() );
+		try {
+			final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+			for ( String description : descriptions ) {
+				digest.update( description.getBytes( StandardCharsets.UTF_8 ) );
+				digest.update( (byte) '\n' );
+			}
+			final StringBuilder fingerprint = new StringBuilder();
+			for ( byte b : digest.digest() ) {
+				fingerprint.append( String.format( "%02x", b ) );
+			}
+			return fingerprint.toString();
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static String describe(EntityPersister persister) {
+		final StringBuilder description = new StringBuilder( persister.getEntityName() )
+				.append( '(' )
+				.append( persister.getIdentifierType().getName() );
+		final String[] propertyNames = persister.getPropertyNames();
+		final Type[] propertyTypes = persister.getPropertyTypes();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			description.append( ',' ).append( propertyNames[i] ).append( ':' ).append( propertyTypes[i].getName() );
+		}
+		if ( persister.isVersioned() ) {
+			description.append( ",version=" ).append( persister.getVersionProperty() );
+		}
+		return description.append( ')' ).toString();
+	}
+}
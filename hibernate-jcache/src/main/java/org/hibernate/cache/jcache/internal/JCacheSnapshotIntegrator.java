@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.jcache.internal;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Registers a {@link JCacheSnapshot} with every {@link org.hibernate.SessionFactory}
+ * which uses the {@link JCacheRegionFactory} and specifies a
+ * {@linkplain ConfigSettings#SNAPSHOT_FILE snapshot file}.
+ */
+public class JCacheSnapshotIntegrator implements Integrator {
+
+	@Override
+	public void integrate(
+			Metadata metadata,
+			BootstrapContext bootstrapContext,
+			SessionFactoryImplementor sessionFactory) {
+		if ( !sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()
+				|| !( sessionFactory.getCache().getRegionFactory() instanceof JCacheRegionFactory ) ) {
+			return;
+		}
+		final Map<String, Object> settings =
+				sessionFactory.getServiceRegistry().requireService( ConfigurationService.class ).getSettings();
+		final String snapshotFile = ConfigurationHelper.getString( ConfigSettings.SNAPSHOT_FILE, settings );
+		if ( snapshotFile != null ) {
+			sessionFactory.addObserver( new JCacheSnapshot(
+					Path.of( snapshotFile ),
+					ConfigurationHelper.getLong( ConfigSettings.SNAPSHOT_MAX_AGE, settings, -1 )
+			) );
+		}
+	}
+
+	@Override
+	public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+	}
+}
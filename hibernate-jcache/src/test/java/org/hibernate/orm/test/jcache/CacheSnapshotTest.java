@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.jcache;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.test.jcache.domain.Item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil2.inTransaction;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CacheSnapshotTest {
+
+	private Path snapshotFile;
+
+	@BeforeEach
+	public void createSnapshotFile() throws Exception {
+		snapshotFile = Files.createTempFile( "l2cache", ".snapshot" );
+		Files.delete( snapshotFile );
+	}
+
+	@AfterEach
+	public void deleteSnapshotFile() throws Exception {
+		Files.deleteIfExists( snapshotFile );
+	}
+
+	@Test
+	public void testSnapshotIsReloaded() {
+		final Long id;
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory() ) {
+			final Item item = new Item();
+			item.setName( "chris" );
+			item.setDescription( "Chris's Item" );
+			inTransaction( sessionFactory, s -> s.persist( item ) );
+			id = item.getId();
+			assertTrue( sessionFactory.getCache().containsEntity( Item.class, id ) );
+		}
+		assertTrue( Files.exists( snapshotFile ) );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory() ) {
+			assertTrue( sessionFactory.getCache().containsEntity( Item.class, id ) );
+		}
+	}
+
+	@Test
+	public void testUnreadableSnapshotIsIgnored() throws Exception {
+		Files.write( snapshotFile, new byte[] { 0, 0, 0, 42 } );
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory() ) {
+			assertFalse( sessionFactory.getCache().containsEntity( Item.class, 1L ) );
+		}
+	}
+
+	private SessionFactoryImplementor buildSessionFactory() {
+		return TestHelper.buildStandardSessionFactory(
+				builder -> builder.applySetting( ConfigSettings.SNAPSHOT_FILE, snapshotFile.toString() )
+		);
+	}
+}
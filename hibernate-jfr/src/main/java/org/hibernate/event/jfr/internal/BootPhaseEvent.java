@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(BootPhaseEvent.NAME)
+@Label("Boot Phase")
+@Category("Hibernate ORM")
+@Description("Phase of the bootstrap of a SessionFactory, for the whole domain model or for an entity or collection role")
+@StackTrace(false)
+@AllowNonPortable
+public class BootPhaseEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.BootPhaseEvent";
+
+	@Label("Phase")
+	public String phase;
+
+	@Label("Role")
+	public String role;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
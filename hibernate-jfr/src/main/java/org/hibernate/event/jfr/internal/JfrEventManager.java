@@ -41,6 +41,8 @@ public class JfrEventManager implements EventManager {
 	private static final EventType partialFlushEventType = EventType.getEventType( PartialFlushEvent.class );
 	private static final EventType dirtyCalculationEventType = EventType.getEventType( DirtyCalculationEvent.class );
 	private static final EventType prePartialFlushEventType = EventType.getEventType( PrePartialFlushEvent.class );
+	private static final EventType nPlusOneDetectionEventType = EventType.getEventType( NPlusOneDetectionEvent.class );
+	private static final EventType bootPhaseEventType = EventType.getEventType( BootPhaseEvent.class );
 
 	@Override
 	public SessionOpenEvent beginSessionOpenEvent() {
@@ -116,9 +118,7 @@ public class JfrEventManager implements EventManager {
 			jdbcConnectionAcquisitionEvent.end();
 			if ( jdbcConnectionAcquisitionEvent.shouldCommit() ) {
 				jdbcConnectionAcquisitionEvent.sessionIdentifier = getSessionIdentifier( session );
-				jdbcConnectionAcquisitionEvent.tenantIdentifier = tenantId == null ? null : session.getFactory()
-						.getTenantIdentifierJavaType()
-						.toString( tenantId );
+				jdbcConnectionAcquisitionEvent.tenantIdentifier = getTenantIdentifier( session, tenantId );
 				jdbcConnectionAcquisitionEvent.commit();
 			}
 		}
@@ -146,9 +146,7 @@ public class JfrEventManager implements EventManager {
 			jdbcConnectionReleaseEvent.end();
 			if ( jdbcConnectionReleaseEvent.shouldCommit() ) {
 				jdbcConnectionReleaseEvent.sessionIdentifier = getSessionIdentifier( session );
-				jdbcConnectionReleaseEvent.tenantIdentifier = tenantId == null ? null : session.getFactory()
-						.getTenantIdentifierJavaType()
-						.toString( tenantId );
+				jdbcConnectionReleaseEvent.tenantIdentifier = getTenantIdentifier( session, tenantId );
 				jdbcConnectionReleaseEvent.commit();
 			}
 		}
@@ -525,6 +523,74 @@ public class JfrEventManager implements EventManager {
 		}
 	}
 
+	@Override
+	public NPlusOneDetectionEvent beginNPlusOneDetectionEvent() {
+		if ( nPlusOneDetectionEventType.isEnabled() ) {
+			final NPlusOneDetectionEvent nPlusOneDetectionEvent = new NPlusOneDetectionEvent();
+			nPlusOneDetectionEvent.begin();
+			return nPlusOneDetectionEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeNPlusOneDetectionEvent(
+			HibernateMonitoringEvent event,
+			SharedSessionContractImplementor session,
+			String role,
+			int loadCount) {
+		if ( event != null ) {
+			final NPlusOneDetectionEvent nPlusOneDetectionEvent = (NPlusOneDetectionEvent) event;
+			nPlusOneDetectionEvent.end();
+			if ( nPlusOneDetectionEvent.shouldCommit() ) {
+				nPlusOneDetectionEvent.sessionIdentifier = getSessionIdentifier( session );
+				nPlusOneDetectionEvent.role = role;
+				nPlusOneDetectionEvent.loadCount = loadCount;
+				nPlusOneDetectionEvent.commit();
+			}
+		}
+	}
+
+	@Override
+	public BootPhaseEvent beginBootPhaseEvent() {
+		if ( bootPhaseEventType.isEnabled() ) {
+			final BootPhaseEvent bootPhaseEvent = new BootPhaseEvent();
+			bootPhaseEvent.begin();
+			return bootPhaseEvent;
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public void completeBootPhaseEvent(
+			HibernateMonitoringEvent event,
+			BootPhase phase,
+			String target) {
+		if ( event != null ) {
+			final BootPhaseEvent bootPhaseEvent = (BootPhaseEvent) event;
+			bootPhaseEvent.end();
+			if ( bootPhaseEvent.shouldCommit() ) {
+				bootPhaseEvent.phase = phase.getText();
+				bootPhaseEvent.role = target;
+				bootPhaseEvent.commit();
+			}
+		}
+	}
+
+	private String getTenantIdentifier(SharedSessionContractImplementor session, Object tenantId) {
+		if ( tenantId == null ) {
+			return null;
+		}
+		// connections obtained asynchronously on behalf of a session are reported without the session
+		return session == null
+				? tenantId.toString()
+				: session.getFactory().getTenantIdentifierJavaType().toString( tenantId );
+	}
+
 	private String getSessionIdentifier(SharedSessionContractImplementor session) {
 		if ( session == null ) {
 			return null;
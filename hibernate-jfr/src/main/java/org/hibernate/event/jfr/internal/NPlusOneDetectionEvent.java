@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.internal.build.AllowNonPortable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(NPlusOneDetectionEvent.NAME)
+@Label("N+1 Select Detection")
+@Category("Hibernate ORM")
+@Description("Entities or collections of a role repeatedly loaded one at a time")
+@StackTrace
+@AllowNonPortable
+public class NPlusOneDetectionEvent extends Event implements HibernateMonitoringEvent {
+	public static final String NAME = "org.hibernate.orm.NPlusOneDetectionEvent";
+
+	@Label("Session Identifier")
+	public String sessionIdentifier;
+
+	@Label("Role")
+	public String role;
+
+	@Label("Load Count")
+	public int loadCount;
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+
+}
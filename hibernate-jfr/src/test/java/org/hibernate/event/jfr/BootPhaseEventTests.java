@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.event.jfr.internal.BootPhaseEvent;
+import org.hibernate.event.spi.EventManager.BootPhase;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+public class BootPhaseEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@Test
+	@EnableEvent(BootPhaseEvent.NAME)
+	public void testBootPhaseEvents() {
+		jfrEvents.reset();
+		final StandardServiceRegistry serviceRegistry = ServiceRegistryUtil.serviceRegistry();
+		try {
+			final SessionFactory sessionFactory = new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata()
+					.buildSessionFactory();
+			sessionFactory.close();
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+
+		final List<RecordedEvent> events = jfrEvents.events()
+				.filter( recordedEvent -> recordedEvent.getEventType().getName().equals( BootPhaseEvent.NAME ) )
+				.toList();
+
+		// the phases performed for the whole domain model
+		final Set<String> phases = events.stream()
+				.filter( event -> event.getString( "role" ) == null )
+				.map( event -> event.getString( "phase" ) )
+				.collect( Collectors.toSet() );
+		assertThat( phases ).contains(
+				BootPhase.SCANNING.getText(),
+				BootPhase.BINDING.getText(),
+				BootPhase.SECOND_PASSES.getText(),
+				BootPhase.PERSISTER_CREATION.getText(),
+				BootPhase.MAPPING_MODEL_CREATION.getText(),
+				BootPhase.NAMED_QUERY_VALIDATION.getText(),
+				BootPhase.SCHEMA_MANAGEMENT.getText()
+		);
+
+		// the phases performed for each entity
+		assertThat( roles( events, BootPhase.BINDING ) )
+				.containsExactlyInAnyOrder( Author.class.getName(), Book.class.getName() );
+		assertThat( roles( events, BootPhase.PERSISTER_CREATION ) )
+				.containsExactlyInAnyOrder( Author.class.getName(), Book.class.getName() );
+		assertThat( roles( events, BootPhase.PROXY_GENERATION ) )
+				.containsExactlyInAnyOrder( Author.class.getName(), Book.class.getName() );
+		assertThat( roles( events, BootPhase.MAPPING_MODEL_CREATION ) )
+				.containsExactlyInAnyOrder( Author.class.getName(), Book.class.getName() );
+	}
+
+	private static List<String> roles(List<RecordedEvent> events, BootPhase phase) {
+		return events.stream()
+				.filter( event -> event.getString( "phase" ).equals( phase.getText() ) )
+				.map( event -> event.getString( "role" ) )
+				.filter( role -> role != null )
+				.toList();
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+	}
+}
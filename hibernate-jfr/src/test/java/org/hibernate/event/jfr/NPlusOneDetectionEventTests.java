@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.event.jfr.internal.NPlusOneDetectionEvent;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jdk.jfr.consumer.RecordedEvent;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JfrEventTest
+@DomainModel(annotatedClasses = {
+		NPlusOneDetectionEventTests.Parent.class,
+		NPlusOneDetectionEventTests.Child.class
+})
+@SessionFactory
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.N_PLUS_ONE_THRESHOLD, value = "2"))
+public class NPlusOneDetectionEventTests {
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 3; i++ ) {
+						final Parent parent = new Parent( i );
+						session.persist( parent );
+						session.persist( new Child( i, parent ) );
+					}
+				}
+		);
+	}
+
+	@Test
+	@EnableEvent(NPlusOneDetectionEvent.NAME)
+	public void testNPlusOneDetectionEvent(SessionFactoryScope scope) {
+		jfrEvents.reset();
+		String sessionId = scope.fromTransaction(
+				session -> {
+					List<Parent> parents = session.createQuery( "from Parent", Parent.class ).getResultList();
+					for ( Parent parent : parents ) {
+						parent.children.size();
+					}
+					return session.getSessionIdentifier().toString();
+				}
+		);
+		List<RecordedEvent> events = jfrEvents.events()
+				.filter(
+						recordedEvent ->
+						{
+							String eventName = recordedEvent.getEventType().getName();
+							return eventName.equals( NPlusOneDetectionEvent.NAME );
+						}
+				).toList();
+		assertThat( events ).hasSize( 1 );
+
+		RecordedEvent event = events.get( 0 );
+		assertThat( event.getEventType().getName() )
+				.isEqualTo( NPlusOneDetectionEvent.NAME );
+		assertThat( event.getString( "sessionIdentifier" ) )
+				.isEqualTo( sessionId );
+		assertThat( event.getString( "role" ) )
+				.isEqualTo( Parent.class.getName() + ".children" );
+		assertThat( event.getInt( "loadCount" ) )
+				.isEqualTo( 2 );
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "parent")
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+}
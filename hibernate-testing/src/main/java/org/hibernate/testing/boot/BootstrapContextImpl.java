@@ -14,6 +14,7 @@ import org.hibernate.boot.CacheRegionDefinition;
 import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
 import org.hibernate.boot.archive.scan.spi.ScanOptions;
 import org.hibernate.boot.archive.spi.ArchiveDescriptorFactory;
+import org.hibernate.boot.internal.BootPhaseMonitor;
 import org.hibernate.boot.internal.ClassmateContext;
 import org.hibernate.boot.internal.MetadataBuilderImpl;
 import org.hibernate.boot.model.convert.spi.ConverterDescriptor;
@@ -103,6 +104,11 @@ public class BootstrapContextImpl implements BootstrapContext {
 		return delegate.getClassmateContext();
 	}
 
+	@Override
+	public BootPhaseMonitor getBootPhaseMonitor() {
+		return delegate.getBootPhaseMonitor();
+	}
+
 	@Override
 	public ArchiveDescriptorFactory getArchiveDescriptorFactory() {
 		return delegate.getArchiveDescriptorFactory();
@@ -205,6 +205,12 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsMultiQueryStatements implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsMultiQueryStatements();
+		}
+	}
+
 	public static class DoubleQuoteQuoting implements DialectFeatureCheck {
 		@Override
 		public boolean apply(Dialect dialect) {
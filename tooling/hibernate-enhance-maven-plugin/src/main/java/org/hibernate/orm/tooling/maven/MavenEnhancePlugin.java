@@ -15,8 +15,10 @@ import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.function.BiFunction;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.AbstractMojo;
@@ -31,9 +33,11 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
 
+import org.hibernate.boot.archive.scan.spi.ScanIndex;
 import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
 import org.hibernate.bytecode.spi.BytecodeProvider;
@@ -83,7 +87,23 @@ public class MavenEnhancePlugin extends AbstractMojo {
 	@Parameter(property = "enableExtendedEnhancement", defaultValue = "false")
 	private boolean enableExtendedEnhancement;
 
+	@Parameter(property = "enableProxyGeneration", defaultValue = "false")
+	private boolean enableProxyGeneration;
+
+	@Parameter(property = "enableAccessorGeneration", defaultValue = "false")
+	private boolean enableAccessorGeneration;
+
+	@Parameter(property = "enableScanIndexGeneration", defaultValue = "false")
+	private boolean enableScanIndexGeneration;
+
 	private boolean shouldApply() {
+		return shouldEnhance() || enableProxyGeneration || enableAccessorGeneration || enableScanIndexGeneration;
+	}
+
+	/**
+	 * Whether the classes themselves are enhanced, rather than only having classes or an index generated for them
+	 */
+	private boolean shouldEnhance() {
 		return enableLazyInitialization || enableDirtyTracking || enableAssociationManagement || enableExtendedEnhancement;
 	}
 
@@ -149,6 +169,11 @@ public class MavenEnhancePlugin extends AbstractMojo {
 			public boolean doExtendedEnhancement(UnloadedClass classDescriptor) {
 				return enableExtendedEnhancement;
 			}
+
+			@Override
+			public boolean doGenerateAccessor(UnloadedClass classDescriptor) {
+				return enableAccessorGeneration;
+			}
 		};
 
 		if ( !enableLazyInitialization ) {
@@ -180,21 +205,53 @@ public class MavenEnhancePlugin extends AbstractMojo {
 					continue;
 				}
 
-				final byte[] enhancedBytecode = doEnhancement( file, enhancer );
+				if ( shouldEnhance() ) {
+					final byte[] enhancedBytecode = doEnhancement( file, enhancer );
 
-				if ( enhancedBytecode == null ) {
-					continue;
+					if ( enhancedBytecode != null ) {
+						writeOutEnhancedClass( enhancedBytecode, file );
+						if ( log.isDebugEnabled() ) {
+							log.debug( "Successfully enhanced class [" + file + "]" );
+						}
+					}
 				}
 
-				writeOutEnhancedClass( enhancedBytecode, file );
-				if ( log.isDebugEnabled() ) {
-					log.debug( "Successfully enhanced class [" + file + "]" );
+				if ( enableProxyGeneration ) {
+					generateClass( file, className, EnhancerConstants.PROXY_CLASS_NAME_SUFFIX, "proxy", enhancer::generateProxy );
+				}
+				if ( enableAccessorGeneration ) {
+					generateClass( file, className, EnhancerConstants.ACCESSOR_CLASS_NAME_SUFFIX, "accessor", enhancer::generateAccessor );
 				}
 			}
 		}
 		finally {
 			bytecodeProvider.resetCaches();
 		}
+
+		if ( enableScanIndexGeneration ) {
+			writeScanIndex();
+		}
+	}
+
+	private void writeScanIndex() throws MojoExecutionException {
+		// the classes and resources of the archive are all found in the 'base' directory
+		final Path baseDirectory = new File( base ).toPath();
+		final Path indexFile;
+		try {
+			indexFile = ScanIndex.write( Collections.singletonList( baseDirectory ), baseDirectory );
+		}
+		catch (IOException e) {
+			String msg = "Unable to write scan index to: " + baseDirectory;
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			getLog().warn( msg );
+			return;
+		}
+		buildContext.refresh( indexFile.toFile() );
+		if ( getLog().isDebugEnabled() ) {
+			getLog().debug( "Successfully wrote scan index [" + indexFile + "]" );
+		}
 	}
 
 	private ClassLoader toClassLoader(List<File> runtimeClasspath) throws MojoExecutionException {
@@ -270,6 +327,48 @@ public class MavenEnhancePlugin extends AbstractMojo {
 		}
 	}
 
+	private void generateClass(
+			File javaClassFile,
+			String className,
+			String classNameSuffix,
+			String description,
+			BiFunction<String, byte[], byte[]> generator) throws MojoExecutionException {
+		final byte[] generatedBytecode;
+		try {
+			generatedBytecode = generator.apply( className, Files.readAllBytes( javaClassFile.toPath() ) );
+		}
+		catch (Exception e) {
+			String msg = "Unable to generate " + description + " for class: " + javaClassFile.getName();
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			buildContext.addMessage( javaClassFile, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+			return;
+		}
+
+		if ( generatedBytecode != null ) {
+			final String fileName = javaClassFile.getName();
+			final File generatedFile = new File(
+					javaClassFile.getParentFile(),
+					fileName.substring( 0, fileName.length() - ".class".length() ) + classNameSuffix + ".class"
+			);
+			try ( OutputStream outputStream = buildContext.newFileOutputStream( generatedFile ) ) {
+				outputStream.write( generatedBytecode );
+			}
+			catch (IOException e) {
+				String msg = String.format( "Error writing %s class for [%s] to file [%s]", description, fileName, generatedFile.getAbsolutePath() );
+				if ( failOnError ) {
+					throw new MojoExecutionException( msg, e );
+				}
+				buildContext.addMessage( javaClassFile, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+				return;
+			}
+			if ( getLog().isDebugEnabled() ) {
+				getLog().debug( "Successfully generated " + description + " class [" + generatedFile + "]" );
+			}
+		}
+	}
+
 	private void discoverTypes(File javaClassFile, Enhancer enhancer) throws MojoExecutionException {
 		try {
 			String className = javaClassFile.getAbsolutePath().substring(
@@ -8,16 +8,24 @@ package org.hibernate.orm.tooling.maven;
 
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.util.ReflectionUtils;
+import org.hibernate.boot.archive.scan.spi.ScanIndex;
+import org.hibernate.bytecode.spi.GeneratedFieldAccessor;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.engine.spi.Managed;
+import org.hibernate.proxy.HibernateProxy;
 import org.junit.Assert;
 import org.junit.Test;
 import org.sonatype.plexus.build.incremental.DefaultBuildContext;
 
 import java.io.File;
+import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -49,6 +57,9 @@ public class MavenEnhancePluginTest {
         setVariableValueToObject( plugin, "enableDirtyTracking", true );
         setVariableValueToObject( plugin, "enableAssociationManagement", true );
         setVariableValueToObject( plugin, "enableExtendedEnhancement", false );
+        setVariableValueToObject( plugin, "enableProxyGeneration", true );
+        setVariableValueToObject( plugin, "enableAccessorGeneration", true );
+        setVariableValueToObject( plugin, "enableScanIndexGeneration", true );
 
         plugin.execute();
 
@@ -58,8 +69,105 @@ public class MavenEnhancePluginTest {
             Assert.assertTrue( declaresManaged( classLoader.loadClass( ChildEntity.class.getName() ) ) );
             Assert.assertTrue( declaresManaged( classLoader.loadClass( TestEntity.class.getName() ) ) );
 
+            // proxies are generated for entities only
+            Class<?> proxyClass = classLoader.loadClass( TestEntity.class.getName() + "$HibernateProxy" );
+            Assert.assertEquals( TestEntity.class.getName(), proxyClass.getSuperclass().getName() );
+            Assert.assertTrue( HibernateProxy.class.isAssignableFrom( proxyClass ) );
+            Assert.assertFalse( new File( baseDir, ChildEntity.class.getName().replace( '.', '/' ) + "$HibernateProxy.class" ).exists() );
+
+            // accessors are generated for entities and mapped superclasses, as nest mates
+            Class<?> entityClass = classLoader.loadClass( TestEntity.class.getName() );
+            Class<?> accessorClass = classLoader.loadClass( TestEntity.class.getName() + "$HibernateAccessor" );
+            Assert.assertTrue( GeneratedFieldAccessor.class.isAssignableFrom( accessorClass ) );
+            Assert.assertTrue( accessorClass.isNestmateOf( entityClass ) );
+            GeneratedFieldAccessor accessor = (GeneratedFieldAccessor) accessorClass.getConstructor().newInstance();
+            Assert.assertArrayEquals( new String[] { "id", "testValue" }, accessor.getFieldNames() );
+            Object entity = ( (ReflectionOptimizer.InstantiationOptimizer) accessor ).newInstance();
+            accessor.setFieldValue( entity, 1, "test" );
+            Assert.assertEquals( "test", accessor.getFieldValue( entity, 1 ) );
+            Assert.assertTrue( new File( baseDir, ChildEntity.class.getName().replace( '.', '/' ) + "$HibernateAccessor.class" ).exists() );
+
+            // the scan index lists the managed classes
+            List<String> scanIndex = Files.readAllLines( new File( baseDir, ScanIndex.INDEX_FILE_NAME ).toPath() );
+            Assert.assertTrue( scanIndex.contains( "model " + TestEntity.class.getName() ) );
+            Assert.assertFalse( scanIndex.contains( "model " + MavenEnhancePluginTest.class.getName() ) );
+
+        }
+
+    }
+
+    @Test
+    public void testProxyGenerationWithoutEnhancement() throws Exception {
+        File baseDir = executeWithoutEnhancement( "enableProxyGeneration" );
+        Assert.assertTrue( new File( baseDir, TestEntity.class.getName().replace( '.', '/' ) + "$HibernateProxy.class" ).exists() );
+    }
+
+    @Test
+    public void testAccessorGenerationWithoutEnhancement() throws Exception {
+        File baseDir = executeWithoutEnhancement( "enableAccessorGeneration" );
+        Assert.assertTrue( new File( baseDir, TestEntity.class.getName().replace( '.', '/' ) + "$HibernateAccessor.class" ).exists() );
+    }
+
+    @Test
+    public void testScanIndexGenerationWithoutEnhancement() throws Exception {
+        File baseDir = executeWithoutEnhancement( "enableScanIndexGeneration" );
+        List<String> scanIndex = Files.readAllLines( new File( baseDir, ScanIndex.INDEX_FILE_NAME ).toPath() );
+        Assert.assertTrue( scanIndex.contains( "model " + TestEntity.class.getName() ) );
+        Assert.assertFalse( new File( baseDir, TestEntity.class.getName().replace( '.', '/' ) + "$HibernateProxy.class" ).exists() );
+    }
+
+    /**
+     * Copy the entity classes to a directory of their own, and execute the plugin with only the given
+     * feature enabled, which must not rewrite the entity classes.
+     */
+    private File executeWithoutEnhancement(String feature) throws Exception {
+        File baseDir = new File("target/" + feature);
+        List<Class<?>> entityClasses = List.of( TestEntity.class, ParentEntity.class, ChildEntity.class );
+        Map<Class<?>, byte[]> originalBytes = new HashMap<>();
+        for ( Class<?> entityClass : entityClasses ) {
+            // the classes loaded by the test are never enhanced
+            File classFile = new File( baseDir, classFileName( entityClass ) );
+            Files.createDirectories( classFile.getParentFile().toPath() );
+            try ( InputStream stream = getClass().getClassLoader().getResourceAsStream( classFileName( entityClass ) ) ) {
+                Files.copy( stream, classFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+            }
+            originalBytes.put( entityClass, Files.readAllBytes( classFile.toPath() ) );
         }
 
+        MavenEnhancePlugin plugin = new MavenEnhancePlugin();
+
+        Map<String, Object> pluginContext = new HashMap<>();
+        pluginContext.put( "project", new MavenProject() );
+
+        setVariableValueToObject( plugin, "pluginContext", pluginContext );
+        setVariableValueToObject( plugin, "buildContext", new DefaultBuildContext() );
+
+        setVariableValueToObject( plugin, "base", baseDir.getAbsolutePath() );
+        setVariableValueToObject( plugin, "dir", baseDir.getAbsolutePath() );
+        setVariableValueToObject( plugin, "classNames", "" );
+
+        setVariableValueToObject( plugin, "failOnError", true );
+        setVariableValueToObject( plugin, "enableLazyInitialization", false );
+        setVariableValueToObject( plugin, "enableDirtyTracking", false );
+        setVariableValueToObject( plugin, "enableAssociationManagement", false );
+        setVariableValueToObject( plugin, "enableExtendedEnhancement", false );
+        setVariableValueToObject( plugin, "enableProxyGeneration", false );
+        setVariableValueToObject( plugin, "enableAccessorGeneration", false );
+        setVariableValueToObject( plugin, "enableScanIndexGeneration", false );
+        setVariableValueToObject( plugin, feature, true );
+
+        plugin.execute();
+
+        // the entity classes are not rewritten
+        for ( Class<?> entityClass : entityClasses ) {
+            Assert.assertArrayEquals( originalBytes.get( entityClass ),
+                    Files.readAllBytes( new File( baseDir, classFileName( entityClass ) ).toPath() ) );
+        }
+        return baseDir;
+    }
+
+    private static String classFileName(Class<?> type) {
+        return type.getName().replace( '.', '/' ) + ".class";
     }
 
     private void setVariableValueToObject( Object object, String variable, Object value ) throws IllegalAccessException {
@@ -6,10 +6,15 @@
  */
 package org.hibernate.orm.tooling.gradle;
 
+import java.io.File;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.gradle.api.Action;
+import org.gradle.api.GradleException;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
@@ -17,6 +22,7 @@ import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.plugins.JvmEcosystemPlugin;
 import org.gradle.api.tasks.SourceSet;
 
+import org.hibernate.boot.archive.scan.spi.ScanIndex;
 import org.hibernate.orm.tooling.gradle.enhance.EnhancementHelper;
 
 /**
@@ -33,6 +39,7 @@ public class HibernateOrmPlugin implements Plugin<Project> {
 
 		prepareEnhancement( ormDsl, project );
 		prepareHbmTransformation( ormDsl, project );
+		prepareScanIndex( ormDsl, project );
 
 
 		//noinspection ConstantConditions
@@ -86,4 +93,42 @@ public class HibernateOrmPlugin implements Plugin<Project> {
 	private void prepareHbmTransformation(HibernateOrmSpec ormDsl, Project project) {
 
 	}
+
+	private void prepareScanIndex(HibernateOrmSpec ormDsl, Project project) {
+		project.getGradle().getTaskGraph().whenReady( (graph) -> {
+			if ( !ormDsl.getGenerateScanIndex().get() ) {
+				return;
+			}
+
+			final SourceSet sourceSet = ormDsl.getSourceSet().get();
+			final Task classesTask = project.getTasks().findByName( sourceSet.getClassesTaskName() );
+			if ( classesTask == null ) {
+				return;
+			}
+
+			// the index is written once the classes are compiled (and enhanced) and the resources processed
+			//noinspection Convert2Lambda
+			classesTask.doLast( new Action<>() {
+				@Override
+				public void execute(Task t) {
+					final File resourcesDir = sourceSet.getOutput().getResourcesDir();
+					if ( resourcesDir == null ) {
+						return;
+					}
+					final List<Path> directories = new ArrayList<>();
+					for ( File classesDir : sourceSet.getOutput().getClassesDirs() ) {
+						directories.add( classesDir.toPath() );
+					}
+					directories.add( resourcesDir.toPath() );
+					try {
+						final Path indexFile = ScanIndex.write( directories, resourcesDir.toPath() );
+						project.getLogger().info( "Successfully wrote scan index : " + indexFile );
+					}
+					catch (Exception e) {
+						throw new GradleException( "Unable to write scan index to : " + resourcesDir, e );
+					}
+				}
+			} );
+		} );
+	}
 }
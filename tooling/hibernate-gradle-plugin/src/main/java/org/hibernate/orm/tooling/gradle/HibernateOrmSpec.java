@@ -36,6 +36,7 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 	private final Property<Boolean> useSameVersion;
 	private final Property<SourceSet> sourceSet;
 	private final SetProperty<String> languages;
+	private final Property<Boolean> generateScanIndex;
 
 	private final Provider<EnhancementSpec> enhancementDslAccess;
 
@@ -53,6 +54,9 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 		languages = project.getObjects().setProperty( String.class );
 		languages.convention( Arrays.asList( "java", "kotlin" ) );
 
+		generateScanIndex = project.getObjects().property( Boolean.class );
+		generateScanIndex.convention( false );
+
 		enhancementDslAccess = project.provider( () -> enhancementDsl );
 	}
 
@@ -97,6 +101,18 @@ public abstract class HibernateOrmSpec implements ExtensionAware {
 		return languages;
 	}
 
+	/**
+	 * Should the plugin write the index of the managed classes, converters, packages and mapping
+	 * files of the source-set, which Hibernate reads instead of scanning the archive at runtime?
+	 * <p>
+	 * Defaults to {@code false}.
+	 *
+	 * @see org.hibernate.boot.archive.scan.spi.ScanIndex
+	 */
+	public Property<Boolean> getGenerateScanIndex() {
+		return generateScanIndex;
+	}
+
 
 	/**
 	 * DSL extension for configuring bytecode enhancement.  Also acts as the trigger for
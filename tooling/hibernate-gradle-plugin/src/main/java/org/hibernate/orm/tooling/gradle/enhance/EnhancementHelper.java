@@ -11,6 +11,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.function.BiFunction;
 
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
@@ -21,6 +22,7 @@ import org.gradle.api.logging.Logger;
 import org.hibernate.bytecode.enhance.spi.DefaultEnhancementContext;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
 import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
@@ -54,6 +56,14 @@ public class EnhancementHelper {
 
 		discoverTypes( classesDir, classesDir, enhancer, project );
 		doEnhancement( classesDir, classesDir, enhancer, project, classesToEnhance );
+		if ( enhancementDsl.getEnableProxyGeneration().get() ) {
+			generateClasses( classesDir, classesDir, EnhancerConstants.PROXY_CLASS_NAME_SUFFIX, "proxy",
+					enhancer::generateProxy, project, classesToEnhance );
+		}
+		if ( enhancementDsl.getEnableAccessorGeneration().get() ) {
+			generateClasses( classesDir, classesDir, EnhancerConstants.ACCESSOR_CLASS_NAME_SUFFIX, "accessor",
+					enhancer::generateAccessor, project, classesToEnhance );
+		}
 	}
 
 	private static void discoverTypes(File classesDir, File dir, Enhancer enhancer, Project project) {
@@ -100,6 +110,60 @@ public class EnhancementHelper {
 		}
 	}
 
+	private static void generateClasses(
+			File classesDir,
+			File dir,
+			String classNameSuffix,
+			String description,
+			BiFunction<String, byte[], byte[]> generator,
+			Project project,
+			List<String> classesToEnhance) {
+		for ( File subLocation : dir.listFiles() ) {
+			if ( subLocation.isDirectory() ) {
+				generateClasses( classesDir, subLocation, classNameSuffix, description, generator, project, classesToEnhance );
+			}
+			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
+				final String className = determineClassName( classesDir, subLocation );
+
+				if(! (classesToEnhance.size()==0 || classesToEnhance.contains(className))) {
+					continue;
+				}
+
+				generateClass( subLocation, className, classNameSuffix, description, generator, project );
+			}
+		}
+	}
+
+	private static void generateClass(
+			File javaClassFile,
+			String className,
+			String classNameSuffix,
+			String description,
+			BiFunction<String, byte[], byte[]> generator,
+			Project project) {
+		final byte[] generatedBytecode;
+		try {
+			generatedBytecode = generator.apply( className, Files.readAllBytes( javaClassFile.toPath() ) );
+		}
+		catch (Exception e) {
+			throw new GradleException( "Unable to generate " + description + " for class : " + className, e );
+		}
+		if ( generatedBytecode != null ) {
+			final String fileName = javaClassFile.getName();
+			final File generatedFile = new File(
+					javaClassFile.getParentFile(),
+					fileName.substring( 0, fileName.length() - ".class".length() ) + classNameSuffix + ".class"
+			);
+			try {
+				Files.write( generatedFile.toPath(), generatedBytecode );
+			}
+			catch (IOException e) {
+				throw new GradleException( "Error writing " + description + " class to file [" + generatedFile.getAbsolutePath() + "]", e );
+			}
+			project.getLogger().info( "Successfully generated " + description + " for class : " + className );
+		}
+	}
+
 	private static void discoverTypes(
 			File javaClassFile,
 			String className,
@@ -171,6 +235,11 @@ public class EnhancementHelper {
 			public boolean doExtendedEnhancement(UnloadedClass classDescriptor) {
 				return enhancementDsl.getEnableExtendedEnhancement().get();
 			}
+
+			@Override
+			public boolean doGenerateAccessor(UnloadedClass classDescriptor) {
+				return enhancementDsl.getEnableAccessorGeneration().get();
+			}
 		};
 
 		//TODO allow the Gradle plugin to configure the bytecode enhancer?
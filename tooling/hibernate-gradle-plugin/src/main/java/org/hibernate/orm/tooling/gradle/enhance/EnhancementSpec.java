@@ -33,6 +33,8 @@ public class EnhancementSpec {
 	private final Property<Boolean> enableDirtyTracking;
 	private final Property<Boolean> enableAssociationManagement;
 	private final Property<Boolean> enableExtendedEnhancement;
+	private final Property<Boolean> enableProxyGeneration;
+	private final Property<Boolean> enableAccessorGeneration;
 	private final ListProperty<String> classNames;
 
 
@@ -44,6 +46,8 @@ public class EnhancementSpec {
 		enableDirtyTracking = makeProperty( project ).convention( true );
 		enableAssociationManagement = makeProperty( project ).convention( false );
 		enableExtendedEnhancement = makeProperty( project ).convention( false );
+		enableProxyGeneration = makeProperty( project ).convention( false );
+		enableAccessorGeneration = makeProperty( project ).convention( false );
 		classNames = project.getObjects().listProperty(String.class).convention(new ArrayList<>());
 	}
 
@@ -59,7 +63,9 @@ public class EnhancementSpec {
 		return enableLazyInitialization.get()
 				|| enableDirtyTracking.get()
 				|| enableAssociationManagement.get()
-				|| enableExtendedEnhancement.get();
+				|| enableExtendedEnhancement.get()
+				|| enableProxyGeneration.get()
+				|| enableAccessorGeneration.get();
 	}
 
 	/**
@@ -90,6 +96,20 @@ public class EnhancementSpec {
 		return enableExtendedEnhancement;
 	}
 
+	/**
+	 * Whether the proxy classes of entities should be generated, rather than generated at runtime
+	 */
+	public Property<Boolean> getEnableProxyGeneration() {
+		return enableProxyGeneration;
+	}
+
+	/**
+	 * Whether the accessors of the fields of managed classes should be generated, rather than using reflection at runtime
+	 */
+	public Property<Boolean> getEnableAccessorGeneration() {
+		return enableAccessorGeneration;
+	}
+
 	/**
 	 * Returns the classes on which enhancement needs to be done
 	 */